@@ -45,6 +45,22 @@ public class HapiUtils {
             Key.newBuilder().keyList(KeyList.DEFAULT).build();
     public static final long FUNDING_ACCOUNT_EXPIRY = 33197904000L;
 
+    /** A {@link Comparator} for aliases. Sorts first by length, then byte by byte. */
+    public static final Comparator<Bytes> ALIAS_COMPARATOR = (alias1, alias2) -> {
+        if (alias1 == alias2) return 0;
+        // FUTURE: Can replace with Bytes.compare or a built-in Bytes comparator when available
+        final var diff = alias1.length() - alias2.length();
+        if (diff < 0) return -1;
+        if (diff > 0) return 1;
+        for (long i = 0; i < alias1.length(); i++) {
+            final var b1 = alias1.getByte(i);
+            final var b2 = alias2.getByte(i);
+            if (b1 < b2) return -1;
+            if (b1 > b2) return 1;
+        }
+        return 0;
+    };
+
     /** A {@link Comparator} for {@link AccountID}s. Sorts first by account number, then by alias. */
     public static final Comparator<AccountID> ACCOUNT_ID_COMPARATOR = (o1, o2) -> {
         if (o1 == o2) return 0;
@@ -53,20 +69,8 @@ public class HapiUtils {
         if (o1.hasAccountNum()) {
             return Long.compare(o1.accountNumOrThrow(), o2.accountNumOrThrow());
         } else {
-            final var alias1 = o1.aliasOrElse(Bytes.EMPTY);
-            final var alias2 = o2.aliasOrElse(Bytes.EMPTY);
-            // FUTURE: Can replace with Bytes.compare or a built-in Bytes comparator when available
-            final var diff = alias1.length() - alias2.length();
-            if (diff < 0) return -1;
-            if (diff > 0) return 1;
-            for (long i = 0; i < alias1.length(); i++) {
-                final var b1 = alias1.getByte(i);
-                final var b2 = alias2.getByte(i);
-                if (b1 < b2) return -1;
-                if (b1 > b2) return 1;
-            }
+            return ALIAS_COMPARATOR.compare(o1.aliasOrElse(Bytes.EMPTY), o2.aliasOrElse(Bytes.EMPTY));
         }
-        return 0;
     };
 
     /** A {@link Comparator} for {@link ContractID}s. Sorts first by contract number, then by evm address. */
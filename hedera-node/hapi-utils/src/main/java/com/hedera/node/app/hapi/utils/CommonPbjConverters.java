@@ -82,6 +82,8 @@ public class CommonPbjConverters {
             builder.setContents(ByteString.copyFrom(file.contents().toByteArray()));
             builder.setMemo(file.memo());
             builder.setDeleted(file.deleted());
+            builder.setChunkCount(file.chunkCount());
+            builder.setContentsSize(file.contentsSize());
         }
         return builder.build();
     }
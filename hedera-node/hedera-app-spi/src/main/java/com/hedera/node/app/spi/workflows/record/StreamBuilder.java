@@ -56,6 +56,15 @@ public interface StreamBuilder {
         return this;
     }
 
+    /**
+     * Adds state changes to this stream builder that are already encoded as a sequence of
+     * {@code StateChanges.state_changes} protobuf entries.
+     * @return this builder
+     */
+    default StreamBuilder encodedStateChanges(@NonNull Bytes stateChanges) {
+        return this;
+    }
+
     /**
      * Sets the transaction for this stream item builder.
      * @param transaction the transaction
@@ -17,6 +17,7 @@
 package com.hedera.node.app.blocks;
 
 import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.node.app.blocks.impl.EncodedStateChanges;
 import com.hedera.node.app.spi.records.BlockRecordInfo;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.system.Round;
@@ -140,4 +141,12 @@ public interface BlockStreamManager extends BlockRecordInfo, StateHashedListener
      * @throws IllegalStateException if the stream is closed
      */
     void writeItem(@NonNull BlockItem item);
+
+    /**
+     * Writes a state changes item whose changes were already encoded as they were committed, so the item
+     * can be serialized and hashed without first building and re-serializing its object form.
+     * @param stateChanges the encoded state changes to write
+     * @throws IllegalStateException if the stream is closed
+     */
+    void writeStateChanges(@NonNull EncodedStateChanges stateChanges);
 }
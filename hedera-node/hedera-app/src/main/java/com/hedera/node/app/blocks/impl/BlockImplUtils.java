@@ -29,6 +29,7 @@ import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CRS_P
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CRS_STATE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ENTITY_COUNTS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ENTITY_ID;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILE_CHUNKS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILES;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FREEZE_TIME;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_HINTS_KEY_SETS;
@@ -146,6 +147,7 @@ public class BlockImplUtils {
                     };
                     case "FileService" -> switch (stateKey) {
                         case "FILES" -> STATE_ID_FILES.protoOrdinal();
+                        case "FILE_CHUNKS" -> STATE_ID_FILE_CHUNKS.protoOrdinal();
                         case "UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=150]]" -> STATE_ID_UPGRADE_DATA_150
                                 .protoOrdinal();
                         case "UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=151]]" -> STATE_ID_UPGRADE_DATA_151
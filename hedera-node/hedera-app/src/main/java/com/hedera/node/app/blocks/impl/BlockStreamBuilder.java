@@ -37,7 +37,6 @@ import com.hedera.hapi.block.stream.output.CryptoTransferOutput;
 import com.hedera.hapi.block.stream.output.EthereumOutput;
 import com.hedera.hapi.block.stream.output.SignScheduleOutput;
 import com.hedera.hapi.block.stream.output.StateChange;
-import com.hedera.hapi.block.stream.output.StateChanges;
 import com.hedera.hapi.block.stream.output.SubmitMessageOutput;
 import com.hedera.hapi.block.stream.output.TokenAirdropOutput;
 import com.hedera.hapi.block.stream.output.TransactionOutput;
@@ -73,6 +72,7 @@ import com.hedera.hapi.streams.ContractBytecode;
 import com.hedera.hapi.streams.ContractStateChanges;
 import com.hedera.hapi.streams.TransactionSidecarRecord;
 import com.hedera.node.app.blocks.BlockItemsTranslator;
+import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.impl.contexts.AirdropOpContext;
 import com.hedera.node.app.blocks.impl.contexts.BaseOpContext;
 import com.hedera.node.app.blocks.impl.contexts.ContractOpContext;
@@ -362,9 +362,10 @@ public class BlockStreamBuilder
 
     // --- Fields used to build the StateChanges items ---
     /**
-     * The state changes resulting from the transaction.
+     * The state changes resulting from the transaction, encoded as a sequence of {@code state_changes} entries.
      */
-    private final List<StateChange> stateChanges = new ArrayList<>();
+    @Nullable
+    private Bytes encodedStateChanges;
 
     // --- Fields used to communicate between handler logic and the HandleWorkflow ---
     /**
@@ -417,20 +418,45 @@ public class BlockStreamBuilder
      * {@link BlockItemsTranslator} to use.
      * @param blockItems the list of block items
      * @param translationContext the translation context
+     * @param stateChanges if not null, the encoded state changes that follow the block items
      */
-    public record Output(@NonNull List<BlockItem> blockItems, @NonNull TranslationContext translationContext) {
+    public record Output(
+            @NonNull List<BlockItem> blockItems,
+            @NonNull TranslationContext translationContext,
+            @Nullable EncodedStateChanges stateChanges) {
         public Output {
             requireNonNull(blockItems);
             requireNonNull(translationContext);
         }
 
+        public Output(@NonNull final List<BlockItem> blockItems, @NonNull final TranslationContext translationContext) {
+            this(blockItems, translationContext, null);
+        }
+
         /**
-         * Exposes each {@link BlockItem} in the output to the given action.
+         * Exposes each {@link BlockItem} in the output to the given action, decoding the trailing state changes
+         * item if there is one.
          * @param action the action to apply
          */
         public void forEachItem(@NonNull final Consumer<BlockItem> action) {
             requireNonNull(action);
             blockItems.forEach(action);
+            if (stateChanges != null) {
+                action.accept(stateChanges.toBlockItem());
+            }
+        }
+
+        /**
+         * Writes each item in the output to the given block stream manager, passing the trailing state changes
+         * in their already encoded form.
+         * @param blockStreamManager the block stream manager to write to
+         */
+        public void writeTo(@NonNull final BlockStreamManager blockStreamManager) {
+            requireNonNull(blockStreamManager);
+            blockItems.forEach(blockStreamManager::writeItem);
+            if (stateChanges != null) {
+                blockStreamManager.writeStateChanges(stateChanges);
+            }
         }
 
         /**
@@ -524,20 +550,27 @@ public class BlockStreamBuilder
                 .build());
         blockItems.add(transactionResultBlockItem());
         addOutputItemsTo(blockItems);
+        final var stateChanges = encodedStateChanges == null
+                ? null
+                : new EncodedStateChanges(asTimestamp(consensusNow), encodedStateChanges);
+        return new Output(blockItems, translationContext(), stateChanges);
+    }
+
+    @Override
+    public StreamBuilder stateChanges(@NonNull List<StateChange> stateChanges) {
+        requireNonNull(stateChanges);
         if (!stateChanges.isEmpty()) {
-            blockItems.add(BlockItem.newBuilder()
-                    .stateChanges(StateChanges.newBuilder()
-                            .consensusTimestamp(asTimestamp(consensusNow))
-                            .stateChanges(stateChanges)
-                            .build())
-                    .build());
+            encodedStateChanges(StateChangesEncoder.encode(stateChanges));
         }
-        return new Output(blockItems, translationContext());
+        return this;
     }
 
     @Override
-    public StreamBuilder stateChanges(@NonNull List<StateChange> stateChanges) {
-        this.stateChanges.addAll(stateChanges);
+    public StreamBuilder encodedStateChanges(@NonNull Bytes stateChanges) {
+        requireNonNull(stateChanges);
+        encodedStateChanges = encodedStateChanges == null
+                ? stateChanges
+                : StateChangesEncoder.concat(encodedStateChanges, stateChanges);
         return this;
     }
 
@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.blocks.impl;
 
+import static com.hedera.hapi.block.stream.BlockItem.ItemOneOfType.STATE_CHANGES;
 import static com.hedera.hapi.node.base.BlockHashAlgorithm.SHA2_384;
 import static com.hedera.hapi.util.HapiUtils.asInstant;
 import static com.hedera.hapi.util.HapiUtils.asTimestamp;
@@ -25,7 +26,6 @@ import static com.hedera.node.app.blocks.BlockStreamManager.PendingWork.POST_UPG
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.appendHash;
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.combine;
 import static com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema.BLOCK_STREAM_INFO_KEY;
-import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
 import static com.hedera.node.app.records.BlockRecordService.EPOCH;
 import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 import static com.swirlds.platform.state.service.PlatformStateFacade.isInFreezePeriod;
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.BlockItem.ItemOneOfType;
 import com.hedera.hapi.block.stream.BlockProof;
 import com.hedera.hapi.block.stream.MerkleSiblingHash;
 import com.hedera.hapi.block.stream.output.BlockHeader;
@@ -94,6 +95,13 @@ import org.apache.logging.log4j.Logger;
 public class BlockStreamManagerImpl implements BlockStreamManager {
     private static final Logger log = LogManager.getLogger(BlockStreamManagerImpl.class);
 
+    /**
+     * Per-thread digests for hashing serialized items in {@link ParallelTask}; since {@link MessageDigest#digest()}
+     * resets the digest, each worker thread can reuse one instance for every item instead of looking up a new one.
+     */
+    private static final ThreadLocal<MessageDigest> ITEM_DIGESTS =
+            ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
+
     private final int roundsPerBlock;
     private final Duration blockPeriod;
     private final BlockStreamWriterMode streamWriterType;
@@ -415,6 +423,16 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         }
     }
 
+    @Override
+    public void writeStateChanges(@NonNull final EncodedStateChanges stateChanges) {
+        requireNonNull(stateChanges);
+        if (preUserItems != null) {
+            preUserItems.postHeaderItems().add(stateChanges.toBlockItem());
+        } else {
+            worker.addStateChanges(stateChanges);
+        }
+    }
+
     @Override
     public @Nullable Bytes prngSeed() {
         // Incorporate all pending results before returning the seed to guarantee
@@ -574,6 +592,15 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
 
         void addItem(BlockItem item) {
             new ParallelTask(item, currentTask).send();
+            linkNextTask();
+        }
+
+        void addStateChanges(EncodedStateChanges stateChanges) {
+            new StateChangesTask(stateChanges, currentTask).send();
+            linkNextTask();
+        }
+
+        private void linkNextTask() {
             SequentialTask nextTask = new SequentialTask();
             currentTask.send(nextTask);
             prevTask = currentTask;
@@ -612,12 +639,37 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                         STATE_CHANGES,
                         ROUND_HEADER,
                         BLOCK_HEADER -> {
-                    MessageDigest digest = sha384DigestOrThrow();
+                    final var digest = ITEM_DIGESTS.get();
                     bytes.writeTo(digest);
                     hash = ByteBuffer.wrap(digest.digest());
                 }
             }
-            out.send(item, hash, bytes);
+            out.send(kind, item.blockHeader(), hash, bytes);
+            return true;
+        }
+    }
+
+    /**
+     * Like a {@link ParallelTask}, but for state changes that were already encoded as they were committed; so
+     * instead of re-serializing an item, it only frames the encoded changes and hashes them in the same pass.
+     */
+    class StateChangesTask extends AbstractTask {
+
+        EncodedStateChanges stateChanges;
+        SequentialTask out;
+
+        StateChangesTask(EncodedStateChanges stateChanges, SequentialTask out) {
+            super(executor, 1);
+            this.stateChanges = stateChanges;
+            this.out = out;
+        }
+
+        @Override
+        protected boolean onExecute() {
+            final var digest = ITEM_DIGESTS.get();
+            final var bytes = StateChangesEncoder.serializeItem(
+                    stateChanges.consensusTimestamp(), stateChanges.changes(), digest);
+            out.send(STATE_CHANGES, null, ByteBuffer.wrap(digest.digest()), bytes);
             return true;
         }
     }
@@ -625,7 +677,11 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     class SequentialTask extends AbstractTask {
 
         SequentialTask next;
-        BlockItem item;
+        ItemOneOfType kind;
+
+        @Nullable
+        BlockHeader header;
+
         Bytes serialized;
         ByteBuffer hash;
 
@@ -635,7 +691,6 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
 
         @Override
         protected boolean onExecute() {
-            final var kind = item.item().kind();
             switch (kind) {
                 case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER -> inputTreeHasher.addLeaf(hash);
                 case TRANSACTION_RESULT -> {
@@ -646,7 +701,6 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 case TRANSACTION_OUTPUT, STATE_CHANGES, BLOCK_HEADER -> outputTreeHasher.addLeaf(hash);
             }
 
-            final BlockHeader header = item.blockHeader();
             if (header != null) {
                 writer.openBlock(header.number());
             }
@@ -661,8 +715,9 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             send();
         }
 
-        void send(BlockItem item, ByteBuffer hash, Bytes serialized) {
-            this.item = item;
+        void send(ItemOneOfType kind, @Nullable BlockHeader header, ByteBuffer hash, Bytes serialized) {
+            this.kind = kind;
+            this.header = header;
             this.hash = hash;
             this.serialized = serialized;
             send();
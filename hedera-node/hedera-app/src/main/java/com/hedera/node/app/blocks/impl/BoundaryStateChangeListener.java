@@ -27,6 +27,7 @@ import com.hedera.hapi.block.stream.output.QueuePopChange;
 import com.hedera.hapi.block.stream.output.QueuePushChange;
 import com.hedera.hapi.block.stream.output.SingletonUpdateChange;
 import com.hedera.hapi.block.stream.output.StateChange;
+import com.hedera.hapi.block.stream.output.StateChange.ChangeOperationOneOfType;
 import com.hedera.hapi.block.stream.output.StateChanges;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.state.blockrecords.BlockInfo;
@@ -180,19 +181,16 @@ public class BoundaryStateChangeListener implements StateChangeListener {
     @Override
     public <V> void queuePushChange(final int stateId, @NonNull final V value) {
         requireNonNull(value);
-        final var stateChange = StateChange.newBuilder()
-                .stateId(stateId)
-                .queuePush(new QueuePushChange(queuePushChangeValueFor(value)))
-                .build();
+        final var stateChange = new StateChange(
+                stateId,
+                new OneOf<>(ChangeOperationOneOfType.QUEUE_PUSH, new QueuePushChange(queuePushChangeValueFor(value))));
         queueUpdates.computeIfAbsent(stateId, k -> new LinkedList<>()).add(stateChange);
     }
 
     @Override
     public void queuePopChange(final int stateId) {
-        final var stateChange = StateChange.newBuilder()
-                .stateId(stateId)
-                .queuePop(new QueuePopChange())
-                .build();
+        final var stateChange =
+                new StateChange(stateId, new OneOf<>(ChangeOperationOneOfType.QUEUE_POP, new QueuePopChange()));
         queueUpdates.computeIfAbsent(stateId, k -> new LinkedList<>()).add(stateChange);
     }
 
@@ -200,10 +198,11 @@ public class BoundaryStateChangeListener implements StateChangeListener {
     public <V> void singletonUpdateChange(final int stateId, @NonNull final V value) {
         requireNonNull(value, "value must not be null");
 
-        final var stateChange = StateChange.newBuilder()
-                .stateId(stateId)
-                .singletonUpdate(new SingletonUpdateChange(singletonUpdateChangeValueFor(value)))
-                .build();
+        final var stateChange = new StateChange(
+                stateId,
+                new OneOf<>(
+                        ChangeOperationOneOfType.SINGLETON_UPDATE,
+                        new SingletonUpdateChange(singletonUpdateChangeValueFor(value))));
         singletonUpdates.put(stateId, stateChange);
         if (stateId == ENTITY_COUNTS_STATE_ID) {
             updateEntityCountsMetrics((EntityCounts) value);
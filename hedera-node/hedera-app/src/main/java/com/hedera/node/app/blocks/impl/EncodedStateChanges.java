@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.output.StateChanges;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Key/value state changes that were encoded by a {@link StateChangesEncoder} as they were committed, together with
+ * the consensus timestamp of the {@code BlockItem.state_changes} item they belong in.
+ *
+ * @param consensusTimestamp the consensus timestamp of the changes
+ * @param changes the changes, encoded as a sequence of {@code state_changes} entries
+ */
+public record EncodedStateChanges(@NonNull Timestamp consensusTimestamp, @NonNull Bytes changes) {
+    public EncodedStateChanges {
+        requireNonNull(consensusTimestamp);
+        requireNonNull(changes);
+    }
+
+    /**
+     * Decodes these changes into the equivalent {@link BlockItem}, for consumers that need the object form.
+     * @return the decoded block item
+     */
+    public BlockItem toBlockItem() {
+        return BlockItem.newBuilder()
+                .stateChanges(new StateChanges(consensusTimestamp, StateChangesEncoder.decode(changes)))
+                .build();
+    }
+}
@@ -19,9 +19,9 @@ package com.hedera.node.app.blocks.impl;
 import static com.swirlds.state.StateChangeListener.StateType.MAP;
 
 import com.hedera.hapi.block.stream.output.MapChangeKey;
+import com.hedera.hapi.block.stream.output.MapChangeKey.KeyChoiceOneOfType;
 import com.hedera.hapi.block.stream.output.MapChangeValue;
-import com.hedera.hapi.block.stream.output.MapDeleteChange;
-import com.hedera.hapi.block.stream.output.MapUpdateChange;
+import com.hedera.hapi.block.stream.output.MapChangeValue.ValueChoiceOneOfType;
 import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.ContractID;
@@ -41,6 +41,7 @@ import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.hints.HintsKeySet;
 import com.hedera.hapi.node.state.hints.HintsPartyId;
 import com.hedera.hapi.node.state.hints.PreprocessingVote;
@@ -67,9 +68,10 @@ import com.hedera.hapi.node.state.tss.TssVoteMapKey;
 import com.hedera.hapi.platform.state.NodeId;
 import com.hedera.hapi.services.auxiliary.tss.TssMessageTransactionBody;
 import com.hedera.hapi.services.auxiliary.tss.TssVoteTransactionBody;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.StateChangeListener;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
@@ -77,18 +79,19 @@ import java.util.Set;
 
 /**
  * A state change listener that tracks an entire sequence of changes, even if this sequence
- * repeats changes to the same key multiple times in a block boundary.
+ * repeats changes to the same key multiple times in a block boundary. Changes are encoded
+ * straight into their block stream protobuf form by a {@link StateChangesEncoder}.
  */
 public class KVStateChangeListener implements StateChangeListener {
     private static final Set<StateType> TARGET_DATA_TYPES = EnumSet.of(MAP);
 
-    private final List<StateChange> stateChanges = new ArrayList<>();
+    private final StateChangesEncoder encoder = new StateChangesEncoder();
 
     /**
      * Resets the state changes.
      */
     public void reset() {
-        stateChanges.clear();
+        encoder.reset();
     }
 
     @Override
@@ -109,163 +112,113 @@ public class KVStateChangeListener implements StateChangeListener {
         Objects.requireNonNull(key, "key must not be null");
         Objects.requireNonNull(value, "value must not be null");
 
-        final var change = MapUpdateChange.newBuilder()
-                .key(mapChangeKeyFor(key))
-                .value(mapChangeValueFor(value))
-                .build();
-        final var stateChange =
-                StateChange.newBuilder().stateId(stateId).mapUpdate(change).build();
-        stateChanges.add(stateChange);
+        encoder.mapUpdate(
+                stateId, new MapChangeKey(mapChangeKeyFor(key)), new MapChangeValue(mapChangeValueFor(value)));
     }
 
     @Override
     public <K> void mapDeleteChange(final int stateId, @NonNull final K key) {
         Objects.requireNonNull(key, "key must not be null");
-        final var change =
-                MapDeleteChange.newBuilder().key(mapChangeKeyFor(key)).build();
-        stateChanges.add(
-                StateChange.newBuilder().stateId(stateId).mapDelete(change).build());
+        encoder.mapDelete(stateId, new MapChangeKey(mapChangeKeyFor(key)));
     }
 
     /**
-     * Returns the list of state changes.
+     * Returns whether any state changes were captured since the last reset.
+     * @return true if there are state changes
+     */
+    public boolean hasStateChanges() {
+        return !encoder.isEmpty();
+    }
+
+    /**
+     * Returns the state changes captured since the last reset, already encoded as a sequence of
+     * {@code StateChanges.state_changes} entries.
+     * @return the encoded state changes
+     */
+    public Bytes getEncodedStateChanges() {
+        return encoder.encodedChanges();
+    }
+
+    /**
+     * Returns the list of state changes, decoded from their encoded form.
      * @return the list of state changes
      */
     public List<StateChange> getStateChanges() {
-        return stateChanges;
+        return encoder.isEmpty() ? List.of() : StateChangesEncoder.decode(encoder.encodedChanges());
     }
 
-    private static <K> MapChangeKey mapChangeKeyFor(@NonNull final K key) {
+    private static <K> OneOf<KeyChoiceOneOfType> mapChangeKeyFor(@NonNull final K key) {
         return switch (key) {
-            case AccountID accountID -> MapChangeKey.newBuilder()
-                    .accountIdKey(accountID)
-                    .build();
-            case EntityIDPair entityIDPair -> MapChangeKey.newBuilder()
-                    .tokenRelationshipKey(new TokenAssociation(entityIDPair.tokenId(), entityIDPair.accountId()))
-                    .build();
-            case EntityNumber entityNumber -> MapChangeKey.newBuilder()
-                    .entityNumberKey(entityNumber.number())
-                    .build();
-            case FileID fileID -> MapChangeKey.newBuilder().fileIdKey(fileID).build();
-            case NftID nftID -> MapChangeKey.newBuilder().nftIdKey(nftID).build();
-            case ProtoBytes protoBytes -> MapChangeKey.newBuilder()
-                    .protoBytesKey(protoBytes.value())
-                    .build();
-            case ProtoLong protoLong -> MapChangeKey.newBuilder()
-                    .protoLongKey(protoLong.value())
-                    .build();
-            case ProtoString protoString -> MapChangeKey.newBuilder()
-                    .protoStringKey(protoString.value())
-                    .build();
-            case ScheduleID scheduleID -> MapChangeKey.newBuilder()
-                    .scheduleIdKey(scheduleID)
-                    .build();
-            case SlotKey slotKey -> MapChangeKey.newBuilder()
-                    .slotKeyKey(slotKey)
-                    .build();
-            case TokenID tokenID -> MapChangeKey.newBuilder()
-                    .tokenIdKey(tokenID)
-                    .build();
-            case TopicID topicID -> MapChangeKey.newBuilder()
-                    .topicIdKey(topicID)
-                    .build();
-            case ContractID contractID -> MapChangeKey.newBuilder()
-                    .contractIdKey(contractID)
-                    .build();
-            case PendingAirdropId pendingAirdropId -> MapChangeKey.newBuilder()
-                    .pendingAirdropIdKey(pendingAirdropId)
-                    .build();
-            case TimestampSeconds timestampSeconds -> MapChangeKey.newBuilder()
-                    .timestampSecondsKey(timestampSeconds)
-                    .build();
-            case ScheduledOrder scheduledOrder -> MapChangeKey.newBuilder()
-                    .scheduledOrderKey(scheduledOrder)
-                    .build();
-            case TssMessageMapKey tssMessageMapKey -> MapChangeKey.newBuilder()
-                    .tssMessageMapKey(tssMessageMapKey)
-                    .build();
-            case TssVoteMapKey tssVoteMapKey -> MapChangeKey.newBuilder()
-                    .tssVoteMapKey(tssVoteMapKey)
-                    .build();
-            case HintsPartyId hintsPartyId -> MapChangeKey.newBuilder()
-                    .hintsPartyIdKey(hintsPartyId)
-                    .build();
-            case PreprocessingVoteId preprocessingVoteId -> MapChangeKey.newBuilder()
-                    .preprocessingVoteIdKey(preprocessingVoteId)
-                    .build();
-            case NodeId nodeId -> MapChangeKey.newBuilder().nodeIdKey(nodeId).build();
-            case ConstructionNodeId constructionNodeId -> MapChangeKey.newBuilder()
-                    .constructionNodeIdKey(constructionNodeId)
-                    .build();
+            case AccountID accountID -> new OneOf<>(KeyChoiceOneOfType.ACCOUNT_ID_KEY, accountID);
+            case EntityIDPair entityIDPair -> new OneOf<>(
+                    KeyChoiceOneOfType.TOKEN_RELATIONSHIP_KEY,
+                    new TokenAssociation(entityIDPair.tokenId(), entityIDPair.accountId()));
+            case EntityNumber entityNumber -> new OneOf<>(KeyChoiceOneOfType.ENTITY_NUMBER_KEY, entityNumber.number());
+            case FileID fileID -> new OneOf<>(KeyChoiceOneOfType.FILE_ID_KEY, fileID);
+            case NftID nftID -> new OneOf<>(KeyChoiceOneOfType.NFT_ID_KEY, nftID);
+            case ProtoBytes protoBytes -> new OneOf<>(KeyChoiceOneOfType.PROTO_BYTES_KEY, protoBytes.value());
+            case ProtoLong protoLong -> new OneOf<>(KeyChoiceOneOfType.PROTO_LONG_KEY, protoLong.value());
+            case ProtoString protoString -> new OneOf<>(KeyChoiceOneOfType.PROTO_STRING_KEY, protoString.value());
+            case ScheduleID scheduleID -> new OneOf<>(KeyChoiceOneOfType.SCHEDULE_ID_KEY, scheduleID);
+            case SlotKey slotKey -> new OneOf<>(KeyChoiceOneOfType.SLOT_KEY_KEY, slotKey);
+            case TokenID tokenID -> new OneOf<>(KeyChoiceOneOfType.TOKEN_ID_KEY, tokenID);
+            case TopicID topicID -> new OneOf<>(KeyChoiceOneOfType.TOPIC_ID_KEY, topicID);
+            case ContractID contractID -> new OneOf<>(KeyChoiceOneOfType.CONTRACT_ID_KEY, contractID);
+            case PendingAirdropId pendingAirdropId -> new OneOf<>(
+                    KeyChoiceOneOfType.PENDING_AIRDROP_ID_KEY, pendingAirdropId);
+            case TimestampSeconds timestampSeconds -> new OneOf<>(
+                    KeyChoiceOneOfType.TIMESTAMP_SECONDS_KEY, timestampSeconds);
+            case ScheduledOrder scheduledOrder -> new OneOf<>(KeyChoiceOneOfType.SCHEDULED_ORDER_KEY, scheduledOrder);
+            case TssMessageMapKey tssMessageMapKey -> new OneOf<>(
+                    KeyChoiceOneOfType.TSS_MESSAGE_MAP_KEY, tssMessageMapKey);
+            case TssVoteMapKey tssVoteMapKey -> new OneOf<>(KeyChoiceOneOfType.TSS_VOTE_MAP_KEY, tssVoteMapKey);
+            case HintsPartyId hintsPartyId -> new OneOf<>(KeyChoiceOneOfType.HINTS_PARTY_ID_KEY, hintsPartyId);
+            case PreprocessingVoteId preprocessingVoteId -> new OneOf<>(
+                    KeyChoiceOneOfType.PREPROCESSING_VOTE_ID_KEY, preprocessingVoteId);
+            case NodeId nodeId -> new OneOf<>(KeyChoiceOneOfType.NODE_ID_KEY, nodeId);
+            case ConstructionNodeId constructionNodeId -> new OneOf<>(
+                    KeyChoiceOneOfType.CONSTRUCTION_NODE_ID_KEY, constructionNodeId);
+            case FileChunkId fileChunkId -> new OneOf<>(KeyChoiceOneOfType.FILE_CHUNK_ID_KEY, fileChunkId);
             default -> throw new IllegalStateException(
                     "Unrecognized key type " + key.getClass().getSimpleName());
         };
     }
 
-    private static <V> MapChangeValue mapChangeValueFor(@NonNull final V value) {
+    private static <V> OneOf<ValueChoiceOneOfType> mapChangeValueFor(@NonNull final V value) {
         return switch (value) {
-            case Node node -> MapChangeValue.newBuilder().nodeValue(node).build();
-            case Account account -> MapChangeValue.newBuilder()
-                    .accountValue(account)
-                    .build();
-            case AccountID accountID -> MapChangeValue.newBuilder()
-                    .accountIdValue(accountID)
-                    .build();
-            case Bytecode bytecode -> MapChangeValue.newBuilder()
-                    .bytecodeValue(bytecode)
-                    .build();
-            case File file -> MapChangeValue.newBuilder().fileValue(file).build();
-            case Nft nft -> MapChangeValue.newBuilder().nftValue(nft).build();
-            case ProtoString protoString -> MapChangeValue.newBuilder()
-                    .protoStringValue(protoString.value())
-                    .build();
-            case Roster roster -> MapChangeValue.newBuilder()
-                    .rosterValue(roster)
-                    .build();
-            case Schedule schedule -> MapChangeValue.newBuilder()
-                    .scheduleValue(schedule)
-                    .build();
-            case ScheduleID scheduleID -> MapChangeValue.newBuilder()
-                    .scheduleIdValue(scheduleID)
-                    .build();
-            case ScheduleList scheduleList -> MapChangeValue.newBuilder()
-                    .scheduleListValue(scheduleList)
-                    .build();
-            case SlotValue slotValue -> MapChangeValue.newBuilder()
-                    .slotValueValue(slotValue)
-                    .build();
-            case StakingNodeInfo stakingNodeInfo -> MapChangeValue.newBuilder()
-                    .stakingNodeInfoValue(stakingNodeInfo)
-                    .build();
-            case Token token -> MapChangeValue.newBuilder().tokenValue(token).build();
-            case TokenRelation tokenRelation -> MapChangeValue.newBuilder()
-                    .tokenRelationValue(tokenRelation)
-                    .build();
-            case Topic topic -> MapChangeValue.newBuilder().topicValue(topic).build();
-            case AccountPendingAirdrop accountPendingAirdrop -> MapChangeValue.newBuilder()
-                    .accountPendingAirdropValue(accountPendingAirdrop)
-                    .build();
-            case ScheduledCounts scheduledCounts -> MapChangeValue.newBuilder()
-                    .scheduledCountsValue(scheduledCounts)
-                    .build();
-            case ThrottleUsageSnapshots throttleUsageSnapshots -> MapChangeValue.newBuilder()
-                    .throttleUsageSnapshotsValue(throttleUsageSnapshots)
-                    .build();
-            case TssMessageTransactionBody tssMessageTransactionBody -> MapChangeValue.newBuilder()
-                    .tssMessageValue(tssMessageTransactionBody)
-                    .build();
-            case TssVoteTransactionBody tssVoteTransactionBody -> MapChangeValue.newBuilder()
-                    .tssVoteValue(tssVoteTransactionBody)
-                    .build();
-            case TssEncryptionKeys tssEncryptionKeys -> MapChangeValue.newBuilder()
-                    .tssEncryptionKeysValue(tssEncryptionKeys)
-                    .build();
-            case HintsKeySet hintsKeySet -> MapChangeValue.newBuilder()
-                    .hintsKeySetValue(hintsKeySet)
-                    .build();
-            case PreprocessingVote preprocessingVote -> MapChangeValue.newBuilder()
-                    .preprocessingVoteValue(preprocessingVote)
-                    .build();
+            case Node node -> new OneOf<>(ValueChoiceOneOfType.NODE_VALUE, node);
+            case Account account -> new OneOf<>(ValueChoiceOneOfType.ACCOUNT_VALUE, account);
+            case AccountID accountID -> new OneOf<>(ValueChoiceOneOfType.ACCOUNT_ID_VALUE, accountID);
+            case Bytecode bytecode -> new OneOf<>(ValueChoiceOneOfType.BYTECODE_VALUE, bytecode);
+            case File file -> new OneOf<>(ValueChoiceOneOfType.FILE_VALUE, file);
+            case Nft nft -> new OneOf<>(ValueChoiceOneOfType.NFT_VALUE, nft);
+            case ProtoString protoString -> new OneOf<>(ValueChoiceOneOfType.PROTO_STRING_VALUE, protoString.value());
+            case ProtoBytes protoBytes -> new OneOf<>(ValueChoiceOneOfType.PROTO_BYTES_VALUE, protoBytes.value());
+            case Roster roster -> new OneOf<>(ValueChoiceOneOfType.ROSTER_VALUE, roster);
+            case Schedule schedule -> new OneOf<>(ValueChoiceOneOfType.SCHEDULE_VALUE, schedule);
+            case ScheduleID scheduleID -> new OneOf<>(ValueChoiceOneOfType.SCHEDULE_ID_VALUE, scheduleID);
+            case ScheduleList scheduleList -> new OneOf<>(ValueChoiceOneOfType.SCHEDULE_LIST_VALUE, scheduleList);
+            case SlotValue slotValue -> new OneOf<>(ValueChoiceOneOfType.SLOT_VALUE_VALUE, slotValue);
+            case StakingNodeInfo stakingNodeInfo -> new OneOf<>(
+                    ValueChoiceOneOfType.STAKING_NODE_INFO_VALUE, stakingNodeInfo);
+            case Token token -> new OneOf<>(ValueChoiceOneOfType.TOKEN_VALUE, token);
+            case TokenRelation tokenRelation -> new OneOf<>(ValueChoiceOneOfType.TOKEN_RELATION_VALUE, tokenRelation);
+            case Topic topic -> new OneOf<>(ValueChoiceOneOfType.TOPIC_VALUE, topic);
+            case AccountPendingAirdrop accountPendingAirdrop -> new OneOf<>(
+                    ValueChoiceOneOfType.ACCOUNT_PENDING_AIRDROP_VALUE, accountPendingAirdrop);
+            case ScheduledCounts scheduledCounts -> new OneOf<>(
+                    ValueChoiceOneOfType.SCHEDULED_COUNTS_VALUE, scheduledCounts);
+            case ThrottleUsageSnapshots throttleUsageSnapshots -> new OneOf<>(
+                    ValueChoiceOneOfType.THROTTLE_USAGE_SNAPSHOTS_VALUE, throttleUsageSnapshots);
+            case TssMessageTransactionBody tssMessageTransactionBody -> new OneOf<>(
+                    ValueChoiceOneOfType.TSS_MESSAGE_VALUE, tssMessageTransactionBody);
+            case TssVoteTransactionBody tssVoteTransactionBody -> new OneOf<>(
+                    ValueChoiceOneOfType.TSS_VOTE_VALUE, tssVoteTransactionBody);
+            case TssEncryptionKeys tssEncryptionKeys -> new OneOf<>(
+                    ValueChoiceOneOfType.TSS_ENCRYPTION_KEYS_VALUE, tssEncryptionKeys);
+            case HintsKeySet hintsKeySet -> new OneOf<>(ValueChoiceOneOfType.HINTS_KEY_SET_VALUE, hintsKeySet);
+            case PreprocessingVote preprocessingVote -> new OneOf<>(
+                    ValueChoiceOneOfType.PREPROCESSING_VOTE_VALUE, preprocessingVote);
             default -> throw new IllegalStateException(
                     "Unexpected value: " + value.getClass().getSimpleName());
         };
@@ -126,6 +126,12 @@ public class PairedStreamBuilder
         return this;
     }
 
+    @Override
+    public StreamBuilder encodedStateChanges(@NonNull Bytes stateChanges) {
+        blockStreamBuilder.encodedStateChanges(stateChanges);
+        return this;
+    }
+
     public BlockStreamBuilder blockStreamBuilder() {
         return blockStreamBuilder;
     }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
+import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG;
+import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfDelimited;
+import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfTag;
+import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfVarInt32;
+import static com.hedera.pbj.runtime.ProtoWriterTools.writeTag;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.stream.output.MapChangeKey;
+import com.hedera.hapi.block.stream.output.MapChangeValue;
+import com.hedera.hapi.block.stream.output.StateChange;
+import com.hedera.hapi.block.stream.output.StateChanges;
+import com.hedera.hapi.block.stream.output.schema.MapDeleteChangeSchema;
+import com.hedera.hapi.block.stream.output.schema.MapUpdateChangeSchema;
+import com.hedera.hapi.block.stream.output.schema.StateChangeSchema;
+import com.hedera.hapi.block.stream.output.schema.StateChangesSchema;
+import com.hedera.hapi.block.stream.schema.BlockItemSchema;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.FieldDefinition;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Encodes key/value state changes straight into their block stream protobuf form as they are committed, without
+ * building a {@link StateChange} object graph for each one.
+ *
+ * <p>Each change is written to a reusable buffer as one repeated {@code state_changes} entry of a
+ * {@link StateChanges} message. Since repeated message fields are just concatenated entries, the accumulated
+ * bytes can be copied out as-is and later framed with a consensus timestamp into a complete
+ * {@code BlockItem.state_changes} item by {@link #serializeItem(Timestamp, Bytes, MessageDigest)}. The buffer
+ * grows as needed and is kept across {@link #reset()} calls, so a long-lived encoder stops allocating once it
+ * has seen its largest transaction.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class StateChangesEncoder {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    private BufferedData buffer = BufferedData.allocate(INITIAL_CAPACITY);
+
+    /**
+     * Discards all changes encoded so far, keeping the buffer for reuse.
+     */
+    public void reset() {
+        buffer.reset();
+    }
+
+    /**
+     * Returns whether no changes have been encoded since the last reset.
+     * @return true if there are no encoded changes
+     */
+    public boolean isEmpty() {
+        return buffer.position() == 0;
+    }
+
+    /**
+     * Encodes a map update change.
+     * @param stateId the id of the state that was updated
+     * @param key the key of the updated entry
+     * @param value the new value of the entry
+     */
+    public void mapUpdate(final int stateId, @NonNull final MapChangeKey key, @NonNull final MapChangeValue value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        final int keySize = MapChangeKey.PROTOBUF.measureRecord(key);
+        final int valueSize = MapChangeValue.PROTOBUF.measureRecord(value);
+        final int updateSize = sizeOfDelimited(MapUpdateChangeSchema.KEY, keySize)
+                + sizeOfDelimited(MapUpdateChangeSchema.VALUE, valueSize);
+        final int changeSize = sizeOfStateId(stateId) + sizeOfDelimited(StateChangeSchema.MAP_UPDATE, updateSize);
+        final var out = bufferFor(sizeOfDelimited(StateChangesSchema.STATE_CHANGES, changeSize));
+        writeLengthPrefix(out, StateChangesSchema.STATE_CHANGES, changeSize);
+        writeStateId(out, stateId);
+        writeLengthPrefix(out, StateChangeSchema.MAP_UPDATE, updateSize);
+        writeNested(out, MapUpdateChangeSchema.KEY, key, keySize, MapChangeKey.PROTOBUF);
+        writeNested(out, MapUpdateChangeSchema.VALUE, value, valueSize, MapChangeValue.PROTOBUF);
+    }
+
+    /**
+     * Encodes a map delete change.
+     * @param stateId the id of the state that was updated
+     * @param key the key of the removed entry
+     */
+    public void mapDelete(final int stateId, @NonNull final MapChangeKey key) {
+        requireNonNull(key);
+        final int keySize = MapChangeKey.PROTOBUF.measureRecord(key);
+        final int deleteSize = sizeOfDelimited(MapDeleteChangeSchema.KEY, keySize);
+        final int changeSize = sizeOfStateId(stateId) + sizeOfDelimited(StateChangeSchema.MAP_DELETE, deleteSize);
+        final var out = bufferFor(sizeOfDelimited(StateChangesSchema.STATE_CHANGES, changeSize));
+        writeLengthPrefix(out, StateChangesSchema.STATE_CHANGES, changeSize);
+        writeStateId(out, stateId);
+        writeLengthPrefix(out, StateChangeSchema.MAP_DELETE, deleteSize);
+        writeNested(out, MapDeleteChangeSchema.KEY, key, keySize, MapChangeKey.PROTOBUF);
+    }
+
+    /**
+     * Returns a copy of the changes encoded since the last reset, as a sequence of {@code state_changes} entries.
+     * @return the encoded changes
+     */
+    public Bytes encodedChanges() {
+        final var bytes = new byte[(int) buffer.position()];
+        buffer.getBytes(0, bytes);
+        return Bytes.wrap(bytes);
+    }
+
+    /**
+     * Encodes the given state changes as a sequence of {@code state_changes} entries.
+     * @param stateChanges the state changes to encode
+     * @return the encoded changes
+     */
+    public static Bytes encode(@NonNull final List<StateChange> stateChanges) {
+        requireNonNull(stateChanges);
+        return StateChanges.PROTOBUF.toBytes(new StateChanges(null, stateChanges));
+    }
+
+    /**
+     * Decodes a sequence of {@code state_changes} entries back into {@link StateChange} objects.
+     * @param encodedChanges the encoded changes
+     * @return the decoded state changes
+     * @throws IllegalArgumentException if the bytes are not valid encoded changes
+     */
+    public static List<StateChange> decode(@NonNull final Bytes encodedChanges) {
+        requireNonNull(encodedChanges);
+        try {
+            return StateChanges.PROTOBUF
+                    .parse(encodedChanges.toReadableSequentialData())
+                    .stateChanges();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid encoded state changes", e);
+        }
+    }
+
+    /**
+     * Concatenates two sequences of encoded changes, preserving their order.
+     * @param first the earlier changes
+     * @param second the later changes
+     * @return the combined changes
+     */
+    public static Bytes concat(@NonNull final Bytes first, @NonNull final Bytes second) {
+        final var firstLength = (int) first.length();
+        final var secondLength = (int) second.length();
+        final var bytes = new byte[firstLength + secondLength];
+        first.getBytes(0, bytes, 0, firstLength);
+        second.getBytes(0, bytes, firstLength, secondLength);
+        return Bytes.wrap(bytes);
+    }
+
+    /**
+     * Serializes a complete {@code BlockItem.state_changes} item with the given consensus timestamp and encoded
+     * changes, updating the given digest with the item bytes as they are written. The result is byte-for-byte
+     * what {@code BlockItem.PROTOBUF} would produce for the equivalent item, so the digest is the item hash.
+     *
+     * @param consensusTimestamp the consensus timestamp of the changes
+     * @param encodedChanges the encoded changes
+     * @param digest the digest to update with the serialized item
+     * @return the serialized item
+     */
+    public static Bytes serializeItem(
+            @NonNull final Timestamp consensusTimestamp,
+            @NonNull final Bytes encodedChanges,
+            @NonNull final MessageDigest digest) {
+        requireNonNull(consensusTimestamp);
+        requireNonNull(encodedChanges);
+        requireNonNull(digest);
+        final int changesSize = (int) encodedChanges.length();
+        final int timestampSize = Timestamp.PROTOBUF.measureRecord(consensusTimestamp);
+        final int stateChangesSize =
+                sizeOfDelimited(StateChangesSchema.CONSENSUS_TIMESTAMP, timestampSize) + changesSize;
+        final int itemSize = sizeOfDelimited(BlockItemSchema.STATE_CHANGES, stateChangesSize);
+        final int headerSize = itemSize - changesSize;
+
+        final var bytes = new byte[itemSize];
+        final var out = BufferedData.wrap(bytes);
+        writeLengthPrefix(out, BlockItemSchema.STATE_CHANGES, stateChangesSize);
+        writeNested(out, StateChangesSchema.CONSENSUS_TIMESTAMP, consensusTimestamp, timestampSize, Timestamp.PROTOBUF);
+        digest.update(bytes, 0, headerSize);
+        // The encoded changes are already final, so hash them straight from their source while copying them in
+        encodedChanges.writeTo(digest);
+        encodedChanges.getBytes(0, bytes, headerSize, changesSize);
+        return Bytes.wrap(bytes);
+    }
+
+    private WritableSequentialData bufferFor(final int size) {
+        if (buffer.remaining() < size) {
+            final var used = (int) buffer.position();
+            final var grown = BufferedData.allocate(Math.max(2 * (int) buffer.capacity(), used + size));
+            grown.writeBytes(buffer.getBytes(0, used));
+            buffer = grown;
+        }
+        return buffer;
+    }
+
+    private static int sizeOfStateId(final int stateId) {
+        // Like any proto3 scalar, a zero state id is omitted from the encoding
+        return stateId == 0
+                ? 0
+                : sizeOfTag(StateChangeSchema.STATE_ID, WIRE_TYPE_VARINT_OR_ZIGZAG) + sizeOfVarInt32(stateId);
+    }
+
+    private static void writeStateId(@NonNull final WritableSequentialData out, final int stateId) {
+        if (stateId != 0) {
+            writeTag(out, StateChangeSchema.STATE_ID, WIRE_TYPE_VARINT_OR_ZIGZAG);
+            out.writeVarInt(stateId, false);
+        }
+    }
+
+    private static void writeLengthPrefix(
+            @NonNull final WritableSequentialData out, @NonNull final FieldDefinition field, final int size) {
+        writeTag(out, field, WIRE_TYPE_DELIMITED);
+        out.writeVarInt(size, false);
+    }
+
+    private static <T> void writeNested(
+            @NonNull final WritableSequentialData out,
+            @NonNull final FieldDefinition field,
+            @NonNull final T message,
+            final int size,
+            @NonNull final Codec<T> codec) {
+        writeLengthPrefix(out, field, size);
+        try {
+            codec.write(message, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
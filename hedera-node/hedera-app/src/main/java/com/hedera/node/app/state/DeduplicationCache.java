@@ -37,7 +37,17 @@ public interface DeduplicationCache {
      *
      * @param transactionID The transaction ID to add to the cache.
      */
-    void add(@NonNull TransactionID transactionID);
+    default void add(@NonNull TransactionID transactionID) {
+        add(TransactionIdKey.of(transactionID));
+    }
+
+    /**
+     * Add the key of a TransactionID to the cache, as for {@link #add(TransactionID)}. Callers that already have the
+     * key of a transaction ID should use this method to avoid building it again.
+     *
+     * @param transactionIdKey The key of the transaction ID to add to the cache.
+     */
+    void add(@NonNull TransactionIdKey transactionIdKey);
 
     /**
      * Gets whether the cache contains the given transaction ID.
@@ -45,7 +55,17 @@ public interface DeduplicationCache {
      * @param transactionID The transaction ID to add to the cache.
      * @return {@code true} if the transaction ID is in the cache
      */
-    boolean contains(@NonNull TransactionID transactionID);
+    default boolean contains(@NonNull TransactionID transactionID) {
+        return contains(TransactionIdKey.of(transactionID));
+    }
+
+    /**
+     * Gets whether the cache contains the transaction ID with the given key.
+     *
+     * @param transactionIdKey The key of the transaction ID to look up.
+     * @return {@code true} if the transaction ID is in the cache
+     */
+    boolean contains(@NonNull TransactionIdKey transactionIdKey);
 
     /** Clear everything from the cache. Used during reconnect */
     void clear();
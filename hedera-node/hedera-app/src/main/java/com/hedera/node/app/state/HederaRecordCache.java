@@ -77,7 +77,21 @@ public interface HederaRecordCache extends RecordCache {
      * @return The result of the check
      */
     @NonNull
-    DuplicateCheckResult hasDuplicate(@NonNull TransactionID transactionID, long nodeId);
+    default DuplicateCheckResult hasDuplicate(@NonNull TransactionID transactionID, long nodeId) {
+        return hasDuplicate(TransactionIdKey.of(transactionID), nodeId);
+    }
+
+    /**
+     * Checks if the transaction ID with the given key has been seen by this node, as for
+     * {@link #hasDuplicate(TransactionID, long)}. Callers that already have the key of a transaction ID should use
+     * this method to avoid building it again.
+     *
+     * @param transactionIdKey The key of the {@link TransactionID} to check
+     * @param nodeId The node ID of the node that submitted the current transaction
+     * @return The result of the check
+     */
+    @NonNull
+    DuplicateCheckResult hasDuplicate(@NonNull TransactionIdKey transactionIdKey, long nodeId);
 
     /**
      * Resets the receipts pf all transactions stored per round. This is called at the end of each round to
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static com.hedera.hapi.util.HapiUtils.ALIAS_COMPARATOR;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Comparator;
+
+/**
+ * A compact, fixed-width key for a {@link TransactionID}, used in place of the PBJ object in the hash and skip-list
+ * structures of the record and de-duplication caches. Unlike a {@link TransactionID}, whose {@code equals()} and
+ * {@code hashCode()} walk a nested {@link AccountID} and {@link Timestamp}, this key's identity is just a handful of
+ * primitive fields.
+ * <p>
+ * A key is built once per parsed transaction and carried on its {@link com.hedera.node.app.workflows.TransactionInfo},
+ * so the ingest, pre-handle and handle workflows pass that same key to every cache lookup instead of building a new
+ * one each time.
+ * <p>
+ * A payer account is almost always identified by number; but since a {@link TransactionID} may legally name its
+ * payer by alias, the key keeps that alias in the rare case it is present so that no two distinct ids ever share
+ * a key.
+ * <p>
+ * The natural order of keys is by valid start time, then by payer, then scheduled flag, and finally nonce.
+ *
+ * @param shard the shard of the payer account
+ * @param realm the realm of the payer account
+ * @param num the number of the payer account, or zero if the payer is identified by alias
+ * @param seconds the seconds of the transaction valid start
+ * @param nanos the nanos of the transaction valid start
+ * @param nonce the nonce of the transaction id
+ * @param scheduled whether the transaction id is for a scheduled transaction
+ * @param alias the alias of the payer account, or null if the payer is identified by number
+ */
+public record TransactionIdKey(
+        long shard,
+        long realm,
+        long num,
+        long seconds,
+        int nanos,
+        int nonce,
+        boolean scheduled,
+        @Nullable Bytes alias)
+        implements Comparable<TransactionIdKey> {
+    /** Orders keys without an alias, which are the overwhelming majority, before keys with an alias. */
+    private static final Comparator<Bytes> ALIAS_ORDER = Comparator.nullsFirst(ALIAS_COMPARATOR);
+
+    /**
+     * Returns the key for the given {@link TransactionID}.
+     *
+     * @param txnId the transaction id
+     * @return the key for the transaction id
+     */
+    public static TransactionIdKey of(@NonNull final TransactionID txnId) {
+        requireNonNull(txnId);
+        final var payerId = txnId.accountIDOrElse(AccountID.DEFAULT);
+        final var validStart = txnId.transactionValidStartOrElse(Timestamp.DEFAULT);
+        return new TransactionIdKey(
+                payerId.shardNum(),
+                payerId.realmNum(),
+                payerId.accountNumOrElse(0L),
+                validStart.seconds(),
+                validStart.nanos(),
+                txnId.nonce(),
+                txnId.scheduled(),
+                payerId.hasAlias() ? payerId.aliasOrThrow() : null);
+    }
+
+    /**
+     * Returns the key of the "base" transaction id this key belongs to; that is, this key with a nonce of zero.
+     *
+     * @return the key with a zero nonce
+     */
+    public TransactionIdKey withoutNonce() {
+        return nonce == 0 ? this : new TransactionIdKey(shard, realm, num, seconds, nanos, 0, scheduled, alias);
+    }
+
+    @Override
+    public int compareTo(@NonNull final TransactionIdKey that) {
+        int diff = Long.compare(seconds, that.seconds);
+        if (diff != 0) return diff;
+        diff = Integer.compare(nanos, that.nanos);
+        if (diff != 0) return diff;
+        diff = Long.compare(shard, that.shard);
+        if (diff != 0) return diff;
+        diff = Long.compare(realm, that.realm);
+        if (diff != 0) return diff;
+        diff = Long.compare(num, that.num);
+        if (diff != 0) return diff;
+        diff = ALIAS_ORDER.compare(alias, that.alias);
+        if (diff != 0) return diff;
+        diff = Boolean.compare(scheduled, that.scheduled);
+        if (diff != 0) return diff;
+        return Integer.compare(nonce, that.nonce);
+    }
+}
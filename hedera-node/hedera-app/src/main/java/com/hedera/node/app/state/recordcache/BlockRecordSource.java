@@ -26,6 +26,7 @@ import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.TransactionReceipt;
 import com.hedera.hapi.node.transaction.TransactionRecord;
 import com.hedera.node.app.blocks.BlockItemsTranslator;
+import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.impl.BlockStreamBuilder;
 import com.hedera.node.app.blocks.impl.TranslationContext;
 import com.hedera.node.app.spi.records.RecordSource;
@@ -81,6 +82,16 @@ public class BlockRecordSource implements RecordSource {
         outputs.forEach(output -> output.forEachItem(action));
     }
 
+    /**
+     * Writes every item in the source to the given block stream manager, in order.
+     *
+     * @param blockStreamManager the block stream manager to write to
+     */
+    public void writeTo(@NonNull final BlockStreamManager blockStreamManager) {
+        requireNonNull(blockStreamManager);
+        outputs.forEach(output -> output.writeTo(blockStreamManager));
+    }
+
     @Override
     public List<IdentifiedReceipt> identifiedReceipts() {
         return computedReceipts();
@@ -16,21 +16,17 @@
 
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.hapi.util.HapiUtils.ACCOUNT_ID_COMPARATOR;
-import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.hapi.util.HapiUtils.asTimestamp;
 import static com.hedera.hapi.util.HapiUtils.minus;
 import static java.util.Objects.requireNonNull;
 
-import com.hedera.hapi.node.base.AccountID;
-import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.state.TransactionIdKey;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.InstantSource;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import javax.inject.Inject;
@@ -46,13 +42,11 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
      * Note that an ID with scheduled set is different from the same ID without scheduled set.
      * In fact, an ID with scheduled set will always match the ID of the ScheduleCreate transaction that created
      * the schedule, except scheduled is set.
+     * <p>
+     * Since every transaction and receipt query is checked against this set, it holds compact {@link
+     * TransactionIdKey}s, whose natural order is by start time, rather than the {@link TransactionID}s themselves.
      */
-    private final Set<TransactionID> submittedTxns =
-            new ConcurrentSkipListSet<>(Comparator.<TransactionID, Timestamp>comparing(
-                            txnId -> txnId.transactionValidStartOrElse(Timestamp.DEFAULT), TIMESTAMP_COMPARATOR)
-                    .thenComparing(txnId -> txnId.accountIDOrElse(AccountID.DEFAULT), ACCOUNT_ID_COMPARATOR)
-                    .thenComparing(TransactionID::scheduled)
-                    .thenComparing(TransactionID::nonce));
+    private final Set<TransactionIdKey> submittedTxns = new ConcurrentSkipListSet<>();
 
     /** Used for looking up the max transaction duration window. */
     private final ConfigProvider configProvider;
@@ -72,7 +66,7 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
 
     /** {@inheritDoc} */
     @Override
-    public void add(@NonNull final TransactionID transactionID) {
+    public void add(@NonNull final TransactionIdKey transactionIdKey) {
         // We don't want to use another thread to prune the set, so we will take the opportunity here to do so.
         // Remember that at this point we have passed through all the throttles, so this method is only called
         // at most 10,000 / (Number of nodes) times per second, which is not a lot.
@@ -80,19 +74,19 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
         removeTransactionsOlderThan(epochSeconds);
 
         // If the transaction is within the max transaction duration window, then add it to the set.
-        if (transactionID.transactionValidStartOrThrow().seconds() >= epochSeconds) {
-            submittedTxns.add(transactionID);
+        if (transactionIdKey.seconds() >= epochSeconds) {
+            submittedTxns.add(transactionIdKey);
         }
     }
 
     /** {@inheritDoc} */
     @Override
-    public boolean contains(@NonNull final TransactionID transactionID) {
+    public boolean contains(@NonNull final TransactionIdKey transactionIdKey) {
         // We will prune the set here as well. By pruning before looking up, we are sure that we only return true
         // if the transactionID is still valid
         final var epochSeconds = approxEarliestValidStartSecond();
         removeTransactionsOlderThan(epochSeconds);
-        return submittedTxns.contains(transactionID);
+        return submittedTxns.contains(transactionIdKey);
     }
 
     /** {@inheritDoc} */
@@ -123,7 +117,7 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
         final var itr = submittedTxns.iterator();
         while (itr.hasNext()) {
             final var txId = itr.next();
-            if (txId.transactionValidStartOrThrow().seconds() < earliestEpochSecond) {
+            if (txId.seconds() < earliestEpochSecond) {
                 itr.remove();
             } else {
                 return;
@@ -38,6 +38,7 @@ import com.hedera.hapi.node.transaction.TransactionRecord;
 import com.hedera.node.app.spi.records.RecordSource;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.state.HederaRecordCache;
+import com.hedera.node.app.state.TransactionIdKey;
 import com.hedera.node.app.state.WorkingStateAccessor;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
@@ -58,6 +59,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -126,16 +129,23 @@ public class RecordCacheImpl implements HederaRecordCache {
      */
     private final DeduplicationCache deduplicationCache;
     /**
-     * A map of transaction IDs to the sources of records for those transaction ids and their children.
+     * A map of transaction IDs to the sources of records for those transaction ids and their children. Since this
+     * map is consulted for every transaction and receipt query, it is keyed by compact {@link TransactionIdKey}s.
      */
-    private final Map<TransactionID, HistorySource> historySources = new ConcurrentHashMap<>();
+    private final Map<TransactionIdKey, HistorySource> historySources = new ConcurrentHashMap<>();
     /**
-     * A secondary index that maps from the AccountID of the payer account to a set of transaction IDs that were
-     * submitted by this payer. This is only needed for answering queries. Ideally such queries would exist on the
-     * mirror node instead. The answer to this query will include child records that were created as a consequence
-     * of the original user transaction, but not any preceding records triggered by it.
+     * A secondary index that maps from the AccountID of the payer account to the transaction IDs that were
+     * submitted by this payer, in the order they were handled. This is only needed for answering queries. Ideally
+     * such queries would exist on the mirror node instead. The answer to this query will include child records that
+     * were created as a consequence of the original user transaction, but not any preceding records triggered by it.
+     * <p>
+     * Each payer's ids are appended to a {@link ConcurrentLinkedDeque} once per receipt, so an id submitted more than
+     * once appears once per submission and is removed once per expired receipt. Since transactions expire in the order
+     * they were handled, expired ids are removed from the head of each payer's deque; and a query for the most recent
+     * records of a payer walks back from the tail. The handle thread is the only writer, and the deque's iterators are
+     * weakly consistent, so query threads never see a {@link ConcurrentModificationException}.
      */
-    private final Map<AccountID, Set<TransactionID>> payerTxnIds = new ConcurrentHashMap<>();
+    private final Map<AccountID, ConcurrentLinkedDeque<TransactionID>> payerTxnIds = new ConcurrentHashMap<>();
     /**
      * The list of transaction receipts for the current round.
      */
@@ -152,7 +162,8 @@ public class RecordCacheImpl implements HederaRecordCache {
      *     classify duplicate transactions.</li>
      *     <li>A {@code recordSources} list with all the sources of records for the relevant
      *     base {@link TransactionID}. This is used to construct {@link TransactionRecord}
-     *     records for answering queries.</li>
+     *     records for answering queries, so it is copied on write and query threads can
+     *     iterate it while the handle thread adds to it.</li>
      * </ol>
      *
      * @param nodeIds The set of node ids that have submitted a properly screened transaction
@@ -161,7 +172,7 @@ public class RecordCacheImpl implements HederaRecordCache {
     private record HistorySource(@NonNull Set<Long> nodeIds, @NonNull List<RecordSource> recordSources)
             implements ReceiptSource {
         public HistorySource() {
-            this(new HashSet<>(), new ArrayList<>());
+            this(new HashSet<>(), new CopyOnWriteArrayList<>());
         }
 
         @Override
@@ -270,13 +281,11 @@ public class RecordCacheImpl implements HederaRecordCache {
             for (final var receipt : roundReceipts.entries()) {
                 final var txnId = receipt.transactionIdOrThrow();
                 // We group history by the base transaction ID, which is the transaction ID with a nonce of 0
-                final var baseTxnId = txnId.nonce() == 0
-                        ? txnId
-                        : txnId.copyBuilder().nonce(0).build();
+                final var baseTxnIdKey = TransactionIdKey.of(txnId).withoutNonce();
                 // Ensure this node won't submit duplicate transactions and be penalized for it
-                deduplicationCache.add(baseTxnId);
+                deduplicationCache.add(baseTxnIdKey);
                 // Now update the history of this transaction id
-                final var historySource = historySources.computeIfAbsent(baseTxnId, ignore -> new HistorySource());
+                final var historySource = historySources.computeIfAbsent(baseTxnIdKey, ignore -> new HistorySource());
                 // Honest nodes use the set of node ids that have submitted classifiable transactions with this id to
                 // classify user versus node duplicates; so reconstructing the set here is critical for deterministic
                 // transaction handling across all nodes in the network
@@ -290,7 +299,7 @@ public class RecordCacheImpl implements HederaRecordCache {
                 }
                 ((PartialRecordSource) historySource.recordSources.getFirst()).incorporate(asTxnRecord(receipt));
                 payerTxnIds
-                        .computeIfAbsent(txnId.accountIDOrThrow(), ignored -> new HashSet<>())
+                        .computeIfAbsent(txnId.accountIDOrThrow(), ignored -> new ConcurrentLinkedDeque<>())
                         .add(txnId);
             }
         }
@@ -311,8 +320,7 @@ public class RecordCacheImpl implements HederaRecordCache {
             final var txnId = identifiedReceipt.txnId();
             final var status = identifiedReceipt.receipt().status();
             transactionReceipts.add(new TransactionReceiptEntry(nodeId, txnId, status));
-            final var baseTxnId =
-                    txnId.nonce() == 0 ? txnId : txnId.copyBuilder().nonce(0).build();
+            final var baseTxnId = TransactionIdKey.of(txnId).withoutNonce();
             final var historySource = historySources.computeIfAbsent(baseTxnId, ignore -> new HistorySource());
             // We don't let improperly submitted transactions keep properly submitted transactions from using an id
             if (!NODE_FAILURES.contains(status)) {
@@ -331,7 +339,7 @@ public class RecordCacheImpl implements HederaRecordCache {
                 effectivePayerId = txnId.accountIDOrThrow();
             }
             payerTxnIds
-                    .computeIfAbsent(effectivePayerId, ignored -> new HashSet<>())
+                    .computeIfAbsent(effectivePayerId, ignored -> new ConcurrentLinkedDeque<>())
                     .add(txnId);
         }
     }
@@ -358,9 +366,9 @@ public class RecordCacheImpl implements HederaRecordCache {
 
     @NonNull
     @Override
-    public DuplicateCheckResult hasDuplicate(@NonNull final TransactionID txnId, final long nodeId) {
-        requireNonNull(txnId);
-        final var historySource = historySources.get(txnId);
+    public DuplicateCheckResult hasDuplicate(@NonNull final TransactionIdKey txnIdKey, final long nodeId) {
+        requireNonNull(txnIdKey);
+        final var historySource = historySources.get(txnIdKey);
         // If there is no history for this transaction id; or all its history consists of
         // unclassifiable records, return that it is effectively a unique id
         if (historySource == null || historySource.nodeIds().isEmpty()) {
@@ -401,26 +409,24 @@ public class RecordCacheImpl implements HederaRecordCache {
                 // and "child" transaction records associated with that ID.
                 for (final var receipt : roundReceipts.entries()) {
                     final var txnId = receipt.transactionIdOrThrow();
-                    historySources.remove(
-                            txnId.nonce() == 0
-                                    ? txnId
-                                    : txnId.copyBuilder().nonce(0).build());
-                    // Remove from the payer to transaction index
+                    historySources.remove(TransactionIdKey.of(txnId).withoutNonce());
+                    // Remove from the payer to transaction index; as the oldest of its payer's ids, this is
+                    // almost always an O(1) removal from the head of the payer's deque
                     var payerId = txnId.accountIDOrThrow();
-                    var txnIds = payerTxnIds.computeIfAbsent(payerId, ignored -> new HashSet<>());
-                    if (!txnIds.remove(txnId)) {
+                    var txnIds = payerTxnIds.get(payerId);
+                    if (txnIds == null || !txnIds.remove(txnId)) {
                         // The submitting node account must have been the payer
                         payerId = requireNonNull(networkInfo.nodeInfo(receipt.nodeId()))
                                 .accountId();
-                        txnIds = payerTxnIds.computeIfAbsent(payerId, ignored -> new HashSet<>());
-                        if (!txnIds.remove(txnId) && receipt.status() != DUPLICATE_TRANSACTION) {
+                        txnIds = payerTxnIds.get(payerId);
+                        if ((txnIds == null || !txnIds.remove(txnId)) && receipt.status() != DUPLICATE_TRANSACTION) {
                             logger.warn(
                                     "Non-duplicate {} not cached for either payer or submitting node {}",
                                     txnId,
                                     payerId);
                         }
                     }
-                    if (txnIds.isEmpty()) {
+                    if (txnIds != null && txnIds.isEmpty()) {
                         payerTxnIds.remove(payerId);
                     }
                 }
@@ -439,19 +445,21 @@ public class RecordCacheImpl implements HederaRecordCache {
     @Override
     public History getHistory(@NonNull final TransactionID txnId) {
         requireNonNull(txnId);
-        final var historySource = historySources.get(txnId);
+        final var txnIdKey = TransactionIdKey.of(txnId);
+        final var historySource = historySources.get(txnIdKey);
         return historySource != null
                 ? historySource.historyOf(txnId)
-                : (deduplicationCache.contains(txnId) ? EMPTY_HISTORY : null);
+                : (deduplicationCache.contains(txnIdKey) ? EMPTY_HISTORY : null);
     }
 
     @Override
     public @Nullable ReceiptSource getReceipts(@NonNull final TransactionID txnId) {
         requireNonNull(txnId);
-        final var historySource = historySources.get(txnId);
+        final var txnIdKey = TransactionIdKey.of(txnId);
+        final var historySource = historySources.get(txnIdKey);
         return historySource != null
                 ? historySource
-                : (deduplicationCache.contains(txnId) ? EMPTY_HISTORY_SOURCE : null);
+                : (deduplicationCache.contains(txnIdKey) ? EMPTY_HISTORY_SOURCE : null);
     }
 
     @NonNull
@@ -467,31 +475,29 @@ public class RecordCacheImpl implements HederaRecordCache {
                 .getConfiguration()
                 .getConfigData(LedgerConfig.class)
                 .recordsMaxQueryableByAccount();
-        // While we still need to gather more records, collect them from the different histories.
+        // While we still need to gather more records, collect them from the different histories, starting
+        // from the payer's most recently handled transaction so that only the most recent records are visited
         final var records = new ArrayList<TransactionRecord>(maxRemaining);
-        // Because the set of transaction IDs could be concurrently modified by
-        // the handle thread, wrap this in a try-catch block to deal with a CME
-        // and return whatever we are able to gather. (I.e. this is a best-effort
-        // query, and not a critical path; unused in production environments)
-        try {
-            for (final var txnId : txnIds) {
-                final var historySource = historySources.get(txnId);
-                if (historySource != null) {
-                    final var history = historySource.historyOf(txnId);
-                    final var sourcedRecords = history.orderedRecords();
-                    records.addAll(
-                            sourcedRecords.size() > maxRemaining
-                                    ? sourcedRecords.subList(0, maxRemaining)
-                                    : sourcedRecords);
-                    maxRemaining -= sourcedRecords.size();
-                    if (maxRemaining <= 0) {
-                        break;
-                    }
-                }
+        // The handle thread may append and expire ids while this iterates; the weakly consistent iterator then
+        // just may or may not include those ids. An id submitted more than once is only visited once, since its
+        // history already includes the records of every submission
+        final Set<TransactionID> visited = new HashSet<>();
+        final var iterator = txnIds.descendingIterator();
+        while (maxRemaining > 0 && iterator.hasNext()) {
+            final var txnId = iterator.next();
+            if (!visited.add(txnId)) {
+                continue;
+            }
+            final var historySource = historySources.get(TransactionIdKey.of(txnId));
+            if (historySource != null) {
+                final var history = historySource.historyOf(txnId);
+                final var sourcedRecords = history.orderedRecords();
+                records.addAll(
+                        sourcedRecords.size() > maxRemaining ? sourcedRecords.subList(0, maxRemaining) : sourcedRecords);
+                maxRemaining -= sourcedRecords.size();
             }
-        } catch (ConcurrentModificationException ignore) {
-            // Ignore the exception and return what we found; this query is unused in production environments
         }
+        // At most recordsMaxQueryableByAccount records are sorted here, regardless of how many the payer has
         records.sort((a, b) -> TIMESTAMP_COMPARATOR.compare(
                 a.consensusTimestampOrElse(Timestamp.DEFAULT), b.consensusTimestampOrElse(Timestamp.DEFAULT)));
         return records;
@@ -21,13 +21,22 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
 import com.hedera.node.app.throttle.annotations.IngestThrottle;
 import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
 import com.swirlds.state.State;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -35,20 +44,37 @@ import javax.inject.Singleton;
  * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
  * transaction or query should be throttled based on that.
  * Meant to be used in multithreaded context
+ *
+ * <p>For functionalities whose throttling depends only on their throttle requirements (see
+ * {@link ThrottleAccumulator#isThrottledByReqsOnly(HederaFunctionality)}), each thread claims capacity for a small
+ * batch of transactions at once as a short-lived <i>lease</i>. Later transactions of the same functionality on that
+ * thread are then admitted from the lease with a single compare-and-set, without taking the lock. Any capacity left
+ * in a lease when it expires is returned to the throttle buckets before the next decision made under the lock; so
+ * over any period longer than the lease duration, the same number of transactions are admitted as without leases.
  */
 @Singleton
 public class SynchronizedThrottleAccumulator {
+    /**
+     * A lease may never claim more than this fraction of the total capacity of any bucket it draws from.
+     */
+    private static final int MIN_LEASES_PER_BUCKET = 100;
 
+    private final ConfigProvider configProvider;
     private final InstantSource instantSource;
     private final ThrottleAccumulator frontendThrottle;
+    private final Set<Lease> outstandingLeases = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Map<HederaFunctionality, Lease>> threadLeases =
+            ThreadLocal.withInitial(() -> new EnumMap<>(HederaFunctionality.class));
 
     @NonNull
     private Instant lastDecisionTime = Instant.EPOCH;
 
     @Inject
     public SynchronizedThrottleAccumulator(
+            @NonNull final ConfigProvider configProvider,
             @NonNull final InstantSource instantSource,
             @NonNull @IngestThrottle final ThrottleAccumulator frontendThrottle) {
+        this.configProvider = requireNonNull(configProvider);
         this.instantSource = requireNonNull(instantSource);
         this.frontendThrottle = requireNonNull(frontendThrottle, "frontendThrottle must not be null");
     }
@@ -61,9 +87,43 @@ public class SynchronizedThrottleAccumulator {
      * @param state the current state of the node
      * @return whether the transaction should be throttled
      */
-    public synchronized boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+    public boolean shouldThrottle(@NonNull TransactionInfo txnInfo, State state) {
+        final var configuration = configProvider.getConfiguration();
+        final var hederaConfig = configuration.getConfigData(HederaConfig.class);
+        final var function = txnInfo.functionality();
+        if (hederaConfig.ingestThrottleLeaseSize() <= 1
+                || !ThrottleAccumulator.isThrottledByReqsOnly(function)
+                || ThrottleAccumulator.throttleExempt(txnInfo.payerID(), configuration)) {
+            synchronized (this) {
+                setDecisionTime(instantSource.instant());
+                return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+            }
+        }
+        final var now = instantSource.instant();
+        final var leases = threadLeases.get();
+        final var lease = leases.get(function);
+        if (lease != null && lease.tryUseAt(now)) {
+            return false;
+        }
+        synchronized (this) {
+            setDecisionTime(now);
+            returnUnusedCapacity(lease);
+            returnExpiredLeases();
+            final int leaseSize = leaseSizeFor(function, hederaConfig.ingestThrottleLeaseSize());
+            if (leaseSize > 1 && !frontendThrottle.shouldThrottleNOfUnscaled(leaseSize, function, lastDecisionTime)) {
+                // This transaction uses one unit of the new lease, the rest stays with the thread
+                final var newLease = new Lease(
+                        function,
+                        leaseSize - 1,
+                        lastDecisionTime.plusMillis(hederaConfig.ingestThrottleLeaseDurationMs()),
+                        frontendThrottle.allActiveThrottles());
+                leases.put(function, newLease);
+                outstandingLeases.add(newLease);
+                return false;
+            }
+            leases.remove(function);
+            return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+        }
     }
 
     /**
@@ -90,4 +150,112 @@ public class SynchronizedThrottleAccumulator {
     private void setDecisionTime(@NonNull final Instant time) {
         lastDecisionTime = time.isBefore(lastDecisionTime) ? lastDecisionTime : time;
     }
+
+    /**
+     * Returns the number of transactions to claim in a new lease for the given functionality; which is the
+     * configured lease size, capped so no lease takes more than {@code 1/MIN_LEASES_PER_BUCKET} of any bucket.
+     */
+    private int leaseSizeFor(@NonNull final HederaFunctionality function, final int configuredLeaseSize) {
+        long leaseSize = configuredLeaseSize;
+        for (final var throttle : frontendThrottle.activeThrottlesFor(function)) {
+            final long bucketTxns = throttle.capacity() / DeterministicThrottle.capacityRequiredFor(1);
+            leaseSize = Math.min(leaseSize, bucketTxns / MIN_LEASES_PER_BUCKET);
+        }
+        return (int) leaseSize;
+    }
+
+    /**
+     * Returns the capacity of all expired leases to the throttle buckets. Must be called while holding the lock.
+     */
+    private void returnExpiredLeases() {
+        for (final var lease : outstandingLeases) {
+            if (!lastDecisionTime.isBefore(lease.expiry())) {
+                returnUnusedCapacity(lease);
+            }
+        }
+    }
+
+    /**
+     * Returns the unused capacity in the given lease (if any) to the throttle buckets, unless the throttles
+     * have been rebuilt since the lease was claimed. Must be called while holding the lock.
+     */
+    private void returnUnusedCapacity(@Nullable final Lease lease) {
+        if (lease == null) {
+            return;
+        }
+        outstandingLeases.remove(lease);
+        final int unused = lease.expire();
+        if (unused > 0 && lease.throttles() == frontendThrottle.allActiveThrottles()) {
+            frontendThrottle.leakCapacityForNOfUnscaled(unused, lease.function());
+        }
+    }
+
+    /**
+     * Capacity claimed under the lock for some number of transactions of a single functionality, which the
+     * owning thread can then use without the lock until the lease expires.
+     */
+    private static final class Lease {
+        private final HederaFunctionality function;
+        private final AtomicInteger remaining;
+        private final Instant expiry;
+        private final List<DeterministicThrottle> throttles;
+
+        /**
+         * @param function the functionality the capacity was claimed for
+         * @param remaining the number of transactions still available in the lease
+         * @param expiry the time after which the lease can no longer be used
+         * @param throttles the active throttles when the lease was claimed
+         */
+        private Lease(
+                @NonNull final HederaFunctionality function,
+                final int remaining,
+                @NonNull final Instant expiry,
+                @NonNull final List<DeterministicThrottle> throttles) {
+            this.function = requireNonNull(function);
+            this.remaining = new AtomicInteger(remaining);
+            this.expiry = requireNonNull(expiry);
+            this.throttles = requireNonNull(throttles);
+        }
+
+        /**
+         * Tries to admit one transaction from this lease at the given time.
+         *
+         * @param now the time of the throttling decision
+         * @return whether the transaction was admitted
+         */
+        boolean tryUseAt(@NonNull final Instant now) {
+            if (!now.isBefore(expiry)) {
+                return false;
+            }
+            int n;
+            do {
+                n = remaining.get();
+                if (n == 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(n, n - 1));
+            return true;
+        }
+
+        /**
+         * Expires this lease, returning the number of transactions it had not yet admitted.
+         *
+         * @return the unused number of transactions
+         */
+        int expire() {
+            return remaining.getAndSet(0);
+        }
+
+        HederaFunctionality function() {
+            return function;
+        }
+
+        Instant expiry() {
+            return expiry;
+        }
+
+        List<DeterministicThrottle> throttles() {
+            return throttles;
+        }
+    }
 }
@@ -23,7 +23,9 @@ import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_CREATE;
 import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_GET_ACCOUNT_BALANCE;
 import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
 import static com.hedera.hapi.node.base.HederaFunctionality.ETHEREUM_TRANSACTION;
+import static com.hedera.hapi.node.base.HederaFunctionality.SCHEDULE_CREATE;
 import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_ASSOCIATE_TO_ACCOUNT;
+import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_MINT;
 import static com.hedera.hapi.util.HapiUtils.functionOf;
 import static com.hedera.node.app.hapi.utils.ethereum.EthTxData.populateEthTxData;
 import static com.hedera.node.app.hapi.utils.sysfiles.domain.throttling.ScaleFactor.ONE_TO_ONE;
@@ -111,6 +113,8 @@ public class ThrottleAccumulator {
             EnumSet.of(CONTRACT_CALL_LOCAL, CONTRACT_CALL, CONTRACT_CREATE, ETHEREUM_TRANSACTION);
     private static final Set<HederaFunctionality> AUTO_CREATE_FUNCTIONS =
             EnumSet.of(CRYPTO_TRANSFER, ETHEREUM_TRANSACTION);
+    private static final Set<HederaFunctionality> BODY_OR_STATE_DEPENDENT_FUNCTIONS =
+            EnumSet.of(SCHEDULE_CREATE, TOKEN_MINT, CRYPTO_TRANSFER, ETHEREUM_TRANSACTION);
     private static final int UNKNOWN_NUM_IMPLICIT_CREATIONS = -1;
 
     private EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs = new EnumMap<>(HederaFunctionality.class);
@@ -118,6 +122,13 @@ public class ThrottleAccumulator {
     private GasLimitDeterministicThrottle gasThrottle;
     private List<DeterministicThrottle> activeThrottles = emptyList();
 
+    /**
+     * The read-only stores built from the last state passed to this accumulator; only re-created when a
+     * different state is given, instead of on every throttling decision.
+     */
+    @Nullable
+    private ThrottleStores cachedStores;
+
     @Nullable
     private final ThrottleMetrics throttleMetrics;
 
@@ -240,8 +251,7 @@ public class ThrottleAccumulator {
         final boolean allReqMet;
         if (queryFunction == CRYPTO_GET_ACCOUNT_BALANCE
                 && configuration.getConfigData(TokensConfig.class).countingGetBalanceThrottleEnabled()) {
-            final var accountStore =
-                    new ReadableStoreFactory(state, softwareVersionFactory).getStore(ReadableAccountStore.class);
+            final var accountStore = storesFor(state).accountStore();
             final var tokenConfig = configuration.getConfigData(TokensConfig.class);
             final int associationCount =
                     Math.clamp(getAssociationCount(query, accountStore), 1, tokenConfig.maxRelsPerInfoQuery());
@@ -362,6 +372,18 @@ public class ThrottleAccumulator {
         return GAS_THROTTLED_FUNCTIONS.contains(function);
     }
 
+    /**
+     * Checks if throttling the given functionality depends only on its throttle requirements; that is, not on the
+     * transaction body, the state, or the gas throttle. Capacity for such a functionality can be claimed for
+     * several transactions at once without changing the throttling decisions.
+     *
+     * @param function the functionality to check
+     * @return whether the given functionality is throttled only by its throttle requirements
+     */
+    public static boolean isThrottledByReqsOnly(@NonNull final HederaFunctionality function) {
+        return !GAS_THROTTLED_FUNCTIONS.contains(function) && !BODY_OR_STATE_DEPENDENT_FUNCTIONS.contains(function);
+    }
+
     public static boolean canAutoCreate(@NonNull final HederaFunctionality function) {
         return AUTO_CREATE_FUNCTIONS.contains(function);
     }
@@ -427,10 +449,9 @@ public class ThrottleAccumulator {
             }
             case TOKEN_MINT -> shouldThrottleMint(manager, txnInfo.txBody().tokenMint(), now, configuration);
             case CRYPTO_TRANSFER -> {
-                final var accountStore =
-                        new ReadableStoreFactory(state, softwareVersionFactory).getStore(ReadableAccountStore.class);
-                final var relationStore = new ReadableStoreFactory(state, softwareVersionFactory)
-                        .getStore(ReadableTokenRelationStore.class);
+                final var stores = storesFor(state);
+                final var accountStore = stores.accountStore();
+                final var relationStore = stores.relationStore();
                 yield shouldThrottleCryptoTransfer(
                         manager,
                         now,
@@ -439,8 +460,7 @@ public class ThrottleAccumulator {
                         getAutoAssociationsCount(txnInfo.txBody(), relationStore));
             }
             case ETHEREUM_TRANSACTION -> {
-                final var accountStore =
-                        new ReadableStoreFactory(state, softwareVersionFactory).getStore(ReadableAccountStore.class);
+                final var accountStore = storesFor(state).accountStore();
                 yield shouldThrottleEthTxn(
                         manager, now, configuration, getImplicitCreationsCount(txnInfo.txBody(), accountStore));
             }
@@ -481,8 +501,7 @@ public class ThrottleAccumulator {
             if ((isAutoCreationEnabled || isLazyCreationEnabled) && scheduledFunction == CRYPTO_TRANSFER) {
                 final var transfer = scheduled.cryptoTransfer();
                 if (usesAliases(transfer)) {
-                    final var accountStore = new ReadableStoreFactory(state, softwareVersionFactory)
-                            .getStore(ReadableAccountStore.class);
+                    final var accountStore = storesFor(state).accountStore();
                     final var transferTxnBody = TransactionBody.newBuilder()
                             .cryptoTransfer(transfer)
                             .build();
@@ -521,7 +540,7 @@ public class ThrottleAccumulator {
         }
     }
 
-    private static boolean throttleExempt(
+    static boolean throttleExempt(
             @Nullable final AccountID accountID, @NonNull final Configuration configuration) {
         final long maxThrottleExemptNum =
                 configuration.getConfigData(AccountsConfig.class).lastThrottleExempt();
@@ -532,6 +551,19 @@ public class ThrottleAccumulator {
         return false;
     }
 
+    private ThrottleStores storesFor(@NonNull final State state) {
+        var stores = cachedStores;
+        if (stores == null || stores.state() != state) {
+            final var storeFactory = new ReadableStoreFactory(state, softwareVersionFactory);
+            stores = new ThrottleStores(
+                    state,
+                    storeFactory.getStore(ReadableAccountStore.class),
+                    storeFactory.getStore(ReadableTokenRelationStore.class));
+            cachedStores = stores;
+        }
+        return stores;
+    }
+
     private void reclaimLastAllowedUse() {
         activeThrottles.forEach(DeterministicThrottle::reclaimLastAllowedUse);
         gasThrottle.reclaimLastAllowedUse();
@@ -916,6 +948,11 @@ public class ThrottleAccumulator {
         return requireNonNull(gasThrottle, "");
     }
 
+    private record ThrottleStores(
+            @NonNull State state,
+            @NonNull ReadableAccountStore accountStore,
+            @NonNull ReadableTokenRelationStore relationStore) {}
+
     public enum ThrottleType {
         FRONTEND_THROTTLE,
         BACKEND_THROTTLE
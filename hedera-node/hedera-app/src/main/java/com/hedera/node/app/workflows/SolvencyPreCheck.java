@@ -41,6 +41,7 @@ import com.hedera.node.app.fees.FeeManager;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.authorization.Authorizer;
 import com.hedera.node.app.spi.fees.Fees;
+import com.hedera.node.app.spi.ids.ReadableEntityIdStore;
 import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.InsufficientNetworkFeeException;
 import com.hedera.node.app.spi.workflows.InsufficientNonFeeDebitsException;
@@ -48,9 +49,13 @@ import com.hedera.node.app.spi.workflows.InsufficientServiceFeeException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.validation.ExpiryValidation;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -64,26 +69,43 @@ import javax.inject.Singleton;
 @Singleton
 public class SolvencyPreCheck {
 
+    /** The most payer ids remembered as missing; once reached, the remembered ids are forgotten and refilled. */
+    private static final int MAX_MISSING_PAYERS = 1 << 16;
+
     private final ExchangeRateManager exchangeRateManager;
     private final FeeManager feeManager;
     private final ExpiryValidation expiryValidation;
     private final Authorizer authorizer;
+    private final ConfigProvider configProvider;
+    /**
+     * User payer ids below the entity number high-water mark that were found not to be accounts. Entity numbers are
+     * never reused, so such an id can never become an account later.
+     */
+    private final Set<AccountID> missingPayers = ConcurrentHashMap.newKeySet();
 
     @Inject
     public SolvencyPreCheck(
             @NonNull final ExchangeRateManager exchangeRateManager,
             @NonNull final FeeManager feeManager,
             @NonNull final ExpiryValidation expiryValidation,
-            @NonNull final Authorizer authorizer) {
+            @NonNull final Authorizer authorizer,
+            @NonNull final ConfigProvider configProvider) {
         this.exchangeRateManager = requireNonNull(exchangeRateManager, "exchangeRateManager must not be null");
         this.feeManager = requireNonNull(feeManager, "feeManager must not be null");
         this.expiryValidation = requireNonNull(expiryValidation, "expiryValidation must not be null");
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
+        this.configProvider = requireNonNull(configProvider, "configProvider must not be null");
     }
 
     /**
      * Reads the payer account from state and validates it.
      *
+     * <p>Entity numbers are allocated sequentially, so a payer identified by a number at or above the next
+     * number to be allocated cannot exist; such a payer is rejected from the in-memory entity id singleton,
+     * without looking up the account (which for a nonexistent payer always misses every cache). A user payer below
+     * that number which is found missing once is remembered, and rejected without a lookup from then on; system
+     * entity numbers are not remembered, since a system context can still create an entity with such a number.
+     *
      * @param storeFactory the {@link ReadableStoreFactory} used to access readable state
      * @param accountID the {@link AccountID} of the payer
      * @throws PreCheckException if the payer account is invalid
@@ -91,10 +113,26 @@ public class SolvencyPreCheck {
     @NonNull
     public Account getPayerAccount(@NonNull final ReadableStoreFactory storeFactory, @NonNull final AccountID accountID)
             throws PreCheckException {
+        requireNonNull(storeFactory);
+        requireNonNull(accountID);
+        long nextNumber = 0;
+        if (accountID.hasAccountNum()) {
+            nextNumber = storeFactory.getStore(ReadableEntityIdStore.class).peekAtNextNumber();
+            // The next number is 1 only if no entity number was ever allocated, e.g. before genesis
+            if (nextNumber > 1 && accountID.accountNumOrThrow() >= nextNumber) {
+                throw new PreCheckException(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND);
+            }
+            if (missingPayers.contains(accountID)) {
+                throw new PreCheckException(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND);
+            }
+        }
         final var accountStore = storeFactory.getStore(ReadableAccountStore.class);
         final var account = accountStore.getAccountById(accountID);
 
         if (account == null) {
+            if (nextNumber > 1) {
+                rememberMissing(accountID);
+            }
             throw new PreCheckException(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND);
         }
 
@@ -109,6 +147,18 @@ public class SolvencyPreCheck {
         return account;
     }
 
+    private void rememberMissing(@NonNull final AccountID accountID) {
+        final var firstUserEntity =
+                configProvider.getConfiguration().getConfigData(HederaConfig.class).firstUserEntity();
+        if (accountID.accountNumOrThrow() < firstUserEntity) {
+            return;
+        }
+        if (missingPayers.size() >= MAX_MISSING_PAYERS) {
+            missingPayers.clear();
+        }
+        missingPayers.add(accountID);
+    }
+
     /**
      * Checks if the verified payer account of the given transaction can afford to cover its fees excluding service fees.
      *
@@ -23,6 +23,7 @@ import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.SignedTransaction;
 import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.state.TransactionIdKey;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -46,6 +47,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  *                      from {@link SignedTransaction#sigMap()}). Not all transactions require a signature map....
  * @param signedBytes   the bytes to use for signature verification
  * @param functionality the {@link HederaFunctionality} representing the transaction.
+ * @param serializedTransaction the serialized transaction, if known
+ * @param transactionIdKey the compact key of {@link #transactionID}, built once so that every de-duplication and
+ *                      record cache lookup for this transaction can share it
  */
 public record TransactionInfo(
         @NonNull Transaction transaction,
@@ -55,7 +59,29 @@ public record TransactionInfo(
         @NonNull SignatureMap signatureMap,
         @NonNull Bytes signedBytes,
         @NonNull HederaFunctionality functionality,
-        @Nullable Bytes serializedTransaction) {
+        @Nullable Bytes serializedTransaction,
+        @NonNull TransactionIdKey transactionIdKey) {
+
+    public TransactionInfo(
+            @NonNull Transaction transaction,
+            @NonNull TransactionBody txBody,
+            @NonNull TransactionID transactionID,
+            @NonNull AccountID payerID,
+            @NonNull SignatureMap signatureMap,
+            @NonNull Bytes signedBytes,
+            @NonNull HederaFunctionality functionality,
+            @Nullable Bytes serializedTransaction) {
+        this(
+                transaction,
+                txBody,
+                transactionID,
+                payerID,
+                signatureMap,
+                signedBytes,
+                functionality,
+                serializedTransaction,
+                TransactionIdKey.of(transactionID));
+    }
 
     public TransactionInfo(
             @NonNull Transaction transaction,
@@ -57,6 +57,7 @@ import com.hedera.hapi.util.HapiUtils;
 import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.impl.BlockStreamBuilder;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.EncodedStateChanges;
 import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.fees.ExchangeRateManager;
 import com.hedera.node.app.hints.HintsService;
@@ -402,7 +403,7 @@ public class HandleWorkflow {
             blockRecordManager.endUserTransaction(records.stream(), state);
         }
         if (streamMode != RECORDS) {
-            handleOutput.blockRecordSourceOrThrow().forEachItem(blockStreamManager::writeItem);
+            handleOutput.blockRecordSourceOrThrow().writeTo(blockStreamManager);
             if (!userTxnHandled) {
                 blockStreamManager.setRoundFirstUserTransactionTime(handleOutput.firstAssignedConsensusTime());
             }
@@ -501,7 +502,7 @@ public class HandleWorkflow {
                         blockRecordManager.startUserTransaction(nextTime, state);
                     }
                     final var handleOutput = executeScheduled(state, nextTime, creatorInfo, executableTxn);
-                    handleOutput.blockRecordSourceOrThrow().forEachItem(blockStreamManager::writeItem);
+                    handleOutput.blockRecordSourceOrThrow().writeTo(blockStreamManager);
                     if (streamMode == BOTH) {
                         final var records =
                                 ((LegacyListRecordSource) handleOutput.recordSourceOrThrow()).precomputedRecords();
@@ -756,12 +757,9 @@ public class HandleWorkflow {
             ((CommittableWritableStates) entityIdWritableStates).commit();
         }
         if (streamMode != RECORDS) {
-            final var changes = kvStateChangeListener.getStateChanges();
-            if (!changes.isEmpty()) {
-                final var stateChangesItem = BlockItem.newBuilder()
-                        .stateChanges(new StateChanges(asTimestamp(now), new ArrayList<>(changes)))
-                        .build();
-                blockStreamManager.writeItem(stateChangesItem);
+            if (kvStateChangeListener.hasStateChanges()) {
+                blockStreamManager.writeStateChanges(new EncodedStateChanges(
+                        asTimestamp(now), kvStateChangeListener.getEncodedStateChanges()));
             }
         }
     }
@@ -100,9 +100,7 @@ public class DispatchValidator {
             }
             final var duplicateCheckResult = category != USER && category != NODE
                     ? NO_DUPLICATE
-                    : recordCache.hasDuplicate(
-                            dispatch.txnInfo().txBody().transactionIDOrThrow(),
-                            dispatch.creatorInfo().nodeId());
+                    : recordCache.hasDuplicate(dispatch.txnInfo().transactionIdKey(), dispatch.creatorInfo().nodeId());
             return switch (duplicateCheckResult) {
                 case NO_DUPLICATE -> getFinalPayerValidation(payer, DuplicateStatus.NO_DUPLICATE, dispatch);
                 case SAME_NODE -> newCreatorError(dispatch.creatorInfo().accountId(), DUPLICATE_TRANSACTION);
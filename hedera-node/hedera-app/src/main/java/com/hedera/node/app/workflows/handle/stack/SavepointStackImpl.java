@@ -270,8 +270,8 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         while (!stack.isEmpty()) {
             stack.pop().commit();
         }
-        if (streamMode != RECORDS && kvStateChangeListener != null) {
-            builder.stateChanges(kvStateChangeListener.getStateChanges());
+        if (streamMode != RECORDS && kvStateChangeListener != null && kvStateChangeListener.hasStateChanges()) {
+            builder.encodedStateChanges(kvStateChangeListener.getEncodedStateChanges());
         }
         setupFirstSavepoint(baseBuilder.category());
     }
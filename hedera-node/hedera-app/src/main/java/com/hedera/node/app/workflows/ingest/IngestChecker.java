@@ -215,7 +215,7 @@ public final class IngestChecker {
         assert functionality != HederaFunctionality.NONE;
 
         // 3. Deduplicate
-        if (deduplicationCache.contains(txInfo.transactionID())) {
+        if (deduplicationCache.contains(txInfo.transactionIdKey())) {
             throw new PreCheckException(DUPLICATE_TRANSACTION);
         }
 
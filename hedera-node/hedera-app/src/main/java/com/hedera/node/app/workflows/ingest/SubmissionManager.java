@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.state.TransactionIdKey;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.LedgerConfig;
@@ -155,8 +156,8 @@ public class SubmissionManager {
             // the transaction is malformed. This should NEVER happen, because the transaction was already checked
             // before we got here. But if it ever does happen, for any reason, we want it to happen BEFORE we submit,
             // and BEFORE we record the transaction as a duplicate.
-            final var txId = txBody.transactionIDOrThrow();
-            if (submittedTxns.contains(txId)) {
+            final var txIdKey = TransactionIdKey.of(txBody.transactionIDOrThrow());
+            if (submittedTxns.contains(txIdKey)) {
                 throw new PreCheckException(DUPLICATE_TRANSACTION);
             }
 
@@ -165,7 +166,7 @@ public class SubmissionManager {
             // that the transaction was not submitted and they can retry.
             final var success = platform.createTransaction(payload.toByteArray());
             if (success) {
-                submittedTxns.add(txId);
+                submittedTxns.add(txIdKey);
             } else {
                 platformTxnRejections.cycle();
                 throw new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
@@ -222,7 +222,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // pre-handle because deduplication needs to be done deterministically, but we will keep
             // track of the fact that we have seen this transaction ID, so we can give proper results
             // in the different receipt queries)
-            deduplicationCache.add(txInfo.transactionID());
+            deduplicationCache.add(txInfo.transactionIdKey());
         }
 
         // 2. Get Payer Account---we can never reuse a previous result here, as the payer account could have been
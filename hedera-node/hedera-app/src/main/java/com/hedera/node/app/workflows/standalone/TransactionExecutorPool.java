@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.state.SingleTransactionRecord;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+
+/**
+ * A long-lived pool of {@link TransactionExecutor}s that runs independent transactions concurrently against a shared
+ * immutable state, for example to simulate many {@code eth_call} or {@code estimateGas} requests at once.
+ * <p>
+ * Each executor in the pool has its own dependency graph, built once when the pool is created, and is only ever used
+ * by one worker thread at a time. Every transaction is executed against its own copy-on-write overlay of the state,
+ * so simulations never see each other's side effects.
+ */
+public class TransactionExecutorPool implements AutoCloseable {
+    private final BlockingQueue<TransactionExecutor> idleExecutors;
+    private final ExecutorService workers;
+
+    /**
+     * Creates a pool that runs one worker thread per given executor.
+     *
+     * @param executors the executors to pool, each of which must dispatch against a fresh overlay of the state
+     */
+    TransactionExecutorPool(@NonNull final List<TransactionExecutor> executors) {
+        requireNonNull(executors);
+        this.idleExecutors = new ArrayBlockingQueue<>(executors.size(), false, executors);
+        this.workers = Executors.newFixedThreadPool(
+                executors.size(),
+                Thread.ofPlatform().name("transaction-executor-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Submits a single transaction to be executed by the next available executor in the pool.
+     *
+     * @param transactionBody the HAPI transaction body to execute
+     * @param consensusNow the consensus time at which the transaction is to be executed
+     * @param operationTracers the Besu {@link OperationTracer} instances to use for contract operations
+     * @return a future completed with the records of the transaction, or exceptionally if it could not be executed
+     */
+    public CompletableFuture<List<SingleTransactionRecord>> submit(
+            @NonNull final TransactionBody transactionBody,
+            @NonNull final Instant consensusNow,
+            @NonNull final OperationTracer... operationTracers) {
+        requireNonNull(transactionBody);
+        requireNonNull(consensusNow);
+        requireNonNull(operationTracers);
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    final TransactionExecutor executor = takeExecutor();
+                    try {
+                        return executor.execute(transactionBody, consensusNow, operationTracers);
+                    } finally {
+                        idleExecutors.add(executor);
+                    }
+                },
+                workers);
+    }
+
+    /**
+     * Submits a batch of independent transactions, all executed at the same consensus time.
+     *
+     * @param transactionBodies the HAPI transaction bodies to execute
+     * @param consensusNow the consensus time at which the transactions are to be executed
+     * @return one future per transaction, in the order of the given bodies
+     */
+    public List<CompletableFuture<List<SingleTransactionRecord>>> submitAll(
+            @NonNull final List<TransactionBody> transactionBodies, @NonNull final Instant consensusNow) {
+        requireNonNull(transactionBodies);
+        requireNonNull(consensusNow);
+        final List<CompletableFuture<List<SingleTransactionRecord>>> results =
+                new ArrayList<>(transactionBodies.size());
+        for (final TransactionBody transactionBody : transactionBodies) {
+            results.add(submit(transactionBody, consensusNow));
+        }
+        return results;
+    }
+
+    /**
+     * Stops the worker threads of this pool. Transactions already submitted are still executed.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    private TransactionExecutor takeExecutor() {
+        try {
+            return idleExecutors.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+}
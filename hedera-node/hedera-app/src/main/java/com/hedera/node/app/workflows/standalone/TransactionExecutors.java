@@ -39,6 +39,7 @@ import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
 import com.hedera.node.app.state.recordcache.LegacyListRecordSource;
 import com.hedera.node.app.throttle.AppThrottleFactory;
 import com.hedera.node.app.throttle.ThrottleAccumulator;
+import com.hedera.node.app.workflows.standalone.impl.SnapshotOverlayState;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.CryptographyHolder;
@@ -50,6 +51,7 @@ import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -204,6 +206,38 @@ public enum TransactionExecutors {
                 properties.softwareVersionFactory());
     }
 
+    /**
+     * Creates a new {@link TransactionExecutorPool} of the given size based on the given {@link State} and properties.
+     * The pool builds one executor per worker up front and reuses them for every submitted transaction, executing
+     * each transaction against its own copy-on-write overlay of the state; so the state must not be mutated while
+     * the pool is in use, and the pool never mutates it. The overlays look up the state's readable states while
+     * holding the lock of the state, so other threads reading the state at the same time must do the same.
+     * <p>
+     * If the properties have a custom {@link TracerBinding}, it must scope its tracers to the calling thread.
+     *
+     * @param properties the properties to use for the executors
+     * @param poolSize the number of executors and worker threads in the pool
+     * @return a new {@link TransactionExecutorPool}
+     */
+    public TransactionExecutorPool newExecutorPool(@NonNull final Properties properties, final int poolSize) {
+        requireNonNull(properties);
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive, was " + poolSize);
+        }
+        final var state = properties.state();
+        final List<TransactionExecutor> executors = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            executors.add(newExecutor(
+                    state,
+                    () -> new SnapshotOverlayState(state),
+                    properties.appProperties(),
+                    properties.customTracerBinding(),
+                    properties.customOps(),
+                    properties.softwareVersionFactory()));
+        }
+        return new TransactionExecutorPool(executors);
+    }
+
     /**
      * Creates a new {@link TransactionExecutor} based on the given {@link State} and properties.
      * Prefer
@@ -236,6 +270,25 @@ public enum TransactionExecutors {
             @Nullable final TracerBinding customTracerBinding,
             @NonNull final Set<Operation> customOps,
             @NonNull final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
+        return newExecutor(state, () -> state, properties, customTracerBinding, customOps, softwareVersionFactory);
+    }
+
+    /**
+     * Creates a new {@link TransactionExecutor} whose dispatches commit to the states from the given supplier.
+     * @param state the {@link State} to initialize the executor from
+     * @param dispatchStates the supplier of the {@link State} each transaction is dispatched against
+     * @param properties the properties to use
+     * @param customTracerBinding the custom tracer binding to use
+     * @param customOps the custom operations to use
+     * @return a new {@link TransactionExecutor}
+     */
+    private TransactionExecutor newExecutor(
+            @NonNull final State state,
+            @NonNull final Supplier<State> dispatchStates,
+            @NonNull final Map<String, String> properties,
+            @Nullable final TracerBinding customTracerBinding,
+            @NonNull final Set<Operation> customOps,
+            @NonNull final Function<SemanticVersion, SoftwareVersion> softwareVersionFactory) {
         final var tracerBinding =
                 customTracerBinding != null ? customTracerBinding : DefaultTracerBinding.DEFAULT_TRACER_BINDING;
         final var executor = newExecutorComponent(state, properties, tracerBinding, customOps, softwareVersionFactory);
@@ -243,7 +296,8 @@ public enum TransactionExecutors {
         executor.initializer().accept(state);
         final var exchangeRateManager = executor.exchangeRateManager();
         return (transactionBody, consensusNow, operationTracers) -> {
-            final var dispatch = executor.standaloneDispatchFactory().newDispatch(state, transactionBody, consensusNow);
+            final var dispatch = executor.standaloneDispatchFactory()
+                    .newDispatch(dispatchStates.get(), transactionBody, consensusNow);
             tracerBinding.runWhere(List.of(operationTracers), () -> executor.dispatchProcessor()
                     .processDispatch(dispatch));
             final var recordSource = dispatch.stack()
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.state.ReadonlyStatesWrapper;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableKVStateBase;
+import com.swirlds.state.spi.ReadableQueueState;
+import com.swirlds.state.spi.ReadableSingletonState;
+import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableKVStateBase;
+import com.swirlds.state.spi.WritableQueueState;
+import com.swirlds.state.spi.WritableQueueStateBase;
+import com.swirlds.state.spi.WritableSingletonState;
+import com.swirlds.state.spi.WritableSingletonStateBase;
+import com.swirlds.state.spi.WritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A copy-on-write {@link State} over an immutable snapshot. All reads fall through to the readable states of the
+ * snapshot, and all writes are buffered in this overlay and never reach the snapshot, so that any number of overlays
+ * can be used concurrently (one per thread) over the same snapshot.
+ * <p>
+ * The snapshot's {@link ReadableStates} are shared by all overlays, but they create their state instances lazily
+ * without synchronization; so overlays look them up while holding the lock of the snapshot. Values of k/v states are
+ * read with {@link ReadableKVStateBase#getUncached(Object)} where possible, so that the read cache of the shared
+ * instances does not grow with every transaction; each overlay caches what it reads instead.
+ * <p>
+ * An overlay is not thread-safe and is meant to be discarded after executing a single transaction.
+ */
+public class SnapshotOverlayState implements State {
+    private final State snapshot;
+    private final Map<String, OverlayWritableStates> writableStatesMap = new HashMap<>();
+
+    /**
+     * Constructs an overlay over the given snapshot.
+     *
+     * @param snapshot the immutable state to read from
+     */
+    public SnapshotOverlayState(@NonNull final State snapshot) {
+        this.snapshot = requireNonNull(snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned {@link ReadableStates} reflect any writes already buffered in this overlay.
+     */
+    @NonNull
+    @Override
+    public ReadableStates getReadableStates(@NonNull final String serviceName) {
+        return new ReadonlyStatesWrapper(getWritableStates(serviceName));
+    }
+
+    @NonNull
+    @Override
+    public WritableStates getWritableStates(@NonNull final String serviceName) {
+        return writableStatesMap.computeIfAbsent(serviceName, s -> {
+            synchronized (snapshot) {
+                return new OverlayWritableStates(snapshot, snapshot.getReadableStates(s));
+            }
+        });
+    }
+
+    /**
+     * A {@link WritableStates} that buffers all modifications on top of a {@link ReadableStates}.
+     */
+    private static class OverlayWritableStates implements WritableStates {
+        private final State snapshot;
+        private final ReadableStates delegate;
+        private final Map<String, WritableKVState<?, ?>> kvStates = new HashMap<>();
+        private final Map<String, WritableSingletonState<?>> singletonStates = new HashMap<>();
+        private final Map<String, WritableQueueState<?>> queueStates = new HashMap<>();
+
+        OverlayWritableStates(@NonNull final State snapshot, @NonNull final ReadableStates delegate) {
+            this.snapshot = snapshot;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <K, V> WritableKVState<K, V> get(@NonNull final String stateKey) {
+            return (WritableKVState<K, V>) kvStates.computeIfAbsent(stateKey, s -> {
+                synchronized (snapshot) {
+                    return new OverlayKVState<>(delegate.<K, V>get(s));
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <T> WritableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return (WritableSingletonState<T>) singletonStates.computeIfAbsent(stateKey, s -> {
+                final ReadableSingletonState<T> singleton;
+                synchronized (snapshot) {
+                    singleton = delegate.getSingleton(s);
+                }
+                return new WritableSingletonStateBase<T>(s, singleton::get, value -> {
+                    throw new UnsupportedOperationException("Cannot commit to an immutable snapshot");
+                });
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <E> WritableQueueState<E> getQueue(@NonNull final String stateKey) {
+            return (WritableQueueState<E>) queueStates.computeIfAbsent(stateKey, s -> {
+                synchronized (snapshot) {
+                    return new OverlayQueueState<>(delegate.<E>getQueue(s));
+                }
+            });
+        }
+    }
+
+    /**
+     * A {@link WritableKVStateBase} whose data source is a {@link ReadableKVState}. Since the overlay is never
+     * committed, modifications stay in the buffer of this state.
+     */
+    private static class OverlayKVState<K, V> extends WritableKVStateBase<K, V> {
+        private final ReadableKVState<K, V> delegate;
+
+        OverlayKVState(@NonNull final ReadableKVState<K, V> delegate) {
+            super(delegate.getStateKey());
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected V readFromDataSource(@NonNull final K key) {
+            return delegate instanceof ReadableKVStateBase<K, V> base ? base.getUncached(key) : delegate.get(key);
+        }
+
+        @NonNull
+        @Override
+        protected Iterator<K> iterateFromDataSource() {
+            return delegate.keys();
+        }
+
+        @Override
+        protected void putIntoDataSource(@NonNull final K key, @NonNull final V value) {
+            throw new UnsupportedOperationException("Cannot commit to an immutable snapshot");
+        }
+
+        @Override
+        protected void removeFromDataSource(@NonNull final K key) {
+            throw new UnsupportedOperationException("Cannot commit to an immutable snapshot");
+        }
+
+        @Override
+        protected long sizeOfDataSource() {
+            return delegate.size();
+        }
+    }
+
+    /**
+     * A {@link WritableQueueStateBase} whose data source is a {@link ReadableQueueState}. Since the overlay is never
+     * committed, modifications stay in the buffer of this state.
+     */
+    private static class OverlayQueueState<E> extends WritableQueueStateBase<E> {
+        private final ReadableQueueState<E> delegate;
+
+        OverlayQueueState(@NonNull final ReadableQueueState<E> delegate) {
+            super(delegate.getStateKey());
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected void addToDataSource(@NonNull final E element) {
+            throw new UnsupportedOperationException("Cannot commit to an immutable snapshot");
+        }
+
+        @Override
+        protected void removeFromDataSource() {
+            throw new UnsupportedOperationException("Cannot commit to an immutable snapshot");
+        }
+
+        @NonNull
+        @Override
+        protected Iterator<E> iterateOnDataSource() {
+            return delegate.iterator();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.node.app.blocks.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.block.stream.BlockItem;
@@ -36,6 +37,7 @@ import com.hedera.hapi.node.transaction.TransactionReceipt;
 import com.hedera.hapi.node.transaction.TransactionRecord;
 import com.hedera.hapi.platform.event.EventTransaction;
 import com.hedera.node.app.blocks.BlockItemsTranslator;
+import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.spi.records.RecordSource;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.List;
@@ -91,6 +93,9 @@ class BlockStreamBuilderOutputTest {
     @Mock
     private TranslationContext translationContext;
 
+    @Mock
+    private BlockStreamManager blockStreamManager;
+
     @Mock
     private BlockItemsTranslator translator;
 
@@ -103,6 +108,32 @@ class BlockStreamBuilderOutputTest {
         ITEMS_WITH_OUTPUTS.forEach(item -> verify(action).accept(item));
     }
 
+    @Test
+    void writesEncodedStateChangesLastWithoutDecodingThem() {
+        final var stateChanges = new EncodedStateChanges(CONSENSUS_TIME, Bytes.EMPTY);
+        final var subject = new BlockStreamBuilder.Output(
+                List.of(EVENT_TRANSACTION, TRANSACTION_RESULT), translationContext, stateChanges);
+
+        subject.writeTo(blockStreamManager);
+
+        final var inOrder = inOrder(blockStreamManager);
+        inOrder.verify(blockStreamManager).writeItem(EVENT_TRANSACTION);
+        inOrder.verify(blockStreamManager).writeItem(TRANSACTION_RESULT);
+        inOrder.verify(blockStreamManager).writeStateChanges(stateChanges);
+    }
+
+    @Test
+    void traversesEncodedStateChangesAsDecodedItem() {
+        final var subject = new BlockStreamBuilder.Output(
+                List.of(EVENT_TRANSACTION, TRANSACTION_RESULT),
+                translationContext,
+                new EncodedStateChanges(CONSENSUS_TIME, Bytes.EMPTY));
+
+        subject.forEachItem(action);
+
+        ITEMS_NO_OUTPUTS.forEach(item -> verify(action).accept(item));
+    }
+
     @Test
     void translatesNoOutputsToRecordAsExpected() {
         given(translator.translateRecord(translationContext, TRANSACTION_RESULT.transactionResultOrThrow()))
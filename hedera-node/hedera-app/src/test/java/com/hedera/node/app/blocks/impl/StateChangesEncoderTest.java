@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static com.hedera.node.app.hapi.utils.CommonUtils.noThrowSha384HashOf;
+import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.output.MapChangeKey;
+import com.hedera.hapi.block.stream.output.MapChangeValue;
+import com.hedera.hapi.block.stream.output.MapDeleteChange;
+import com.hedera.hapi.block.stream.output.MapUpdateChange;
+import com.hedera.hapi.block.stream.output.StateChange;
+import com.hedera.hapi.block.stream.output.StateChanges;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StateChangesEncoderTest {
+    private static final int STATE_ID = 7;
+    private static final Timestamp CONSENSUS_TIME = new Timestamp(1_234_567L, 890);
+    private static final MapChangeKey KEY = MapChangeKey.newBuilder()
+            .accountIdKey(AccountID.newBuilder().accountNum(1234L).build())
+            .build();
+    private static final MapChangeValue VALUE = MapChangeValue.newBuilder()
+            .accountValue(Account.newBuilder().tinybarBalance(666L).memo("memo").build())
+            .build();
+
+    private StateChangesEncoder subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StateChangesEncoder();
+    }
+
+    @Test
+    void encodesChangesExactlyAsProtobufCodec() {
+        subject.mapUpdate(STATE_ID, KEY, VALUE);
+        subject.mapDelete(STATE_ID, KEY);
+        subject.mapUpdate(0, KEY, MapChangeValue.DEFAULT);
+
+        final var expected = List.of(
+                StateChange.newBuilder()
+                        .stateId(STATE_ID)
+                        .mapUpdate(new MapUpdateChange(KEY, VALUE))
+                        .build(),
+                StateChange.newBuilder()
+                        .stateId(STATE_ID)
+                        .mapDelete(new MapDeleteChange(KEY))
+                        .build(),
+                StateChange.newBuilder()
+                        .mapUpdate(new MapUpdateChange(KEY, MapChangeValue.DEFAULT))
+                        .build());
+        assertEquals(StateChanges.PROTOBUF.toBytes(new StateChanges(null, expected)), subject.encodedChanges());
+        assertEquals(expected, StateChangesEncoder.decode(subject.encodedChanges()));
+    }
+
+    @Test
+    void serializesItemExactlyAsProtobufCodecAndHashesIt() {
+        subject.mapUpdate(STATE_ID, KEY, VALUE);
+        subject.mapDelete(STATE_ID, KEY);
+        final var changes = subject.encodedChanges();
+        final var digest = sha384DigestOrThrow();
+
+        final var serialized = StateChangesEncoder.serializeItem(CONSENSUS_TIME, changes, digest);
+
+        final var expected = BlockItem.PROTOBUF.toBytes(BlockItem.newBuilder()
+                .stateChanges(new StateChanges(CONSENSUS_TIME, StateChangesEncoder.decode(changes)))
+                .build());
+        assertEquals(expected, serialized);
+        assertArrayEquals(noThrowSha384HashOf(expected.toByteArray()), digest.digest());
+        assertEquals(
+                BlockItem.PROTOBUF.toBytes(new EncodedStateChanges(CONSENSUS_TIME, changes).toBlockItem()),
+                serialized);
+    }
+
+    @Test
+    void keepsEarlierChangesWhenBufferGrowsAndReusesItAfterReset() {
+        final List<StateChange> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            subject.mapUpdate(i + 1, KEY, VALUE);
+            expected.add(StateChange.newBuilder()
+                    .stateId(i + 1)
+                    .mapUpdate(new MapUpdateChange(KEY, VALUE))
+                    .build());
+        }
+        assertEquals(expected, StateChangesEncoder.decode(subject.encodedChanges()));
+
+        subject.reset();
+        assertTrue(subject.isEmpty());
+        assertEquals(Bytes.EMPTY, subject.encodedChanges());
+
+        subject.mapDelete(STATE_ID, KEY);
+        assertFalse(subject.isEmpty());
+        assertEquals(
+                List.of(StateChange.newBuilder()
+                        .stateId(STATE_ID)
+                        .mapDelete(new MapDeleteChange(KEY))
+                        .build()),
+                StateChangesEncoder.decode(subject.encodedChanges()));
+    }
+
+    @Test
+    void concatenatesEncodedChangesInOrder() {
+        final var first = StateChangesEncoder.encode(List.of(StateChange.newBuilder()
+                .stateId(1)
+                .mapDelete(new MapDeleteChange(KEY))
+                .build()));
+        final var second = StateChangesEncoder.encode(List.of(StateChange.newBuilder()
+                .stateId(2)
+                .mapUpdate(new MapUpdateChange(KEY, VALUE))
+                .build()));
+
+        final var decoded = StateChangesEncoder.decode(StateChangesEncoder.concat(first, second));
+
+        assertEquals(2, decoded.size());
+        assertEquals(1, decoded.get(0).stateId());
+        assertEquals(2, decoded.get(1).stateId());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class TransactionIdKeyTest {
+    private static final AccountID PAYER_ID =
+            AccountID.newBuilder().shardNum(1).realmNum(2).accountNum(1001).build();
+    private static final TransactionID TXN_ID = TransactionID.newBuilder()
+            .accountID(PAYER_ID)
+            .transactionValidStart(Timestamp.newBuilder().seconds(1_234_567L).nanos(890))
+            .build();
+
+    @Test
+    @DisplayName("Keys of equal transaction ids are equal")
+    void keysOfEqualIdsAreEqual() {
+        final var copy = TXN_ID.copyBuilder().build();
+
+        assertThat(TransactionIdKey.of(copy)).isEqualTo(TransactionIdKey.of(TXN_ID));
+        assertThat(TransactionIdKey.of(copy)).hasSameHashCodeAs(TransactionIdKey.of(TXN_ID));
+        assertThat(TransactionIdKey.of(copy)).isEqualByComparingTo(TransactionIdKey.of(TXN_ID));
+    }
+
+    @Test
+    @DisplayName("Keys distinguish every field of the transaction id")
+    void keysDistinguishEveryField() {
+        final var key = TransactionIdKey.of(TXN_ID);
+
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder().nonce(1).build())).isNotEqualTo(key);
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder().scheduled(true).build()))
+                .isNotEqualTo(key);
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder()
+                        .accountID(PAYER_ID.copyBuilder().shardNum(3).build())
+                        .build()))
+                .isNotEqualTo(key);
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder()
+                        .accountID(PAYER_ID.copyBuilder().realmNum(3).build())
+                        .build()))
+                .isNotEqualTo(key);
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder()
+                        .accountID(PAYER_ID.copyBuilder().alias(Bytes.wrap("alias")).build())
+                        .build()))
+                .isNotEqualTo(key);
+        assertThat(TransactionIdKey.of(TXN_ID.copyBuilder()
+                        .transactionValidStart(Timestamp.newBuilder().seconds(1_234_567L).nanos(891))
+                        .build()))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("Removing the nonce gives the key of the base transaction id")
+    void withoutNonceGivesBaseKey() {
+        final var key = TransactionIdKey.of(TXN_ID);
+        final var childKey = TransactionIdKey.of(TXN_ID.copyBuilder().nonce(2).build());
+
+        assertThat(childKey.withoutNonce()).isEqualTo(key);
+        assertThat(key.withoutNonce()).isSameAs(key);
+    }
+
+    @Test
+    @DisplayName("Keys are ordered by valid start time before payer")
+    void keysAreOrderedByValidStartFirst() {
+        final var earlierFromLaterPayer = TXN_ID.copyBuilder()
+                .accountID(PAYER_ID.copyBuilder().accountNum(1002).build())
+                .transactionValidStart(Timestamp.newBuilder().seconds(1_234_567L).nanos(889))
+                .build();
+
+        assertThat(TransactionIdKey.of(earlierFromLaterPayer)).isLessThan(TransactionIdKey.of(TXN_ID));
+    }
+}
@@ -35,6 +35,7 @@ import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.TransactionReceipt;
 import com.hedera.hapi.node.transaction.TransactionRecord;
 import com.hedera.node.app.blocks.BlockItemsTranslator;
+import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.impl.BlockStreamBuilder;
 import com.hedera.node.app.blocks.impl.TranslationContext;
 import com.hedera.node.app.spi.records.RecordSource;
@@ -82,6 +83,9 @@ class BlockRecordSourceTest {
     @Mock
     private TranslationContext translationContext;
 
+    @Mock
+    private BlockStreamManager blockStreamManager;
+
     private BlockRecordSource subject;
 
     @Test
@@ -95,6 +99,17 @@ class BlockRecordSourceTest {
         verify(itemAction, times(3)).accept(any(BlockItem.class));
     }
 
+    @Test
+    void writesAllItemsToBlockStreamManager() {
+        subjectWith(List.of(
+                new BlockStreamBuilder.Output(List.of(TRANSACTION_RESULT, FIRST_OUTPUT), translationContext),
+                new BlockStreamBuilder.Output(List.of(TRANSACTION_RESULT), translationContext)));
+
+        subject.writeTo(blockStreamManager);
+
+        verify(blockStreamManager, times(3)).writeItem(any(BlockItem.class));
+    }
+
     @Test
     void hasDefaultBlockItemTranslator() {
         assertDoesNotThrow(() -> new BlockRecordSource(List.of()));
@@ -59,10 +59,13 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -467,6 +470,75 @@ final class RecordCacheImplTest extends AppTestBase {
             assertThat(receipts).hasSize(MAX_QUERYABLE_PER_ACCOUNT);
         }
 
+        @Test
+        @DisplayName("Records queried for an account ID are those of its most recently handled transactions")
+        void queryForAccountIdReturnsMostRecentRecords() {
+            // Given more transactions for the same payer than can be queried
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var numRecords = 3 * MAX_QUERYABLE_PER_ACCOUNT;
+            final var txIds = new ArrayList<TransactionID>();
+            for (int i = 0; i < numRecords; i++) {
+                final var txId = transactionID(i);
+                txIds.add(txId);
+                final var record = TransactionRecord.newBuilder()
+                        .transactionID(txId)
+                        .receipt(TransactionReceipt.newBuilder().status(OK))
+                        .build();
+                cache.addRecordSource(0, txId, DueDiligenceFailure.NO, new PartialRecordSource(record));
+            }
+
+            // When we query for the records for the payer account ID
+            final var records = cache.getRecords(PAYER_ACCOUNT_ID);
+
+            // Then we get back exactly the records of the last recordsMaxQueryableByAccount transactions
+            assertThat(records)
+                    .map(TransactionRecord::transactionID)
+                    .containsExactlyInAnyOrderElementsOf(
+                            txIds.subList(numRecords - MAX_QUERYABLE_PER_ACCOUNT, numRecords));
+        }
+
+        @Test
+        @DisplayName("Records can be queried for an account ID while its transactions are being handled")
+        void queryForAccountIdWhileHandling() throws InterruptedException {
+            // Given a query thread that keeps asking for the payer's records
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var numRecords = 20 * MAX_QUERYABLE_PER_ACCOUNT;
+            final var handled = new AtomicBoolean();
+            final var failure = new AtomicReference<Throwable>();
+            final var queryThread = new Thread(() -> {
+                try {
+                    while (!handled.get()) {
+                        assertThat(cache.getRecords(PAYER_ACCOUNT_ID))
+                                .hasSizeLessThanOrEqualTo(MAX_QUERYABLE_PER_ACCOUNT)
+                                .doesNotHaveDuplicates();
+                    }
+                } catch (final Throwable t) {
+                    failure.set(t);
+                }
+            });
+            queryThread.start();
+
+            // When the handle thread adds records for that payer, each id twice
+            for (int i = 0; i < numRecords; i++) {
+                final var txId = transactionID(i);
+                for (int j = 0; j < 2; j++) {
+                    final var record = TransactionRecord.newBuilder()
+                            .transactionID(txId)
+                            .receipt(TransactionReceipt.newBuilder().status(j == 0 ? OK : DUPLICATE_TRANSACTION))
+                            .build();
+                    cache.addRecordSource(0, txId, DueDiligenceFailure.NO, new PartialRecordSource(record));
+                }
+            }
+            handled.set(true);
+            queryThread.join();
+
+            // Then no query failed, and each id's records are returned once
+            assertThat(failure.get()).isNull();
+            assertThat(cache.getRecords(PAYER_ACCOUNT_ID))
+                    .hasSize(MAX_QUERYABLE_PER_ACCOUNT)
+                    .doesNotHaveDuplicates();
+        }
+
         static Stream<Arguments> receiptStatusCodes() {
             final var allValues =
                     new HashSet<>(Arrays.asList(ResponseCodeEnum.values()).subList(0, RESPONSE_CODES_TO_TEST));
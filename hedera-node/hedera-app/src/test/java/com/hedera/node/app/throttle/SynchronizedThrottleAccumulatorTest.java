@@ -16,18 +16,31 @@
 
 package com.hedera.node.app.throttle;
 
+import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
 import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.state.State;
+import java.time.Instant;
 import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +49,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class SynchronizedThrottleAccumulatorTest {
+    private static final Instant NOW = Instant.ofEpochSecond(1_234_567L);
+    private static final int LEASE_SIZE = 4;
 
     @Mock
     private ThrottleAccumulator throttleAccumulator;
@@ -43,25 +58,91 @@ class SynchronizedThrottleAccumulatorTest {
     @Mock
     private TransactionInfo transactionInfo;
 
-    private final InstantSource instantSource = InstantSource.system();
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final InstantSource instantSource = now::get;
+
+    private final ConfigProvider configProvider = () -> new VersionedConfigImpl(
+            HederaTestConfigBuilder.create()
+                    .withValue("hedera.ingestThrottle.leaseSize", LEASE_SIZE)
+                    .withValue("hedera.ingestThrottle.leaseDurationMs", 10)
+                    .getOrCreateConfig(),
+            1);
 
     SynchronizedThrottleAccumulator subject;
 
     @BeforeEach
     void setUp() {
-        subject = new SynchronizedThrottleAccumulator(instantSource, throttleAccumulator);
+        subject = new SynchronizedThrottleAccumulator(configProvider, instantSource, throttleAccumulator);
     }
 
     @Test
     void verifyCheckAndEnforceThrottleIsCalled() {
         // given
         final var state = mock(State.class);
+        given(transactionInfo.functionality()).willReturn(CRYPTO_TRANSFER);
 
         // when
         subject.shouldThrottle(transactionInfo, state);
 
         // then
         verify(throttleAccumulator, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state));
+        verify(throttleAccumulator, never()).shouldThrottleNOfUnscaled(anyInt(), any(), any());
+    }
+
+    @Test
+    void admitsFromLeaseWithoutConsultingAccumulatorUntilExhausted() {
+        // given
+        final var state = mock(State.class);
+        given(transactionInfo.functionality()).willReturn(CONSENSUS_SUBMIT_MESSAGE);
+        given(throttleAccumulator.allActiveThrottles()).willReturn(List.of(DeterministicThrottle.withTps(10_000)));
+
+        // when
+        for (int i = 0; i < LEASE_SIZE; i++) {
+            assertFalse(subject.shouldThrottle(transactionInfo, state));
+        }
+
+        // then
+        verify(throttleAccumulator, times(1)).shouldThrottleNOfUnscaled(LEASE_SIZE, CONSENSUS_SUBMIT_MESSAGE, NOW);
+        verify(throttleAccumulator, never()).checkAndEnforceThrottle(any(TransactionInfo.class), any(), any());
+
+        // and when
+        assertFalse(subject.shouldThrottle(transactionInfo, state));
+
+        // then
+        verify(throttleAccumulator, times(2)).shouldThrottleNOfUnscaled(LEASE_SIZE, CONSENSUS_SUBMIT_MESSAGE, NOW);
+        verify(throttleAccumulator, never()).leakCapacityForNOfUnscaled(anyInt(), any());
+    }
+
+    @Test
+    void returnsUnusedCapacityOfExpiredLease() {
+        // given
+        final var state = mock(State.class);
+        given(transactionInfo.functionality()).willReturn(CONSENSUS_SUBMIT_MESSAGE);
+        given(throttleAccumulator.allActiveThrottles()).willReturn(List.of(DeterministicThrottle.withTps(10_000)));
+
+        // when
+        subject.shouldThrottle(transactionInfo, state);
+        now.set(NOW.plusMillis(10));
+        subject.shouldThrottle(transactionInfo, state);
+
+        // then
+        verify(throttleAccumulator).leakCapacityForNOfUnscaled(LEASE_SIZE - 1, CONSENSUS_SUBMIT_MESSAGE);
+        verify(throttleAccumulator).shouldThrottleNOfUnscaled(LEASE_SIZE, CONSENSUS_SUBMIT_MESSAGE, NOW.plusMillis(10));
+    }
+
+    @Test
+    void fallsBackToSingleTransactionIfLeaseCannotBeClaimed() {
+        // given
+        final var state = mock(State.class);
+        given(transactionInfo.functionality()).willReturn(CONSENSUS_SUBMIT_MESSAGE);
+        given(throttleAccumulator.shouldThrottleNOfUnscaled(LEASE_SIZE, CONSENSUS_SUBMIT_MESSAGE, NOW))
+                .willReturn(true);
+
+        // when
+        subject.shouldThrottle(transactionInfo, state);
+
+        // then
+        verify(throttleAccumulator).checkAndEnforceThrottle(transactionInfo, NOW, state);
     }
 
     @Test
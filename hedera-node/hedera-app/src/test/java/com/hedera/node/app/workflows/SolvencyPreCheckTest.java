@@ -40,6 +40,7 @@ import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.base.TransferList;
 import com.hedera.hapi.node.contract.EthereumTransactionBody;
+import com.hedera.hapi.node.state.common.EntityNumber;
 import com.hedera.hapi.node.token.CryptoCreateTransactionBody;
 import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
 import com.hedera.hapi.node.transaction.SignedTransaction;
@@ -56,6 +57,8 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.validation.ExpiryValidation;
 import com.hedera.node.app.version.ServicesSoftwareVersion;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -84,25 +87,32 @@ class SolvencyPreCheckTest extends AppTestBase {
     @Mock(strictness = LENIENT)
     private Authorizer authorizer;
 
+    private final ConfigProvider configProvider = () -> new VersionedConfigImpl(DEFAULT_CONFIG, 1);
+
     private SolvencyPreCheck subject;
 
     @BeforeEach
     void setup() {
         when(authorizer.hasPrivilegedAuthorization(any(), any(), any())).thenReturn(SystemPrivilege.UNNECESSARY);
 
-        subject = new SolvencyPreCheck(exchangeRateManager, feeManager, expiryValidation, authorizer);
+        subject = new SolvencyPreCheck(exchangeRateManager, feeManager, expiryValidation, authorizer, configProvider);
     }
 
     @SuppressWarnings("ConstantConditions")
     @Test
     void testConstructorWithIllegalParameters() {
-        assertThatThrownBy(() -> new SolvencyPreCheck(null, feeManager, expiryValidation, authorizer))
+        assertThatThrownBy(() -> new SolvencyPreCheck(null, feeManager, expiryValidation, authorizer, configProvider))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() ->
+                        new SolvencyPreCheck(exchangeRateManager, null, expiryValidation, authorizer, configProvider))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SolvencyPreCheck(exchangeRateManager, null, expiryValidation, authorizer))
+        assertThatThrownBy(() -> new SolvencyPreCheck(exchangeRateManager, feeManager, null, authorizer, configProvider))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SolvencyPreCheck(exchangeRateManager, feeManager, null, authorizer))
+        assertThatThrownBy(() ->
+                        new SolvencyPreCheck(exchangeRateManager, feeManager, expiryValidation, null, configProvider))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SolvencyPreCheck(exchangeRateManager, feeManager, expiryValidation, null))
+        assertThatThrownBy(
+                        () -> new SolvencyPreCheck(exchangeRateManager, feeManager, expiryValidation, authorizer, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -143,6 +153,57 @@ class SolvencyPreCheckTest extends AppTestBase {
                     .has(responseCode(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND));
         }
 
+        @Test
+        void testGetPayerAccountBeyondNextEntityNumberFailsWithoutLookup() {
+            // given
+            entityIdState.put(new EntityNumber(ERIN.accountID().accountNumOrThrow()));
+            // an account that could not have been allocated yet is never read from state
+            accountsState.put(
+                    FRANK.accountID(),
+                    ALICE.account().copyBuilder().accountId(FRANK.accountID()).build());
+
+            // then
+            assertThatCode(() -> subject.getPayerAccount(storeFactory, ERIN.accountID()))
+                    .doesNotThrowAnyException();
+            assertThatThrownBy(() -> subject.getPayerAccount(storeFactory, FRANK.accountID()))
+                    .isInstanceOf(PreCheckException.class)
+                    .has(responseCode(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND));
+        }
+
+        @Test
+        void testGetMissingUserPayerIsRememberedBelowNextEntityNumber() {
+            // given
+            entityIdState.put(new EntityNumber(FRANK.accountID().accountNumOrThrow() + 1));
+            assertThatThrownBy(() -> subject.getPayerAccount(storeFactory, BOB.accountID()))
+                    .isInstanceOf(PreCheckException.class)
+                    .has(responseCode(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND));
+
+            // when
+            accountsState.put(BOB.accountID(), BOB.account());
+
+            // then the remembered miss is not looked up again
+            assertThatThrownBy(() -> subject.getPayerAccount(storeFactory, BOB.accountID()))
+                    .isInstanceOf(PreCheckException.class)
+                    .has(responseCode(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND));
+        }
+
+        @Test
+        void testGetMissingSystemPayerIsNotRemembered() {
+            // given
+            final var systemPayerId = AccountID.newBuilder().accountNum(900L).build();
+            entityIdState.put(new EntityNumber(FRANK.accountID().accountNumOrThrow() + 1));
+            assertThatThrownBy(() -> subject.getPayerAccount(storeFactory, systemPayerId))
+                    .isInstanceOf(PreCheckException.class)
+                    .has(responseCode(ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND));
+
+            // when
+            accountsState.put(systemPayerId, ALICE.account().copyBuilder().accountId(systemPayerId).build());
+
+            // then
+            assertThatCode(() -> subject.getPayerAccount(storeFactory, systemPayerId))
+                    .doesNotThrowAnyException();
+        }
+
         @Test
         void testGetDeletedPayerAccountFails() {
             // given
@@ -436,19 +436,19 @@ class DispatchValidatorTest {
 
     private void givenNonDuplicate() {
         given(creatorInfo.nodeId()).willReturn(CREATOR_NODE_ID.id());
-        given(recordCache.hasDuplicate(TXN_BODY.transactionIDOrThrow(), CREATOR_NODE_ID.id()))
+        given(recordCache.hasDuplicate(TXN_INFO.transactionIdKey(), CREATOR_NODE_ID.id()))
                 .willReturn(HederaRecordCache.DuplicateCheckResult.NO_DUPLICATE);
     }
 
     private void givenOtherNodeDuplicate() {
         given(creatorInfo.nodeId()).willReturn(CREATOR_NODE_ID.id());
-        given(recordCache.hasDuplicate(TXN_BODY.transactionIDOrThrow(), CREATOR_NODE_ID.id()))
+        given(recordCache.hasDuplicate(TXN_INFO.transactionIdKey(), CREATOR_NODE_ID.id()))
                 .willReturn(HederaRecordCache.DuplicateCheckResult.OTHER_NODE);
     }
 
     private void givenSameNodeDuplicate() {
         given(creatorInfo.nodeId()).willReturn(CREATOR_NODE_ID.id());
-        given(recordCache.hasDuplicate(TXN_BODY.transactionIDOrThrow(), CREATOR_NODE_ID.id()))
+        given(recordCache.hasDuplicate(TXN_INFO.transactionIdKey(), CREATOR_NODE_ID.id()))
                 .willReturn(HederaRecordCache.DuplicateCheckResult.SAME_NODE);
     }
 
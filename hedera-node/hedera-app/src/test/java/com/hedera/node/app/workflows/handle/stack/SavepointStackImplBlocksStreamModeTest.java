@@ -20,16 +20,17 @@ import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CALL;
 import static com.hedera.node.config.types.StreamMode.BLOCKS;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.node.app.blocks.impl.BlockStreamBuilder;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
 import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.State;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,13 +61,22 @@ class SavepointStackImplBlocksStreamModeTest {
 
     @Test
     void commitsFullStackAsExpected() {
-        final var mockChanges = List.of(StateChange.DEFAULT);
-        given(kvStateChangeListener.getStateChanges()).willReturn(mockChanges);
+        final var mockChanges = Bytes.wrap(new byte[] {1, 2, 3});
+        given(kvStateChangeListener.hasStateChanges()).willReturn(true);
+        given(kvStateChangeListener.getEncodedStateChanges()).willReturn(mockChanges);
 
         subject.commitTransaction(streamBuilder);
 
         verify(kvStateChangeListener).reset();
-        verify(streamBuilder).stateChanges(mockChanges);
+        verify(streamBuilder).encodedStateChanges(mockChanges);
+    }
+
+    @Test
+    void doesNotPassEmptyStateChangesToBuilder() {
+        subject.commitTransaction(streamBuilder);
+
+        verify(kvStateChangeListener).reset();
+        verify(streamBuilder, never()).encodedStateChanges(any());
     }
 
     @Test
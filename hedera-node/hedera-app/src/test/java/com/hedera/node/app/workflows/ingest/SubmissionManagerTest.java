@@ -30,6 +30,7 @@ import com.hedera.hapi.node.transaction.UncheckedSubmitBody;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.state.TransactionIdKey;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -136,7 +137,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // And the metrics keeping track of errors submitting are NOT touched
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is updated
-            verify(deduplicationCache).add(txBody.transactionIDOrThrow());
+            verify(deduplicationCache).add(TransactionIdKey.of(txBody.transactionIDOrThrow()));
         }
 
         @Test
@@ -153,7 +154,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // And the error metrics HAVE been updated
             verify(platformTxnRejections).cycle();
             // And the deduplication cache is NOT called
-            verify(deduplicationCache, never()).add(txBody.transactionIDOrThrow());
+            verify(deduplicationCache, never()).add(TransactionIdKey.of(txBody.transactionIDOrThrow()));
         }
 
         @Test
@@ -161,7 +162,7 @@ final class SubmissionManagerTest extends AppTestBase {
         void testSubmittingDuplicateTransactionsCloseTogether() throws PreCheckException {
             // Given a platform that will succeed in taking bytes
             when(platform.createTransaction(any())).thenReturn(true);
-            when(deduplicationCache.contains(txBody.transactionIDOrThrow()))
+            when(deduplicationCache.contains(TransactionIdKey.of(txBody.transactionIDOrThrow())))
                     .thenReturn(false)
                     .thenReturn(true);
 
@@ -173,7 +174,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .extracting(t -> ((PreCheckException) t).responseCode())
                     .isEqualTo(DUPLICATE_TRANSACTION);
             // And the deduplication cache is updated just once
-            verify(deduplicationCache).add(txBody.transactionIDOrThrow());
+            verify(deduplicationCache).add(TransactionIdKey.of(txBody.transactionIDOrThrow()));
         }
     }
 
@@ -234,7 +235,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // And the metrics keeping track of errors submitting are NOT touched
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is updated
-            verify(deduplicationCache).add(any());
+            verify(deduplicationCache).add(any(TransactionIdKey.class));
         }
 
         @Test
@@ -260,7 +261,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
-            verify(deduplicationCache, never()).add(any());
+            verify(deduplicationCache, never()).add(any(TransactionIdKey.class));
         }
 
         @Test
@@ -286,7 +287,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
-            verify(deduplicationCache, never()).add(any());
+            verify(deduplicationCache, never()).add(any(TransactionIdKey.class));
         }
 
         @Test
@@ -312,7 +313,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
-            verify(deduplicationCache, never()).add(any());
+            verify(deduplicationCache, never()).add(any(TransactionIdKey.class));
         }
 
         @Test
@@ -338,7 +339,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
-            verify(deduplicationCache, never()).add(any());
+            verify(deduplicationCache, never()).add(any(TransactionIdKey.class));
         }
 
         // TEST: If the unchecked submit is bogus bytes, or fails the onset check in some way, then
@@ -371,7 +372,7 @@ final class SubmissionManagerTest extends AppTestBase {
             // Then the platform NEVER sees the unchecked bytes
             verify(platform, never()).createTransaction(uncheckedBytes);
             // And the deduplication cache is not updated
-            verify(deduplicationCache, never()).add(any());
+            verify(deduplicationCache, never()).add(any(TransactionIdKey.class));
         }
     }
 }
@@ -347,7 +347,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result1.responseCode()).isEqualTo(PAYER_ACCOUNT_NOT_FOUND);
             assertThat(result1.payer()).isEqualTo(NODE_1.nodeAccountID());
             // But we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         /**
@@ -374,7 +374,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result1.responseCode()).isEqualTo(PAYER_ACCOUNT_DELETED);
             assertThat(result1.payer()).isEqualTo(NODE_1.nodeAccountID());
             // But we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         /**
@@ -411,7 +411,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final var result = verifier.verificationFor(key);
             assertThat(result.passed()).isFalse();
             // And we do NOT see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         /**
@@ -499,7 +499,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.responseCode()).isEqualTo(INVALID_ACCOUNT_AMOUNTS);
             assertThat(result.payer()).isEqualTo(ALICE.accountID());
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         /**
@@ -524,7 +524,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.responseCode()).isEqualTo(UNKNOWN);
             assertThat(result.payer()).isNull();
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         /**
@@ -574,7 +574,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final var nonPayerFutureResult = verifier.verificationFor(badKey);
             assertThat(nonPayerFutureResult.passed()).isFalse();
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
     }
 
@@ -615,7 +615,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         @Test
@@ -665,7 +665,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         @Test
@@ -749,7 +749,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
 
         @Test
@@ -802,7 +802,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
             // And we do see this transaction registered with the deduplication cache
-            verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
+            verify(deduplicationCache).add(txInfo.transactionIdKey());
         }
     }
 }
@@ -228,6 +228,39 @@ public class TransactionExecutorsTest {
         assertThat(stringWriter.toString()).startsWith(EXPECTED_TRACE_START);
     }
 
+    @Test
+    void poolExecutesIndependentTransactionsAgainstSharedSnapshot() {
+        final var overrides = Map.of("hedera.transaction.maxMemoUtf8Bytes", "101");
+        final var state = genesisState(overrides);
+
+        try (final var pool = TRANSACTION_EXECUTORS.newExecutorPool(
+                TransactionExecutors.Properties.newBuilder()
+                        .state(state)
+                        .appProperties(overrides)
+                        .build(),
+                2)) {
+            // Each upload runs in its own overlay, so all are assigned the same next file number
+            final var outputs = pool.submitAll(
+                    List.of(uploadMultipurposeInitcode(), uploadMultipurposeInitcode(), uploadMultipurposeInitcode()),
+                    Instant.EPOCH);
+            for (final var output : outputs) {
+                final var receipt = output.join().getFirst().transactionRecord().receiptOrThrow();
+                assertThat(receipt.fileIDOrThrow()).isEqualTo(EXPECTED_INITCODE_ID);
+            }
+        }
+
+        // And none of the simulated side effects reached the shared state
+        final var files = state.getReadableStates(FileService.NAME).<FileID, File>get(V0490FileSchema.BLOBS_KEY);
+        assertThat(files.get(EXPECTED_INITCODE_ID)).isNull();
+    }
+
+    @Test
+    void poolRequiresPositiveSize() {
+        final var properties =
+                TransactionExecutors.Properties.newBuilder().state(state).build();
+        assertThrows(IllegalArgumentException.class, () -> TRANSACTION_EXECUTORS.newExecutorPool(properties, 0));
+    }
+
     @Test
     void usesOverrideBlockhashOpAsExpected() {
         final var state = genesisState(Map.of());
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone.impl;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableQueueState;
+import com.swirlds.state.spi.ReadableSingletonState;
+import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableStates;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SnapshotOverlayStateTest {
+    private static final String SERVICE_NAME = "TestService";
+    private static final String STATE_KEY = "VALUES";
+    private static final int KEY_COUNT = 1_000;
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    void concurrentOverlaysReadSharedSnapshotWithoutGrowingItsReadCache() throws Exception {
+        final Map<Long, String> backingStore = new HashMap<>();
+        for (long i = 0; i < KEY_COUNT; i++) {
+            backingStore.put(i, "value" + i);
+        }
+        final var sharedValues = new MapReadableKVState<>(STATE_KEY, backingStore);
+        final var snapshot = new LockCheckingState(sharedValues);
+
+        final var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            // Start all overlays at once, so they race to look up the same states of the snapshot
+            final var barrier = new CyclicBarrier(THREAD_COUNT);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    final var overlay = new SnapshotOverlayState(snapshot);
+                    final ReadableKVState<Long, String> values =
+                            overlay.getReadableStates(SERVICE_NAME).get(STATE_KEY);
+                    for (long i = 0; i < KEY_COUNT; i++) {
+                        assertThat(values.get(i)).isEqualTo("value" + i);
+                    }
+                    overlay.getWritableStates(SERVICE_NAME)
+                            .<Long, String>get(STATE_KEY)
+                            .put(0L, "overwritten");
+                    assertThat(values.get(0L)).isEqualTo("overwritten");
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get(10, SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(snapshot.unlockedLookups).hasValue(0);
+        assertThat(sharedValues.readKeys()).isEmpty();
+        assertThat(backingStore.get(0L)).isEqualTo("value0");
+    }
+
+    /**
+     * A snapshot that counts how often its states are looked up without holding its lock, since real snapshots
+     * create their state instances lazily without synchronization.
+     */
+    private static class LockCheckingState implements State {
+        private final ReadableKVState<?, ?> values;
+        private final AtomicInteger unlockedLookups = new AtomicInteger();
+
+        LockCheckingState(@NonNull final ReadableKVState<?, ?> values) {
+            this.values = values;
+        }
+
+        private void checkLock() {
+            if (!Thread.holdsLock(this)) {
+                unlockedLookups.incrementAndGet();
+            }
+        }
+
+        @NonNull
+        @Override
+        public ReadableStates getReadableStates(@NonNull final String serviceName) {
+            checkLock();
+            return new ReadableStates() {
+                @SuppressWarnings("unchecked")
+                @NonNull
+                @Override
+                public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+                    checkLock();
+                    return (ReadableKVState<K, V>) values;
+                }
+
+                @NonNull
+                @Override
+                public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+                    throw new IllegalArgumentException("Unknown singleton state key " + stateKey);
+                }
+
+                @NonNull
+                @Override
+                public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+                    throw new IllegalArgumentException("Unknown queue state key " + stateKey);
+                }
+
+                @Override
+                public boolean contains(@NonNull final String stateKey) {
+                    return STATE_KEY.equals(stateKey);
+                }
+
+                @NonNull
+                @Override
+                public Set<String> stateKeys() {
+                    return Set.of(STATE_KEY);
+                }
+            };
+        }
+
+        @NonNull
+        @Override
+        public WritableStates getWritableStates(@NonNull final String serviceName) {
+            throw new UnsupportedOperationException("The snapshot is immutable");
+        }
+    }
+}
@@ -36,7 +36,8 @@ public record FilesConfig(
         @ConfigProperty(defaultValue = "150-159") LongPair softwareUpdateRange,
         @ConfigProperty(defaultValue = "123") @NetworkProperty long throttleDefinitions,
         @ConfigProperty(defaultValue = "1000000") @NetworkProperty long maxNumber,
-        @ConfigProperty(defaultValue = "1024") @NetworkProperty int maxSizeKb) {
+        @ConfigProperty(defaultValue = "1024") @NetworkProperty int maxSizeKb,
+        @ConfigProperty(defaultValue = "4096") @NetworkProperty int chunkSizeBytes) {
 
     /**
      * Returns true if the given file ID is an override file for properties or permissions.
@@ -57,4 +57,8 @@ public record HederaConfig(
         // FUTURE: Set<HederaFunctionality>.
         @ConfigProperty(value = "workflows.enabled", defaultValue = "true") @NetworkProperty String workflowsEnabled,
         @ConfigProperty(value = "ingestThrottle.enabled", defaultValue = "true") @NetworkProperty
-                boolean ingestThrottleEnabled) {}
+                boolean ingestThrottleEnabled,
+        @ConfigProperty(value = "ingestThrottle.leaseSize", defaultValue = "8") @NodeProperty
+                int ingestThrottleLeaseSize,
+        @ConfigProperty(value = "ingestThrottle.leaseDurationMs", defaultValue = "10") @NodeProperty
+                long ingestThrottleLeaseDurationMs) {}
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.file.impl;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.state.file.File;
 import com.hedera.node.app.service.file.FileMetadata;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
 
@@ -35,15 +36,17 @@ public abstract class FileStore {
      * Convert a {@link File} to a {@link FileMetadata}.
      *
      * @param file The {@link File} to convert
+     * @param contents The full contents of the {@link File}
      * @return The {@link FileMetadata} representation of the {@link File}
      */
-    protected static @NonNull FileMetadata fileMetaFrom(@NonNull final File file) {
+    protected static @NonNull FileMetadata fileMetaFrom(@NonNull final File file, @NonNull final Bytes contents) {
         Objects.requireNonNull(file);
+        Objects.requireNonNull(contents);
         return new FileMetadata(
                 file.fileId(),
                 Timestamp.newBuilder().seconds(file.expirationSecond()).build(),
                 file.keys(),
-                file.contents(),
+                contents,
                 file.memo(),
                 file.deleted(),
                 Timestamp.newBuilder()
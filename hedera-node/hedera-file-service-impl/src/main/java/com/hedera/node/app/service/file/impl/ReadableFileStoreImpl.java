@@ -17,14 +17,18 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0590FileSchema.FILE_CHUNKS_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.service.file.FileMetadata;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.spi.ids.ReadableEntityCounters;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -40,6 +44,9 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
     /** The underlying data storage class that holds the file data. */
     private final ReadableKVState<FileID, File> fileState;
 
+    /** The states the file chunks are read from, only looked up once a chunked file is read. */
+    private final ReadableStates states;
+
     private final ReadableEntityCounters entityCounters;
 
     /**
@@ -49,6 +56,7 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
      */
     public ReadableFileStoreImpl(
             @NonNull final ReadableStates states, @NonNull final ReadableEntityCounters entityCounters) {
+        this.states = requireNonNull(states);
         this.fileState = requireNonNull(states.get(BLOBS_KEY));
         this.entityCounters = requireNonNull(entityCounters);
     }
@@ -62,7 +70,7 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
      */
     public @Nullable FileMetadata getFileMetadata(@NonNull final FileID id) {
         final var file = getFileLeaf(id);
-        return file == null ? null : FileStore.fileMetaFrom(file);
+        return file == null ? null : FileStore.fileMetaFrom(file, contentsOf(file));
     }
 
     /**
@@ -75,6 +83,36 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
         return fileState.get(id);
     }
 
+    /**
+     * Returns the full contents of the given file, copying its chunks in order into a single buffer
+     * sized from {@link File#contentsSize()} if the file is chunked.
+     *
+     * @param file the file whose contents are wanted
+     * @return the file's contents
+     */
+    @Override
+    public @NonNull Bytes contentsOf(@NonNull final File file) {
+        requireNonNull(file);
+        if (file.chunkCount() == 0) {
+            return file.contents();
+        }
+        final var chunks = chunksState();
+        final var fileId = file.fileIdOrThrow();
+        final var contents = new byte[Math.toIntExact(file.contentsSize())];
+        int offset = 0;
+        for (int i = 0, n = file.chunkCount(); i < n; i++) {
+            final var chunk = chunks.get(new FileChunkId(fileId, i));
+            if (chunk == null) {
+                throw new IllegalStateException("Missing chunk " + i + " of file " + fileId);
+            }
+            final var value = chunk.value();
+            final var length = (int) value.length();
+            value.getBytes(0, contents, offset, length);
+            offset += length;
+        }
+        return Bytes.wrap(contents);
+    }
+
     /**
      * Returns the number of files in the state.
      *
@@ -83,4 +121,13 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
     public long sizeOfState() {
         return entityCounters.getCounterFor(EntityType.FILE);
     }
+
+    /**
+     * Returns the state holding the chunks of chunked files.
+     *
+     * @return the file chunks state
+     */
+    protected @NonNull ReadableKVState<FileChunkId, ProtoBytes> chunksState() {
+        return requireNonNull(states.get(FILE_CHUNKS_KEY));
+    }
 }
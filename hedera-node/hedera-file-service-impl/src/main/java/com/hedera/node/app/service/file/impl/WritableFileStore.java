@@ -17,12 +17,16 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0590FileSchema.FILE_CHUNKS_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.spi.ids.WritableEntityCounters;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -39,6 +43,8 @@ public class WritableFileStore extends ReadableFileStoreImpl {
     /** The underlying data storage class that holds the file data. */
     private final WritableKVState<FileID, File> filesState;
 
+    private final WritableStates states;
+
     private final WritableEntityCounters entityCounters;
 
     /**
@@ -50,6 +56,7 @@ public class WritableFileStore extends ReadableFileStoreImpl {
             @NonNull final WritableStates states, @NonNull final WritableEntityCounters entityCounters) {
         super(states, entityCounters);
         this.filesState = requireNonNull(states.get(BLOBS_KEY));
+        this.states = states;
         this.entityCounters = entityCounters;
     }
 
@@ -93,13 +100,103 @@ public class WritableFileStore extends ReadableFileStoreImpl {
         return filesState.modifiedKeys();
     }
 
+    /**
+     * Appends the given bytes to the chunked contents of the given file, writing only the last partial
+     * chunk and any new chunks; so the cost of an append is proportional to the appended bytes rather
+     * than to the size of the file. If the file still holds its contents in a single {@link File#contents()}
+     * blob, that blob is moved into chunks as part of this first append.
+     *
+     * <p>The returned file is <b>not</b> persisted; the caller should {@link #put(File)} it.
+     *
+     * @param file - the file to append to.
+     * @param data - the bytes to append.
+     * @param chunkSize - the maximum number of bytes in each chunk.
+     * @return the file with its contents cleared and its chunk count and size updated.
+     */
+    public @NonNull File appendToChunks(@NonNull final File file, @NonNull final Bytes data, final int chunkSize) {
+        requireNonNull(file);
+        requireNonNull(data);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        final var fileId = file.fileIdOrThrow();
+        final int chunkCount;
+        final long contentsSize;
+        if (file.chunkCount() == 0) {
+            final var contents = concat(file.contents(), data);
+            chunkCount = putChunks(fileId, 0, contents, chunkSize);
+            contentsSize = contents.length();
+        } else {
+            var remaining = data;
+            final var lastChunkId = new FileChunkId(fileId, file.chunkCount() - 1);
+            final var lastChunk = requireNonNull(chunksState().get(lastChunkId)).value();
+            final var room = Math.min(chunkSize - lastChunk.length(), remaining.length());
+            if (room > 0) {
+                writableChunksState().put(lastChunkId, new ProtoBytes(concat(lastChunk, remaining.slice(0, room))));
+                remaining = remaining.slice(room, remaining.length() - room);
+            }
+            chunkCount = putChunks(fileId, file.chunkCount(), remaining, chunkSize);
+            contentsSize = file.contentsSize() + data.length();
+        }
+        return file.copyBuilder()
+                .contents(Bytes.EMPTY)
+                .chunkCount(chunkCount)
+                .contentsSize(contentsSize)
+                .build();
+    }
+
+    /**
+     * Removes all chunks of the given file's contents from state. Does nothing if the file is not chunked.
+     *
+     * @param file - the file whose chunks should be removed.
+     */
+    public void removeChunks(@NonNull final File file) {
+        requireNonNull(file);
+        if (file.chunkCount() == 0) {
+            return;
+        }
+        final var chunks = writableChunksState();
+        final var fileId = file.fileIdOrThrow();
+        for (int i = 0, n = file.chunkCount(); i < n; i++) {
+            chunks.remove(new FileChunkId(fileId, i));
+        }
+    }
+
     /**
      * remove the file from the state.
      *
      * @param fileId - the id of the file to be removed from state.
      */
     public void removeFile(final FileID fileId) {
+        final var file = filesState.get(fileId);
+        if (file != null) {
+            removeChunks(file);
+        }
         filesState.remove(fileId);
         entityCounters.decrementEntityTypeCounter(EntityType.FILE);
     }
+
+    private int putChunks(
+            @NonNull final FileID fileId, final int firstChunkNumber, @NonNull final Bytes bytes, final int chunkSize) {
+        final var chunks = writableChunksState();
+        int chunkNumber = firstChunkNumber;
+        for (long offset = 0, n = bytes.length(); offset < n; offset += chunkSize) {
+            final var length = Math.min(chunkSize, n - offset);
+            chunks.put(new FileChunkId(fileId, chunkNumber++), new ProtoBytes(bytes.slice(offset, length)));
+        }
+        return chunkNumber;
+    }
+
+    private @NonNull WritableKVState<FileChunkId, ProtoBytes> writableChunksState() {
+        return requireNonNull(states.get(FILE_CHUNKS_KEY));
+    }
+
+    private static @NonNull Bytes concat(@NonNull final Bytes first, @NonNull final Bytes second) {
+        final var firstLength = (int) first.length();
+        final var secondLength = (int) second.length();
+        final var bytes = new byte[firstLength + secondLength];
+        first.getBytes(0, bytes, 0, firstLength);
+        second.getBytes(0, bytes, firstLength, secondLength);
+        return Bytes.wrap(bytes);
+    }
 }
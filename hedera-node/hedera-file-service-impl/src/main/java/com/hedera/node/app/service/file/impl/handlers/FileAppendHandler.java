@@ -21,9 +21,11 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.UNAUTHORIZED;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE;
 import static com.hedera.node.app.service.file.impl.FileServiceImpl.THREE_MONTHS_IN_SECONDS;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.contentsSizeOf;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.preValidate;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateAndAddRequiredKeys;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContent;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContentLength;
 import static com.hedera.node.app.spi.workflows.HandleException.validateFalse;
 import static java.util.Objects.requireNonNull;
 
@@ -45,6 +47,7 @@ import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.config.data.FilesConfig;
+import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
@@ -144,6 +147,16 @@ public class FileAppendHandler implements TransactionHandler {
             throw new HandleException(FILE_DELETED);
         }
 
+        final var hederaConfig = handleContext.configuration().getConfigData(HederaConfig.class);
+        if (target.fileNum() >= hederaConfig.firstUserEntity()) {
+            // User files are stored in chunks, so only the appended bytes (and the last partial chunk) are written
+            validateContentLength(contentsSizeOf(file) + data.length(), fileServiceConfig);
+            fileStore.put(
+                    data.length() > 0 ? fileStore.appendToChunks(file, data, fileServiceConfig.chunkSizeBytes()) : file);
+            return;
+        }
+
+        // System files keep their contents in a single blob, since many readers consume File.contents() directly
         var contents = CommonPbjConverters.asBytes(file.contents());
 
         var newContents = ArrayUtils.addAll(contents, CommonPbjConverters.asBytes(data));
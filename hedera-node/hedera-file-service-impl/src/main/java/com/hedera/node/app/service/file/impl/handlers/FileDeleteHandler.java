@@ -130,6 +130,7 @@ public class FileDeleteHandler implements TransactionHandler {
 
         /* --- Put the modified file. It will be in underlying state's modifications map.
         It will not be committed to state until commit is called on the state.--- */
+        fileStore.removeChunks(file);
         fileStore.put(fileBuilder.build());
     }
 
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.file.impl.handlers;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseType.COST_ANSWER;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.contentsSizeOf;
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static java.util.Objects.requireNonNull;
 
@@ -207,7 +208,7 @@ public class FileGetInfoHandler extends FileQueryBase {
         }
         final com.hederahashgraph.api.proto.java.File details = CommonPbjConverters.fromPbj(file);
         final var ctx = ExtantFileContext.newBuilder()
-                .setCurrentSize(details.getContents().toByteArray().length)
+                .setCurrentSize(contentsSizeOf(file))
                 .setCurrentWacl(details.getKeys())
                 .setCurrentMemo(details.getMemo())
                 .setCurrentExpiry(details.getExpirationSecond())
@@ -123,6 +123,8 @@ public class FileSystemDeleteHandler implements TransactionHandler {
                     .expirationSecond(newExpiry)
                     .keys(file.keys())
                     .contents(file.contents())
+                    .chunkCount(file.chunkCount())
+                    .contentsSize(file.contentsSize())
                     .memo(file.memo())
                     .deleted(true);
 
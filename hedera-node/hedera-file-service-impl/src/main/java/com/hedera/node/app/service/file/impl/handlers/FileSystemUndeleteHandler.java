@@ -118,6 +118,8 @@ public class FileSystemUndeleteHandler implements TransactionHandler {
                     .preSystemDeleteExpirationSecond(0L)
                     .keys(file.keys())
                     .contents(file.contents())
+                    .chunkCount(file.chunkCount())
+                    .contentsSize(file.contentsSize())
                     .memo(file.memo())
                     .deleted(false);
 
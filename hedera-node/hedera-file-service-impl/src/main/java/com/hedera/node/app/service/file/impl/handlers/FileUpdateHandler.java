@@ -22,6 +22,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.MAX_FILE_SIZE_EXCEEDED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.UNAUTHORIZED;
 import static com.hedera.node.app.service.file.impl.FileServiceImpl.DEFAULT_MEMO;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.contentsSizeOf;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.preValidate;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateAndAddRequiredKeys;
 import static com.hedera.node.app.spi.workflows.HandleContext.TransactionCategory.CHILD;
@@ -182,7 +183,12 @@ public class FileUpdateHandler implements TransactionHandler {
         final var accountsConfig = handleContext.configuration().getConfigData(AccountsConfig.class);
         resolveMutableBuilderAttributes(
                 fileUpdate, builder, fileServiceConfig, file, fileID, accountsConfig, handleContext.payer());
-        fileStore.put(builder.build());
+        final var updatedFile = builder.build();
+        if (updatedFile.chunkCount() == 0) {
+            // New contents replace any chunks holding the old contents
+            fileStore.removeChunks(file);
+        }
+        fileStore.put(updatedFile);
     }
 
     @NonNull
@@ -207,8 +213,11 @@ public class FileUpdateHandler implements TransactionHandler {
         return feeContext
                 .feeCalculatorFactory()
                 .feeCalculator(SubType.DEFAULT)
-                .legacyCalculate(sigValueObj ->
-                        usageGiven(CommonPbjConverters.fromPbj(op), sigValueObj, CommonPbjConverters.fromPbj(file)));
+                .legacyCalculate(sigValueObj -> usageGiven(
+                        CommonPbjConverters.fromPbj(op),
+                        sigValueObj,
+                        CommonPbjConverters.fromPbj(file),
+                        file == null ? 0L : contentsSizeOf(file)));
     }
 
     private void handleUpdateUpgradeFile(FileUpdateTransactionBody fileUpdate, HandleContext handleContext) {
@@ -252,7 +261,7 @@ public class FileUpdateHandler implements TransactionHandler {
             }
             builder.contents(op.contents());
         } else {
-            builder.contents(file.contents());
+            builder.contents(file.contents()).chunkCount(file.chunkCount()).contentsSize(file.contentsSize());
         }
 
         if (op.hasMemo()) {
@@ -314,12 +323,12 @@ public class FileUpdateHandler implements TransactionHandler {
     private FeeData usageGiven(
             final com.hederahashgraph.api.proto.java.TransactionBody txn,
             final SigValueObj svo,
-            final com.hederahashgraph.api.proto.java.File file) {
+            final com.hederahashgraph.api.proto.java.File file,
+            final long currentSize) {
         final var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
         if (file != null) {
-            final var contents = file.getContents();
             final var ctx = ExtantFileContext.newBuilder()
-                    .setCurrentSize(contents == null ? 0 : contents.size())
+                    .setCurrentSize(currentSize)
                     .setCurrentWacl(file.getKeys())
                     .setCurrentMemo(file.getMemo())
                     .setCurrentExpiry(file.getExpirationSecond())
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.file.impl.schemas;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.swirlds.state.lifecycle.Schema;
+import com.swirlds.state.lifecycle.StateDefinition;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * Adds the state that holds the contents of chunked files, one fixed-size chunk per entry.
+ *
+ * <p>No migration is needed; files persisted with their contents in a single {@code File.contents}
+ * blob remain readable as-is, and are only moved into chunks the first time they are appended to.
+ */
+public final class V0590FileSchema extends Schema {
+    /**
+     * The state key of a map from a {@link FileChunkId} to one chunk of a file's contents.
+     */
+    public static final String FILE_CHUNKS_KEY = "FILE_CHUNKS";
+
+    /**
+     * A hint to the database system of the maximum number of file chunks we will store. This MUST NOT BE CHANGED.
+     * If it is changed, then the database has to be rebuilt.
+     */
+    private static final long MAX_FILE_CHUNKS_HINT = 1_000_000_000L;
+
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(59).patch(0).build();
+
+    /**
+     * Instantiates a new V0590 (version 0.59.0) file schema.
+     */
+    public V0590FileSchema() {
+        super(VERSION);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @NonNull
+    @Override
+    public Set<StateDefinition> statesToCreate() {
+        return Set.of(StateDefinition.onDisk(
+                FILE_CHUNKS_KEY, FileChunkId.PROTOBUF, ProtoBytes.PROTOBUF, MAX_FILE_CHUNKS_HINT));
+    }
+}
@@ -56,13 +56,32 @@ public class FileServiceUtils {
      * @param fileServiceConfig the file service configuration
      */
     public static void validateContent(@NonNull byte[] content, @NonNull FilesConfig fileServiceConfig) {
-        var contentLength = content.length;
+        validateContentLength(content.length, fileServiceConfig);
+    }
 
+    /**
+     * The function validates that a file of the given length does not exceed the maximum file size.
+     *
+     * @param contentLength the length of the file contents
+     * @param fileServiceConfig the file service configuration
+     */
+    public static void validateContentLength(final long contentLength, @NonNull FilesConfig fileServiceConfig) {
         if (contentLength > fileServiceConfig.maxSizeKb() * 1024L) {
             throw new HandleException(MAX_FILE_SIZE_EXCEEDED);
         }
     }
 
+    /**
+     * Returns the length of the contents of the given file, whether they are stored in a single blob or in chunks.
+     *
+     * @param file the file
+     * @return the length of the file contents
+     */
+    public static long contentsSizeOf(@NonNull final File file) {
+        requireNonNull(file);
+        return file.chunkCount() > 0 ? file.contentsSize() : file.contents().length();
+    }
+
     /**
      * The function validates that the fileId is not a reserved system Id and that it matches a file in the store.
      *
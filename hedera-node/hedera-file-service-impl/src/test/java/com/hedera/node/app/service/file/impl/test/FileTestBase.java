@@ -29,6 +29,7 @@ import com.hedera.hapi.node.base.ThresholdKey;
 import com.hedera.hapi.node.state.common.EntityNumber;
 import com.hedera.hapi.node.state.entity.EntityCounts;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.ids.ReadableEntityIdStoreImpl;
 import com.hedera.node.app.ids.WritableEntityIdStore;
@@ -103,6 +104,7 @@ public class FileTestBase {
             .build();
 
     protected static final String FILES = "FILES";
+    protected static final String FILE_CHUNKS = "FILE_CHUNKS";
     protected static final String UPGRADE_FILE_KEY = "UPGRADE_FILE";
     protected static final String UPGRADE_DATA_KEY = "UPGRADE_DATA[%s]";
     protected final Key key = A_COMPLEX_KEY;
@@ -174,6 +176,8 @@ public class FileTestBase {
     protected MapReadableKVState<FileID, File> readableUpgradeFileStates;
     protected MapWritableKVState<FileID, File> writableUpgradeFileStates;
 
+    protected MapWritableKVState<FileChunkId, ProtoBytes> writableChunkState;
+
     protected ReadableFileStoreImpl readableStore;
     protected WritableFileStore writableStore;
 
@@ -260,6 +264,39 @@ public class FileTestBase {
         given(storeFactory.writableStore(WritableUpgradeFileStore.class)).willReturn(writableUpgradeFileStore);
     }
 
+    /**
+     * Returns a copy of {@link #file} whose contents are split into the given chunks.
+     */
+    @NonNull
+    protected File chunkedFile(@NonNull final Bytes... chunks) {
+        long size = 0;
+        for (final var chunk : chunks) {
+            size += chunk.length();
+        }
+        return file.copyBuilder()
+                .contents(Bytes.EMPTY)
+                .chunkCount(chunks.length)
+                .contentsSize(size)
+                .build();
+    }
+
+    protected void givenReadableChunks(@NonNull final Bytes... chunks) {
+        final var builder = MapReadableKVState.<FileChunkId, ProtoBytes>builder(FILE_CHUNKS);
+        for (int i = 0; i < chunks.length; i++) {
+            builder.value(new FileChunkId(fileId, i), new ProtoBytes(chunks[i]));
+        }
+        given(readableStates.<FileChunkId, ProtoBytes>get(FILE_CHUNKS)).willReturn(builder.build());
+    }
+
+    protected void givenWritableChunks(@NonNull final Bytes... chunks) {
+        final var builder = MapWritableKVState.<FileChunkId, ProtoBytes>builder(FILE_CHUNKS);
+        for (int i = 0; i < chunks.length; i++) {
+            builder.value(new FileChunkId(fileId, i), new ProtoBytes(chunks[i]));
+        }
+        writableChunkState = builder.build();
+        given(writableStates.<FileChunkId, ProtoBytes>get(FILE_CHUNKS)).willReturn(writableChunkState);
+    }
+
     @NonNull
     protected MapWritableKVState<FileID, File> emptyWritableFileState() {
         return MapWritableKVState.<FileID, File>builder(FILES).build();
@@ -327,16 +364,16 @@ public class FileTestBase {
     }
 
     protected void givenValidFile(boolean deleted, boolean withKeys) {
-        file = new File(fileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L);
-        fileWithNoKeysAndMemo = new File(fileId, expirationTime, null, Bytes.wrap(contents), null, deleted, 0L);
-        fileWithNoContent = new File(fileId, expirationTime, withKeys ? keys : null, null, memo, deleted, 0L);
+        file = new File(fileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L, 0, 0L);
+        fileWithNoKeysAndMemo = new File(fileId, expirationTime, null, Bytes.wrap(contents), null, deleted, 0L, 0, 0L);
+        fileWithNoContent = new File(fileId, expirationTime, withKeys ? keys : null, null, memo, deleted, 0L, 0, 0L);
         fileSystem = new File(
-                fileSystemFileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L);
+                fileSystemFileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L, 0, 0L);
     }
 
     protected void givenValidUpgradeFile(boolean deleted, boolean withKeys) {
         upgradeFile = new File(
-                fileUpgradeFileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L);
+                fileUpgradeFileId, expirationTime, withKeys ? keys : null, Bytes.wrap(contents), memo, deleted, 0L, 0, 0L);
     }
 
     protected File createFile() {
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 
+import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
 import com.hedera.node.app.hapi.utils.EntityType;
 import com.hedera.node.app.service.file.impl.ReadableFileStoreImpl;
@@ -51,6 +52,22 @@ class ReadableFileStoreImplTest extends FileTestBase {
         assertEquals(Bytes.wrap(contents), fileMeta.contents());
     }
 
+    @Test
+    void getsFileMetadataWithChunkedContents() {
+        final var chunked = chunkedFile(Bytes.wrap("cont"), Bytes.wrap("ents"));
+        final var state = MapReadableKVState.<FileID, File>builder(FILES)
+                .value(fileId, chunked)
+                .build();
+        given(readableStates.<FileID, File>get(FILES)).willReturn(state);
+        givenReadableChunks(Bytes.wrap("cont"), Bytes.wrap("ents"));
+        subject = new ReadableFileStoreImpl(readableStates, readableEntityCounters);
+
+        final var fileMeta = subject.getFileMetadata(WELL_KNOWN_FILE_ID);
+
+        assertNotNull(fileMeta);
+        assertEquals(Bytes.wrap(contents), fileMeta.contents());
+    }
+
     @Test
     void missingFileIsNull() {
         readableFileState.reset();
@@ -23,8 +23,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -84,4 +87,43 @@ class WritableFileStoreTest extends FileTestBase {
         final var readFile = writableStore.get(fileId);
         assertEquals(readFile, Optional.empty());
     }
+
+    @Test
+    void firstAppendMovesContentsIntoChunks() {
+        givenWritableChunks();
+        file = createFile();
+
+        final var appended = writableStore.appendToChunks(file, Bytes.wrap("STUFF"), 4);
+
+        assertEquals(Bytes.EMPTY, appended.contents());
+        assertEquals(4, appended.chunkCount());
+        assertEquals(13L, appended.contentsSize());
+        assertEquals(Bytes.wrap("F"), writableChunkState.get(new FileChunkId(fileId, 3)).value());
+        assertEquals(Bytes.wrap("contentsSTUFF"), writableStore.contentsOf(appended));
+    }
+
+    @Test
+    void appendOnlyWritesLastAndNewChunks() {
+        givenWritableChunks(Bytes.wrap("cont"), Bytes.wrap("ent"));
+        file = chunkedFile(Bytes.wrap("cont"), Bytes.wrap("ent"));
+
+        final var appended = writableStore.appendToChunks(file, Bytes.wrap("STUFF"), 4);
+
+        assertEquals(3, appended.chunkCount());
+        assertEquals(12L, appended.contentsSize());
+        assertEquals(
+                Set.of(new FileChunkId(fileId, 1), new FileChunkId(fileId, 2)), writableChunkState.modifiedKeys());
+        assertEquals(Bytes.wrap("contentsSTUFF"), writableStore.contentsOf(appended));
+    }
+
+    @Test
+    void removingChunkedFileRemovesItsChunks() {
+        givenWritableChunks(Bytes.wrap("cont"), Bytes.wrap("ents"));
+        writableStore.put(chunkedFile(Bytes.wrap("cont"), Bytes.wrap("ents")));
+
+        writableStore.removeFile(fileId);
+
+        assertFalse(writableChunkState.contains(new FileChunkId(fileId, 0)));
+        assertFalse(writableChunkState.contains(new FileChunkId(fileId, 1)));
+    }
 }
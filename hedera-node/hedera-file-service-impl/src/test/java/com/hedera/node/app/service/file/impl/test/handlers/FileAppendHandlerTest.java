@@ -38,6 +38,7 @@ import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
@@ -268,11 +269,43 @@ class FileAppendHandlerTest extends FileTestBase {
                 .build();
         given(handleContext.body()).willReturn(txBody);
         given(storeFactory.writableStore(WritableFileStore.class)).willReturn(writableStore);
+        givenWritableChunks();
 
         subject.handle(handleContext);
 
         final var appendedFile = writableFileState.get(fileId);
-        assertEquals(bytesNewContentExpected, appendedFile.contents());
+        assertEquals(1, appendedFile.chunkCount());
+        assertEquals(bytesNewContentExpected, writableStore.contentsOf(appendedFile));
+    }
+
+    @Test
+    void appendsToChunkedFileWithoutRewritingFullChunks() {
+        givenValidFile(false);
+        refreshStoresWithCurrentFileInBothReadableAndWritable();
+        writableFileState.put(fileId, chunkedFile(Bytes.wrap("cont"), Bytes.wrap("ents")));
+        givenWritableChunks(Bytes.wrap("cont"), Bytes.wrap("ents"));
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("files.chunkSizeBytes", 4)
+                .getOrCreateConfig();
+        given(handleContext.configuration()).willReturn(config);
+
+        final var txBody = TransactionBody.newBuilder()
+                .fileAppend(OP_BUILDER.fileID(wellKnownId()).contents(Bytes.wrap("STUFF")))
+                .transactionID(TransactionID.newBuilder()
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(111111).build())
+                        .build())
+                .build();
+        given(handleContext.body()).willReturn(txBody);
+
+        subject.handle(handleContext);
+
+        final var appendedFile = writableFileState.get(fileId);
+        assertEquals(4, appendedFile.chunkCount());
+        assertEquals(13L, appendedFile.contentsSize());
+        assertFalse(writableChunkState.modifiedKeys().contains(new FileChunkId(fileId, 0)));
+        assertFalse(writableChunkState.modifiedKeys().contains(new FileChunkId(fileId, 1)));
+        assertEquals(Bytes.wrap("contentsSTUFF"), writableStore.contentsOf(appendedFile));
     }
 
     @Test
@@ -336,7 +369,7 @@ class FileAppendHandlerTest extends FileTestBase {
                         .build())
                 .build();
 
-        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L);
+        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L, 0, 0L);
 
         given(handleContext.body()).willReturn(txBody);
         writableFileState = writableFileStateWithOneKey();
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.file;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
@@ -48,6 +49,16 @@ public interface ReadableFileStore {
     @Nullable
     File getFileLeaf(@NonNull FileID id);
 
+    /**
+     * Returns the full contents of the given file. For a file whose contents are stored in chunks,
+     * the chunks are read and concatenated in order; otherwise this is just {@link File#contents()}.
+     *
+     * @param file the file whose contents are wanted
+     * @return the file's contents
+     */
+    @NonNull
+    Bytes contentsOf(@NonNull File file);
+
     /**
      * Returns the number of files in the state.
      *
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares finding the translator for a system contract call by trying every translator in turn with
+ * looking up its candidates in a {@link CallTranslatorIndex}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CallTranslatorIndexBenchmark {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(0x167).build();
+    private static final int NUM_CALLS = 1024;
+
+    @Param({"50", "150"})
+    public int numTranslators;
+
+    private List<CallTranslator<byte[]>> translators;
+    private CallTranslatorIndex<byte[]> index;
+    private byte[][] selectors;
+
+    @Setup
+    public void setUp() {
+        translators = new ArrayList<>();
+        final List<SystemContractMethod> allMethods = new ArrayList<>();
+        for (int i = 0; i < numTranslators; i++) {
+            final var methods = List.of(
+                    SystemContractMethod.declare("method" + i + "(address)"),
+                    SystemContractMethod.declare("method" + i + "(address,int64)"));
+            allMethods.addAll(methods);
+            translators.add(new SelectorTranslator(methods));
+        }
+        index = CallTranslatorIndex.from(translators);
+
+        final var random = new Random(42);
+        selectors = new byte[NUM_CALLS][];
+        for (int i = 0; i < NUM_CALLS; i++) {
+            selectors[i] = allMethods.get(random.nextInt(allMethods.size())).selector();
+        }
+    }
+
+    @Benchmark
+    public void linearScan(final Blackhole blackhole) {
+        for (final var selector : selectors) {
+            blackhole.consume(firstMatch(translators, selector));
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(final Blackhole blackhole) {
+        for (final var selector : selectors) {
+            blackhole.consume(firstMatch(index.candidatesFor(selector, CONTRACT_ID), selector));
+        }
+    }
+
+    private static SystemContractMethod firstMatch(
+            final List<CallTranslator<byte[]>> candidates, final byte[] selector) {
+        for (final var translator : candidates) {
+            final var method = translator.identifyMethod(selector);
+            if (method.isPresent()) {
+                return method.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A translator that, like the real ones, identifies its call by comparing the selector against each of
+     * its methods in turn.
+     */
+    private record SelectorTranslator(List<SystemContractMethod> methods) implements CallTranslator<byte[]> {
+        @Override
+        public Call translateCallAttempt(final byte[] attempt) {
+            return null;
+        }
+
+        @Override
+        public Optional<SystemContractMethod> identifyMethod(final byte[] attempt) {
+            for (final var method : methods) {
+                if (Arrays.equals(method.selector(), attempt) && method.hasSupportedAddress(CONTRACT_ID)) {
+                    return Optional.of(method);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Call callFrom(final byte[] attempt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<SystemContractMethod> matchableMethods() {
+            return methods;
+        }
+    }
+}
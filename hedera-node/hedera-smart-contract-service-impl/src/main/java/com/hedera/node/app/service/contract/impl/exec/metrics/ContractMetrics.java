@@ -70,6 +70,8 @@ public class ContractMetrics {
     private final HashMap<HederaFunctionality, Counter> rejectedTxsCounters = new HashMap<>();
     private final HashMap<HederaFunctionality, Counter> rejectedTxsLackingIntrinsicGas = new HashMap<>();
     private Counter rejectedEthType3Counter;
+    private Counter storageSlotCacheHitsCounter;
+    private Counter storageSlotCacheMissesCounter;
 
     private enum MethodMetricType {
         TOTAL(0, "total"),
@@ -128,6 +130,10 @@ public class ContractMetrics {
     private static final String REJECTED_FOR_GAS_SHORT_DESCR = "txns with not even intrinsic gas";
     private static final String REJECTED_TYPE3_FUNCTIONALITY = "ethType3BlobTransaction";
 
+    private static final String STORAGE_SLOT_CACHE_NAME_TEMPLATE = "%2$s:StorageSlotCache_%1$s_total";
+    private static final String STORAGE_SLOT_CACHE_DESCR_TEMPLATE = "EVM storage slot lookups that %1$s the frame cache";
+    private static final String STORAGE_SLOT_CACHE_UNIT = "lookups";
+
     // The `SystemContractMethod.Category` enum has "categories" for both ERC-20/ERC-721, and method groups:
     // These maps distinguish them
 
@@ -200,9 +206,21 @@ public class ContractMetrics {
                 final var metric = newCounter(metrics, config);
                 rejectedEthType3Counter = metric;
             }
+
+            // Storage slot lookups served (or not) by the per-transaction EVM frame cache
+            storageSlotCacheHitsCounter = makeStorageSlotCacheCounter("hits", "hit");
+            storageSlotCacheMissesCounter = makeStorageSlotCacheCounter("misses", "missed");
         }
     }
 
+    private @NonNull Counter makeStorageSlotCacheCounter(@NonNull final String name, @NonNull final String verb) {
+        final var config = new Counter.Config(
+                        METRIC_CATEGORY, STORAGE_SLOT_CACHE_NAME_TEMPLATE.formatted(name, METRIC_SERVICE))
+                .withDescription(STORAGE_SLOT_CACHE_DESCR_TEMPLATE.formatted(verb))
+                .withUnit(STORAGE_SLOT_CACHE_UNIT);
+        return newCounter(metrics, config);
+    }
+
     private @NonNull Counter makeCounter(
             @NonNull final MethodMetricType metricType,
             @NonNull final String name,
@@ -312,6 +330,14 @@ public class ContractMetrics {
         }
     }
 
+    // P1 metrics:  EVM storage slot cache
+
+    public void incrementStorageSlotCacheLookup(final boolean hit) {
+        if (p1MetricsEnabled) {
+            (hit ? storageSlotCacheHitsCounter : storageSlotCacheMissesCounter).increment();
+        }
+    }
+
     // ---------------------------------------------
     // P2 metrics: System contract per-method counts
 
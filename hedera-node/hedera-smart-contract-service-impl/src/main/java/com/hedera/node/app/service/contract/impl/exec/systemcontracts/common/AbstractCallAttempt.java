@@ -36,7 +36,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
@@ -59,7 +58,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
     private final AddressIdConverter addressIdConverter;
     private final VerificationStrategies verificationStrategies;
     private final SystemContractGasCalculator gasCalculator;
-    private final List<CallTranslator<T>> callTranslators;
+    private final CallTranslatorIndex<T> callTranslatorIndex;
     private final SystemContractMethodRegistry systemContractMethodRegistry;
     private final boolean isStaticCall;
 
@@ -79,7 +78,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      * @param addressIdConverter the address ID converter for this call
      * @param verificationStrategies the verification strategies for this call
      * @param gasCalculator the system contract gas calculator for this call
-     * @param callTranslators the call translators for this call
+     * @param callTranslatorIndex the index of call translators for this call
      * @param isStaticCall whether this is a static call
      * @param redirectFunction the redirect function
      */
@@ -96,14 +95,14 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
             @NonNull final AddressIdConverter addressIdConverter,
             @NonNull final VerificationStrategies verificationStrategies,
             @NonNull final SystemContractGasCalculator gasCalculator,
-            @NonNull final List<CallTranslator<T>> callTranslators,
+            @NonNull final CallTranslatorIndex<T> callTranslatorIndex,
             final boolean isStaticCall,
             @NonNull final SystemContractMethodRegistry systemContractMethodRegistry,
             @NonNull final com.esaulpaugh.headlong.abi.Function redirectFunction) {
         this.contractID = requireNonNull(contractID);
         requireNonNull(input);
         requireNonNull(redirectFunction);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.callTranslatorIndex = requireNonNull(callTranslatorIndex);
         this.gasCalculator = requireNonNull(gasCalculator);
         this.senderAddress = requireNonNull(senderAddress);
         this.authorizingAddress = requireNonNull(authorizingAddress);
@@ -188,7 +187,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      */
     public @Nullable Call asExecutableCall() {
         final var self = self();
-        for (final var translator : callTranslators) {
+        for (final var translator : callTranslatorIndex.candidatesFor(selector, contractID)) {
             final var call = translator.translateCallAttempt(self);
             if (call != null) {
                 return call;
@@ -25,6 +25,9 @@ import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Basic implementation support for a {@link CallTranslator} that returns a translated
@@ -36,6 +39,7 @@ public abstract class AbstractCallTranslator<T extends AbstractCallAttempt<T>> i
     private final SystemContract systemContractKind;
     private final SystemContractMethodRegistry systemContractMethodRegistry;
     private final ContractMetrics contractMetrics;
+    private final List<SystemContractMethod> registeredMethods = new ArrayList<>();
 
     public AbstractCallTranslator(
             @NonNull final SystemContract systemContractKind,
@@ -70,9 +74,18 @@ public abstract class AbstractCallTranslator<T extends AbstractCallAttempt<T>> i
         for (@NonNull final var method : methods) {
             requireNonNull(method);
             registerMethod(method, method.withContract(systemContractKind));
+            registeredMethods.add(method);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<SystemContractMethod> matchableMethods() {
+        return Collections.unmodifiableList(registeredMethods);
+    }
+
     private void registerMethod(
             @NonNull final SystemContractMethod methodWithoutContract,
             @NonNull final SystemContractMethod methodWithContract) {
@@ -20,6 +20,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,6 +45,16 @@ public interface CallTranslator<T> {
      */
     abstract @NonNull Optional<SystemContractMethod> identifyMethod(@NonNull final T attempt);
 
+    /**
+     * Returns every method whose selector this translator can match. An empty list means the translator
+     * matches dynamically, and must be tried for every call attempt.
+     *
+     * @return the methods this translator can match, or an empty list if not known in advance
+     */
+    default @NonNull List<SystemContractMethod> matchableMethods() {
+        return List.of();
+    }
+
     /**
      * Returns a call from the given attempt.
      *
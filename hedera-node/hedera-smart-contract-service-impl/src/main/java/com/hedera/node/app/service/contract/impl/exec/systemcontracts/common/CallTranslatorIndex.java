@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
+
+import static com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.ALL_CONTRACT_ID;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable index from a (selector, system contract address) pair to the {@link CallTranslator}s that
+ * could possibly translate a call with that selector to that address.
+ *
+ * <p>The index is built once from the {@link CallTranslator#matchableMethods()} of each translator. A
+ * translator that does not declare its methods is treated as matching dynamically, and is a candidate for
+ * every call. Candidates are always returned in the order of the original translator list, so translating
+ * a call through the index gives exactly the same result as trying every translator in turn.
+ *
+ * @param <T> the type of the call attempt
+ */
+public final class CallTranslatorIndex<T> {
+    private final List<CallTranslator<T>> translators;
+    private final List<CallTranslator<T>> dynamicTranslators;
+    private final int[] selectors;
+    private final SelectorCandidates<T>[] candidates;
+
+    /**
+     * The candidates for a single selector; those for an address with no explicitly restricted methods
+     * are given by {@code anyAddress}.
+     */
+    private record SelectorCandidates<T>(
+            @NonNull List<CallTranslator<T>> anyAddress,
+            @NonNull Map<ContractID, List<CallTranslator<T>>> byAddress) {
+        List<CallTranslator<T>> forAddress(@NonNull final ContractID contractID) {
+            final var restricted = byAddress.get(contractID);
+            return restricted != null ? restricted : anyAddress;
+        }
+    }
+
+    private CallTranslatorIndex(@NonNull final List<CallTranslator<T>> translators) {
+        this.translators = List.copyOf(translators);
+        final Map<CallTranslator<T>, Map<Integer, Set<ContractID>>> addressesBySelector = new IdentityHashMap<>();
+        final Map<Integer, Set<ContractID>> restrictedAddresses = new LinkedHashMap<>();
+        final List<CallTranslator<T>> dynamic = new ArrayList<>();
+        for (final var translator : this.translators) {
+            final var methods = translator.matchableMethods();
+            if (methods.isEmpty()) {
+                dynamic.add(translator);
+                continue;
+            }
+            final Map<Integer, Set<ContractID>> translatorAddresses = new HashMap<>();
+            for (final var method : methods) {
+                final int selector = selectorOf(method.selector());
+                translatorAddresses.computeIfAbsent(selector, k -> new HashSet<>()).addAll(method.supportedAddresses());
+                final var addresses = restrictedAddresses.computeIfAbsent(selector, k -> new HashSet<>());
+                for (final var address : method.supportedAddresses()) {
+                    if (!ALL_CONTRACT_ID.equals(address)) {
+                        addresses.add(address);
+                    }
+                }
+            }
+            addressesBySelector.put(translator, translatorAddresses);
+        }
+        this.dynamicTranslators = List.copyOf(dynamic);
+
+        final int n = restrictedAddresses.size();
+        final int capacity = Integer.highestOneBit(Math.max(1, n)) << 2;
+        this.selectors = new int[capacity];
+        @SuppressWarnings("unchecked")
+        final SelectorCandidates<T>[] table = new SelectorCandidates[capacity];
+        this.candidates = table;
+        for (final var entry : restrictedAddresses.entrySet()) {
+            final int selector = entry.getKey();
+            final var anyAddress = candidatesFor(selector, ALL_CONTRACT_ID, addressesBySelector);
+            final Map<ContractID, List<CallTranslator<T>>> byAddress = new HashMap<>();
+            for (final var address : entry.getValue()) {
+                byAddress.put(address, candidatesFor(selector, address, addressesBySelector));
+            }
+            final int slot = slotOf(selector);
+            selectors[slot] = selector;
+            candidates[slot] = new SelectorCandidates<>(anyAddress, Map.copyOf(byAddress));
+        }
+    }
+
+    /**
+     * Builds the index for the given translators.
+     *
+     * @param translators the translators to index, in the order they should be tried
+     * @return the index
+     * @param <T> the type of the call attempt
+     */
+    public static <T> CallTranslatorIndex<T> from(@NonNull final List<CallTranslator<T>> translators) {
+        return new CallTranslatorIndex<>(requireNonNull(translators));
+    }
+
+    /**
+     * Returns the translators that could translate a call with the given selector to the given system
+     * contract, in the order they should be tried.
+     *
+     * @param selector the selector of the call
+     * @param contractID the system contract being called
+     * @return the candidate translators
+     */
+    public @NonNull List<CallTranslator<T>> candidatesFor(
+            @NonNull final byte[] selector, @NonNull final ContractID contractID) {
+        if (selector.length != 4) {
+            return dynamicTranslators;
+        }
+        final var match = candidates[slotOf(selectorOf(selector))];
+        return match != null ? match.forAddress(contractID) : dynamicTranslators;
+    }
+
+    /**
+     * Returns all the translators in this index, in the order they should be tried.
+     *
+     * @return all the translators
+     */
+    public @NonNull List<CallTranslator<T>> translators() {
+        return translators;
+    }
+
+    private List<CallTranslator<T>> candidatesFor(
+            final int selector,
+            @NonNull final ContractID contractID,
+            @NonNull final Map<CallTranslator<T>, Map<Integer, Set<ContractID>>> addressesBySelector) {
+        final List<CallTranslator<T>> matches = new ArrayList<>();
+        for (final var translator : translators) {
+            final var translatorAddresses = addressesBySelector.get(translator);
+            if (translatorAddresses == null) {
+                matches.add(translator);
+            } else {
+                final var addresses = translatorAddresses.get(selector);
+                if (addresses != null && (addresses.contains(ALL_CONTRACT_ID) || addresses.contains(contractID))) {
+                    matches.add(translator);
+                }
+            }
+        }
+        return List.copyOf(matches);
+    }
+
+    /**
+     * Returns the slot holding the given selector, or the empty slot where it would be placed.
+     */
+    private int slotOf(final int selector) {
+        final int mask = selectors.length - 1;
+        int slot = (selector ^ (selector >>> 16)) & mask;
+        while (candidates[slot] != null && selectors[slot] != selector) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int selectorOf(@NonNull final byte[] selector) {
+        return ((selector[0] & 0xff) << 24)
+                | ((selector[1] & 0xff) << 16)
+                | ((selector[2] & 0xff) << 8)
+                | (selector[3] & 0xff);
+    }
+}
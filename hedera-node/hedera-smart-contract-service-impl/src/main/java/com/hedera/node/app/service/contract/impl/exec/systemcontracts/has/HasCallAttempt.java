@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Call;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorIndex;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.SystemContract;
@@ -75,6 +76,38 @@ public class HasCallAttempt extends AbstractCallAttempt<HasCallAttempt> {
             @NonNull final List<CallTranslator<HasCallAttempt>> callTranslators,
             @NonNull final SystemContractMethodRegistry systemContractMethodRegistry,
             final boolean isStaticCall) {
+        this(
+                contractID,
+                input,
+                senderAddress,
+                onlyDelegatableContractKeysActive,
+                enhancement,
+                configuration,
+                addressIdConverter,
+                verificationStrategies,
+                signatureVerifier,
+                gasCalculator,
+                CallTranslatorIndex.from(callTranslators),
+                systemContractMethodRegistry,
+                isStaticCall);
+    }
+
+    // too many parameters
+    @SuppressWarnings("java:S107")
+    public HasCallAttempt(
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes input,
+            @NonNull final Address senderAddress,
+            final boolean onlyDelegatableContractKeysActive,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final Configuration configuration,
+            @NonNull final AddressIdConverter addressIdConverter,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SignatureVerifier signatureVerifier,
+            @NonNull final SystemContractGasCalculator gasCalculator,
+            @NonNull final CallTranslatorIndex<HasCallAttempt> callTranslatorIndex,
+            @NonNull final SystemContractMethodRegistry systemContractMethodRegistry,
+            final boolean isStaticCall) {
         super(
                 contractID,
                 input,
@@ -86,7 +119,7 @@ public class HasCallAttempt extends AbstractCallAttempt<HasCallAttempt> {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                callTranslators,
+                callTranslatorIndex,
                 isStaticCall,
                 systemContractMethodRegistry,
                 REDIRECT_FOR_ACCOUNT);
@@ -26,6 +26,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategi
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallAddressChecks;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallFactory;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorIndex;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.SyntheticIds;
 import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
@@ -47,7 +48,7 @@ public class HssCallFactory implements CallFactory<HssCallAttempt> {
     private final CallAddressChecks addressChecks;
     private final VerificationStrategies verificationStrategies;
     private final SignatureVerifier signatureVerifier;
-    private final List<CallTranslator<HssCallAttempt>> callTranslators;
+    private final CallTranslatorIndex<HssCallAttempt> callTranslatorIndex;
     private final SystemContractMethodRegistry systemContractMethodRegistry;
 
     @Inject
@@ -62,7 +63,7 @@ public class HssCallFactory implements CallFactory<HssCallAttempt> {
         this.addressChecks = requireNonNull(addressChecks);
         this.verificationStrategies = requireNonNull(verificationStrategies);
         this.signatureVerifier = requireNonNull(signatureVerifier);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.callTranslatorIndex = CallTranslatorIndex.from(requireNonNull(callTranslators));
         this.systemContractMethodRegistry = requireNonNull(systemContractMethodRegistry);
     }
 
@@ -94,7 +95,7 @@ public class HssCallFactory implements CallFactory<HssCallAttempt> {
                 verificationStrategies,
                 signatureVerifier,
                 systemContractGasCalculatorOf(frame),
-                callTranslators,
+                callTranslatorIndex,
                 systemContractMethodRegistry,
                 frame.isStatic());
     }
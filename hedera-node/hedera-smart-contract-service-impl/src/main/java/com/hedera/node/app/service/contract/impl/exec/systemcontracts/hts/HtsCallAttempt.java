@@ -32,6 +32,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemC
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Call;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorIndex;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod.SystemContract;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
@@ -80,6 +81,38 @@ public class HtsCallAttempt extends AbstractCallAttempt<HtsCallAttempt> {
             @NonNull final List<CallTranslator<HtsCallAttempt>> callTranslators,
             @NonNull final SystemContractMethodRegistry systemContractMethodRegistry,
             final boolean isStaticCall) {
+        this(
+                contractID,
+                input,
+                senderAddress,
+                authorizingAddress,
+                onlyDelegatableContractKeysActive,
+                enhancement,
+                configuration,
+                addressIdConverter,
+                verificationStrategies,
+                gasCalculator,
+                CallTranslatorIndex.from(callTranslators),
+                systemContractMethodRegistry,
+                isStaticCall);
+    }
+
+    // too many parameters
+    @SuppressWarnings("java:S107")
+    public HtsCallAttempt(
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes input,
+            @NonNull final Address senderAddress,
+            @NonNull final Address authorizingAddress,
+            final boolean onlyDelegatableContractKeysActive,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final Configuration configuration,
+            @NonNull final AddressIdConverter addressIdConverter,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SystemContractGasCalculator gasCalculator,
+            @NonNull final CallTranslatorIndex<HtsCallAttempt> callTranslatorIndex,
+            @NonNull final SystemContractMethodRegistry systemContractMethodRegistry,
+            final boolean isStaticCall) {
         super(
                 contractID,
                 input,
@@ -91,7 +124,7 @@ public class HtsCallAttempt extends AbstractCallAttempt<HtsCallAttempt> {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                callTranslators,
+                callTranslatorIndex,
                 isStaticCall,
                 systemContractMethodRegistry,
                 REDIRECT_FOR_TOKEN);
@@ -27,6 +27,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategi
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallAddressChecks;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallFactory;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorIndex;
 import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.CallType;
 import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethodRegistry;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -45,7 +46,7 @@ public class HtsCallFactory implements CallFactory<HtsCallAttempt> {
     private final SyntheticIds syntheticIds;
     private final CallAddressChecks addressChecks;
     private final VerificationStrategies verificationStrategies;
-    private final List<CallTranslator<HtsCallAttempt>> callTranslators;
+    private final CallTranslatorIndex<HtsCallAttempt> callTranslatorIndex;
     private final SystemContractMethodRegistry systemContractMethodRegistry;
 
     @Inject
@@ -58,7 +59,7 @@ public class HtsCallFactory implements CallFactory<HtsCallAttempt> {
         this.syntheticIds = requireNonNull(syntheticIds);
         this.addressChecks = requireNonNull(addressChecks);
         this.verificationStrategies = requireNonNull(verificationStrategies);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.callTranslatorIndex = CallTranslatorIndex.from(requireNonNull(callTranslators));
         this.systemContractMethodRegistry = requireNonNull(systemContractMethodRegistry);
     }
 
@@ -101,7 +102,7 @@ public class HtsCallFactory implements CallFactory<HtsCallAttempt> {
                 syntheticIds.converterFor(enhancement.nativeOperations()),
                 verificationStrategies,
                 systemContractGasCalculatorOf(frame),
-                callTranslators,
+                callTranslatorIndex,
                 systemContractMethodRegistry,
                 frame.isStatic());
     }
@@ -82,7 +82,7 @@ public class EthereumCallDataHydration {
             // Bytes.fromHex() doesn't appreciate a leading '0x' but we supported it in mono-service
             final byte[] callData;
             try {
-                callData = Hex.decode(removeIfAnyLeading0x(callDataFile.contents()));
+                callData = Hex.decode(removeIfAnyLeading0x(fileStore.contentsOf(callDataFile)));
             } catch (final DecoderException ignore) {
                 return failureFrom(INVALID_FILE_ID);
             }
@@ -361,9 +361,10 @@ public class HevmTransactionFactory {
             final var initcode = fileStore.getFileLeaf(body.fileIDOrElse(FileID.DEFAULT));
             validateFalse(initcode == null, INVALID_FILE_ID);
             validateFalse(initcode.deleted(), FILE_DELETED);
-            validateTrue(initcode.contents().length() > 0, CONTRACT_FILE_EMPTY);
+            final var contents = fileStore.contentsOf(initcode);
+            validateTrue(contents.length() > 0, CONTRACT_FILE_EMPTY);
             try {
-                final var hexedInitcode = new String(removeIfAnyLeading0x(initcode.contents()));
+                final var hexedInitcode = new String(removeIfAnyLeading0x(contents));
                 return Bytes.fromHex(
                         hexedInitcode + body.constructorParameters().toHex());
             } catch (IllegalArgumentException | NullPointerException ignore) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.schemas;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.BYTECODE_KEY;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.bytecodeWithHash;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.swirlds.state.lifecycle.MigrationContext;
+import com.swirlds.state.lifecycle.Schema;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.WritableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A schema that back-fills the keccak256 code hash of every contract bytecode in state that was written
+ * before code hashes were persisted alongside the code.
+ *
+ * <p>Bytecodes are hashed in parallel, one batch at a time, and the hashed bytecodes of each batch are then
+ * written back to state sequentially. A batch is only the unit of parallelism; as with any migration, every
+ * write is buffered in the {@link WritableKVState} until the migration is committed.
+ */
+public class V0590ContractSchema extends Schema {
+    private static final Logger log = LogManager.getLogger(V0590ContractSchema.class);
+
+    /**
+     * The number of bytecodes hashed in parallel before their hashes are written back to state.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(59).patch(0).build();
+
+    public V0590ContractSchema() {
+        super(VERSION);
+    }
+
+    private record NumberedBytecode(@NonNull ContractID contractId, @NonNull Bytecode bytecode) {}
+
+    @Override
+    public void migrate(@NonNull final MigrationContext ctx) {
+        requireNonNull(ctx);
+        if (ctx.previousVersion() == null) {
+            return;
+        }
+        final ReadableKVState<ContractID, Bytecode> bytecodes = ctx.previousStates().get(BYTECODE_KEY);
+        final WritableKVState<ContractID, Bytecode> writableBytecodes =
+                ctx.newStates().get(BYTECODE_KEY);
+        final var begin = Instant.now();
+        final List<NumberedBytecode> batch = new ArrayList<>(BATCH_SIZE);
+        long numBackfilled = 0;
+        for (final var iter = bytecodes.keys(); iter.hasNext(); ) {
+            final var contractId = iter.next();
+            final var bytecode = requireNonNull(bytecodes.get(contractId));
+            if (bytecode.codeHash().length() == 0) {
+                batch.add(new NumberedBytecode(contractId, bytecode));
+                if (batch.size() == BATCH_SIZE) {
+                    numBackfilled += backfill(batch, writableBytecodes);
+                }
+            }
+        }
+        numBackfilled += backfill(batch, writableBytecodes);
+        final var end = Instant.now();
+        log.info("Back-filled {} contract code hashes in {}", numBackfilled, Duration.between(begin, end));
+    }
+
+    private int backfill(
+            @NonNull final List<NumberedBytecode> batch,
+            @NonNull final WritableKVState<ContractID, Bytecode> writableBytecodes) {
+        final var hashed = batch.parallelStream()
+                .map(numbered -> new NumberedBytecode(
+                        numbered.contractId(), bytecodeWithHash(numbered.bytecode().code())))
+                .toList();
+        hashed.forEach(numbered -> writableBytecodes.put(numbered.contractId(), numbered.bytecode()));
+        batch.clear();
+        return hashed.size();
+    }
+}
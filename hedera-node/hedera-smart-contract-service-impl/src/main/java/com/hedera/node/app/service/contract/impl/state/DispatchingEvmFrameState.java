@@ -29,6 +29,8 @@ import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExcep
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.SELF_DESTRUCT_TO_SELF;
 import static com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations.MISSING_ENTITY_NUMBER;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asLongZeroAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.bytecodeWithHash;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.codeHashOf;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.isLongZero;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.maybeMissingNumberOf;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToBesuAddress;
@@ -43,7 +45,6 @@ import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.KeyList;
-import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.hapi.util.HapiUtils;
@@ -130,6 +131,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
 
     private final HederaNativeOperations nativeOperations;
     private final ContractStateStore contractStateStore;
+    private StorageSlotCache slotCache;
 
     /**
      * @param nativeOperations the Hedera native operation
@@ -138,8 +140,47 @@ public class DispatchingEvmFrameState implements EvmFrameState {
     public DispatchingEvmFrameState(
             @NonNull final HederaNativeOperations nativeOperations,
             @NonNull final ContractStateStore contractStateStore) {
+        this(nativeOperations, contractStateStore, new StorageSlotCache(null));
+    }
+
+    /**
+     * @param nativeOperations the Hedera native operation
+     * @param contractStateStore the contract store that manages the key/value states
+     * @param slotCache the cache of storage slots for this frame
+     */
+    public DispatchingEvmFrameState(
+            @NonNull final HederaNativeOperations nativeOperations,
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final StorageSlotCache slotCache) {
         this.nativeOperations = requireNonNull(nativeOperations);
         this.contractStateStore = requireNonNull(contractStateStore);
+        this.slotCache = requireNonNull(slotCache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nestWithin(@NonNull final EvmFrameState parent) {
+        if (parent instanceof DispatchingEvmFrameState dispatchingParent) {
+            slotCache = dispatchingParent.slotCache.newChild();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void commitStorageCache() {
+        slotCache.commitToParent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void revertStorageCache() {
+        slotCache.revert();
     }
 
     /**
@@ -148,8 +189,8 @@ public class DispatchingEvmFrameState implements EvmFrameState {
     @Override
     public void setStorageValue(
             @Nullable final ContractID contractID, @NonNull final UInt256 key, @NonNull final UInt256 value) {
-        final var slotKey = new SlotKey(contractID, tuweniToPbjBytes(requireNonNull(key)));
-        final var oldSlotValue = contractStateStore.getSlotValue(slotKey);
+        final var cacheKey = StorageSlotCache.keyFor(contractID, requireNonNull(key));
+        final var oldSlotValue = currentSlot(cacheKey, contractID, key).slotValue();
         if (oldSlotValue == null && value.isZero()) {
             // Small optimization---don't put zero into an empty slot
             return;
@@ -162,7 +203,10 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         // We don't call remove() here when the new value is zero, again because we
         // want to preserve the prev/next key information until the base commit; only
         // then will we remove the zeroed out slot from the K/V state
-        contractStateStore.putSlot(slotKey, slotValue);
+        contractStateStore.putSlot(new SlotKey(contractID, tuweniToPbjBytes(key)), slotValue);
+        if (cacheKey != null) {
+            slotCache.putCurrent(cacheKey, new StorageSlotCache.Slot(slotValue, value));
+        }
     }
 
     /**
@@ -170,8 +214,8 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull UInt256 getStorageValue(final ContractID contractID, @NonNull final UInt256 key) {
-        final var slotKey = new SlotKey(contractID, tuweniToPbjBytes(requireNonNull(key)));
-        return valueOrZero(contractStateStore.getSlotValue(slotKey));
+        final var cacheKey = StorageSlotCache.keyFor(contractID, requireNonNull(key));
+        return currentSlot(cacheKey, contractID, key).value();
     }
 
     /**
@@ -179,8 +223,19 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull UInt256 getOriginalStorageValue(final ContractID contractID, @NonNull final UInt256 key) {
-        final var slotKey = new SlotKey(contractID, tuweniToPbjBytes(requireNonNull(key)));
-        return valueOrZero(contractStateStore.getOriginalSlotValue(slotKey));
+        final var cacheKey = StorageSlotCache.keyFor(contractID, requireNonNull(key));
+        if (cacheKey != null) {
+            final var value = slotCache.getOriginal(cacheKey);
+            if (value != null) {
+                return value;
+            }
+        }
+        final var slotKey = new SlotKey(contractID, tuweniToPbjBytes(key));
+        final var value = valueOrZero(contractStateStore.getOriginalSlotValue(slotKey));
+        if (cacheKey != null) {
+            slotCache.putOriginal(cacheKey, value);
+        }
+        return value;
     }
 
     /**
@@ -244,8 +299,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         if (numberedBytecode == null) {
             return Hash.EMPTY;
         } else {
-            return CodeFactory.createCode(pbjToTuweniBytes(numberedBytecode.code()), 0, false)
-                    .getCodeHash();
+            return codeHashOf(numberedBytecode);
         }
     }
 
@@ -341,7 +395,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public void setCode(final ContractID contractID, @NonNull final Bytes code) {
-        contractStateStore.putBytecode(contractID, new Bytecode(tuweniToPbjBytes(requireNonNull(code))));
+        contractStateStore.putBytecode(contractID, bytecodeWithHash(tuweniToPbjBytes(requireNonNull(code))));
     }
 
     /**
@@ -632,6 +686,28 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         return account;
     }
 
+    /**
+     * Returns the current value of the given slot, from the cache if present there, and otherwise from the
+     * store, caching it if possible.
+     */
+    private StorageSlotCache.Slot currentSlot(
+            @Nullable final StorageSlotCache.Key cacheKey,
+            @Nullable final ContractID contractID,
+            @NonNull final UInt256 key) {
+        if (cacheKey != null) {
+            final var cached = slotCache.getCurrent(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final var slotValue = contractStateStore.getSlotValue(new SlotKey(contractID, tuweniToPbjBytes(key)));
+        final var slot = new StorageSlotCache.Slot(slotValue, valueOrZero(slotValue));
+        if (cacheKey != null) {
+            slotCache.putCurrent(cacheKey, slot);
+        }
+        return slot;
+    }
+
     private UInt256 valueOrZero(@Nullable final SlotValue slotValue) {
         return (slotValue == null) ? UInt256.ZERO : pbjToTuweniUInt256(slotValue.value());
     }
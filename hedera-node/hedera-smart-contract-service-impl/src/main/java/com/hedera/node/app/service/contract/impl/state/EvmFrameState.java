@@ -45,6 +45,32 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
  * types, implementations might need to do internal caching to avoid excessive conversions.
  */
 public interface EvmFrameState {
+    /**
+     * Called when this frame state is created for a child scope of the given parent frame state, so
+     * that any storage slots the parent has cached remain visible to this frame state.
+     *
+     * @param parent the frame state of the parent scope
+     */
+    default void nestWithin(@NonNull final EvmFrameState parent) {
+        // No-op by default
+    }
+
+    /**
+     * Called when the changes made in this frame state's scope have been committed into its parent's
+     * scope, so any cached storage slots can be handed over to the parent frame state.
+     */
+    default void commitStorageCache() {
+        // No-op by default
+    }
+
+    /**
+     * Called when the changes made in this frame state's scope have been reverted, so any storage slots
+     * cached in this scope must be discarded.
+     */
+    default void revertStorageCache() {
+        // No-op by default
+    }
+
     /**
      * Returns the number of bytecodes in state; we use this to enforce the contract creation
      * limit.
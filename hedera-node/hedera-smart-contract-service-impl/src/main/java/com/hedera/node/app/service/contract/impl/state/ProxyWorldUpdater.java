@@ -121,6 +121,9 @@ public class ProxyWorldUpdater implements HederaWorldUpdater {
         this.enhancement = requireNonNull(enhancement);
         this.evmFrameStateFactory = requireNonNull(evmFrameStateFactory);
         this.evmFrameState = evmFrameStateFactory.get();
+        if (parent instanceof ProxyWorldUpdater proxyParent) {
+            evmFrameState.nestWithin(proxyParent.evmFrameState);
+        }
     }
 
     /**
@@ -378,8 +381,10 @@ public class ProxyWorldUpdater implements HederaWorldUpdater {
     public void revert() {
         // It might seem like we should have a call to evmFrameState.revert() here; but remember the
         // EvmFrameState is just a convenience wrapper around the scope to let us use Besu types, and
-        // ultimately the HederaOperations is the one tracking and managing all changes
+        // ultimately the HederaOperations is the one tracking and managing all changes (the frame
+        // state only has to drop the storage slots it cached in this scope)
         enhancement.operations().revert();
+        evmFrameState.revertStorageCache();
         // Because of the revert-then-commit pattern that Besu uses for force deletions in
         // AbstractMessageProcessor#clearAccumulatedStateBesidesGasAndOutput(), we have
         // to take special measures here to avoid popping the savepoint stack twice for
@@ -406,6 +411,7 @@ public class ProxyWorldUpdater implements HederaWorldUpdater {
         // ultimately the HederaOperations is the one tracking and managing all changes
         if (!reverted) {
             enhancement.operations().commit();
+            evmFrameState.commitStorageCache();
         }
     }
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * A cache of the storage slots read and written through a {@link DispatchingEvmFrameState}, keyed by the
+ * contract number and the four longs of the 256-bit slot key, so repeated {@code SLOAD}s of a slot skip
+ * the conversion to a PBJ {@link com.hedera.hapi.node.state.contract.SlotKey} and the lookup through the
+ * {@link ContractStateStore}.
+ *
+ * <p>Caches are layered to mirror the savepoint stack of the frames' {@link ContractStateStore}s. Each
+ * child frame gets its own layer on top of its parent's; when the child's scope is committed, its layer is
+ * merged into the parent's, and when it is reverted, its layer is discarded. All layers of a transaction
+ * share the cache of original (start of transaction) values, since those never change.
+ *
+ * <p>The cache is write-through; every change is still put into the {@link ContractStateStore} as it is
+ * made, so the store's savepoints and {@link ContractStateStore#getModifiedSlotKeys()} are unaffected.
+ */
+public class StorageSlotCache {
+    /**
+     * The key of a cached slot.
+     *
+     * @param contractNumber the number of the contract owning the slot
+     * @param key0 the most significant eight bytes of the slot key
+     * @param key1 the next eight bytes of the slot key
+     * @param key2 the next eight bytes of the slot key
+     * @param key3 the least significant eight bytes of the slot key
+     */
+    public record Key(long contractNumber, long key0, long key1, long key2, long key3) {}
+
+    /**
+     * A cached slot.
+     *
+     * @param slotValue the slot's value in state, or null if the slot is not in state
+     * @param value the slot's value as a word
+     */
+    public record Slot(@Nullable SlotValue slotValue, @NonNull UInt256 value) {}
+
+    @Nullable
+    private final StorageSlotCache parent;
+
+    @Nullable
+    private final ContractMetrics contractMetrics;
+
+    private final Map<Key, UInt256> originalValues;
+    private final Map<Key, Slot> currentSlots = new HashMap<>();
+
+    /**
+     * Creates a new root cache.
+     *
+     * @param contractMetrics if not null, the metrics to report cache hits and misses to
+     */
+    public StorageSlotCache(@Nullable final ContractMetrics contractMetrics) {
+        this(null, contractMetrics, new HashMap<>());
+    }
+
+    private StorageSlotCache(
+            @Nullable final StorageSlotCache parent,
+            @Nullable final ContractMetrics contractMetrics,
+            @NonNull final Map<Key, UInt256> originalValues) {
+        this.parent = parent;
+        this.contractMetrics = contractMetrics;
+        this.originalValues = originalValues;
+    }
+
+    /**
+     * Returns the cache key for the given slot, or null if the slot cannot be cached because its contract
+     * is not identified by number.
+     *
+     * @param contractID the contract owning the slot
+     * @param key the slot key
+     * @return the cache key, or null if the slot cannot be cached
+     */
+    public static @Nullable Key keyFor(@Nullable final ContractID contractID, @NonNull final UInt256 key) {
+        if (contractID == null || !contractID.hasContractNum()) {
+            return null;
+        }
+        return new Key(contractID.contractNumOrThrow(), key.getLong(0), key.getLong(8), key.getLong(16), key.getLong(24));
+    }
+
+    /**
+     * Returns a new cache layered on top of this one, for the scope of a child frame.
+     *
+     * @return the child cache
+     */
+    public @NonNull StorageSlotCache newChild() {
+        return new StorageSlotCache(this, contractMetrics, originalValues);
+    }
+
+    /**
+     * Returns the current value of the given slot, if it is cached in this layer or any parent layer.
+     *
+     * @param key the slot's cache key
+     * @return the cached slot, or null if not cached
+     */
+    public @Nullable Slot getCurrent(@NonNull final Key key) {
+        for (var layer = this; layer != null; layer = layer.parent) {
+            final var slot = layer.currentSlots.get(key);
+            if (slot != null) {
+                recordLookup(true);
+                return slot;
+            }
+        }
+        recordLookup(false);
+        return null;
+    }
+
+    /**
+     * Caches the current value of the given slot in this layer.
+     *
+     * @param key the slot's cache key
+     * @param slot the slot's current value
+     */
+    public void putCurrent(@NonNull final Key key, @NonNull final Slot slot) {
+        currentSlots.put(requireNonNull(key), requireNonNull(slot));
+    }
+
+    /**
+     * Returns the original value of the given slot, if it is cached.
+     *
+     * @param key the slot's cache key
+     * @return the original value, or null if not cached
+     */
+    public @Nullable UInt256 getOriginal(@NonNull final Key key) {
+        final var value = originalValues.get(key);
+        recordLookup(value != null);
+        return value;
+    }
+
+    /**
+     * Caches the original value of the given slot.
+     *
+     * @param key the slot's cache key
+     * @param value the slot's original value
+     */
+    public void putOriginal(@NonNull final Key key, @NonNull final UInt256 value) {
+        originalValues.put(requireNonNull(key), requireNonNull(value));
+    }
+
+    /**
+     * Merges the slots cached in this layer into the parent layer, since the changes made in this scope
+     * have been committed into the parent scope. A root cache keeps its slots.
+     */
+    public void commitToParent() {
+        if (parent != null) {
+            parent.currentSlots.putAll(currentSlots);
+            currentSlots.clear();
+        }
+    }
+
+    /**
+     * Discards the slots cached in this layer, since the changes made in this scope have been reverted.
+     */
+    public void revert() {
+        currentSlots.clear();
+    }
+
+    private void recordLookup(final boolean hit) {
+        if (contractMetrics != null) {
+            contractMetrics.incrementStorageSlotCacheLookup(hit);
+        }
+    }
+}
@@ -39,6 +39,7 @@ import com.hedera.hapi.node.base.ScheduleID;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.contract.ContractCreateTransactionBody;
 import com.hedera.hapi.node.contract.ContractLoginfo;
+import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.ExchangeRate;
 import com.hedera.hapi.streams.ContractStateChange;
@@ -290,6 +291,34 @@ public class ConversionUtils {
         return org.hyperledger.besu.datatypes.Hash.wrap(Bytes32.wrap(prefixBytes));
     }
 
+    /**
+     * Returns a {@link Bytecode} with the given code and its keccak256 code hash, so the hash never needs
+     * to be recomputed from the code.
+     *
+     * @param code the contract code
+     * @return the {@link Bytecode} with the code and its hash
+     */
+    public static Bytecode bytecodeWithHash(@NonNull final com.hedera.pbj.runtime.io.buffer.Bytes code) {
+        requireNonNull(code);
+        return new Bytecode(code, tuweniToPbjBytes(Hash.hash(pbjToTuweniBytes(code))));
+    }
+
+    /**
+     * Returns the keccak256 code hash persisted in the given {@link Bytecode}, computing it from the code only
+     * if the bytecode was written before code hashes were persisted.
+     *
+     * @param bytecode the bytecode
+     * @return its code hash
+     */
+    public static Hash codeHashOf(@NonNull final Bytecode bytecode) {
+        requireNonNull(bytecode);
+        final var codeHash = bytecode.codeHash();
+        if (codeHash.length() == Bytes32.SIZE) {
+            return Hash.wrap(Bytes32.wrap(pbjToTuweniBytes(codeHash)));
+        }
+        return Hash.hash(pbjToTuweniBytes(bytecode.code()));
+    }
+
     /**
      * Given a list of {@link StorageAccesses}, converts them to a PBJ {@link ContractStateChanges}.
      *
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.systemcontracts.common;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemContract.HTS_167_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.HtsSystemContract.HTS_16C_CONTRACT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorIndex;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.utils.SystemContractMethod;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CallTranslatorIndexTest {
+    private static final SystemContractMethod NAME = SystemContractMethod.declare("name()", "(string)");
+    private static final SystemContractMethod SYMBOL = SystemContractMethod.declare("symbol()", "(string)");
+    private static final SystemContractMethod TYPE_V1 =
+            SystemContractMethod.declare("getTokenType(address)", "(int64,int32)")
+                    .withSupportedAddress(HTS_167_CONTRACT_ID);
+    private static final SystemContractMethod TYPE_V2 =
+            SystemContractMethod.declare("getTokenType(address)", "(int64,int32)")
+                    .withSupportedAddress(HTS_16C_CONTRACT_ID);
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> nameTranslator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> dynamicTranslator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> symbolTranslator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> typeV1Translator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> typeV2Translator;
+
+    private CallTranslatorIndex<HtsCallAttempt> subject;
+
+    @BeforeEach
+    void setUp() {
+        given(nameTranslator.matchableMethods()).willReturn(List.of(NAME));
+        given(dynamicTranslator.matchableMethods()).willReturn(List.of());
+        given(symbolTranslator.matchableMethods()).willReturn(List.of(SYMBOL, NAME));
+        given(typeV1Translator.matchableMethods()).willReturn(List.of(TYPE_V1));
+        given(typeV2Translator.matchableMethods()).willReturn(List.of(TYPE_V2));
+        subject = CallTranslatorIndex.from(
+                List.of(nameTranslator, dynamicTranslator, symbolTranslator, typeV1Translator, typeV2Translator));
+    }
+
+    @Test
+    void keepsOriginalOrderForSharedSelectors() {
+        assertThat(subject.candidatesFor(NAME.selector(), HTS_167_CONTRACT_ID))
+                .containsExactly(nameTranslator, dynamicTranslator, symbolTranslator);
+        assertThat(subject.candidatesFor(SYMBOL.selector(), HTS_16C_CONTRACT_ID))
+                .containsExactly(dynamicTranslator, symbolTranslator);
+    }
+
+    @Test
+    void onlyIncludesTranslatorsSupportingTheCalledAddress() {
+        assertThat(subject.candidatesFor(TYPE_V1.selector(), HTS_167_CONTRACT_ID))
+                .containsExactly(dynamicTranslator, typeV1Translator);
+        assertThat(subject.candidatesFor(TYPE_V2.selector(), HTS_16C_CONTRACT_ID))
+                .containsExactly(dynamicTranslator, typeV2Translator);
+    }
+
+    @Test
+    void unknownOrTruncatedSelectorsOnlyMatchDynamicTranslators() {
+        assertThat(subject.candidatesFor(new byte[] {1, 2, 3, 4}, HTS_167_CONTRACT_ID))
+                .containsExactly(dynamicTranslator);
+        assertThat(subject.candidatesFor(new byte[] {1, 2}, HTS_167_CONTRACT_ID))
+                .containsExactly(dynamicTranslator);
+    }
+
+    @Test
+    void retainsAllTranslators() {
+        assertThat(subject.translators())
+                .containsExactly(nameTranslator, dynamicTranslator, symbolTranslator, typeV1Translator, typeV2Translator);
+    }
+}
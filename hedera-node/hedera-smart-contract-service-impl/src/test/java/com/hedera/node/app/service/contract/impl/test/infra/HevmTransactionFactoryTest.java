@@ -410,8 +410,9 @@ class HevmTransactionFactoryTest {
 
     @Test
     void fromHapiCreationValidatesInitcodeNotEmpty() {
-        given(fileStore.getFileLeaf(INITCODE_FILE_ID))
-                .willReturn(File.newBuilder().build());
+        final var file = File.newBuilder().build();
+        given(fileStore.getFileLeaf(INITCODE_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         assertCreateFailsWith(CONTRACT_FILE_EMPTY, b -> b.memo(SOME_MEMO)
                 .adminKey(AN_ED25519_KEY)
                 .fileID(INITCODE_FILE_ID)
@@ -434,8 +435,9 @@ class HevmTransactionFactoryTest {
 
     @Test
     void fromHapiCreationTranslatesHexParsingException() {
-        given(fileStore.getFileLeaf(INITCODE_FILE_ID))
-                .willReturn(File.newBuilder().contents(CALL_DATA).build());
+        final var file = File.newBuilder().contents(CALL_DATA).build();
+        given(fileStore.getFileLeaf(INITCODE_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         assertCreateFailsWith(ERROR_DECODING_BYTESTRING, b -> b.memo(SOME_MEMO)
                 .adminKey(AN_ED25519_KEY)
                 .constructorParameters(Bytes.wrap(new byte[] {(byte) 0xab}))
@@ -472,8 +474,9 @@ class HevmTransactionFactoryTest {
 
     @Test
     void fromHapiCreationAppendsConstructorArgsIfPresent() {
-        given(fileStore.getFileLeaf(INITCODE_FILE_ID))
-                .willReturn(File.newBuilder().contents(INITCODE).build());
+        final var file = File.newBuilder().contents(INITCODE).build();
+        given(fileStore.getFileLeaf(INITCODE_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         String hexedPayload = new String(INITCODE.toByteArray()) + CommonUtils.hex(CONSTRUCTOR_PARAMS.toByteArray());
         final var expectedPayload = Bytes.wrap(CommonUtils.unhex(hexedPayload));
         final var transaction = getManufacturedCreation(b -> b.memo(SOME_MEMO)
@@ -499,10 +502,11 @@ class HevmTransactionFactoryTest {
 
     @Test
     void fromHapiCreationSkips0xPrefixFromInitcodeIfPresent() {
-        given(fileStore.getFileLeaf(INITCODE_FILE_ID))
-                .willReturn(File.newBuilder()
+        final var file = File.newBuilder()
                         .contents(Bytes.wrap("0x" + new String(INITCODE.toByteArray())))
-                        .build());
+                        .build();
+        given(fileStore.getFileLeaf(INITCODE_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         String hexedPayload = new String(INITCODE.toByteArray()) + CommonUtils.hex(CONSTRUCTOR_PARAMS.toByteArray());
         final var expectedPayload = Bytes.wrap(CommonUtils.unhex(hexedPayload));
         final var transaction = getManufacturedCreation(b -> b.memo(SOME_MEMO)
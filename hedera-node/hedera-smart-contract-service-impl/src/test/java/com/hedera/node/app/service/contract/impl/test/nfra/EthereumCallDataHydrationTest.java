@@ -117,8 +117,9 @@ class EthereumCallDataHydrationTest {
 
     @Test
     void failsWithInvalidFileIdOnUnparseableCallDataFile() {
-        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID))
-                .willReturn(File.newBuilder().contents(Bytes.wrap("xyz")).build());
+        final var file = File.newBuilder().contents(Bytes.wrap("xyz")).build();
+        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         final var ethTxn = EthereumTransactionBody.newBuilder()
                 .ethereumData(ETH_WITH_TO_ADDRESS)
                 .callData(ETH_CALLDATA_FILE_ID)
@@ -130,8 +131,9 @@ class EthereumCallDataHydrationTest {
 
     @Test
     void failsWithInvalidFileIdOnEmptyCallDataFile() {
-        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID))
-                .willReturn(File.newBuilder().contents(Bytes.EMPTY).build());
+        final var file = File.newBuilder().contents(Bytes.EMPTY).build();
+        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         final var ethTxn = EthereumTransactionBody.newBuilder()
                 .ethereumData(ETH_WITH_TO_ADDRESS)
                 .callData(ETH_CALLDATA_FILE_ID)
@@ -145,9 +147,9 @@ class EthereumCallDataHydrationTest {
     void replacesCallDataIfAppropriate() {
         final var hexedCallData = Hex.encode(CALL_DATA.toByteArray());
         final var expectedData = ETH_DATA_WITH_TO_ADDRESS.replaceCallData(CALL_DATA.toByteArray());
-        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID))
-                .willReturn(
-                        File.newBuilder().contents(Bytes.wrap(hexedCallData)).build());
+        final var file = File.newBuilder().contents(Bytes.wrap(hexedCallData)).build();
+        given(fileStore.getFileLeaf(ETH_CALLDATA_FILE_ID)).willReturn(file);
+        given(fileStore.contentsOf(file)).willReturn(file.contents());
         final var ethTxn = EthereumTransactionBody.newBuilder()
                 .ethereumData(ETH_WITH_TO_ADDRESS)
                 .callData(ETH_CALLDATA_FILE_ID)
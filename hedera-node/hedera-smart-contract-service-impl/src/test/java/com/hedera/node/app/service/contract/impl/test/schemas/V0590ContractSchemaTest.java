@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.schemas;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.BYTECODE_KEY;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.hedera.node.app.service.contract.impl.schemas.V0590ContractSchema;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.lifecycle.MigrationContext;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import com.swirlds.state.test.fixtures.MapReadableStates;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import com.swirlds.state.test.fixtures.MapWritableStates;
+import java.util.HashMap;
+import java.util.Map;
+import org.hyperledger.besu.datatypes.Hash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("V059 code hash back-fill")
+@ExtendWith(MockitoExtension.class)
+class V0590ContractSchemaTest {
+    private static final int NUM_CONTRACTS = 1500;
+    private static final SemanticVersion PREVIOUS_VERSION =
+            SemanticVersion.newBuilder().minor(58).build();
+
+    private final Map<ContractID, Bytecode> bytecodes = new HashMap<>();
+    private final MapWritableKVState<ContractID, Bytecode> writableBytecodes =
+            new MapWritableKVState<>(BYTECODE_KEY, bytecodes);
+    private final MapReadableKVState<ContractID, Bytecode> readableBytecodes =
+            new MapReadableKVState<>(BYTECODE_KEY, bytecodes);
+    private final MapReadableStates readableStates =
+            MapReadableStates.builder().state(readableBytecodes).build();
+    private final MapWritableStates writableStates =
+            MapWritableStates.builder().state(writableBytecodes).build();
+
+    @Mock
+    private MigrationContext ctx;
+
+    private final V0590ContractSchema subject = new V0590ContractSchema();
+
+    @Test
+    @DisplayName("back-fills missing code hashes in every batch")
+    void backfillsMissingCodeHashes() {
+        givenMigrationFromPreviousVersion();
+        for (int i = 1; i <= NUM_CONTRACTS; i++) {
+            bytecodes.put(contractIdOf(i), Bytecode.newBuilder().code(codeOf(i)).build());
+        }
+
+        subject.migrate(ctx);
+        writableStates.commit();
+
+        assertThat(bytecodes).hasSize(NUM_CONTRACTS);
+        for (int i = 1; i <= NUM_CONTRACTS; i++) {
+            final var code = codeOf(i);
+            assertThat(bytecodes)
+                    .containsEntry(
+                            contractIdOf(i),
+                            new Bytecode(code, tuweniToPbjBytes(Hash.hash(pbjToTuweniBytes(code)))));
+        }
+    }
+
+    @Test
+    @DisplayName("leaves persisted code hashes as-is")
+    void leavesPersistedCodeHashes() {
+        givenMigrationFromPreviousVersion();
+        final var persisted = new Bytecode(codeOf(1), Bytes.wrap(new byte[32]));
+        bytecodes.put(contractIdOf(1), persisted);
+
+        subject.migrate(ctx);
+        writableStates.commit();
+
+        assertThat(bytecodes).containsEntry(contractIdOf(1), persisted);
+    }
+
+    @Test
+    @DisplayName("does nothing at genesis")
+    void doesNothingAtGenesis() {
+        subject.migrate(ctx);
+
+        assertThat(bytecodes).isEmpty();
+    }
+
+    private void givenMigrationFromPreviousVersion() {
+        given(ctx.previousVersion()).willReturn(PREVIOUS_VERSION);
+        given(ctx.previousStates()).willReturn(readableStates);
+        given(ctx.newStates()).willReturn(writableStates);
+    }
+
+    private static ContractID contractIdOf(final long number) {
+        return ContractID.newBuilder().contractNum(number).build();
+    }
+
+    private static Bytes codeOf(final long number) {
+        return Bytes.wrap(("CODE-" + number).getBytes());
+    }
+}
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.contract.impl.test.state;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.BDDMockito.given;
 
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
@@ -41,11 +42,14 @@ class DispatchingEvmFrameStateFactoryTest {
     @Mock
     private ContractStateStore store;
 
+    @Mock
+    private ContractMetrics contractMetrics;
+
     private ScopedEvmFrameStateFactory subject;
 
     @BeforeEach
     void setUp() {
-        subject = new ScopedEvmFrameStateFactory(scope, extFrameScope);
+        subject = new ScopedEvmFrameStateFactory(scope, extFrameScope, contractMetrics);
     }
 
     @Test
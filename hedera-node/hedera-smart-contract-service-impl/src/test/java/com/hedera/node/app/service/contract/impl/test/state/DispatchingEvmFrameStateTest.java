@@ -41,6 +41,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -172,7 +173,10 @@ class DispatchingEvmFrameStateTest {
 
     @Test
     void extFrameScopeesToSetCode() {
-        final var expectedCode = Bytecode.newBuilder().code(SOME_PRETEND_CODE).build();
+        final var expectedCode = Bytecode.newBuilder()
+                .code(SOME_PRETEND_CODE)
+                .codeHash(tuweniToPbjBytes(SOME_PRETEND_CODE_HASH))
+                .build();
 
         subject.setCode(A_CONTRACT_ID, pbjToTuweniBytes(SOME_PRETEND_CODE));
 
@@ -199,6 +203,85 @@ class DispatchingEvmFrameStateTest {
         assertEquals(expectedWord, actualWord);
     }
 
+    @Test
+    void cachesRepeatedStorageReads() {
+        given(contractStateStore.getSlotValue(A_SLOT_KEY)).willReturn(A_SLOT_VALUE);
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.getStorageValue(A_CONTRACT_ID, key);
+        final var actualWord = subject.getStorageValue(A_CONTRACT_ID, key);
+
+        assertEquals(pbjToTuweniUInt256(A_STORAGE_VALUE), actualWord);
+        verify(contractStateStore, times(1)).getSlotValue(A_SLOT_KEY);
+    }
+
+    @Test
+    void cachesRepeatedOriginalStorageReads() {
+        given(contractStateStore.getOriginalSlotValue(A_SLOT_KEY)).willReturn(A_SLOT_VALUE);
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.getOriginalStorageValue(A_CONTRACT_ID, key);
+        final var actualWord = subject.getOriginalStorageValue(A_CONTRACT_ID, key);
+
+        assertEquals(pbjToTuweniUInt256(A_STORAGE_VALUE), actualWord);
+        verify(contractStateStore, times(1)).getOriginalSlotValue(A_SLOT_KEY);
+    }
+
+    @Test
+    void readsWrittenValueFromCache() {
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.setStorageValue(A_CONTRACT_ID, key, UInt256.ONE);
+        final var actualWord = subject.getStorageValue(A_CONTRACT_ID, key);
+
+        assertEquals(UInt256.ONE, actualWord);
+        verify(contractStateStore, times(1)).getSlotValue(A_SLOT_KEY);
+    }
+
+    @Test
+    void committedChildScopeHandsCachedWritesToParent() {
+        final var childStore = mock(ContractStateStore.class);
+        final var child = new DispatchingEvmFrameState(nativeOperations, childStore);
+        child.nestWithin(subject);
+        given(contractStateStore.getSlotValue(A_SLOT_KEY)).willReturn(A_SLOT_VALUE);
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.getStorageValue(A_CONTRACT_ID, key);
+        child.setStorageValue(A_CONTRACT_ID, key, UInt256.ONE);
+        child.commitStorageCache();
+
+        assertEquals(UInt256.ONE, subject.getStorageValue(A_CONTRACT_ID, key));
+        verify(contractStateStore, times(1)).getSlotValue(A_SLOT_KEY);
+        verify(childStore).putSlot(eq(A_SLOT_KEY), any());
+        verifyNoMoreInteractions(childStore);
+    }
+
+    @Test
+    void revertedChildScopeDiscardsCachedWrites() {
+        final var childStore = mock(ContractStateStore.class);
+        final var child = new DispatchingEvmFrameState(nativeOperations, childStore);
+        child.nestWithin(subject);
+        given(contractStateStore.getSlotValue(A_SLOT_KEY)).willReturn(A_SLOT_VALUE);
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.getStorageValue(A_CONTRACT_ID, key);
+        child.setStorageValue(A_CONTRACT_ID, key, UInt256.ONE);
+        child.revertStorageCache();
+
+        assertEquals(pbjToTuweniUInt256(A_STORAGE_VALUE), subject.getStorageValue(A_CONTRACT_ID, key));
+        assertEquals(pbjToTuweniUInt256(A_STORAGE_VALUE), child.getStorageValue(A_CONTRACT_ID, key));
+    }
+
+    @Test
+    void doesNotCacheSlotsOfUnnumberedContracts() {
+        final var key = pbjToTuweniUInt256(A_STORAGE_KEY);
+
+        subject.getStorageValue(null, key);
+        subject.getStorageValue(null, key);
+
+        verify(contractStateStore, times(2)).getSlotValue(new SlotKey(null, A_STORAGE_KEY));
+    }
+
     @Test
     void summarizesModificationsAsExpected() {
         final List<StorageAccesses> expected = List.of(
@@ -403,7 +486,7 @@ class DispatchingEvmFrameStateTest {
 
     @Test
     void getsEmptyCodeForNull() {
-        given(contractStateStore.getBytecode(A_CONTRACT_ID)).willReturn(new Bytecode(null));
+        given(contractStateStore.getBytecode(A_CONTRACT_ID)).willReturn(new Bytecode(null, null));
 
         final var actualCode = subject.getCode(A_CONTRACT_ID);
 
@@ -419,6 +502,20 @@ class DispatchingEvmFrameStateTest {
         assertEquals(SOME_PRETEND_CODE_HASH, actualCodeHash);
     }
 
+    @Test
+    void getsPersistedCodeHashWithoutRehashing() {
+        final var persistedHash = Hash.hash(org.apache.tuweni.bytes.Bytes.of(1, 2, 3));
+        given(contractStateStore.getBytecode(A_CONTRACT_ID))
+                .willReturn(SOME_PRETEND_BYTECODE
+                        .copyBuilder()
+                        .codeHash(tuweniToPbjBytes(persistedHash))
+                        .build());
+
+        final var actualCodeHash = subject.getCodeHash(A_CONTRACT_ID);
+
+        assertEquals(persistedHash, actualCodeHash);
+    }
+
     @Test
     void getsEmptyCodeHashForMissing() {
         final var actualCodeHash = subject.getCodeHash(A_CONTRACT_ID);
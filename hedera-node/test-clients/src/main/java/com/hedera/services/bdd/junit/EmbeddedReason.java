@@ -33,4 +33,9 @@ public enum EmbeddedReason {
      * The test manipulates the software version of the simulated consensus event for a transaction.
      */
     MANIPULATES_EVENT_VERSION,
+    /**
+     * The test drives load through the embedded node in-process and reads its metrics, to measure the node itself
+     * rather than the gRPC layer and network in front of it.
+     */
+    DRIVES_LOAD_IN_PROCESS,
 }
@@ -224,6 +224,11 @@ public abstract class AbstractEmbeddedHedera implements EmbeddedHedera {
         executorService.shutdownNow();
     }
 
+    @Override
+    public Metrics metrics() {
+        return metrics;
+    }
+
     @Override
     public FakeState state() {
         return state;
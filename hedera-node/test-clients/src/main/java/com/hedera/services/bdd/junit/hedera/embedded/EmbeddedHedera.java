@@ -27,6 +27,7 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.components.transaction.system.ScopedSystemTransaction;
 import com.swirlds.platform.system.SoftwareVersion;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -94,6 +95,12 @@ public interface EmbeddedHedera {
      */
     Roster roster();
 
+    /**
+     * Returns the metrics of the embedded Hedera node.
+     * @return the metrics of the embedded Hedera node
+     */
+    Metrics metrics();
+
     /**
      * Advances the synthetic time in the embedded Hedera node by a given duration.
      */
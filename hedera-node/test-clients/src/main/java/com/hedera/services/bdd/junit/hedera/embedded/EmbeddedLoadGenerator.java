@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.services.bdd.junit.hedera.embedded;
+
+import static com.hedera.node.app.hapi.utils.CommonUtils.extractTransactionBodyUnchecked;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionGetReceiptQuery;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.metrics.api.Metric;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An open-loop load generator that drives a weighted mix of transactions through the ingest workflow of an
+ * {@link EmbeddedHedera} at a fixed target rate, and reports throughput and ingest-to-record latency.
+ * <p>
+ * Submissions are scheduled at fixed intervals from the start of the run and never wait for earlier submissions to
+ * be handled, so a slow node shows up as growing latency rather than as a lower offered rate. Each accepted
+ * transaction is tracked until its receipt is available from the node's receipt query, which marks it as handled.
+ * <p>
+ * Receipts are polled round-robin over all pending transactions by several threads, so a transaction that is never
+ * handled does not hold back the others. Each latency is measured up to the poll that found the receipt, so it
+ * includes up to one round of receipt queries over the pending transactions.
+ * <p>
+ * Only submissions scheduled after the warmup period are counted in the {@link LoadReport}.
+ */
+public class EmbeddedLoadGenerator {
+    private static final Logger log = LogManager.getLogger(EmbeddedLoadGenerator.class);
+    private static final long RECEIPT_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    /**
+     * The shape of the offered load.
+     *
+     * @param targetTps the number of transactions to submit per second
+     * @param warmup how long to submit before measuring
+     * @param duration how long to measure after the warmup
+     * @param drainTimeout how long to wait for accepted transactions to be handled after the last submission
+     * @param submitThreads the number of threads building and submitting transactions
+     * @param receiptPollThreads the number of threads polling the receipts of accepted transactions
+     * @param seed the seed used to choose from the transaction mix, so runs are repeatable
+     */
+    public record LoadProfile(
+            double targetTps,
+            @NonNull Duration warmup,
+            @NonNull Duration duration,
+            @NonNull Duration drainTimeout,
+            int submitThreads,
+            int receiptPollThreads,
+            long seed) {
+        public LoadProfile {
+            if (targetTps <= 0) {
+                throw new IllegalArgumentException("Target TPS must be positive, was " + targetTps);
+            }
+            if (submitThreads <= 0) {
+                throw new IllegalArgumentException("Submit threads must be positive, was " + submitThreads);
+            }
+            if (receiptPollThreads <= 0) {
+                throw new IllegalArgumentException("Receipt poll threads must be positive, was " + receiptPollThreads);
+            }
+            requireNonNull(warmup);
+            requireNonNull(duration);
+            requireNonNull(drainTimeout);
+        }
+    }
+
+    /**
+     * One kind of transaction in the mix.
+     *
+     * @param name the name used for this kind of transaction in the report
+     * @param weight the relative frequency of this kind of transaction
+     * @param transactions a thread-safe source of new signed transactions, each with a unique transaction id
+     */
+    public record MixEntry(@NonNull String name, int weight, @NonNull Supplier<Transaction> transactions) {
+        public MixEntry {
+            requireNonNull(name);
+            requireNonNull(transactions);
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight of '" + name + "' must be positive, was " + weight);
+            }
+        }
+    }
+
+    /**
+     * The results of a run.
+     *
+     * @param targetTps the offered rate
+     * @param measuredSeconds the length of the measurement window
+     * @param submitted the number of transactions submitted in the measurement window
+     * @param accepted the number of submitted transactions accepted by ingest
+     * @param throttled the number of submitted transactions rejected by ingest as {@code BUSY}
+     * @param handled the number of accepted transactions whose receipt became available
+     * @param unhandled the number of accepted transactions still without a receipt after the drain timeout
+     * @param submittedTps submitted transactions per second of the measurement window
+     * @param acceptedTps accepted transactions per second of the measurement window
+     * @param throttledTps throttled transactions per second of the measurement window
+     * @param handledTps handled transactions per second, from the start of measurement to the last handled
+     * @param submittedByType the number of transactions submitted per mix entry
+     * @param rejectedByStatus the number of transactions rejected by ingest, per status other than {@code BUSY}
+     * @param latencyMillis percentiles of the ingest-to-record latency, keyed by percentile
+     * @param scheduleLagMillis percentiles of the delay between the scheduled and actual submission times
+     * @param nodeMetrics the numeric node metrics at the end of the run, keyed by category and name
+     */
+    public record LoadReport(
+            double targetTps,
+            double measuredSeconds,
+            long submitted,
+            long accepted,
+            long throttled,
+            long handled,
+            long unhandled,
+            double submittedTps,
+            double acceptedTps,
+            double throttledTps,
+            double handledTps,
+            @NonNull Map<String, Long> submittedByType,
+            @NonNull Map<String, Long> rejectedByStatus,
+            @NonNull Map<String, Double> latencyMillis,
+            @NonNull Map<String, Double> scheduleLagMillis,
+            @NonNull Map<String, Object> nodeMetrics) {
+
+        /**
+         * Writes this report as pretty-printed JSON to the given path.
+         *
+         * @param path the path to write to
+         */
+        public void writeJson(@NonNull final Path path) {
+            requireNonNull(path);
+            try {
+                final var parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to write load report to " + path, e);
+            }
+        }
+    }
+
+    /**
+     * An accepted transaction waiting for its receipt.
+     *
+     * @param transactionId the id of the transaction
+     * @param submittedNanos when the transaction was submitted
+     * @param measured whether the transaction was submitted in the measurement window
+     * @param lastPolledNanos when the receipt was last queried, or the submission time if it has not been queried
+     */
+    private record Pending(
+            @NonNull TransactionID transactionId, long submittedNanos, boolean measured, long lastPolledNanos) {
+        Pending polledAt(final long nanos) {
+            return new Pending(transactionId, submittedNanos, measured, nanos);
+        }
+    }
+
+    private final EmbeddedHedera embeddedHedera;
+    private final AccountID nodeAccountId;
+    private final LoadProfile profile;
+    private final List<MixEntry> mix;
+    private final int totalWeight;
+
+    private final ConcurrentLinkedQueue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final Map<String, LongAdder> submittedByType = new ConcurrentHashMap<>();
+    private final Map<ResponseCodeEnum, LongAdder> rejectedByStatus = new ConcurrentHashMap<>();
+    private final LatencyRecorder scheduleLags = new LatencyRecorder();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicLong lastHandledNanos = new AtomicLong();
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder unhandled = new LongAdder();
+    private volatile boolean submissionsDone;
+
+    /**
+     * Creates a generator that submits the given mix to the given node of the embedded network.
+     *
+     * @param embeddedHedera the embedded node to load
+     * @param nodeAccountId the account id of the node to submit to
+     * @param profile the shape of the offered load
+     * @param mix the weighted transactions to submit
+     */
+    public EmbeddedLoadGenerator(
+            @NonNull final EmbeddedHedera embeddedHedera,
+            @NonNull final AccountID nodeAccountId,
+            @NonNull final LoadProfile profile,
+            @NonNull final List<MixEntry> mix) {
+        this.embeddedHedera = requireNonNull(embeddedHedera);
+        this.nodeAccountId = requireNonNull(nodeAccountId);
+        this.profile = requireNonNull(profile);
+        this.mix = List.copyOf(mix);
+        if (this.mix.isEmpty()) {
+            throw new IllegalArgumentException("Transaction mix must not be empty");
+        }
+        this.totalWeight = this.mix.stream().mapToInt(MixEntry::weight).sum();
+    }
+
+    /**
+     * Runs the load for the warmup and measurement periods of the profile, waits for accepted transactions to be
+     * handled, and reports the results.
+     *
+     * @return the report of the measurement window
+     */
+    public LoadReport run() {
+        final long intervalNanos = Math.max(1L, Math.round(1_000_000_000.0 / profile.targetTps()));
+        final long startNanos = System.nanoTime();
+        final long measureStartNanos = startNanos + profile.warmup().toNanos();
+        final long endNanos = measureStartNanos + profile.duration().toNanos();
+
+        final List<Thread> receiptPollers = new ArrayList<>(profile.receiptPollThreads());
+        for (int i = 0; i < profile.receiptPollThreads(); i++) {
+            receiptPollers.add(Thread.ofPlatform()
+                    .name("load-receipt-poller-" + i)
+                    .daemon(true)
+                    .start(this::pollReceipts));
+        }
+        final ExecutorService submitters = Executors.newFixedThreadPool(
+                profile.submitThreads(),
+                Thread.ofPlatform().name("load-submitter-", 0).daemon(true).factory());
+        final var random = new Random(profile.seed());
+        try {
+            for (long i = 0; ; i++) {
+                final long scheduledNanos = startNanos + i * intervalNanos;
+                if (scheduledNanos >= endNanos) {
+                    break;
+                }
+                parkUntil(scheduledNanos);
+                final var entry = choose(random);
+                final boolean measured = scheduledNanos >= measureStartNanos;
+                submitters.execute(() -> submit(entry, scheduledNanos, measured));
+            }
+        } finally {
+            submitters.shutdown();
+        }
+        try {
+            if (!submitters.awaitTermination(profile.drainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Submitters did not finish within the drain timeout of {}", profile.drainTimeout());
+                submitters.shutdownNow();
+            }
+            submissionsDone = true;
+            for (final var receiptPoller : receiptPollers) {
+                receiptPoller.join();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while draining load", e);
+        }
+
+        return report(measureStartNanos);
+    }
+
+    private MixEntry choose(@NonNull final Random random) {
+        int remaining = random.nextInt(totalWeight);
+        for (final var entry : mix) {
+            remaining -= entry.weight();
+            if (remaining < 0) {
+                return entry;
+            }
+        }
+        throw new IllegalStateException("Weights must sum to " + totalWeight);
+    }
+
+    private void submit(@NonNull final MixEntry entry, final long scheduledNanos, final boolean measured) {
+        final Transaction transaction;
+        try {
+            transaction = entry.transactions().get();
+        } catch (final RuntimeException e) {
+            log.error("Unable to create '{}' transaction", entry.name(), e);
+            return;
+        }
+        final var transactionId = extractTransactionBodyUnchecked(transaction).getTransactionID();
+        final long submittedNanos = System.nanoTime();
+        final var status =
+                embeddedHedera.submit(transaction, nodeAccountId).getNodeTransactionPrecheckCode();
+        if (status == ResponseCodeEnum.OK) {
+            pending.add(new Pending(transactionId, submittedNanos, measured, submittedNanos));
+        }
+        if (!measured) {
+            return;
+        }
+        submitted.increment();
+        submittedByType.computeIfAbsent(entry.name(), k -> new LongAdder()).increment();
+        scheduleLags.record(submittedNanos - scheduledNanos);
+        switch (status) {
+            case OK -> accepted.increment();
+            case BUSY -> throttled.increment();
+            default -> rejectedByStatus
+                    .computeIfAbsent(status, k -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    /**
+     * Polls the receipts of accepted transactions until the submitters are done and everything pending has been
+     * handled or has timed out. Transactions that are not handled yet go back to the end of the queue, so every pending
+     * transaction is polled in turn, no matter the order the node handles them in. Several threads run this at once.
+     */
+    private void pollReceipts() {
+        final long drainTimeoutNanos = profile.drainTimeout().toNanos();
+        while (true) {
+            final var next = pending.poll();
+            if (next == null) {
+                if (submissionsDone) {
+                    return;
+                }
+                LockSupport.parkNanos(RECEIPT_POLL_INTERVAL_NANOS);
+                continue;
+            }
+            // the queue is polled round-robin, so if the head was polled recently, all of them were
+            final long sincePolled = System.nanoTime() - next.lastPolledNanos();
+            if (sincePolled < RECEIPT_POLL_INTERVAL_NANOS) {
+                LockSupport.parkNanos(RECEIPT_POLL_INTERVAL_NANOS - sincePolled);
+            }
+            final boolean isHandled = isHandled(next.transactionId());
+            final long now = System.nanoTime();
+            if (isHandled) {
+                if (next.measured()) {
+                    handled.increment();
+                    latencies.record(now - next.submittedNanos());
+                    lastHandledNanos.accumulateAndGet(now, Math::max);
+                }
+            } else if (now - next.submittedNanos() > drainTimeoutNanos) {
+                if (next.measured()) {
+                    unhandled.increment();
+                }
+            } else {
+                pending.add(next.polledAt(now));
+            }
+        }
+    }
+
+    private boolean isHandled(@NonNull final TransactionID transactionId) {
+        final var query = Query.newBuilder()
+                .setTransactionGetReceipt(
+                        TransactionGetReceiptQuery.newBuilder().setTransactionID(transactionId))
+                .build();
+        final var response = embeddedHedera.send(query, nodeAccountId, false).getTransactionGetReceipt();
+        return response.getHeader().getNodeTransactionPrecheckCode() == ResponseCodeEnum.OK
+                && response.getReceipt().getStatus() != ResponseCodeEnum.UNKNOWN;
+    }
+
+    private LoadReport report(final long measureStartNanos) {
+        final double measuredSeconds = profile.duration().toNanos() / 1e9;
+        final long lastHandled = lastHandledNanos.get();
+        final double handledSeconds = lastHandled > measureStartNanos ? (lastHandled - measureStartNanos) / 1e9 : 0;
+        final Map<String, Long> byType = new TreeMap<>();
+        submittedByType.forEach((name, count) -> byType.put(name, count.sum()));
+        final Map<String, Long> byStatus = new TreeMap<>();
+        rejectedByStatus.forEach((status, count) -> byStatus.put(status.name(), count.sum()));
+        final Map<String, Object> nodeMetrics = new TreeMap<>();
+        for (final Metric metric : embeddedHedera.metrics().getAll()) {
+            if (metric.get(Metric.ValueType.VALUE) instanceof Number value) {
+                nodeMetrics.put(metric.getIdentifier(), value);
+            }
+        }
+        return new LoadReport(
+                profile.targetTps(),
+                measuredSeconds,
+                submitted.sum(),
+                accepted.sum(),
+                throttled.sum(),
+                handled.sum(),
+                unhandled.sum(),
+                submitted.sum() / measuredSeconds,
+                accepted.sum() / measuredSeconds,
+                throttled.sum() / measuredSeconds,
+                handledSeconds > 0 ? handled.sum() / handledSeconds : 0,
+                byType,
+                byStatus,
+                latencies.percentilesMillis(),
+                scheduleLags.percentilesMillis(),
+                nodeMetrics);
+    }
+
+    private static void parkUntil(final long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * A thread-safe, growable record of latency samples in nanoseconds.
+     */
+    private static class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int size;
+
+        synchronized void record(final long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized Map<String, Double> percentilesMillis() {
+            final Map<String, Double> percentiles = new TreeMap<>();
+            if (size == 0) {
+                return percentiles;
+            }
+            final long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                final int index = (int) Math.min(size - 1, Math.ceil(PERCENTILES[i] / 100.0 * size) - 1);
+                percentiles.put(PERCENTILE_NAMES[i], sorted[Math.max(0, index)] / 1e6);
+            }
+            percentiles.put("max", sorted[size - 1] / 1e6);
+            return percentiles;
+        }
+    }
+}
@@ -735,6 +735,7 @@ public class StateChangesValidator implements BlockStreamValidator {
             case PREPROCESSING_VOTE_ID_KEY -> mapChangeKey.preprocessingVoteIdKeyOrThrow();
             case NODE_ID_KEY -> mapChangeKey.nodeIdKeyOrThrow();
             case CONSTRUCTION_NODE_ID_KEY -> mapChangeKey.constructionNodeIdKeyOrThrow();
+            case FILE_CHUNK_ID_KEY -> mapChangeKey.fileChunkIdKeyOrThrow();
         };
     }
 
@@ -766,6 +767,7 @@ public class StateChangesValidator implements BlockStreamValidator {
             case HINTS_KEY_SET_VALUE -> mapChangeValue.hintsKeySetValueOrThrow();
             case PREPROCESSING_VOTE_VALUE -> mapChangeValue.preprocessingVoteValueOrThrow();
             case CRS_PUBLICATION_VALUE -> mapChangeValue.crsPublicationValueOrThrow();
+            case PROTO_BYTES_VALUE -> new ProtoBytes(mapChangeValue.protoBytesValueOrThrow());
         };
     }
 
@@ -40,8 +40,10 @@ import com.hedera.node.app.throttle.ThrottleAccumulator;
 import com.hedera.node.app.version.ServicesSoftwareVersion;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator.LoadProfile;
 import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedNetwork;
 import com.hedera.services.bdd.spec.SpecOperation;
+import com.hedera.services.bdd.spec.utilops.embedded.EmbeddedLoadOp;
 import com.hedera.services.bdd.spec.utilops.embedded.MutateAccountOp;
 import com.hedera.services.bdd.spec.utilops.embedded.MutateKVStateOp;
 import com.hedera.services.bdd.spec.utilops.embedded.MutateNodeOp;
@@ -59,6 +61,7 @@ import com.swirlds.state.spi.CommittableWritableStates;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.WritableKVState;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Consumer;
@@ -72,6 +75,19 @@ public final class EmbeddedVerbs {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Returns an operation that drives an open-loop load through the embedded node's ingest workflow and writes a
+     * JSON report of throughput, latency, and node metrics to the given path. Add the transaction mix with
+     * {@link EmbeddedLoadOp#withTxn(String, int, java.util.function.Supplier)}.
+     *
+     * @param profile the shape of the offered load
+     * @param reportPath the path to write the report to
+     * @return the operation that will drive the load
+     */
+    public static EmbeddedLoadOp embeddedLoad(@NonNull final LoadProfile profile, @NonNull final Path reportPath) {
+        return new EmbeddedLoadOp(profile, reportPath);
+    }
+
     /**
      * Returns an operation that allows the test author to directly mutate an account.
      *
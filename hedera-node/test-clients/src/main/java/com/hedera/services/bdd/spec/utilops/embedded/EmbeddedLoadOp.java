@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.services.bdd.spec.utilops.embedded;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator;
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator.LoadProfile;
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator.LoadReport;
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator.MixEntry;
+import com.hedera.services.bdd.spec.HapiSpec;
+import com.hedera.services.bdd.spec.transactions.HapiTxnOp;
+import com.hedera.services.bdd.spec.utilops.UtilOp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Drives an open-loop load of weighted transactions through the ingest workflow of the embedded node, and writes
+ * the resulting {@link LoadReport} as JSON. Meant for the concurrent embedded mode, where the node handles
+ * transactions on its own schedule; in repeatable mode every submission is handled before the next one.
+ */
+public class EmbeddedLoadOp extends UtilOp {
+    private static final Logger log = LogManager.getLogger(EmbeddedLoadOp.class);
+
+    private record TxnSource(String name, int weight, Supplier<HapiTxnOp<?>> txns) {}
+
+    private final LoadProfile profile;
+    private final Path reportPath;
+    private final List<TxnSource> sources = new ArrayList<>();
+    private Consumer<LoadReport> reportObserver = report -> {};
+
+    public EmbeddedLoadOp(@NonNull final LoadProfile profile, @NonNull final Path reportPath) {
+        this.profile = requireNonNull(profile);
+        this.reportPath = requireNonNull(reportPath);
+    }
+
+    /**
+     * Adds a kind of transaction to the mix.
+     *
+     * @param name the name of this kind of transaction in the report
+     * @param weight the relative frequency of this kind of transaction
+     * @param txns a factory of new operations, one per transaction submitted
+     * @return this
+     */
+    public EmbeddedLoadOp withTxn(
+            @NonNull final String name, final int weight, @NonNull final Supplier<HapiTxnOp<?>> txns) {
+        sources.add(new TxnSource(requireNonNull(name), weight, requireNonNull(txns)));
+        return this;
+    }
+
+    /**
+     * Exposes the report of the run to the given observer, for example to assert a minimum throughput.
+     *
+     * @param reportObserver the observer of the report
+     * @return this
+     */
+    public EmbeddedLoadOp exposingReportTo(@NonNull final Consumer<LoadReport> reportObserver) {
+        this.reportObserver = requireNonNull(reportObserver);
+        return this;
+    }
+
+    @Override
+    protected boolean submitOp(@NonNull final HapiSpec spec) throws Throwable {
+        final List<MixEntry> mix = sources.stream()
+                .map(source -> new MixEntry(source.name(), source.weight(), () -> signedTxn(source, spec)))
+                .toList();
+        final var generator =
+                new EmbeddedLoadGenerator(spec.embeddedHederaOrThrow(), spec.setup().defaultNode(), profile, mix);
+        final var report = generator.run();
+        report.writeJson(reportPath);
+        log.info(
+                "Offered {} TPS, accepted {} TPS, handled {} TPS, throttled {} TPS; latency {} (report at {})",
+                report.targetTps(),
+                report.acceptedTps(),
+                report.handledTps(),
+                report.throttledTps(),
+                report.latencyMillis(),
+                reportPath);
+        reportObserver.accept(report);
+        return false;
+    }
+
+    private static Transaction signedTxn(@NonNull final TxnSource source, @NonNull final HapiSpec spec) {
+        try {
+            return source.txns().get().signedTxnFor(spec);
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Unable to sign '" + source.name() + "' transaction", e);
+        }
+    }
+}
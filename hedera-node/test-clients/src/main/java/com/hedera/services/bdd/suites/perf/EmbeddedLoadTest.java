@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.services.bdd.suites.perf;
+
+import static com.hedera.services.bdd.junit.EmbeddedReason.DRIVES_LOAD_IN_PROCESS;
+import static com.hedera.services.bdd.junit.hedera.embedded.EmbeddedMode.CONCURRENT;
+import static com.hedera.services.bdd.spec.HapiSpec.hapiTest;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoCreate;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoTransfer;
+import static com.hedera.services.bdd.spec.transactions.crypto.HapiCryptoTransfer.tinyBarsFromTo;
+import static com.hedera.services.bdd.spec.utilops.EmbeddedVerbs.embeddedLoad;
+import static com.hedera.services.bdd.suites.HapiSuite.ONE_MILLION_HBARS;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.bdd.junit.LeakyEmbeddedHapiTest;
+import com.hedera.services.bdd.junit.TargetEmbeddedMode;
+import com.hedera.services.bdd.junit.hedera.embedded.EmbeddedLoadGenerator.LoadProfile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Measures the throughput and ingest-to-record latency of an embedded node under an open-loop load of crypto
+ * transfers and account creations. The run takes close to a minute, so it is skipped unless the
+ * {@code HAPI_EMBEDDED_LOAD} environment variable is {@code true}, for example:
+ * <pre>
+ * HAPI_EMBEDDED_LOAD=true ./gradlew :test-clients:testEmbedded --tests '*EmbeddedLoadTest'
+ * </pre>
+ * The report is written to {@code build/embedded-load/crypto.json}.
+ */
+@TargetEmbeddedMode(CONCURRENT)
+@EnabledIfEnvironmentVariable(named = "HAPI_EMBEDDED_LOAD", matches = "true")
+public class EmbeddedLoadTest {
+    private static final String SENDER = "sender";
+    private static final String RECEIVER = "receiver";
+
+    private static final LoadProfile PROFILE = new LoadProfile(
+            500, Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(15), 4, 4, 1_234L);
+
+    @LeakyEmbeddedHapiTest(reason = DRIVES_LOAD_IN_PROCESS)
+    @DisplayName("crypto transfers and creations under open-loop load")
+    final Stream<DynamicTest> cryptoLoad() {
+        return hapiTest(
+                cryptoCreate(SENDER).balance(ONE_MILLION_HBARS),
+                cryptoCreate(RECEIVER),
+                embeddedLoad(PROFILE, Path.of("build", "embedded-load", "crypto.json"))
+                        .withTxn("cryptoTransfer", 9, () -> cryptoTransfer(tinyBarsFromTo(SENDER, RECEIVER, 1L))
+                                .payingWith(SENDER))
+                        .withTxn("cryptoCreate", 1, () -> cryptoCreate("loadAccount").payingWith(SENDER))
+                        .exposingReportTo(report -> assertTrue(
+                                report.handled() > 0, "No transactions were handled during the load run")));
+    }
+}
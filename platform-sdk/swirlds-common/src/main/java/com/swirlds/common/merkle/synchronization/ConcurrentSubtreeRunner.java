@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.SubtreeStreamMultiplexer;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Synchronizes independent subtrees concurrently over a single connection. Used by both the teacher and the learner
+ * once the top level tree has been synchronized and the custom reconnect roots below it are known to both sides.
+ * Subtrees are started in index order, at most {@link ReconnectConfig#maxConcurrentSubtrees()} at a time.
+ */
+final class ConcurrentSubtreeRunner {
+
+    private static final Logger logger = LogManager.getLogger(ConcurrentSubtreeRunner.class);
+
+    /**
+     * Synchronizes a single subtree using the streams of its channel.
+     */
+    @FunctionalInterface
+    interface SubtreeTask {
+        /**
+         * Synchronize the subtree with the given index.
+         *
+         * @param index the index of the subtree
+         * @param in    the stream to read the subtree's data from
+         * @param out   the stream to write the subtree's data to
+         */
+        void synchronize(int index, @NonNull MerkleDataInputStream in, @NonNull MerkleDataOutputStream out)
+                throws InterruptedException;
+    }
+
+    private ConcurrentSubtreeRunner() {}
+
+    /**
+     * Synchronize subtrees concurrently. Returns once all subtrees are synchronized and the peer has finished using
+     * the connection for subtrees.
+     *
+     * @param threadManager   responsible for managing thread lifecycles
+     * @param groupName       the name of the work group
+     * @param in              the input stream of the connection
+     * @param out             the output stream of the connection
+     * @param breakConnection breaks the connection if a subtree fails, may be null
+     * @param reconnectConfig the reconnect configuration
+     * @param subtreeCount    the number of subtrees, must match the peer
+     * @param task            synchronizes a single subtree
+     */
+    static void run(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final String groupName,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            final Runnable breakConnection,
+            @NonNull final ReconnectConfig reconnectConfig,
+            final int subtreeCount,
+            @NonNull final SubtreeTask task)
+            throws InterruptedException {
+
+        final SubtreeStreamMultiplexer multiplexer = new SubtreeStreamMultiplexer(
+                in,
+                out,
+                subtreeCount,
+                reconnectConfig.subtreeStreamWindowSize(),
+                reconnectConfig.asyncStreamTimeout());
+        try {
+            multiplexer.exchangeChannelCount();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException(e);
+        }
+
+        final int parallelism = Math.max(1, Math.min(reconnectConfig.maxConcurrentSubtrees(), subtreeCount));
+        logger.info(
+                RECONNECT.getMarker(), "synchronizing {} subtrees, up to {} at a time", subtreeCount, parallelism);
+
+        final AtomicReference<Throwable> firstException = new AtomicReference<>();
+        final StandardWorkGroup workGroup = new StandardWorkGroup(threadManager, groupName, breakConnection, t -> {
+            firstException.compareAndSet(null, t);
+            return false;
+        });
+
+        workGroup.execute("subtree-frame-reader", () -> {
+            try {
+                multiplexer.readFrames();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        final AtomicInteger nextSubtree = new AtomicInteger();
+        final AtomicInteger completedSubtrees = new AtomicInteger();
+        final Runnable finish = () -> {
+            try {
+                multiplexer.finish();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        if (subtreeCount == 0) {
+            workGroup.execute("subtree-synchronizer", finish);
+        }
+        for (int worker = 0; worker < parallelism && subtreeCount > 0; worker++) {
+            workGroup.execute("subtree-synchronizer", () -> {
+                int index;
+                while (!workGroup.hasExceptions() && (index = nextSubtree.getAndIncrement()) < subtreeCount) {
+                    try {
+                        task.synchronize(index, multiplexer.getInputStream(index), multiplexer.getOutputStream(index));
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (completedSubtrees.incrementAndGet() == subtreeCount) {
+                        finish.run();
+                    }
+                }
+            });
+        }
+
+        workGroup.waitForTermination();
+
+        if (workGroup.hasExceptions() || completedSubtrees.get() < subtreeCount) {
+            throw new MerkleSynchronizationException(
+                    "Concurrent subtree synchronization failed with exceptions", firstException.get());
+        }
+    }
+}
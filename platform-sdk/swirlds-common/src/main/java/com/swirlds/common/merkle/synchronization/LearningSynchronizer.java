@@ -41,11 +41,14 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
@@ -58,6 +61,8 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
     private static final String WORK_GROUP_NAME = "learning-synchronizer";
 
+    private static final String SUBTREES_WORK_GROUP_NAME = "learning-synchronizer-subtrees";
+
     private static final Logger logger = LogManager.getLogger(LearningSynchronizer.class);
 
     /**
@@ -78,10 +83,10 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private MerkleNode newRoot;
 
-    private int leafNodesReceived;
-    private int internalNodesReceived;
-    private int redundantLeafNodes;
-    private int redundantInternalNodes;
+    private final AtomicInteger leafNodesReceived = new AtomicInteger();
+    private final AtomicInteger internalNodesReceived = new AtomicInteger();
+    private final AtomicInteger redundantLeafNodes = new AtomicInteger();
+    private final AtomicInteger redundantInternalNodes = new AtomicInteger();
 
     private long synchronizationTimeMilliseconds;
     private long hashTimeMilliseconds;
@@ -94,8 +99,15 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private final ThreadManager threadManager;
 
+    private final Metrics metrics;
+
     private final ReconnectMapStats mapStats;
 
+    /**
+     * Per-subtree stats, only used when subtrees are synchronized concurrently.
+     */
+    private final List<ReconnectMapStats> subtreeStats = new ArrayList<>();
+
     /**
      * Create a new learning synchronizer.
      *
@@ -130,6 +142,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
         this.breakConnection = breakConnection;
 
+        this.metrics = Objects.requireNonNull(metrics, "metrics is null");
         this.mapStats = new ReconnectMapMetrics(metrics, null, null);
     }
 
@@ -188,11 +201,21 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         logger.info(RECONNECT.getMarker(), "synchronizing tree");
         final long start = System.currentTimeMillis();
 
-        while (!rootsToReceive.isEmpty()) {
-            final MerkleNode root = receiveTree(rootsToReceive.remove());
-            if (newRoot == null) {
-                // The first tree synchronized will contain the root of the tree as a whole
-                newRoot = root;
+        // The first tree synchronized will contain the root of the tree as a whole
+        newRoot = receiveTree(
+                rootsToReceive.remove(), inputStream, outputStream, rootsToReceive, viewsToInitialize, mapStats);
+
+        if (reconnectConfig.maxConcurrentSubtrees() > 1) {
+            receiveSubtreesConcurrently();
+        } else {
+            while (!rootsToReceive.isEmpty()) {
+                receiveTree(
+                        rootsToReceive.remove(),
+                        inputStream,
+                        outputStream,
+                        rootsToReceive,
+                        viewsToInitialize,
+                        mapStats);
             }
         }
 
@@ -200,6 +223,45 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         logger.info(RECONNECT.getMarker(), "synchronization complete");
     }
 
+    /**
+     * Receive all subtrees discovered while receiving the top level tree, several of them at the same time. Each
+     * subtree is received over its own channel of the connection, together with any subtrees nested inside it.
+     */
+    private void receiveSubtreesConcurrently() throws InterruptedException {
+        final List<MerkleNode> subtreeRoots = new ArrayList<>(rootsToReceive);
+        rootsToReceive.clear();
+
+        final int subtreeCount = subtreeRoots.size();
+        final List<Deque<LearnerTreeView<?>>> subtreeViews = new ArrayList<>(subtreeCount);
+        for (int index = 0; index < subtreeCount; index++) {
+            subtreeViews.add(new LinkedList<>());
+            subtreeStats.add(new ReconnectMapMetrics(metrics, "subtree" + index, mapStats));
+        }
+
+        ConcurrentSubtreeRunner.run(
+                threadManager,
+                SUBTREES_WORK_GROUP_NAME,
+                inputStream,
+                outputStream,
+                breakConnection,
+                reconnectConfig,
+                subtreeCount,
+                (index, in, out) -> {
+                    final Queue<MerkleNode> roots = new LinkedList<>();
+                    roots.add(subtreeRoots.get(index));
+                    while (!roots.isEmpty()) {
+                        receiveTree(roots.remove(), in, out, roots, subtreeViews.get(index), subtreeStats.get(index));
+                    }
+                });
+
+        // Initialize views in the same order as if the subtrees had been received one after another
+        for (final Deque<LearnerTreeView<?>> views : subtreeViews) {
+            while (!views.isEmpty()) {
+                viewsToInitialize.addFirst(views.removeLast());
+            }
+        }
+    }
+
     /**
      * Initialize the tree.
      */
@@ -241,13 +303,16 @@ public class LearningSynchronizer implements ReconnectNodeCount {
                 .setTimeInSeconds(synchronizationTimeMilliseconds * MILLISECONDS_TO_SECONDS)
                 .setHashTimeInSeconds(hashTimeMilliseconds * MILLISECONDS_TO_SECONDS)
                 .setInitializationTimeInSeconds(initializationTimeMilliseconds * MILLISECONDS_TO_SECONDS)
-                .setTotalNodes(leafNodesReceived + internalNodesReceived)
-                .setLeafNodes(leafNodesReceived)
-                .setRedundantLeafNodes(redundantLeafNodes)
-                .setInternalNodes(internalNodesReceived)
-                .setRedundantInternalNodes(redundantInternalNodes)
+                .setTotalNodes(leafNodesReceived.get() + internalNodesReceived.get())
+                .setLeafNodes(leafNodesReceived.get())
+                .setRedundantLeafNodes(redundantLeafNodes.get())
+                .setInternalNodes(internalNodesReceived.get())
+                .setRedundantInternalNodes(redundantInternalNodes.get())
                 .toString());
         logger.info(RECONNECT.getMarker(), () -> mapStats.format());
+        for (final ReconnectMapStats stats : subtreeStats) {
+            logger.info(RECONNECT.getMarker(), () -> stats.format());
+        }
     }
 
     /**
@@ -260,11 +325,23 @@ public class LearningSynchronizer implements ReconnectNodeCount {
     /**
      * Receive a tree (or subtree) from the teacher
      *
-     * @param root the root of the tree (or subtree) that is already possessed
+     * @param root              the root of the tree (or subtree) that is already possessed
+     * @param in                the stream to read the tree from
+     * @param out               the stream to send responses to the teacher
+     * @param roots             the queue to add roots of nested subtrees to
+     * @param views             the views that need to be initialized once synchronization is done
+     * @param stats             the stats to collect reconnect metrics for the tree
      * @return the root of the reconstructed tree
      */
     @SuppressWarnings("unchecked")
-    private <T> MerkleNode receiveTree(final MerkleNode root) throws InterruptedException {
+    private <T> MerkleNode receiveTree(
+            final MerkleNode root,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Queue<MerkleNode> roots,
+            final Deque<LearnerTreeView<?>> views,
+            final ReconnectMapStats stats)
+            throws InterruptedException {
 
         logger.info(
                 RECONNECT.getMarker(),
@@ -282,15 +359,15 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
         final LearnerTreeView<T> view;
         if (root == null || !root.hasCustomReconnectView()) {
-            view = (LearnerTreeView<T>) new LearnerPushMerkleTreeView(reconnectConfig, root, mapStats);
+            view = (LearnerTreeView<T>) new LearnerPushMerkleTreeView(reconnectConfig, root, stats);
         } else {
             assert root instanceof CustomReconnectRoot;
-            view = ((CustomReconnectRoot<?, T>) root).buildLearnerView(reconnectConfig, mapStats);
+            view = ((CustomReconnectRoot<?, T>) root).buildLearnerView(reconnectConfig, stats);
         }
 
         final AtomicReference<T> reconstructedRoot = new AtomicReference<>();
 
-        view.startLearnerTasks(this, workGroup, inputStream, outputStream, rootsToReceive, reconstructedRoot);
+        view.startLearnerTasks(this, workGroup, in, out, roots, reconstructedRoot);
         InterruptedException interruptException = null;
         try {
             workGroup.waitForTermination();
@@ -334,7 +411,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
                     "Synchronization failed with exceptions", firstReconnectException.get());
         }
 
-        viewsToInitialize.addFirst(view);
+        views.addFirst(view);
 
         return view.getMerkleRoot(reconstructedRoot.get());
     }
@@ -359,7 +436,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementLeafCount() {
-        leafNodesReceived++;
+        leafNodesReceived.incrementAndGet();
     }
 
     /**
@@ -367,7 +444,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementRedundantLeafCount() {
-        redundantLeafNodes++;
+        redundantLeafNodes.incrementAndGet();
     }
 
     /**
@@ -375,7 +452,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementInternalCount() {
-        internalNodesReceived++;
+        internalNodesReceived.incrementAndGet();
     }
 
     /**
@@ -383,6 +460,6 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementRedundantInternalCount() {
-        redundantInternalNodes++;
+        redundantInternalNodes.incrementAndGet();
     }
 }
@@ -35,7 +35,9 @@ import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.net.SocketException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicReference;
@@ -50,6 +52,8 @@ public class TeachingSynchronizer {
 
     private static final String WORK_GROUP_NAME = "teaching-synchronizer";
 
+    private static final String SUBTREES_WORK_GROUP_NAME = "teaching-synchronizer-subtrees";
+
     private static final Logger logger = LogManager.getLogger(TeachingSynchronizer.class);
 
     /**
@@ -126,10 +130,13 @@ public class TeachingSynchronizer {
      */
     public void synchronize() throws InterruptedException {
         try {
-            while (!subtrees.isEmpty()) {
-                try (final TeacherSubtree subtree = subtrees.remove()) {
-                    subtree.getView().waitUntilReady();
-                    sendTree(subtree.getRoot(), subtree.getView());
+            // The first subtree is the top level tree, it is always sent on its own
+            sendSubtree(subtrees.remove(), inputStream, outputStream, subtrees);
+            if (reconnectConfig.maxConcurrentSubtrees() > 1) {
+                sendSubtreesConcurrently();
+            } else {
+                while (!subtrees.isEmpty()) {
+                    sendSubtree(subtrees.remove(), inputStream, outputStream, subtrees);
                 }
             }
         } finally {
@@ -140,10 +147,78 @@ public class TeachingSynchronizer {
         }
     }
 
+    /**
+     * Send all subtrees discovered while sending the top level tree, several of them at the same time. Each subtree
+     * is sent over its own channel of the connection, together with any subtrees nested inside it.
+     */
+    private void sendSubtreesConcurrently() throws InterruptedException {
+        final List<TeacherSubtree> pending = new ArrayList<>(subtrees);
+        subtrees.clear();
+        final int subtreeCount = pending.size();
+
+        try {
+            ConcurrentSubtreeRunner.run(
+                    threadManager,
+                    SUBTREES_WORK_GROUP_NAME,
+                    inputStream,
+                    outputStream,
+                    breakConnection,
+                    reconnectConfig,
+                    subtreeCount,
+                    (index, in, out) -> {
+                        final TeacherSubtree subtree;
+                        synchronized (pending) {
+                            subtree = pending.set(index, null);
+                        }
+                        final Queue<TeacherSubtree> nested = new LinkedList<>();
+                        try {
+                            sendSubtree(subtree, in, out, nested);
+                            while (!nested.isEmpty()) {
+                                sendSubtree(nested.remove(), in, out, nested);
+                            }
+                        } finally {
+                            for (final TeacherSubtree remaining : nested) {
+                                remaining.close();
+                            }
+                        }
+                    });
+        } finally {
+            // Subtrees that were never started still hold a reservation
+            synchronized (pending) {
+                for (final TeacherSubtree subtree : pending) {
+                    if (subtree != null) {
+                        subtree.close();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Send a subtree and release it afterwards.
+     */
+    private void sendSubtree(
+            final TeacherSubtree subtree,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Queue<TeacherSubtree> nested)
+            throws InterruptedException {
+        try (subtree) {
+            subtree.getView().waitUntilReady();
+            sendTree(subtree.getRoot(), subtree.getView(), in, out, nested);
+        }
+    }
+
     /**
      * Send a tree (or subtree).
      */
-    private <T> void sendTree(final MerkleNode root, final TeacherTreeView<T> view) throws InterruptedException {
+    private <T> void sendTree(
+            final MerkleNode root,
+            final TeacherTreeView<T> view,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Queue<TeacherSubtree> nested)
+            throws InterruptedException {
         logger.info(
                 RECONNECT.getMarker(),
                 "sending tree rooted at {} with route {}",
@@ -173,7 +248,7 @@ public class TeachingSynchronizer {
             return false;
         });
 
-        view.startTeacherTasks(this, time, workGroup, inputStream, outputStream, subtrees);
+        view.startTeacherTasks(this, time, workGroup, in, out, nested);
 
         workGroup.waitForTermination();
 
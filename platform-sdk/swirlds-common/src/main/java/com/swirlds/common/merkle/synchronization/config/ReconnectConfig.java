@@ -56,6 +56,15 @@ import java.time.Duration;
  * @param pullLearnerRootResponseTimeout         In pull-based reconnect implementations (virtual trees only), the
  *                                               timeout on the learner side to get a virtual root node response from
  *                                               teacher
+ * @param maxConcurrentSubtrees                  The maximum number of independent subtrees (custom reconnect roots,
+ *                                               such as virtual maps) that are synchronized at the same time. The
+ *                                               subtrees are multiplexed over the reconnect connection. If 1 then
+ *                                               subtrees are synchronized one after another. Teacher and learner must
+ *                                               agree on whether this value is greater than 1, so it must be changed
+ *                                               on all nodes of a network at the same time.
+ * @param subtreeStreamWindowSize                When subtrees are synchronized concurrently, the maximum number of
+ *                                               bytes that may be in flight for a single subtree in each direction
+ *                                               before the sender waits for the receiver to consume them.
  */
 @ConfigData("reconnect")
 public record ReconnectConfig(
@@ -70,4 +79,6 @@ public record ReconnectConfig(
         @ConfigProperty(defaultValue = "10m") Duration minimumTimeBetweenReconnects,
         @ConfigProperty(defaultValue = "0") int teacherMaxNodesPerSecond,
         @ConfigProperty(defaultValue = "1us") Duration teacherRateLimiterSleep,
-        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout) {}
+        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout,
+        @ConfigProperty(defaultValue = "1") int maxConcurrentSubtrees,
+        @ConfigProperty(defaultValue = "4194304") int subtreeStreamWindowSize) {}
@@ -107,7 +107,10 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
     }
 
     private static void add(final LongGauge metric, final long value) {
-        metric.set(metric.get() + value);
+        // Aggregate stats are shared by subtrees that may be synchronized concurrently
+        synchronized (metric) {
+            metric.set(metric.get() + value);
+        }
     }
 
     /**
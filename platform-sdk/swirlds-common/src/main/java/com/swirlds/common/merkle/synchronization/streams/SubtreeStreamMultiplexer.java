@@ -0,0 +1,472 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * <p>
+ * Multiplexes the streams of several independent subtrees over a single reconnect connection, so the subtrees can be
+ * synchronized concurrently.
+ * </p>
+ *
+ * <p>
+ * Every subtree gets its own channel, identified by its index. Data is sent in frames consisting of the channel index,
+ * the frame length and the frame payload. Each channel has its own flow control window: a sender may not have more
+ * than {@code windowSize} bytes of a channel in flight, and the receiver grants credit back (encoded as a frame with
+ * a negative length) once it has consumed data. This way a slow subtree never blocks the frames of other subtrees
+ * that share the connection.
+ * </p>
+ *
+ * <p>
+ * Both sides must create a multiplexer with the same number of channels. {@link #exchangeChannelCount()} is used to
+ * verify that before any frames are sent. Frames are read by {@link #readFrames()}, which must be run on a dedicated
+ * thread and returns once the peer calls {@link #finish()}.
+ * </p>
+ */
+public class SubtreeStreamMultiplexer {
+
+    /**
+     * A channel index that signals that the peer will not send any more frames.
+     */
+    private static final int END_OF_FRAMES = -1;
+
+    /**
+     * The maximum size of a single data frame.
+     */
+    private static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final int windowSize;
+    private final long timeoutMillis;
+
+    private final ChannelInputStream[] inputs;
+    private final ChannelOutputStream[] outputs;
+    private final MerkleDataInputStream[] merkleInputs;
+    private final MerkleDataOutputStream[] merkleOutputs;
+
+    /**
+     * Create a new multiplexer.
+     *
+     * @param in           the stream shared by all channels to read from
+     * @param out          the stream shared by all channels to write to
+     * @param channelCount the number of channels
+     * @param windowSize   the maximum number of bytes that may be in flight for a single channel
+     * @param timeout      the maximum amount of time to wait for data or for flow control credit
+     */
+    public SubtreeStreamMultiplexer(
+            @NonNull final DataInputStream in,
+            @NonNull final DataOutputStream out,
+            final int channelCount,
+            final int windowSize,
+            @NonNull final Duration timeout) {
+        this.in = Objects.requireNonNull(in, "in must not be null");
+        this.out = Objects.requireNonNull(out, "out must not be null");
+        if (channelCount < 0) {
+            throw new IllegalArgumentException("channelCount must not be negative");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        this.windowSize = windowSize;
+        this.timeoutMillis = Objects.requireNonNull(timeout, "timeout must not be null")
+                .toMillis();
+
+        inputs = new ChannelInputStream[channelCount];
+        outputs = new ChannelOutputStream[channelCount];
+        merkleInputs = new MerkleDataInputStream[channelCount];
+        merkleOutputs = new MerkleDataOutputStream[channelCount];
+        for (int channel = 0; channel < channelCount; channel++) {
+            inputs[channel] = new ChannelInputStream(channel);
+            outputs[channel] = new ChannelOutputStream(channel);
+            merkleInputs[channel] = new MerkleDataInputStream(inputs[channel]);
+            merkleOutputs[channel] = new MerkleDataOutputStream(outputs[channel]);
+        }
+    }
+
+    /**
+     * Get the number of channels.
+     */
+    public int getChannelCount() {
+        return inputs.length;
+    }
+
+    /**
+     * Get the stream used to read data of a channel.
+     *
+     * @param channel the channel index
+     * @return the input stream of the channel
+     */
+    @NonNull
+    public MerkleDataInputStream getInputStream(final int channel) {
+        return merkleInputs[channel];
+    }
+
+    /**
+     * Get the stream used to write data of a channel.
+     *
+     * @param channel the channel index
+     * @return the output stream of the channel
+     */
+    @NonNull
+    public MerkleDataOutputStream getOutputStream(final int channel) {
+        return merkleOutputs[channel];
+    }
+
+    /**
+     * Send the number of channels to the peer and verify that the peer uses the same number. Must be called by both
+     * sides before any channel is used.
+     *
+     * @throws IOException if the stream fails or if the peer uses a different number of channels
+     */
+    public void exchangeChannelCount() throws IOException {
+        synchronized (out) {
+            out.writeInt(inputs.length);
+            out.flush();
+        }
+        final int peerChannelCount = in.readInt();
+        if (peerChannelCount != inputs.length) {
+            throw new IOException("peer has " + peerChannelCount + " subtrees to synchronize, expected "
+                    + inputs.length);
+        }
+    }
+
+    /**
+     * Read frames from the shared stream and dispatch them to the channels until the peer signals that it will not
+     * send any more frames. If the shared stream fails, every channel fails as well.
+     *
+     * @throws IOException if the shared stream fails or contains malformed frames
+     */
+    public void readFrames() throws IOException {
+        try {
+            while (true) {
+                final int channel = in.readInt();
+                final int length = in.readInt();
+                if (channel == END_OF_FRAMES) {
+                    return;
+                }
+                if (channel < 0 || channel >= inputs.length) {
+                    throw new IOException("received frame for unknown subtree channel " + channel);
+                }
+                if (length < 0) {
+                    outputs[channel].grantCredit(-length);
+                } else {
+                    final byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    inputs[channel].receive(payload);
+                }
+            }
+        } catch (final IOException e) {
+            for (int channel = 0; channel < inputs.length; channel++) {
+                inputs[channel].fail(e);
+                outputs[channel].fail(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Flush all channels and signal to the peer that no more frames will be sent. Must be called once all channels
+     * are done writing.
+     *
+     * @throws IOException if the shared stream fails
+     */
+    public void finish() throws IOException {
+        for (final MerkleDataOutputStream output : merkleOutputs) {
+            output.flush();
+        }
+        synchronized (out) {
+            out.writeInt(END_OF_FRAMES);
+            out.writeInt(0);
+            out.flush();
+        }
+    }
+
+    /**
+     * Write a frame header and optional payload to the shared stream. Frames of different channels never interleave.
+     */
+    private void writeFrame(final int channel, final int length, final byte[] payload, final int offset)
+            throws IOException {
+        synchronized (out) {
+            out.writeInt(channel);
+            out.writeInt(length);
+            if (length > 0) {
+                out.write(payload, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Flush the shared stream.
+     */
+    private void flushShared() throws IOException {
+        synchronized (out) {
+            out.flush();
+        }
+    }
+
+    /**
+     * The receiving side of a single channel.
+     */
+    private final class ChannelInputStream extends InputStream {
+
+        private static final byte[] CLOSED = new byte[0];
+
+        private final int channel;
+        private final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+
+        private byte[] current;
+        private int position;
+
+        /**
+         * The number of consumed bytes that have not yet been granted back to the sender as credit.
+         */
+        private int consumed;
+
+        private volatile IOException failure;
+        private volatile boolean closed;
+
+        ChannelInputStream(final int channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Called by the frame reader when a data frame for this channel arrives.
+         */
+        void receive(final byte[] payload) {
+            frames.add(payload);
+        }
+
+        /**
+         * Called by the frame reader when the shared stream fails.
+         */
+        void fail(final IOException cause) {
+            failure = cause;
+            frames.add(CLOSED);
+        }
+
+        /**
+         * Make sure there is at least one unread byte in the current frame.
+         */
+        private void awaitData() throws IOException {
+            while (current == null || position == current.length) {
+                if (current != null) {
+                    releaseCredit(current.length);
+                    current = null;
+                }
+                final byte[] next;
+                try {
+                    next = frames.poll(timeoutMillis, MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted while waiting for data of subtree channel " + channel, e);
+                }
+                if (next == null) {
+                    throw new IOException("timed out waiting for data of subtree channel " + channel);
+                }
+                if (next == CLOSED || closed) {
+                    frames.add(CLOSED);
+                    final IOException cause = failure;
+                    throw cause == null
+                            ? new IOException("subtree channel " + channel + " is closed")
+                            : new IOException("subtree channel " + channel + " failed", cause);
+                }
+                current = next;
+                position = 0;
+            }
+        }
+
+        /**
+         * Grant consumed bytes back to the sender once enough of them have accumulated.
+         */
+        private void releaseCredit(final int bytes) throws IOException {
+            consumed += bytes;
+            if (consumed >= windowSize / 4) {
+                writeFrame(channel, -consumed, null, 0);
+                flushShared();
+                consumed = 0;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            awaitData();
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            awaitData();
+            final int count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current == null ? 0 : current.length - position;
+        }
+
+        /**
+         * Closing a channel wakes up a thread blocked on reading it. The shared stream stays open.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            frames.add(CLOSED);
+        }
+    }
+
+    /**
+     * The sending side of a single channel.
+     */
+    private final class ChannelOutputStream extends OutputStream {
+
+        private final int channel;
+        private final byte[] buffer = new byte[Math.min(MAX_FRAME_SIZE, windowSize)];
+        private int count;
+
+        /**
+         * The number of bytes this channel may still send before it has to wait for the receiver. Guarded by
+         * {@code this}.
+         */
+        private long credit = windowSize;
+
+        private volatile IOException failure;
+
+        ChannelOutputStream(final int channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Called by the frame reader when the receiver has consumed data of this channel.
+         */
+        synchronized void grantCredit(final int bytes) {
+            credit += bytes;
+            notifyAll();
+        }
+
+        /**
+         * Called by the frame reader when the shared stream fails.
+         */
+        synchronized void fail(final IOException cause) {
+            failure = cause;
+            notifyAll();
+        }
+
+        /**
+         * Wait until this channel is allowed to send at least one byte.
+         *
+         * @return the number of bytes that may be sent
+         */
+        private synchronized long awaitCredit() throws IOException {
+            final long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (credit == 0 && failure == null) {
+                final long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IOException("timed out waiting for flow control credit of subtree channel " + channel);
+                }
+                try {
+                    wait(remaining);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted while waiting for subtree channel " + channel, e);
+                }
+            }
+            if (failure != null) {
+                throw new IOException("subtree channel " + channel + " failed", failure);
+            }
+            return credit;
+        }
+
+        private synchronized void consumeCredit(final int bytes) {
+            credit -= bytes;
+        }
+
+        /**
+         * Send all buffered bytes as one or more frames, respecting the flow control window.
+         */
+        private void sendBuffered() throws IOException {
+            int offset = 0;
+            while (offset < count) {
+                final int length = (int) Math.min(count - offset, awaitCredit());
+                consumeCredit(length);
+                writeFrame(channel, length, buffer, offset);
+                offset += length;
+            }
+            count = 0;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (count == buffer.length) {
+                sendBuffered();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            int written = 0;
+            while (written < len) {
+                if (count == buffer.length) {
+                    sendBuffered();
+                }
+                final int chunk = Math.min(len - written, buffer.length - count);
+                System.arraycopy(b, off + written, buffer, count, chunk);
+                count += chunk;
+                written += chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count > 0) {
+                sendBuffered();
+                flushShared();
+            }
+        }
+
+        /**
+         * Closing a channel flushes it. The shared stream stays open.
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
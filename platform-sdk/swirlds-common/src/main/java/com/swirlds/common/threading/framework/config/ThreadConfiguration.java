@@ -133,7 +133,7 @@ public class ThreadConfiguration extends AbstractThreadConfiguration<ThreadConfi
         enableThreadNumbering();
 
         final java.util.concurrent.ThreadFactory factory = (final Runnable r) -> {
-            final Thread thread = getThreadManager().createThread(getThreadGroup(), r);
+            final Thread thread = createThread(r);
             configureThread(thread);
             return thread;
         };
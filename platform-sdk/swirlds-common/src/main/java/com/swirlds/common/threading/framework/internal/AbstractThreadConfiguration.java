@@ -103,6 +103,12 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     private int priority = Thread.NORM_PRIORITY;
 
+    /**
+     * If true then new threads are virtual threads. Thread group, daemon status and priority are ignored for virtual
+     * threads.
+     */
+    private boolean virtual;
+
     /**
      * The classloader for new threads.
      */
@@ -148,6 +154,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         this.threadGroup = that.threadGroup;
         this.daemon = that.daemon;
         this.priority = that.priority;
+        this.virtual = that.virtual;
         this.contextClassLoader = that.contextClassLoader;
         this.exceptionHandler = that.exceptionHandler;
         this.runnable = that.runnable;
@@ -213,7 +220,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected Thread buildThread(final boolean start) {
         final Runnable runnable = requireNonNull(getRunnable(), "runnable must not be null");
-        final Thread thread = threadManager.createThread(getThreadGroup(), runnable);
+        final Thread thread = createThread(runnable);
         configureThread(thread);
 
         if (start) {
@@ -223,6 +230,20 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return thread;
     }
 
+    /**
+     * Create a new, unconfigured thread. The thread is virtual if this configuration requests virtual threads.
+     *
+     * @param runnable
+     * 		the runnable that will be executed on the thread
+     * @return a new thread that has not been started
+     */
+    protected Thread createThread(final Runnable runnable) {
+        if (virtual) {
+            return threadManager.createVirtualThread(runnable);
+        }
+        return threadManager.createThread(getThreadGroup(), runnable);
+    }
+
     /**
      * <p>
      * Build a "seed" that can be planted in a thread. When the runnable is executed, it takes over the calling thread
@@ -363,11 +384,14 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected void configureThread(final Thread thread) {
         thread.setName(buildThreadName());
-        if (!thread.isAlive()) {
-            // Daemon status can only be configured before a thread starts.
-            thread.setDaemon(isDaemon());
+        if (!thread.isVirtual()) {
+            // Virtual threads are always daemons, and their priority can not be changed.
+            if (!thread.isAlive()) {
+                // Daemon status can only be configured before a thread starts.
+                thread.setDaemon(isDaemon());
+            }
+            thread.setPriority(getPriority());
         }
-        thread.setPriority(getPriority());
         thread.setUncaughtExceptionHandler(getExceptionHandler());
         if (getContextClassLoader() != null) {
             thread.setContextClassLoader(getContextClassLoader());
@@ -434,6 +458,28 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return (C) this;
     }
 
+    /**
+     * Check if new threads are virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Set if new threads should be virtual threads. Virtual threads are cheap to create and park, which makes them a
+     * good fit for threads that spend most of their time blocked on I/O. Thread group, daemon status and priority are
+     * ignored for virtual threads.
+     *
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setVirtual(final boolean virtual) {
+        throwIfImmutable();
+
+        this.virtual = virtual;
+        return (C) this;
+    }
+
     /**
      * Get the class loader for new threads.
      */
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.pool;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * An implementation that runs the background task of each parallel execution on its own virtual thread.
+ * <p>
+ * Unlike {@link CachedPoolParallelExecutor}, the two tasks are structured: neither task outlives the call to
+ * {@link #doParallel(Callable, Callable, Runnable)}. If either task fails, the cleanup task is run immediately (so that
+ * a task blocked on I/O is released), the background task is interrupted, and the call returns only once the
+ * background thread has terminated. Interrupting a virtual thread that is blocked on a socket closes that socket.
+ */
+public class VirtualThreadParallelExecutor implements ParallelExecutor {
+    private static final Runnable NOOP = () -> {};
+
+    /**
+     * Creates the virtual threads that run the background tasks.
+     */
+    private final ThreadFactory factory;
+
+    /**
+     * Receives the time, in nanoseconds, that the calling thread was parked waiting for a background task to finish.
+     */
+    private final LongConsumer parkedTimeObserver;
+
+    private boolean immutable = false;
+
+    /**
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param name
+     * 		the name given to the threads created by this executor
+     */
+    public VirtualThreadParallelExecutor(@NonNull final ThreadManager threadManager, @NonNull final String name) {
+        this(threadManager, name, parkedNanos -> {});
+    }
+
+    /**
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param name
+     * 		the name given to the threads created by this executor
+     * @param parkedTimeObserver
+     * 		receives the time, in nanoseconds, that the calling thread spent parked waiting for the background task
+     * 		after finishing its own task
+     */
+    public VirtualThreadParallelExecutor(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final String name,
+            @NonNull final LongConsumer parkedTimeObserver) {
+        this.factory = new ThreadConfiguration(threadManager)
+                .setComponent("parallel-executor")
+                .setThreadName(name)
+                .setVirtual(true)
+                .buildFactory();
+        this.parkedTimeObserver = Objects.requireNonNull(parkedTimeObserver);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        throwIfImmutable("should only be started once");
+        immutable = true;
+    }
+
+    /**
+     * Run two tasks in parallel, the first one in the current thread, and the second in a new virtual thread.
+     * <p>
+     * This method returns only after both have finished.
+     *
+     * @param foregroundTask
+     * 		a task to execute in parallel
+     * @param backgroundTask
+     * 		a task to execute in parallel
+     * @param onThrow
+     * 		a cleanup task to be executed, at most once, as soon as either task throws an exception
+     * @throws ParallelExecutionException
+     * 		if either of the invoked tasks throws an exception. if both throw an exception, then the foregroundTask
+     * 		exception will be the cause and the backgroundTask exception will be the suppressed exception
+     */
+    @Override
+    public <T> T doParallel(
+            @NonNull final Callable<T> foregroundTask,
+            @NonNull final Callable<Void> backgroundTask,
+            @NonNull final Runnable onThrow)
+            throws ParallelExecutionException {
+        throwIfMutable("must be started first");
+
+        final AtomicBoolean cleanedUp = new AtomicBoolean(false);
+        final Runnable cleanup = () -> {
+            if (cleanedUp.compareAndSet(false, true)) {
+                onThrow.run();
+            }
+        };
+
+        final AtomicReference<Throwable> backgroundException = new AtomicReference<>();
+        final Thread backgroundThread = factory.newThread(() -> {
+            try {
+                backgroundTask.call();
+            } catch (final Throwable e) { // NOSONAR: Any exceptions & errors that occur needs to trigger onThrow.
+                backgroundException.set(e);
+                cleanup.run();
+            }
+        });
+        backgroundThread.start();
+
+        // exception to throw, if any of the tasks throw
+        ParallelExecutionException toThrow = null;
+
+        T result = null;
+        try {
+            result = foregroundTask.call();
+        } catch (final Throwable e) { // NOSONAR: Any exceptions & errors that occur needs to trigger onThrow.
+            toThrow = new ParallelExecutionException(e);
+            cleanup.run();
+            backgroundThread.interrupt();
+        }
+
+        final long parkStart = System.nanoTime();
+        joinUninterruptibly(backgroundThread);
+        parkedTimeObserver.accept(System.nanoTime() - parkStart);
+
+        final Throwable backgroundError = backgroundException.get();
+        if (backgroundError != null) {
+            if (toThrow == null) {
+                toThrow = new ParallelExecutionException(backgroundError);
+            } else {
+                // if foregroundTask already threw an exception, we add this one as a suppressed exception
+                toThrow.addSuppressed(backgroundError);
+            }
+        }
+
+        // if any of the tasks threw an exception then we throw
+        if (toThrow != null) {
+            throw toThrow;
+        }
+
+        return result;
+    }
+
+    /**
+     * Same as {@link #doParallel(Callable, Callable, Runnable)} where the onThrow task is a no-op
+     */
+    @Override
+    public <T> T doParallel(@NonNull final Callable<T> foregroundTask, @NonNull final Callable<Void> backgroundTask)
+            throws ParallelExecutionException {
+        return doParallel(foregroundTask, backgroundTask, NOOP);
+    }
+
+    /**
+     * Wait for a background thread to terminate. If the calling thread is interrupted while waiting, the interrupt is
+     * passed on to the background thread, and the interrupted status of the calling thread is restored once the
+     * background thread has terminated.
+     *
+     * @param backgroundThread the thread to wait for
+     */
+    private static void joinUninterruptibly(@NonNull final Thread backgroundThread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                backgroundThread.join();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+                backgroundThread.interrupt();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
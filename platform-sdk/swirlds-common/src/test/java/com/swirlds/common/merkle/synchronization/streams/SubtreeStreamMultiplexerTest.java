@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SubtreeStreamMultiplexerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ExecutorService executor;
+    private Socket socketA;
+    private Socket socketB;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        try (final ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            socketA = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+            socketB = server.accept();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdownNow();
+        socketA.close();
+        socketB.close();
+    }
+
+    private SubtreeStreamMultiplexer multiplexer(final Socket socket, final int channels, final int windowSize)
+            throws IOException {
+        return new SubtreeStreamMultiplexer(
+                new DataInputStream(socket.getInputStream()),
+                new DataOutputStream(socket.getOutputStream()),
+                channels,
+                windowSize,
+                TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Channels exchange data independently with a small flow control window")
+    void channelsAreIndependent() throws Exception {
+        final int channels = 4;
+        final int valuesPerChannel = 10_000;
+        final SubtreeStreamMultiplexer a = multiplexer(socketA, channels, 64);
+        final SubtreeStreamMultiplexer b = multiplexer(socketB, channels, 64);
+
+        final Future<?> exchangeA = executor.submit(() -> {
+            a.exchangeChannelCount();
+            return null;
+        });
+        b.exchangeChannelCount();
+        exchangeA.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        final Future<?> readerA = executor.submit(() -> {
+            a.readFrames();
+            return null;
+        });
+        final Future<?> readerB = executor.submit(() -> {
+            b.readFrames();
+            return null;
+        });
+
+        final List<Future<?>> tasks = new ArrayList<>();
+        for (int channel = 0; channel < channels; channel++) {
+            final int c = channel;
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < valuesPerChannel; i++) {
+                    a.getOutputStream(c).writeInt(c * valuesPerChannel + i);
+                }
+                a.getOutputStream(c).flush();
+                assertEquals(-c, a.getInputStream(c).readInt(), "unexpected acknowledgement");
+                return null;
+            }));
+            // Channels are read in reverse order, so early channels have to wait for later ones
+            final int reversed = channels - 1 - channel;
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < valuesPerChannel; i++) {
+                    assertEquals(
+                            reversed * valuesPerChannel + i,
+                            b.getInputStream(reversed).readInt(),
+                            "data of a channel must arrive in order");
+                }
+                b.getOutputStream(reversed).writeInt(-reversed);
+                b.getOutputStream(reversed).flush();
+                return null;
+            }));
+        }
+        for (final Future<?> task : tasks) {
+            task.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        a.finish();
+        b.finish();
+        readerA.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        readerB.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("Mismatched channel counts are detected")
+    void mismatchedChannelCount() throws Exception {
+        final SubtreeStreamMultiplexer a = multiplexer(socketA, 2, 1024);
+        final SubtreeStreamMultiplexer b = multiplexer(socketB, 3, 1024);
+
+        final Future<?> exchangeA = executor.submit(() -> {
+            a.exchangeChannelCount();
+            return null;
+        });
+        assertThrows(IOException.class, b::exchangeChannelCount, "channel count mismatch must fail");
+        assertThrows(Exception.class, () -> exchangeA.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("A failed connection fails every channel")
+    void connectionFailureFailsChannels() throws Exception {
+        final SubtreeStreamMultiplexer a = multiplexer(socketA, 2, 1024);
+        final Future<?> readerA = executor.submit(() -> {
+            a.readFrames();
+            return null;
+        });
+
+        socketB.close();
+
+        assertThrows(IOException.class, () -> a.getInputStream(1).readInt(), "reading a failed channel must fail");
+        assertThrows(Exception.class, () -> readerA.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.test.fixtures.junit.tags.TestComponentTags;
+import com.swirlds.common.threading.pool.ParallelExecutionException;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.common.threading.pool.VirtualThreadParallelExecutor;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Virtual Thread Parallel Executor Tests")
+class VirtualThreadParallelExecutorTest {
+
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("Simple 2 parallel task test")
+    void simpleTasks() throws Exception {
+        final AtomicLong parkedNanos = new AtomicLong(-1);
+        final ParallelExecutor executor =
+                new VirtualThreadParallelExecutor(getStaticThreadManager(), "a name", parkedNanos::set);
+        executor.start();
+        // create 2 latches where both threads need to do the countdown on one and wait for the other
+        // these 2 operations need to happen in parallel
+        final CountDownLatch latch1 = new CountDownLatch(1);
+        final CountDownLatch latch2 = new CountDownLatch(1);
+        final AtomicBoolean backgroundIsVirtual = new AtomicBoolean();
+        final long expectedReturn = new Random().nextLong();
+        final Callable<Long> task1 = () -> {
+            latch1.countDown();
+            latch2.await();
+            return expectedReturn;
+        };
+        final Callable<Void> task2 = () -> {
+            backgroundIsVirtual.set(Thread.currentThread().isVirtual());
+            latch2.countDown();
+            latch1.await();
+            return null;
+        };
+        final Long actualReturn = executor.doParallel(task1, task2);
+
+        assertEquals(0, latch1.getCount(), "thread 1 should have done a countdown");
+        assertEquals(0, latch2.getCount(), "thread 2 should have done a countdown");
+        assertEquals(expectedReturn, actualReturn, "doParallel did not return the correct value");
+        assertTrue(backgroundIsVirtual.get(), "the background task should run on a virtual thread");
+        assertTrue(parkedNanos.get() >= 0, "the parked time should have been reported");
+    }
+
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("Exception test")
+    void testException() {
+        final ParallelExecutor executor = new VirtualThreadParallelExecutor(getStaticThreadManager(), "a name");
+        executor.start();
+        final Exception exception1 = new Exception("exception 1");
+        final Exception exception2 = new Exception("exception 2");
+        final AssertionError error1 = new AssertionError("error 1");
+
+        final Callable<Void> task1 = () -> {
+            throw exception1;
+        };
+        final Callable<Void> task2 = () -> {
+            throw exception2;
+        };
+        final Callable<Void> task3 = () -> {
+            throw error1;
+        };
+
+        final Callable<Void> noEx = () -> null;
+
+        ParallelExecutionException ex;
+
+        ex = assertThrows(ParallelExecutionException.class, () -> executor.doParallel(task1, task2));
+        assertThat(ex).hasCause(exception1);
+        assertThat(ex.getSuppressed()).containsExactly(exception2);
+
+        ex = assertThrows(ParallelExecutionException.class, () -> executor.doParallel(task1, noEx));
+        assertThat(ex).hasCause(exception1);
+        assertThat(ex.getSuppressed()).isEmpty();
+
+        ex = assertThrows(ParallelExecutionException.class, () -> executor.doParallel(noEx, task2));
+        assertThat(ex).hasCause(exception2);
+        assertThat(ex.getSuppressed()).isEmpty();
+
+        ex = assertThrows(ParallelExecutionException.class, () -> executor.doParallel(noEx, task3));
+        assertThat(ex).hasCause(error1);
+        assertThat(ex.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("A failed foreground task cancels the background task")
+    void foregroundFailureCancelsBackground() {
+        final ParallelExecutor executor = new VirtualThreadParallelExecutor(getStaticThreadManager(), "a name");
+        executor.start();
+        final Exception exception = new Exception("foreground failed");
+        final CountDownLatch backgroundStarted = new CountDownLatch(1);
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+        final AtomicInteger onThrowCount = new AtomicInteger();
+
+        final Callable<Void> foreground = () -> {
+            backgroundStarted.await();
+            throw exception;
+        };
+        final Callable<Void> background = () -> {
+            backgroundStarted.countDown();
+            neverReleased.await();
+            return null;
+        };
+
+        final ParallelExecutionException ex = assertThrows(
+                ParallelExecutionException.class,
+                () -> executor.doParallel(foreground, background, onThrowCount::incrementAndGet));
+        assertThat(ex).hasCause(exception);
+        assertThat(ex.getSuppressed()).hasSize(1);
+        assertThat(ex.getSuppressed()[0]).isInstanceOf(InterruptedException.class);
+        assertEquals(1, onThrowCount.get(), "the cleanup task should run exactly once");
+    }
+
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("A failed background task triggers cleanup without waiting for the foreground task")
+    void backgroundFailureTriggersCleanup() {
+        final ParallelExecutor executor = new VirtualThreadParallelExecutor(getStaticThreadManager(), "a name");
+        executor.start();
+        final Exception exception = new Exception("background failed");
+        final CountDownLatch cleanedUp = new CountDownLatch(1);
+
+        // the foreground task can only finish once the cleanup task has run, like a read blocked on a socket
+        final Callable<Void> foreground = () -> {
+            cleanedUp.await();
+            return null;
+        };
+        final Callable<Void> background = () -> {
+            throw exception;
+        };
+
+        final ParallelExecutionException ex = assertThrows(
+                ParallelExecutionException.class,
+                () -> executor.doParallel(foreground, background, cleanedUp::countDown));
+        assertThat(ex).hasCause(exception);
+    }
+}
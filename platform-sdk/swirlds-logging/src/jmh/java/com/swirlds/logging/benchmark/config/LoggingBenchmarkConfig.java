@@ -34,6 +34,16 @@ public interface LoggingBenchmarkConfig<T> {
     @NonNull
     T configureFileLogging(final String logFile);
 
+    /**
+     * Create an appender for File that writes on a background thread. Only supported by implementations that have
+     * an asynchronous file appender.
+     * @param logFile
+     */
+    @NonNull
+    default T configureAsyncFileLogging(final String logFile) {
+        throw new UnsupportedOperationException("Asynchronous file logging is not supported by " + getClass());
+    }
+
     /**
      * Create an appender for Console
      */
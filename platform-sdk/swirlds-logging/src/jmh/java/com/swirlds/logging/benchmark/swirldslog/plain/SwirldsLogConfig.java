@@ -49,6 +49,26 @@ public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
         return configure(configuration);
     }
 
+    /**
+     * {@inheritDoc}
+     * @param logFile
+     */
+    @Override
+    public @NonNull LoggingSystem configureAsyncFileLogging(final String logFile) {
+        final com.swirlds.config.api.Configuration configuration = ConfigurationBuilder.create()
+                .withConverter(new ConfigLevelConverter())
+                .withConverter(new MarkerStateConverter())
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.file.type", "asyncFile")
+                .withValue("logging.handler.file.enabled", "true")
+                .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.file.level", "trace")
+                .withValue("logging.handler.file.file", logFile)
+                .build();
+
+        return configure(configuration);
+    }
+
     /**
      * {@inheritDoc}
      */
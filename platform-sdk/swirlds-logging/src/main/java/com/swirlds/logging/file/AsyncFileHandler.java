@@ -0,0 +1,479 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import static com.swirlds.logging.api.extensions.handler.LogHandler.PROPERTY_HANDLER;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogMessage;
+import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import com.swirlds.logging.io.OutputStreamFactory;
+import com.swirlds.logging.utils.ConfigUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file like the
+ * {@link FileHandler}, but moves the formatting and the file I/O off the logging thread.
+ * <p>
+ * Log events are copied into a pre-allocated ring of {@link MutableLogEvent} slots and the calling thread returns
+ * immediately. A single background writer thread drains the ring in batches, formats each event into a reusable
+ * {@link StringBuilder} and encodes it as UTF-8 into a reusable byte array before writing it to the output stream. The
+ * event's {@link LogMessage} is rendered on the logging thread before it is copied, since the parameters of a
+ * parameterized message may be changed by the caller as soon as the log call returns.
+ * <p>
+ * When the ring is full, the configured overflow policy decides what happens. With {@link OverflowPolicy#BLOCK} the
+ * logging thread waits for free space. With {@link OverflowPolicy#DROP} events at or below the configured drop level
+ * are discarded and counted, while more severe events still wait for free space. The number of dropped events is
+ * written to the file once there is space again. If the writer thread fails, events are forwarded to the emergency
+ * logger instead, so logging threads never wait for a writer that is gone.
+ * <p>
+ * In addition to the properties supported by {@link FileHandler}, the handler can be configured with:
+ * <ul>
+ *     <li>{@code async.capacity} - The number of events the ring can hold. Defaults to 8192.</li>
+ *     <li>{@code async.overflowPolicy} - {@code BLOCK} or {@code DROP}. Defaults to {@code BLOCK}.</li>
+ *     <li>{@code async.dropLevel} - With the {@code DROP} policy, the most severe level that may be dropped. Defaults
+ *     to {@code INFO}.</li>
+ * </ul>
+ */
+public class AsyncFileHandler extends AbstractLogHandler {
+
+    /**
+     * What to do with a log event if the ring is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the writer thread has made space.
+         */
+        BLOCK,
+        /**
+         * Discard events at or below the drop level, wait for space for all other events.
+         */
+        DROP
+    }
+
+    private static final String CAPACITY_PROPERTY = ".async.capacity";
+    private static final String OVERFLOW_POLICY_PROPERTY = ".async.overflowPolicy";
+    private static final String DROP_LEVEL_PROPERTY = ".async.dropLevel";
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final long WRITER_JOIN_TIMEOUT_MILLIS = 10_000;
+
+    private final OutputStream outputStream;
+    private final FormattedLinePrinter format;
+    private final OverflowPolicy overflowPolicy;
+    private final Level dropLevel;
+
+    /**
+     * The ring of event slots. Slots between {@link #head} (inclusive) and {@link #head} + {@link #size} (exclusive),
+     * modulo the capacity, hold events that have not been written yet.
+     */
+    private final MutableLogEvent[] ring;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+
+    /**
+     * Guarded by {@link #lock}. The index of the oldest event that has not been written yet.
+     */
+    private int head;
+
+    /**
+     * Guarded by {@link #lock}. The number of events that have not been written yet.
+     */
+    private int size;
+
+    /**
+     * Guarded by {@link #lock}. False once the handler has been stopped.
+     */
+    private boolean running = true;
+
+    /**
+     * Guarded by {@link #lock}. True once the writer thread has exited, either because the handler was stopped or
+     * because it failed.
+     */
+    private boolean writerDone = false;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    /**
+     * Only used by the writer thread.
+     */
+    private final StringBuilder lineBuilder = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
+
+    /**
+     * Only used by the writer thread.
+     */
+    private byte[] encodeBuffer = new byte[EVENT_LOG_PRINTER_SIZE];
+
+    /**
+     * Only used by the writer thread, to report dropped events.
+     */
+    private final MutableLogEvent droppedNotice = new MutableLogEvent();
+
+    private final Thread writerThread;
+
+    /**
+     * Creates a new asynchronous file handler and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     * @param buffered      if true a buffer is used in between the file writing
+     */
+    public AsyncFileHandler(
+            @NonNull final String handlerName, @NonNull final Configuration configuration, final boolean buffered)
+            throws IOException {
+        this(handlerName, configuration, openOutputStream(handlerName, configuration, buffered));
+    }
+
+    /**
+     * Creates a new asynchronous handler that writes to the given output stream and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     * @param outputStream  the output stream to write to, closed when the handler is stopped
+     */
+    AsyncFileHandler(
+            @NonNull final String handlerName,
+            @NonNull final Configuration configuration,
+            @NonNull final OutputStream outputStream) {
+        super(handlerName, configuration);
+
+        this.format = FormattedLinePrinter.createForHandler(handlerName, configuration);
+        this.outputStream = Objects.requireNonNull(outputStream, "outputStream must not be null");
+
+        final String propertyPrefix = PROPERTY_HANDLER.formatted(handlerName);
+        final int capacity = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + CAPACITY_PROPERTY, Integer.class, DEFAULT_CAPACITY);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Async log handler capacity must be positive, got " + capacity);
+        }
+        final String overflowPolicyName = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + OVERFLOW_POLICY_PROPERTY, String.class, OverflowPolicy.BLOCK.name());
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicyName.trim().toUpperCase(Locale.ROOT));
+        final String dropLevelName = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + DROP_LEVEL_PROPERTY, String.class, Level.INFO.name());
+        this.dropLevel = Level.valueOf(dropLevelName.trim().toUpperCase(Locale.ROOT));
+
+        this.ring = new MutableLogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new MutableLogEvent();
+        }
+
+        this.writerThread = new Thread(this::runWriter, handlerName + "-async-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private static OutputStream openOutputStream(
+            @NonNull final String handlerName, @NonNull final Configuration configuration, final boolean buffered)
+            throws IOException {
+        try {
+            return buffered
+                    ? OutputStreamFactory.getInstance().bufferedOutputStream(configuration, handlerName)
+                    : OutputStreamFactory.getInstance().outputStream(configuration, handlerName);
+        } catch (IOException e) {
+            throw new IOException("Could not create AsyncFileHandler", e);
+        }
+    }
+
+    /**
+     * Copies the log event into the ring. The message is rendered here, everything else is written to the file later
+     * by the writer thread.
+     *
+     * @param event The log event to be printed.
+     */
+    @Override
+    public void handle(@NonNull final LogEvent event) {
+        // the caller may change the parameters of the message once this returns
+        final LogMessage message = event.message() instanceof SimpleLogMessage
+                ? event.message()
+                : new SimpleLogMessage(event.message().getMessage());
+        lock.lock();
+        try {
+            while (size == ring.length) {
+                if (!running || writerDone) {
+                    break;
+                }
+                if (overflowPolicy == OverflowPolicy.DROP && event.level().enabledLoggingOfLevel(dropLevel)) {
+                    droppedEvents.incrementAndGet();
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            if (!running || writerDone) {
+                // FORWARDING the event to the emergency logger
+                EMERGENCY_LOGGER.log(event);
+                return;
+            }
+
+            ring[(head + size) % ring.length]
+                    .update(
+                            event.level(),
+                            event.loggerName(),
+                            event.threadName(),
+                            event.timestamp(),
+                            message,
+                            event.throwable(),
+                            event.marker(),
+                            event.context());
+            size++;
+            if (size == 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all events that were handed to this handler have been written and flushes the output stream.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            while (size > 0 && !writerDone) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            this.outputStream.flush();
+        } catch (IOException e) {
+            EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+        }
+    }
+
+    /**
+     * Stops the handler. Events that are already in the ring are written before the output stream is closed, events
+     * handed to the handler afterward are forwarded to the emergency logger.
+     */
+    @Override
+    public void stopAndFinalize() {
+        super.stopAndFinalize();
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join(WRITER_JOIN_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            outputStream.close();
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to close file output stream", exception);
+        }
+    }
+
+    /**
+     * Returns the number of events discarded because the ring was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Runs the writer loop. If the loop ends because it failed, the events still in the ring are forwarded to the
+     * emergency logger, and so are all events handed to the handler afterward.
+     */
+    private void runWriter() {
+        try {
+            writeUntilStopped();
+        } finally {
+            lock.lock();
+            try {
+                writerDone = true;
+                for (int i = 0; i < size; i++) {
+                    // FORWARDING the event to the emergency logger
+                    EMERGENCY_LOGGER.log(ring[(head + i) % ring.length]);
+                }
+                size = 0;
+                notFull.signalAll();
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The loop of the writer thread. Takes all pending events at once and writes them without holding the lock; the
+     * slots are only released to the logging threads after they have been written.
+     */
+    private void writeUntilStopped() {
+        long reportedDrops = 0;
+        while (true) {
+            final int first;
+            final int count;
+            lock.lock();
+            try {
+                while (size == 0 && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (size == 0) {
+                    return;
+                }
+                first = head;
+                count = size;
+            } finally {
+                lock.unlock();
+            }
+
+            for (int i = 0; i < count; i++) {
+                write(ring[(first + i) % ring.length]);
+            }
+
+            final long drops = droppedEvents.get();
+            if (drops != reportedDrops) {
+                reportDrops(drops - reportedDrops);
+                reportedDrops = drops;
+            }
+
+            final boolean idle;
+            lock.lock();
+            try {
+                head = (first + count) % ring.length;
+                size -= count;
+                idle = size == 0;
+                notFull.signalAll();
+                if (idle) {
+                    drained.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (idle) {
+                // nothing else to write for now, so push what has been buffered to the file
+                flushQuietly();
+            }
+        }
+    }
+
+    /**
+     * Writes a line to the file that tells how many events have been dropped since the last report.
+     *
+     * @param drops the number of events dropped since the last report
+     */
+    private void reportDrops(final long drops) {
+        droppedNotice.update(
+                Level.WARN,
+                AsyncFileHandler.class.getName(),
+                Thread.currentThread().getName(),
+                System.currentTimeMillis(),
+                new SimpleLogMessage(drops + " log events were dropped because the async log handler was full"),
+                null,
+                null,
+                Map.of());
+        write(droppedNotice);
+    }
+
+    /**
+     * Formats the event and writes it as UTF-8 to the output stream.
+     *
+     * @param event the event to write
+     */
+    private void write(@NonNull final LogEvent event) {
+        try {
+            lineBuilder.setLength(0);
+            format.print(lineBuilder, event);
+            final int length = encodeUtf8(lineBuilder);
+            outputStream.write(encodeBuffer, 0, length);
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+            // FORWARDING the event to the emergency logger
+            EMERGENCY_LOGGER.log(event);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            outputStream.flush();
+        } catch (final IOException e) {
+            EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+        }
+    }
+
+    /**
+     * Encodes the characters as UTF-8 into {@link #encodeBuffer}, growing it if needed. Unpaired surrogates are
+     * replaced by {@code '?'}, like {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @param chars the characters to encode
+     * @return the number of bytes written to the buffer
+     */
+    private int encodeUtf8(@NonNull final CharSequence chars) {
+        final int length = chars.length();
+        // a char never takes more than 3 bytes, a surrogate pair takes 4 bytes for 2 chars
+        if (encodeBuffer.length < length * 3) {
+            encodeBuffer = Arrays.copyOf(encodeBuffer, length * 3);
+        }
+        final byte[] buffer = encodeBuffer;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                final char low = i + 1 < length ? chars.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    final int codePoint = Character.toCodePoint(c, low);
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    i++;
+                } else {
+                    buffer[position++] = (byte) '?';
+                }
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+}
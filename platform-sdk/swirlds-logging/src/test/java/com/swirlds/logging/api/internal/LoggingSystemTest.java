@@ -936,6 +936,46 @@ public class LoggingSystemTest {
         }
     }
 
+    @Test
+    void testAsyncFileHandlerLogging(@TempDir final Path tempDir) throws IOException {
+
+        // given
+        final String logFile = tempDir.resolve(LOG_FILE).toString();
+        final String fileHandlerName = "asyncFile";
+        final Configuration configuration = LoggingTestUtils.getConfigBuilder()
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.%s.type".formatted(fileHandlerName), "asyncFile")
+                .withValue("logging.handler.%s.enabled".formatted(fileHandlerName), "true")
+                .withValue("logging.handler.%s.formatTimestamp".formatted(fileHandlerName), "false")
+                .withValue("logging.handler.%s.level".formatted(fileHandlerName), "trace")
+                .withValue("logging.handler.%s.file".formatted(fileHandlerName), logFile)
+                .withValue("logging.handler.%s.async.capacity".formatted(fileHandlerName), "16")
+                .getOrCreateConfig();
+        final LoggingMirrorImpl mirror = new LoggingMirrorImpl();
+        final LoggingSystem loggingSystem = LoggingTestUtils.loggingSystemWithHandlers(configuration, mirror);
+        // A random log name, so it's easier to combine lines after
+        final String loggerName = UUID.randomUUID().toString();
+        final Logger logger = loggingSystem.getLogger(loggerName);
+
+        // when
+        LoggingTestUtils.loggExtensively(logger);
+        loggingSystem.stopAndFinalize();
+
+        try {
+            final List<String> statementsInMirror = LoggingTestUtils.mirrorToStatements(mirror);
+            final List<String> logLines = getLines(logFile);
+            final List<String> statementsInFile = linesToStatements(logLines);
+
+            // then
+            assertThat(statementsInFile.size()).isEqualTo(EXPECTED_STATEMENTS);
+            final int expectedLineCountInFile = countLinesInStatements(statementsInMirror);
+            assertThat((long) logLines.size()).isEqualTo(expectedLineCountInFile);
+            assertThat(statementsInFile).isSubsetOf(statementsInMirror);
+        } finally {
+            Files.deleteIfExists(Path.of(logFile));
+        }
+    }
+
     @Test
     void testSimpleConfigUpdate() {
         // given
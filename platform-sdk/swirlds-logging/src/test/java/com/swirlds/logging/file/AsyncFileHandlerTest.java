@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogMessage;
+import com.swirlds.logging.api.internal.emergency.EmergencyLoggerImpl;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.ParameterizedLogMessage;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import com.swirlds.logging.test.fixtures.util.LoggingTestUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AsyncFileHandlerTest {
+
+    private static final String HANDLER_NAME = "async";
+
+    @Test
+    void testDropPolicyDropsOnlyUpToDropLevel() throws Exception {
+        // Given
+        final GatedOutputStream outputStream = new GatedOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, dropConfiguration(2), outputStream);
+        try {
+            // the writer takes the first event and is held in the write, so the ring fills up
+            handler.handle(event(Level.INFO, "first"));
+            assertThat(outputStream.awaitWriteStarted()).isTrue();
+            handler.handle(event(Level.INFO, "second"));
+
+            // When
+            handler.handle(event(Level.INFO, "dropped info"));
+            handler.handle(event(Level.DEBUG, "dropped debug"));
+            handler.handle(event(Level.TRACE, "dropped trace"));
+            final Thread warnThread = new Thread(() -> handler.handle(event(Level.WARN, "kept warn")));
+            warnThread.start();
+            warnThread.join(200);
+
+            // Then
+            assertThat(handler.getDroppedEventCount()).isEqualTo(3);
+            assertThat(warnThread.isAlive()).as("events more severe than the drop level wait for space").isTrue();
+
+            outputStream.open();
+            warnThread.join(TimeUnit.SECONDS.toMillis(10));
+            assertThat(warnThread.isAlive()).isFalse();
+            handler.flush();
+        } finally {
+            outputStream.open();
+            handler.stopAndFinalize();
+        }
+
+        final String output = outputStream.written();
+        assertThat(output).doesNotContain("dropped info", "dropped debug", "dropped trace");
+        final List<String> lines = output.lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).contains("first");
+        assertThat(lines.get(1)).contains("second");
+        assertThat(lines.get(2)).contains("WARN").contains("3 log events were dropped");
+        assertThat(lines.get(3)).contains("kept warn");
+    }
+
+    @Test
+    void testFlushWaitsForDrain() throws Exception {
+        // Given
+        final GatedOutputStream outputStream = new GatedOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, dropConfiguration(16), outputStream);
+        try {
+            for (int i = 0; i < 10; i++) {
+                handler.handle(event(Level.INFO, "message " + i));
+            }
+            assertThat(outputStream.awaitWriteStarted()).isTrue();
+
+            // When
+            final Thread flushThread = new Thread(handler::flush);
+            flushThread.start();
+            flushThread.join(200);
+
+            // Then
+            assertThat(flushThread.isAlive()).as("flush must wait until the writer has written everything").isTrue();
+            outputStream.open();
+            flushThread.join(TimeUnit.SECONDS.toMillis(10));
+            assertThat(flushThread.isAlive()).isFalse();
+            // everything handed to the handler before the flush is written when it returns
+            assertThat(outputStream.written().lines()).hasSize(10);
+        } finally {
+            outputStream.open();
+            handler.stopAndFinalize();
+        }
+    }
+
+    @Test
+    void testMessageIsRenderedOnLoggingThread() throws Exception {
+        // Given
+        final GatedOutputStream outputStream = new GatedOutputStream();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, dropConfiguration(16), outputStream);
+        final StringBuilder parameter = new StringBuilder("before");
+        try {
+            // When
+            handler.handle(event(Level.INFO, new ParameterizedLogMessage("value is {}", parameter)));
+            parameter.setLength(0);
+            parameter.append("after");
+            outputStream.open();
+            handler.flush();
+        } finally {
+            outputStream.open();
+            handler.stopAndFinalize();
+        }
+
+        // Then
+        assertThat(outputStream.written()).contains("value is before").doesNotContain("after");
+    }
+
+    @Test
+    void testFailedWriterForwardsToEmergencyLoggerInsteadOfBlocking() throws Exception {
+        // Given
+        final OutputStream failingStream = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                throw new Error("writer killed");
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                throw new Error("writer killed");
+            }
+        };
+        final Configuration configuration = LoggingTestUtils.getConfigBuilder()
+                .withValue("logging.handler.%s.async.capacity".formatted(HANDLER_NAME), "1")
+                .withValue("logging.handler.%s.async.overflowPolicy".formatted(HANDLER_NAME), "BLOCK")
+                .getOrCreateConfig();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, configuration, failingStream);
+        EmergencyLoggerImpl.getInstance().publishLoggedEvents();
+        try {
+            // When
+            final Thread loggingThread = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    handler.handle(event(Level.ERROR, "after failure " + i));
+                }
+                handler.flush();
+            });
+            loggingThread.start();
+            loggingThread.join(TimeUnit.SECONDS.toMillis(10));
+
+            // Then
+            assertThat(loggingThread.isAlive()).as("logging must not block once the writer has failed").isFalse();
+        } finally {
+            handler.stopAndFinalize();
+        }
+        final List<String> forwarded = EmergencyLoggerImpl.getInstance().publishLoggedEvents().stream()
+                .map(e -> e.message().getMessage())
+                .toList();
+        assertThat(forwarded).contains("after failure 0", "after failure 4");
+    }
+
+    @Test
+    void testEncodeUtf8WithSurrogates() throws Exception {
+        // Given
+        final GatedOutputStream outputStream = new GatedOutputStream();
+        outputStream.open();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, dropConfiguration(16), outputStream);
+        // a surrogate pair, an unpaired high surrogate, an unpaired low surrogate, and characters of 1 to 3 bytes
+        final String message = "pair 😀 high \uD83D low \uDE00 reversed \uDE00\uD83D end aé€";
+        try {
+            // When
+            handler.handle(event(Level.INFO, message));
+            handler.flush();
+        } finally {
+            handler.stopAndFinalize();
+        }
+
+        // Then
+        final byte[] written = outputStream.writtenBytes();
+        final String line = new String(written, StandardCharsets.UTF_8);
+        // the output must be valid UTF-8, and unpaired surrogates are replaced with '?' like String.getBytes does
+        assertThat(written).isEqualTo(line.getBytes(StandardCharsets.UTF_8));
+        assertThat(line).contains(new String(message.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        assertThat(line).contains("pair 😀 high ? low ? reversed ?? end aé€");
+    }
+
+    private static Configuration dropConfiguration(final int capacity) {
+        return LoggingTestUtils.getConfigBuilder()
+                .withValue("logging.handler.%s.formatTimestamp".formatted(HANDLER_NAME), "false")
+                .withValue("logging.handler.%s.async.capacity".formatted(HANDLER_NAME), String.valueOf(capacity))
+                .withValue("logging.handler.%s.async.overflowPolicy".formatted(HANDLER_NAME), "DROP")
+                .withValue("logging.handler.%s.async.dropLevel".formatted(HANDLER_NAME), "INFO")
+                .getOrCreateConfig();
+    }
+
+    private static LogEvent event(final Level level, final String message) {
+        return event(level, new SimpleLogMessage(message));
+    }
+
+    private static LogEvent event(final Level level, final LogMessage message) {
+        final MutableLogEvent event = new MutableLogEvent();
+        event.update(
+                level,
+                AsyncFileHandlerTest.class.getName(),
+                Thread.currentThread().getName(),
+                System.currentTimeMillis(),
+                message,
+                null,
+                null,
+                Map.of());
+        return event;
+    }
+
+    /**
+     * An output stream that holds every write until it is opened, so the writer thread can be kept busy.
+     */
+    private static class GatedOutputStream extends OutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        void open() {
+            gate.countDown();
+        }
+
+        boolean awaitWriteStarted() throws InterruptedException {
+            return writeStarted.await(10, TimeUnit.SECONDS);
+        }
+
+        synchronized byte[] writtenBytes() {
+            return bytes.toByteArray();
+        }
+
+        String written() {
+            return new String(writtenBytes(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            writeStarted.countDown();
+            try {
+                gate.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            synchronized (this) {
+                bytes.write(b, off, len);
+            }
+        }
+    }
+}
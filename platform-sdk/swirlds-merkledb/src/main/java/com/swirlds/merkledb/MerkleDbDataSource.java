@@ -64,8 +64,10 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -160,9 +162,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
 
-    /** Thread pool storing key-to-path mappings */
+    /** Thread pool storing path-to-KV leaf records */
     private final ExecutorService storeLeavesExecutor;
 
+    /** Thread pool storing key-to-path mappings */
+    private final ExecutorService storeLeafKeysExecutor;
+
     /** Thread pool creating snapshots, it is unbounded in threads, but we use at most 7 */
     private final ExecutorService snapshotExecutor;
 
@@ -216,6 +221,14 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 .setExceptionHandler((t, ex) -> logger.error(
                         EXCEPTION.getMarker(), "[{}] Uncaught exception during storing leaves", tableName, ex))
                 .buildFactory());
+        // create thread pool storing virtual leaf keys
+        storeLeafKeysExecutor = Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
+                .setComponent(MERKLEDB_COMPONENT)
+                .setThreadGroup(threadGroup)
+                .setThreadName("Store leaf keys")
+                .setExceptionHandler((t, ex) -> logger.error(
+                        EXCEPTION.getMarker(), "[{}] Uncaught exception during storing leaf keys", tableName, ex))
+                .buildFactory());
         // thread pool creating snapshots, it is unbounded in threads, but we use at most 7
         snapshotExecutor = Executors.newCachedThreadPool(new ThreadConfiguration(getStaticThreadManager())
                 .setComponent(MERKLEDB_COMPONENT)
@@ -507,14 +520,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             throws IOException {
         try {
             validLeafPathRange = new KeyRange(firstLeafPath, lastLeafPath);
-            final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 2 : 1);
+            final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 3 : 2);
 
             if (lastLeafPath > 0) {
                 // Use an executor to make sure the data source is not closed in parallel. See
                 // the comment in close() for details
                 storeHashesExecutor.execute(() -> {
+                    final long start = System.currentTimeMillis();
                     try {
                         writeHashes(lastLeafPath, hashRecordsToUpdate);
+                        statisticsUpdater.setFlushHashesTimeMs(System.currentTimeMillis() - start);
                     } catch (final IOException e) {
                         logger.error(EXCEPTION.getMarker(), "[{}] Failed to store hashes", tableName, e);
                         throw new UncheckedIOException(e);
@@ -524,20 +539,45 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 });
             }
 
-            // Use an executor to make sure the data source is not closed in parallel. See
+            // Dirty leaves must be sorted by path, which buffers the whole stream anyway. Collecting
+            // them to a list lets the path-to-KV store and the key-to-path index, which are independent
+            // of each other, be updated in parallel on their own threads. Supplying elements to the
+            // stream includes expensive operations like serialization to bytes, so it's done in parallel
+            final List<VirtualLeafBytes> dirtyLeaves = leafRecordsToAddOrUpdate
+                    .parallel()
+                    .sorted(Comparator.comparingLong(VirtualLeafBytes::path))
+                    .toList();
+
+            // Completed once pathToKeyValue has finished writing. New paths in keyToPath must not become
+            // visible to readers before the leaf records at those paths, so keyToPath only ends writing
+            // after this completes; if storing leaves fails, keyToPath doesn't end writing at all
+            final CompletableFuture<Void> leavesStored = new CompletableFuture<>();
+
+            // Use executors to make sure the data source is not closed in parallel. See
             // the comment in close() for details
             storeLeavesExecutor.execute(() -> {
+                final long start = System.currentTimeMillis();
                 try {
-                    // we might as well do this in the archive thread rather than leaving it waiting
-                    writeLeavesToPathToKeyValue(
-                            firstLeafPath,
-                            lastLeafPath,
-                            leafRecordsToAddOrUpdate,
-                            leafRecordsToDelete,
-                            isReconnectContext);
+                    writeLeavesToPathToKeyValue(firstLeafPath, lastLeafPath, dirtyLeaves);
+                    statisticsUpdater.setFlushLeavesTimeMs(System.currentTimeMillis() - start);
+                    leavesStored.complete(null);
                 } catch (final IOException e) {
                     logger.error(EXCEPTION.getMarker(), "[{}] Failed to store leaves", tableName, e);
                     throw new UncheckedIOException(e);
+                } finally {
+                    // A no-op if the leaves were stored; otherwise releases the leaf keys thread
+                    leavesStored.completeExceptionally(new IllegalStateException("Failed to store leaves"));
+                    countDownLatch.countDown();
+                }
+            });
+            storeLeafKeysExecutor.execute(() -> {
+                final long start = System.currentTimeMillis();
+                try {
+                    writeLeavesToKeyToPath(dirtyLeaves, leafRecordsToDelete, isReconnectContext, leavesStored);
+                    statisticsUpdater.setFlushLeafKeysTimeMs(System.currentTimeMillis() - start);
+                } catch (final IOException e) {
+                    logger.error(EXCEPTION.getMarker(), "[{}] Failed to store leaf keys", tableName, e);
+                    throw new UncheckedIOException(e);
                 } finally {
                     countDownLatch.countDown();
                 }
@@ -769,7 +809,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 // Shut down all executors. If a flush is currently in progress, it will be interrupted.
                 // It's critical to make sure there are no disk read/write operations before all indiced
                 // and file collections are closed below
-                shutdownThreadsAndWait(storeHashesExecutor, storeLeavesExecutor, snapshotExecutor);
+                shutdownThreadsAndWait(
+                        storeHashesExecutor, storeLeavesExecutor, storeLeafKeysExecutor, snapshotExecutor);
             } finally {
                 try {
                     // close all closable data stores
@@ -1137,24 +1178,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
     }
 
-    /** Write all the given leaf records to pathToKeyValue */
+    /** Write all the given leaf records, sorted by path, to pathToKeyValue */
     private void writeLeavesToPathToKeyValue(
-            final long firstLeafPath,
-            final long lastLeafPath,
-            @NonNull final Stream<VirtualLeafBytes> dirtyLeaves,
-            @NonNull final Stream<VirtualLeafBytes> deletedLeaves,
-            boolean isReconnect)
+            final long firstLeafPath, final long lastLeafPath, @NonNull final List<VirtualLeafBytes> dirtyLeaves)
             throws IOException {
-        // If both streams are empty, no new data files should be created. One simple way to
-        // check emptiness is to use iterators. The iterators are consumed on a single thread
-        // (the current thread), but it still makes sense to use parallel streams as supplying
-        // elements to the stream includes expensive operations like serialization to bytes
-        final Iterator<VirtualLeafBytes> dirtyIterator = dirtyLeaves
-                .parallel()
-                .sorted(Comparator.comparingLong(VirtualLeafBytes::path))
-                .iterator();
-        final Iterator<VirtualLeafBytes> deletedIterator = deletedLeaves.iterator();
-
         if (lastLeafPath < 0) {
             // Empty store
             pathToKeyValue.updateValidKeyRange(-1, -1);
@@ -1162,23 +1189,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             pathToKeyValue.updateValidKeyRange(firstLeafPath, lastLeafPath);
         }
 
-        if (!dirtyIterator.hasNext() && !deletedIterator.hasNext()) {
-            // Nothing to do
+        if (dirtyLeaves.isEmpty()) {
+            // Nothing to do. Deleted leaves don't need to be explicitly removed from pathToKeyValue,
+            // they will be deleted on next merge based on range of valid leaf paths. If a leaf at
+            // path X is deleted then a new leaf is inserted at path X then the record is just
+            // updated to new leaf's data
             return;
         }
 
         pathToKeyValue.startWriting();
-        keyToPath.startWriting();
-
-        // Iterate over leaf records
-        while (dirtyIterator.hasNext()) {
-            final VirtualLeafBytes leafBytes = dirtyIterator.next();
-            final long path = leafBytes.path();
-            // Update key to path index
-            keyToPath.put(leafBytes.keyBytes(), leafBytes.keyHashCode(), path);
-            statisticsUpdater.countFlushLeafKeysWritten();
-
-            // Update path to K/V store
+        for (final VirtualLeafBytes leafBytes : dirtyLeaves) {
             try {
                 pathToKeyValue.put(leafBytes.path(), leafBytes::writeTo, leafBytes.getSizeInBytes());
             } catch (final IOException e) {
@@ -1186,6 +1206,36 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 throw new UncheckedIOException(e);
             }
             statisticsUpdater.countFlushLeavesWritten();
+        }
+        final DataFileReader pathToKeyValueReader = pathToKeyValue.endWriting();
+        statisticsUpdater.setFlushLeavesStoreFileSize(pathToKeyValueReader);
+        compactionCoordinator.compactPathToKeyValueAsync();
+    }
+
+    /**
+     * Update keyToPath with all the given dirty and deleted leaf records. The updates are only made visible
+     * to readers, by ending writing, once the given future reports that pathToKeyValue has been written.
+     */
+    private void writeLeavesToKeyToPath(
+            @NonNull final List<VirtualLeafBytes> dirtyLeaves,
+            @NonNull final Stream<VirtualLeafBytes> deletedLeaves,
+            boolean isReconnect,
+            @NonNull final CompletableFuture<Void> leavesStored)
+            throws IOException {
+        // If both are empty, no new data files should be created. One simple way to check
+        // stream emptiness is to use an iterator
+        final Iterator<VirtualLeafBytes> deletedIterator = deletedLeaves.iterator();
+        if (dirtyLeaves.isEmpty() && !deletedIterator.hasNext()) {
+            // Nothing to do
+            return;
+        }
+
+        keyToPath.startWriting();
+
+        // Iterate over leaf records
+        for (final VirtualLeafBytes leafBytes : dirtyLeaves) {
+            keyToPath.put(leafBytes.keyBytes(), leafBytes.keyHashCode(), leafBytes.path());
+            statisticsUpdater.countFlushLeafKeysWritten();
 
             // cache the record
             invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
@@ -1199,7 +1249,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // deletedLeaves stream have been moved to different paths in the tree. This is good
             // indication that these leaves should not be deleted. This is why putIfEqual() and
             // deleteIfEqual() are used below rather than unconditional put() and delete() as for
-            // dirtyLeaves stream above
+            // dirtyLeaves above
             if (isReconnect) {
                 keyToPath.deleteIfEqual(leafBytes.keyBytes(), leafBytes.keyHashCode(), path);
             } else {
@@ -1207,20 +1257,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             }
             statisticsUpdater.countFlushLeavesDeleted();
 
-            // delete from pathToKeyValue, we don't need to explicitly delete leaves as
-            // they will be deleted on
-            // next merge based on range of valid leaf paths. If a leaf at path X is deleted
-            // then a new leaf is
-            // inserted at path X then the record is just updated to new leaf's data.
-
             // delete the record from the cache
             invalidateReadCache(leafBytes.keyBytes(), leafBytes.keyHashCode());
         }
 
-        // end writing
-        final DataFileReader pathToKeyValueReader = pathToKeyValue.endWriting();
-        statisticsUpdater.setFlushLeavesStoreFileSize(pathToKeyValueReader);
-        compactionCoordinator.compactPathToKeyValueAsync();
+        // pathToKeyValue must end writing first, as it did when both were written on a single thread
+        leavesStored.join();
         final DataFileReader keyToPathReader = keyToPath.endWriting();
         statisticsUpdater.setFlushLeafKeysStoreFileSize(keyToPathReader);
         compactionCoordinator.compactDiskStoreForKeyToPathAsync();
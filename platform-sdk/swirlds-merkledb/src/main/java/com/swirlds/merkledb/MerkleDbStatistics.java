@@ -82,6 +82,12 @@ public class MerkleDbStatistics {
     private DoubleAccumulator flushLeavesStoreFileSizeMb;
     private LongAccumulator flushLeafKeysWritten;
     private DoubleAccumulator flushLeafKeysStoreFileSizeMb;
+    /** Flushes - time to write hashes in ms */
+    private LongAccumulator flushHashesTimeMs;
+    /** Flushes - time to write leaves to the leaves store in ms */
+    private LongAccumulator flushLeavesTimeMs;
+    /** Flushes - time to update the leaf keys store in ms */
+    private LongAccumulator flushLeafKeysTimeMs;
 
     /** Hashes store compactions - time in ms */
     private final List<LongAccumulator> hashesStoreCompactionTimeMsList;
@@ -232,6 +238,18 @@ public class MerkleDbStatistics {
                 metrics,
                 DS_PREFIX + FLUSHES_PREFIX + "leafKeysStoreFileSizeMb_" + label,
                 "Size of the new leaf keys store file created during flush, " + label + ", Mb");
+        flushHashesTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + FLUSHES_PREFIX + "hashesTimeMs_" + label,
+                "Time to write hashes during flush, " + label + ", ms");
+        flushLeavesTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + FLUSHES_PREFIX + "leavesTimeMs_" + label,
+                "Time to write leaves during flush, " + label + ", ms");
+        flushLeafKeysTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + FLUSHES_PREFIX + "leafKeysTimeMs_" + label,
+                "Time to write leaf keys during flush, " + label + ", ms");
 
         // Compaction
 
@@ -450,6 +468,24 @@ public class MerkleDbStatistics {
         }
     }
 
+    public void setFlushHashesTimeMs(final long value) {
+        if (flushHashesTimeMs != null) {
+            flushHashesTimeMs.update(value);
+        }
+    }
+
+    public void setFlushLeavesTimeMs(final long value) {
+        if (flushLeavesTimeMs != null) {
+            flushLeavesTimeMs.update(value);
+        }
+    }
+
+    public void setFlushLeafKeysTimeMs(final long value) {
+        if (flushLeafKeysTimeMs != null) {
+            flushLeafKeysTimeMs.update(value);
+        }
+    }
+
     /**
      * Set the current value for the accumulator corresponding to provided compaction level from
      * {@link #hashesStoreCompactionTimeMsList}
@@ -77,6 +77,21 @@ public class MerkleDbStatisticsUpdater {
                 newHashesFile == null ? 0 : newHashesFile.getSize() * BYTES_TO_MEBIBYTES);
     }
 
+    /** Updates statistics with the time spent writing hashes during a flush. */
+    void setFlushHashesTimeMs(final long timeMs) {
+        statistics.setFlushHashesTimeMs(timeMs);
+    }
+
+    /** Updates statistics with the time spent writing leaves during a flush. */
+    void setFlushLeavesTimeMs(final long timeMs) {
+        statistics.setFlushLeavesTimeMs(timeMs);
+    }
+
+    /** Updates statistics with the time spent writing leaf keys during a flush. */
+    void setFlushLeafKeysTimeMs(final long timeMs) {
+        statistics.setFlushLeafKeysTimeMs(timeMs);
+    }
+
     /**
      * Updates hashes store file stats: file count and total size in Mb. No-op if all hashes
      * are cached in RAM.
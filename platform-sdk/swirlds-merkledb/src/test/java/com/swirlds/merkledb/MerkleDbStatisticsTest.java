@@ -91,6 +91,9 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(() -> statistics.setLeavesStoreFileCount(42));
         assertDoesNotThrow(() -> statistics.setLeavesStoreFileSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setTotalFileSizeMb(314159));
+        assertDoesNotThrow(() -> statistics.setFlushHashesTimeMs(314));
+        assertDoesNotThrow(() -> statistics.setFlushLeavesTimeMs(314));
+        assertDoesNotThrow(() -> statistics.setFlushLeafKeysTimeMs(314));
         assertDoesNotThrow(() -> statistics.setHashesStoreCompactionTimeMs(compactionLevel, 314));
         assertDoesNotThrow(() -> statistics.setHashesStoreCompactionSavedSpaceMb(compactionLevel, Math.PI));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileSizeByLevelMb(compactionLevel, Math.PI));
@@ -168,6 +168,10 @@ public class ConsensusImpl implements Consensus {
     private final long rosterTotalWeight;
     /** roster indices map. */
     private final Map<Long, Integer> rosterIndicesMap;
+    /** the number of roster entries, cached since it is read in every inner loop of the consensus functions */
+    private final int numMembers;
+    /** the weight of each roster entry, indexed by roster index */
+    private final long[] memberWeights;
     /** metrics related to consensus */
     private final ConsensusMetrics consensusMetrics;
     /** used for searching the hashgraph */
@@ -235,6 +239,11 @@ public class ConsensusImpl implements Consensus {
         this.roster = roster;
         this.rosterTotalWeight = RosterUtils.computeTotalWeight(roster);
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
+        this.numMembers = roster.rosterEntries().size();
+        this.memberWeights = new long[numMembers];
+        for (int i = 0; i < numMembers; i++) {
+            memberWeights[i] = roster.rosterEntries().get(i).weight();
+        }
 
         this.rounds = new ConsensusRounds(config, roster);
         this.ancientMode = platformContext
@@ -679,7 +688,6 @@ public class ConsensusImpl implements Consensus {
      */
     @NonNull
     private List<EventImpl> getStronglySeenInPreviousRound(final EventImpl event) {
-        final int numMembers = roster.rosterEntries().size();
         final ArrayList<EventImpl> stronglySeen = new ArrayList<>(numMembers);
         for (long m = 0; m < numMembers; m++) {
             final EventImpl s = stronglySeeS1(event, m);
@@ -964,7 +972,6 @@ public class ConsensusImpl implements Consensus {
      * @return the last event created by m that is an ancestor of x, or null if none
      */
     private @Nullable EventImpl lastSee(@Nullable final EventImpl x, final long m) {
-        final int numMembers;
         final EventImpl sp;
         final EventImpl op;
 
@@ -978,14 +985,14 @@ public class ConsensusImpl implements Consensus {
             return x.getLastSee((int) m);
         }
         // memoize answers for all choices of m, then return answer for just this m
-        numMembers = roster.rosterEntries().size();
         x.initLastSee(numMembers);
 
         op = otherParent(x);
         sp = selfParent(x);
+        final int creatorIndex = creatorIndex(x);
 
         for (int mm = 0; mm < numMembers; mm++) {
-            if (creatorIndexEquals(x, mm)) {
+            if (mm == creatorIndex) {
                 x.setLastSee(mm, x);
             } else if (sp == null && op == null) {
                 x.setLastSee(mm, null);
@@ -1051,7 +1058,6 @@ public class ConsensusImpl implements Consensus {
         }
         // calculate the answer, and remember it for next time
         // find and memoize answers for all choices of m, then return answer for just this m
-        final int numMembers = roster.rosterEntries().size(); // number of members
         final EventImpl sp = selfParent(x); // self parent
         final EventImpl op = otherParent(x); // other parent
         final long prx = parentRound(x); // parent round of x
@@ -1069,26 +1075,63 @@ public class ConsensusImpl implements Consensus {
                 final EventImpl st = seeThru(x, mm, mm);
                 if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
                     x.setStronglySeeP(mm, null);
+                } else if (seesThruSupermajority(x, mm, st)) { // strongly see supermajority of intermediates
+                    x.setStronglySeeP(mm, st);
                 } else {
-                    long weight = 0;
-                    for (int m3 = 0; m3 < numMembers; m3++) {
-                        if (seeThru(x, mm, m3) == st) { // only count intermediates that see the canonical witness
-                            weight += getWeight(m3);
-                        }
-                    }
-                    if (Threshold.SUPER_MAJORITY.isSatisfiedBy(
-                            weight, rosterTotalWeight)) { // strongly see supermajority of
-                        // intermediates
-                        x.setStronglySeeP(mm, st);
-                    } else {
-                        x.setStronglySeeP(mm, null);
-                    }
+                    x.setStronglySeeP(mm, null);
                 }
             }
         }
+        if (sp != null && prx == prsp && sameMemo(x.getStronglySeeP(), sp.getStronglySeeP())) {
+            // once an event strongly sees every witness it can in its parent round, its self-descendants in the same
+            // round memoize the same answers, so they all keep one array instead of one per event
+            x.shareStronglySeeP(sp);
+        }
         return x.getStronglySeeP((int) m);
     }
 
+    /**
+     * Check whether two memo arrays hold the same events.
+     *
+     * @param a the first memo
+     * @param b the second memo, may be null if it has not been computed
+     * @return true if both memos hold the same events in the same positions
+     */
+    private static boolean sameMemo(@NonNull final EventImpl[] a, @Nullable final EventImpl[] b) {
+        if (b == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the intermediates through which x sees the canonical witness st created by m hold a supermajority
+     * of weight. The weight is accumulated over the primitive weight array and the loop stops as soon as the
+     * supermajority is reached, since the rest of the intermediates can no longer change the outcome.
+     *
+     * @param x  the event being queried
+     * @param m  the creator of the canonical witness
+     * @param st the canonical witness created by m that x sees
+     * @return true if x sees st through intermediates holding a supermajority of weight
+     */
+    private boolean seesThruSupermajority(@NonNull final EventImpl x, final int m, @NonNull final EventImpl st) {
+        long weight = 0;
+        for (int m3 = 0; m3 < numMembers; m3++) {
+            if (seeThru(x, m, m3) == st) { // only count intermediates that see the canonical witness
+                weight += memberWeights[m3];
+                if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, rosterTotalWeight)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * The round-created for event x (first round is 1), or 0 if x is null (function from
      * SWIRLDS-TR-2020-01). It also stores the round number with x.setRoundCreated(). This result is
@@ -1162,9 +1205,6 @@ public class ConsensusImpl implements Consensus {
             return x.getRoundCreated();
         }
 
-        // number of members that are voting
-        final int numMembers = roster.rosterEntries().size();
-
         // parents have equal rounds (not -1), so check if x can strongly see witnesses with a
         // supermajority of stake
         // sum of stake involved
@@ -1276,10 +1316,8 @@ public class ConsensusImpl implements Consensus {
      * @return the weight of the node, or 0 if the node is not in the address book
      */
     private long getWeight(@NonNull final NodeId nodeId) {
-        if (!rosterIndicesMap.containsKey(nodeId.id())) {
-            return 0;
-        }
-        return roster.rosterEntries().get(rosterIndicesMap.get(nodeId.id())).weight();
+        final Integer index = rosterIndicesMap.get(nodeId.id());
+        return index == null ? 0 : memberWeights[index];
     }
 
     /**
@@ -1288,7 +1326,7 @@ public class ConsensusImpl implements Consensus {
      * @return the weight of the node
      */
     private long getWeight(final int nodeIndex) {
-        return roster.rosterEntries().get(nodeIndex).weight();
+        return memberWeights[nodeIndex];
     }
 
     /**
@@ -1298,10 +1336,17 @@ public class ConsensusImpl implements Consensus {
      * @return true if this creator is in the address book and has the given index
      */
     private boolean creatorIndexEquals(@NonNull final EventImpl e, final int index) {
-        if (!rosterIndicesMap.containsKey(e.getCreatorId().id())) {
-            return false;
-        }
-        return rosterIndicesMap.get(e.getCreatorId().id()) == index;
+        return creatorIndex(e) == index;
+    }
+
+    /**
+     * Get the index in the address book of the creator of the event
+     * @param e the event whose creator to look up
+     * @return the roster index of the creator, or -1 if the creator is not in the roster
+     */
+    private int creatorIndex(@NonNull final EventImpl e) {
+        final Integer index = rosterIndicesMap.get(e.getCreatorId().id());
+        return index == null ? -1 : index;
     }
 
     @Override
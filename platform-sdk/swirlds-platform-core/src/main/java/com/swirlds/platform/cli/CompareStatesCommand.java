@@ -28,6 +28,7 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.logging.legacy.LogMarker;
 import com.swirlds.platform.config.DefaultConfiguration;
+import com.swirlds.platform.state.signed.MismatchedNodes;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.state.signed.SignedStateComparison;
 import com.swirlds.platform.state.snapshot.SignedStateFileReader;
@@ -38,6 +39,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
@@ -71,6 +73,11 @@ public final class CompareStatesCommand extends AbstractCommand {
      */
     private boolean deepComparison = false;
 
+    /**
+     * The number of threads used to compare the states.
+     */
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
     /**
      * Load configuration from these files.
      */
@@ -123,6 +130,17 @@ public final class CompareStatesCommand extends AbstractCommand {
         this.deepComparison = deepComparison;
     }
 
+    @CommandLine.Option(
+            names = {"--threads"},
+            description = "the number of threads used to descend the states in parallel, "
+                    + "defaults to the number of available processors")
+    private void setThreadCount(final int threadCount) {
+        if (threadCount <= 0) {
+            throw new CommandLine.ParameterException(getSpec().commandLine(), "thread count must be non-zero positive");
+        }
+        this.threadCount = threadCount;
+    }
+
     /**
      * Load a state from disk and hash it.
      *
@@ -166,10 +184,19 @@ public final class CompareStatesCommand extends AbstractCommand {
 
         try (final ReservedSignedState stateA = loadAndHashState(platformContext, stateAPath)) {
             try (final ReservedSignedState stateB = loadAndHashState(platformContext, stateBPath)) {
-                SignedStateComparison.printMismatchedNodes(
-                        SignedStateComparison.mismatchedNodeIterator(
-                                stateA.get().getState(), stateB.get().getState(), deepComparison),
-                        nodeLimit);
+                logger.info(LogMarker.CLI.getMarker(), "Comparing states using {} thread(s)", threadCount);
+                try (final ForkJoinPool pool = new ForkJoinPool(threadCount)) {
+                    // Only look for one difference more than will be printed, enough to know that more remain
+                    final int maxResults = (int) Math.min((long) nodeLimit + 1, Integer.MAX_VALUE);
+                    final List<MismatchedNodes> mismatches = SignedStateComparison.findMismatchedNodes(
+                            stateA.get().getState(), stateB.get().getState(), deepComparison, maxResults, pool);
+                    final List<MismatchedNodes> printed = mismatches.subList(0, Math.min(nodeLimit, mismatches.size()));
+                    SignedStateComparison.printMismatchedNodes(printed.iterator(), nodeLimit);
+                    if (mismatches.size() > nodeLimit) {
+                        System.out.println("Maximum number of differences printed. The comparison stopped after the "
+                                + "first " + nodeLimit + " difference" + (nodeLimit == 1 ? "" : "s") + ".");
+                    }
+                }
             }
         }
 
@@ -16,10 +16,27 @@
 
 package com.swirlds.platform.cli;
 
+import static com.swirlds.common.io.utility.FileUtils.getAbsolutePath;
+import static com.swirlds.platform.state.service.PlatformStateFacade.DEFAULT_PLATFORM_STATE_FACADE;
+
 import com.swirlds.cli.commands.StateCommand;
 import com.swirlds.cli.utility.AbstractCommand;
 import com.swirlds.cli.utility.SubcommandOf;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.logging.legacy.LogMarker;
+import com.swirlds.platform.config.DefaultConfiguration;
+import com.swirlds.platform.state.signed.ReservedSignedState;
+import com.swirlds.platform.state.snapshot.DeserializedSignedState;
+import com.swirlds.platform.state.snapshot.SignedStateFileReader;
+import com.swirlds.platform.util.BootstrapUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
@@ -32,11 +49,79 @@ import picocli.CommandLine;
 public final class ValidateStateCommand extends AbstractCommand {
     private static final Logger logger = LogManager.getLogger(ValidateStateCommand.class);
 
+    /**
+     * The path to the state being validated.
+     */
+    private Path statePath;
+
+    /**
+     * Load configuration from these files.
+     */
+    private List<Path> configurationPaths = List.of();
+
     private ValidateStateCommand() {}
 
+    /**
+     * Set the configuration paths.
+     */
+    @CommandLine.Option(
+            names = {"-c", "--config"},
+            description = "A path to where a configuration file can be found. If not provided then defaults are used.")
+    private void setConfigurationPath(final List<Path> configurationPaths) {
+        configurationPaths.forEach(this::pathMustExist);
+        this.configurationPaths = configurationPaths;
+    }
+
+    /**
+     * Set the path to the state.
+     */
+    @CommandLine.Parameters(description = "the path to the SignedState.swh that is being validated")
+    private void setStatePath(final Path statePath) {
+        this.statePath = pathMustExist(statePath.toAbsolutePath());
+    }
+
+    /**
+     * This method is called after command line input is parsed.
+     *
+     * @return return code of the program, non-zero if the state does not hash to the value recorded in the file
+     */
     @Override
-    public Integer call() {
-        logger.info(LogMarker.CLI.getMarker(), "This command is a work in progress (Deepak)");
+    public Integer call() throws IOException {
+        BootstrapUtils.setupConstructableRegistry();
+
+        final Configuration configuration = DefaultConfiguration.buildBasicConfiguration(
+                ConfigurationBuilder.create(), getAbsolutePath("settings.txt"), configurationPaths);
+
+        logger.info(LogMarker.CLI.getMarker(), "Loading state from {}", statePath);
+        final DeserializedSignedState deserializedSignedState =
+                SignedStateFileReader.readStateFile(configuration, statePath, DEFAULT_PLATFORM_STATE_FACADE);
+
+        try (final ReservedSignedState signedState = deserializedSignedState.reservedSignedState()) {
+            final MerkleNode state = signedState.get().getState();
+
+            // Virtual maps are hashed from the internal hashes in their data sources, and the rest of the
+            // tree is hashed by the merkle crypto thread pool, so nothing is rehashed on this thread.
+            logger.info(LogMarker.CLI.getMarker(), "Hashing state");
+            final Hash hash;
+            try {
+                hash = MerkleCryptoFactory.getInstance().digestTreeAsync(state).get();
+            } catch (final InterruptedException | ExecutionException e) {
+                throw new RuntimeException("unable to hash state", e);
+            }
+
+            final Hash originalHash = deserializedSignedState.originalHash();
+            if (!hash.equals(originalHash)) {
+                logger.error(
+                        LogMarker.CLI.getMarker(),
+                        "State hash {} does not match the hash {} recorded when the state was written",
+                        hash,
+                        originalHash);
+                return 1;
+            }
+
+            logger.info(LogMarker.CLI.getMarker(), "State hash {} matches the hash recorded in the state file", hash);
+        }
+
         return 0;
     }
 }
@@ -36,6 +36,7 @@ import com.swirlds.platform.consensus.ConsensusConfig;
 import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.ProtocolConfig;
+import com.swirlds.platform.gossip.config.EventPushConfig;
 import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.gossip.config.NetworkEndpoint;
 import com.swirlds.platform.gossip.config.NetworkEndpointConverter;
@@ -74,6 +75,7 @@ public class PlatformConfigurationExtension implements ConfigurationExtension {
                 CryptoConfig.class,
                 EventConfig.class,
                 EventCreationConfig.class,
+                EventPushConfig.class,
                 MerkleDbConfig.class,
                 MetricsConfig.class,
                 OSHealthCheckConfig.class,
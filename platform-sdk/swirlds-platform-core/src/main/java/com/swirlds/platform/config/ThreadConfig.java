@@ -22,7 +22,13 @@ import com.swirlds.config.api.ConfigProperty;
 /**
  * Thread related config
  *
- * @param threadPrioritySync priority for threads that sync (in SyncCaller, SyncListener, SyncServer)
+ * @param threadPrioritySync   priority for threads that sync (in SyncCaller, SyncListener, SyncServer)
+ * @param gossipVirtualThreads if true, the per-peer protocol threads (negotiation, heartbeat, sync and reconnect), the
+ *                             threads that handle incoming connections and the threads that run the parallel halves
+ *                             of a sync are virtual threads instead of platform threads. Only used by the modular
+ *                             gossip implementation.
  */
 @ConfigData("thread")
-public record ThreadConfig(@ConfigProperty(defaultValue = "5") int threadPrioritySync) {}
+public record ThreadConfig(
+        @ConfigProperty(defaultValue = "5") int threadPrioritySync,
+        @ConfigProperty(defaultValue = "false") boolean gossipVirtualThreads) {}
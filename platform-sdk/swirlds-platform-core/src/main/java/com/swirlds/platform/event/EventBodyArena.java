@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Stores serialized event bodies off-heap. Bodies of all ancient indicators are packed, in the order they are stored,
+ * into shared direct memory slabs. Each slab tracks the highest ancient indicator stored in it, and is released once
+ * the event window advances past that ancient indicator, i.e. once every body in it has expired.
+ * <p>
+ * Releasing a slab only drops the arena's reference to it. The handles of the events in the slab still reference it, so
+ * a component that is slower than the transaction handler, and still holds an expired event, can keep reading its
+ * body. The memory is returned once the last event referencing the slab is garbage collected.
+ * <p>
+ * This class is thread safe.
+ */
+public class EventBodyArena {
+
+    /**
+     * The default size of a slab, in bytes. Bodies larger than this get a slab of their own.
+     */
+    public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+    private final int slabSize;
+
+    /**
+     * The slab currently being filled, or null if there is none.
+     */
+    @Nullable
+    private Slab currentSlab;
+
+    /**
+     * All slabs that have not been released, in the order they were allocated.
+     */
+    private final List<Slab> slabs = new ArrayList<>();
+
+    /**
+     * The capacity of all slabs that have not been released.
+     */
+    private long reservedBytes;
+
+    /**
+     * The number of body bytes stored in slabs that have not been released.
+     */
+    private long liveBytes;
+
+    /**
+     * A handle to a body stored in the arena.
+     *
+     * @param slab   the slab containing the body
+     * @param offset the offset of the body in the slab
+     * @param length the length of the body
+     */
+    public record Handle(@NonNull Slab slab, int offset, int length) {
+        /**
+         * Decode the body.
+         *
+         * @return the decoded event
+         */
+        @NonNull
+        public GossipEvent decode() {
+            final ByteBuffer buffer = slab.readOnlyBuffer();
+            buffer.position(offset).limit(offset + length);
+            try {
+                return GossipEvent.PROTOBUF.parse(BufferedData.wrap(buffer.slice()));
+            } catch (final ParseException e) {
+                throw new IllegalStateException("Unable to decode an event body stored off-heap", e);
+            }
+        }
+    }
+
+    /**
+     * A block of direct memory.
+     */
+    public static final class Slab {
+        private final ByteBuffer buffer;
+        /** the highest ancient indicator of a body stored in this slab */
+        private long maxAncientIndicator = Long.MIN_VALUE;
+
+        private Slab(final int size) {
+            this.buffer = ByteBuffer.allocateDirect(size);
+        }
+
+        @NonNull
+        private ByteBuffer readOnlyBuffer() {
+            // the buffer is only written while the arena lock is held, before a handle to the written bytes exists
+            return buffer.asReadOnlyBuffer();
+        }
+
+        private int capacity() {
+            return buffer.capacity();
+        }
+
+        private int used() {
+            return buffer.position();
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param slabSize the size of a slab, in bytes
+     */
+    public EventBodyArena(final int slabSize) {
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("slabSize must be positive");
+        }
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Store a serialized event body.
+     *
+     * @param ancientIndicator the ancient indicator of the event
+     * @param body             the serialized body
+     * @return a handle to the stored body
+     */
+    @NonNull
+    public synchronized Handle store(final long ancientIndicator, @NonNull final Bytes body) {
+        final int length = Math.toIntExact(body.length());
+
+        Slab slab = currentSlab;
+        if (slab == null || slab.buffer.remaining() < length) {
+            slab = new Slab(Math.max(slabSize, length));
+            reservedBytes += slab.capacity();
+            slabs.add(slab);
+            if (length < slabSize) {
+                // a slab dedicated to one large body is never filled further, the current slab keeps its free space
+                currentSlab = slab;
+            }
+        }
+
+        final ByteBuffer buffer = slab.buffer;
+        final int offset = buffer.position();
+        body.writeTo(buffer);
+        slab.maxAncientIndicator = Math.max(slab.maxAncientIndicator, ancientIndicator);
+        liveBytes += length;
+        return new Handle(slab, offset, length);
+    }
+
+    /**
+     * Release all slabs that only hold bodies with an ancient indicator lower than the given threshold. Events that are
+     * still referenced can still read their bodies, the memory is returned once they are garbage collected.
+     *
+     * @param threshold the lowest ancient indicator that is kept
+     */
+    public synchronized void releaseBelow(final long threshold) {
+        final Iterator<Slab> iterator = slabs.iterator();
+        while (iterator.hasNext()) {
+            final Slab slab = iterator.next();
+            if (slab.maxAncientIndicator < threshold) {
+                reservedBytes -= slab.capacity();
+                liveBytes -= slab.used();
+                iterator.remove();
+                if (slab == currentSlab) {
+                    currentSlab = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes of direct memory held by slabs that have not been released, this does not include
+     * released slabs that are still referenced by events
+     */
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    /**
+     * @return the number of body bytes stored in slabs that have not been released
+     */
+    public synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+}
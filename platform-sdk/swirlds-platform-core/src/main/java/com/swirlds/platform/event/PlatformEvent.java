@@ -52,8 +52,12 @@ import java.util.concurrent.CountDownLatch;
 public class PlatformEvent implements ConsensusEvent, Hashable {
     private static final EventConsensusData NO_CONSENSUS =
             new EventConsensusData(null, ConsensusConstants.NO_CONSENSUS_ORDER);
-    /** The gossip event */
-    private final GossipEvent gossipEvent;
+    /** The gossip event, only holds the event core and signature once the body has been moved off-heap */
+    private volatile GossipEvent gossipEvent;
+    /** The full gossip event stored off-heap, null unless the body has been moved off-heap */
+    private volatile EventBodyArena.Handle offHeapBody;
+    /** The number of transactions in this event */
+    private final int transactionCount;
     /** Metadata for an event that can be derived from a GossipEvent */
     private final EventMetadata metadata;
     /** The time this event was received via gossip */
@@ -136,6 +140,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
     private PlatformEvent(@NonNull final GossipEvent gossipEvent, @NonNull final EventMetadata metadata) {
         this.gossipEvent = gossipEvent;
         this.metadata = metadata;
+        this.transactionCount = transactions().size();
         this.timeReceived = Instant.now();
         this.senderId = null;
         this.consensusData = NO_CONSENSUS;
@@ -150,7 +155,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      * @return a copy of this event
      */
     public PlatformEvent copyGossipedData() {
-        final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
+        final PlatformEvent platformEvent = new PlatformEvent(getGossipEvent());
         platformEvent.setHash(getHash());
         return platformEvent;
     }
@@ -183,7 +188,45 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      * The immutable gossip event
      */
     public @NonNull GossipEvent getGossipEvent() {
-        return gossipEvent;
+        // the body handle is set before the gossip event is replaced, so it must be read after the gossip event
+        final GossipEvent event = gossipEvent;
+        final EventBodyArena.Handle body = offHeapBody;
+        return body == null ? event : body.decode();
+    }
+
+    /**
+     * Move the body of this event, including its transactions, off-heap. Only the event core and the signature are
+     * kept on-heap, everything else is decoded from the arena when requested. Any data attached to the transactions of
+     * this event is lost, so this must only be called once the event has been handled.
+     *
+     * @param arena       the arena to store the body in
+     * @param ancientMode the ancient mode, which decides when the arena releases the body
+     */
+    public void moveBodyOffHeap(@NonNull final EventBodyArena arena, @NonNull final AncientMode ancientMode) {
+        if (offHeapBody != null) {
+            return;
+        }
+        final GossipEvent event = gossipEvent;
+        offHeapBody = arena.store(getAncientIndicator(ancientMode), GossipEvent.PROTOBUF.toBytes(event));
+        gossipEvent = GossipEvent.newBuilder()
+                .eventCore(event.eventCore())
+                .signature(event.signature())
+                .build();
+        metadata.releaseTransactions();
+    }
+
+    /**
+     * @return the transactions of this event, decoded from the off-heap body if they have been released
+     */
+    @NonNull
+    private List<TransactionWrapper> transactions() {
+        // the body handle is set before the transactions are released, so it must be read after the transactions
+        final List<TransactionWrapper> transactions = metadata.getTransactions();
+        final EventBodyArena.Handle body = offHeapBody;
+        if (transactions != null || body == null) {
+            return Objects.requireNonNull(transactions);
+        }
+        return EventMetadata.transactionsOf(body.decode());
     }
 
     /**
@@ -204,7 +247,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
 
     @Override
     public Iterator<Transaction> transactionIterator() {
-        return new TypedIterator<>(metadata.getTransactions().iterator());
+        return new TypedIterator<>(transactions().iterator());
     }
 
     @Override
@@ -255,7 +298,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      * @return the number of transactions this event contains
      */
     public int getTransactionCount() {
-        return metadata.getTransactions().size();
+        return transactionCount;
     }
 
     /**
@@ -313,7 +356,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
 
     @Override
     public @NonNull Iterator<ConsensusTransaction> consensusTransactionIterator() {
-        return new TypedIterator<>(metadata.getTransactions().iterator());
+        return new TypedIterator<>(transactions().iterator());
     }
 
     /**
@@ -341,7 +384,7 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
     }
 
     public List<EventTransaction> getEventTransactions() {
-        return gossipEvent.eventTransaction();
+        return getGossipEvent().eventTransaction();
     }
 
     /**
@@ -353,13 +396,14 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
             throw new IllegalStateException("Consensus data must be set");
         }
 
-        for (int i = 0; i < metadata.getTransactions().size(); i++) {
-            metadata.getTransactions().get(i).setConsensusTimestamp(EventUtils.getTransactionTime(this, i));
+        final List<TransactionWrapper> transactions = transactions();
+        for (int i = 0; i < transactions.size(); i++) {
+            transactions.get(i).setConsensusTimestamp(EventUtils.getTransactionTime(this, i));
         }
     }
 
     public List<TransactionWrapper> getTransactions() {
-        return metadata.getTransactions();
+        return transactions();
     }
 
     /**
@@ -461,7 +505,8 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         }
 
         final PlatformEvent that = (PlatformEvent) o;
-        return Objects.equals(gossipEvent, that.gossipEvent) && Objects.equals(consensusData, that.consensusData);
+        return Objects.equals(getGossipEvent(), that.getGossipEvent())
+                && Objects.equals(consensusData, that.consensusData);
     }
 
     /**
@@ -23,6 +23,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.consensus.EventWindow;
@@ -30,19 +31,32 @@ import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.sequence.map.ConcurrentSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
 import com.swirlds.platform.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
 import com.swirlds.platform.wiring.NoInput;
+import com.swirlds.platform.wiring.PlatformSchedulersConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * A standard implementation of an {@link EventDeduplicator}.
+ * <p>
+ * If the deduplicator's scheduler is configured as {@link TaskSchedulerType#CONCURRENT}, the observed events are kept
+ * in a {@link ConcurrentSequenceMap}, which stripes its locks by sequence number, and the signature sets are
+ * concurrent. This allows events from different creators and generations to be deduplicated in parallel. Otherwise
+ * the cheaper single threaded data structures are used.
+ * <p>
+ * A concurrent scheduler may also deliver event windows in parallel and out of order. Window updates and clears are
+ * therefore serialized, and a window with a lower ancient threshold than the current one is ignored, so the window
+ * only ever moves forward until the deduplicator is cleared.
  */
 public class StandardEventDeduplicator implements EventDeduplicator {
     /**
@@ -50,15 +64,26 @@ public class StandardEventDeduplicator implements EventDeduplicator {
      */
     private static final Function<EventDescriptorWrapper, Set<Bytes>> NEW_HASH_SET = ignored -> new HashSet<>();
 
+    /**
+     * Same as {@link #NEW_HASH_SET}, but for sets that may be modified by several threads at once.
+     */
+    private static final Function<EventDescriptorWrapper, Set<Bytes>> NEW_CONCURRENT_HASH_SET =
+            ignored -> ConcurrentHashMap.newKeySet();
+
     /**
      * Initial capacity of {@link #observedEvents}.
      */
     private static final int INITIAL_CAPACITY = 1024;
 
     /**
-     * The current event window.
+     * The current event window. Only written while holding {@link #windowLock}.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
+
+    /**
+     * Serializes {@link #setEventWindow(EventWindow)} and {@link #clear(NoInput)}.
+     */
+    private final Object windowLock = new Object();
 
     /**
      * Keeps track of the number of events in the intake pipeline from each peer
@@ -70,6 +95,11 @@ public class StandardEventDeduplicator implements EventDeduplicator {
      */
     private final SequenceMap<EventDescriptorWrapper, Set<Bytes>> observedEvents;
 
+    /**
+     * Creates the signature set for a newly observed event descriptor.
+     */
+    private final Function<EventDescriptorWrapper, Set<Bytes>> newSignatureSet;
+
     private static final LongAccumulator.Config DISPARATE_SIGNATURE_CONFIG = new LongAccumulator.Config(
                     PLATFORM_CATEGORY, "eventsWithDisparateSignature")
             .withDescription(
@@ -111,12 +141,25 @@ public class StandardEventDeduplicator implements EventDeduplicator {
                 .getConfigData(EventConfig.class)
                 .getAncientMode();
         this.eventWindow = EventWindow.getGenesisEventWindow(ancientMode);
+        final ToLongFunction<EventDescriptorWrapper> getSequenceNumber;
         if (ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD) {
-            observedEvents = new StandardSequenceMap<>(
-                    0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
+            getSequenceNumber = ed -> ed.eventDescriptor().birthRound();
         } else {
-            observedEvents = new StandardSequenceMap<>(
-                    0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
+            getSequenceNumber = ed -> ed.eventDescriptor().generation();
+        }
+
+        final boolean concurrent = platformContext
+                        .getConfiguration()
+                        .getConfigData(PlatformSchedulersConfig.class)
+                        .eventDeduplicator()
+                        .type()
+                == TaskSchedulerType.CONCURRENT;
+        if (concurrent) {
+            observedEvents = new ConcurrentSequenceMap<>(0, INITIAL_CAPACITY, true, getSequenceNumber);
+            newSignatureSet = NEW_CONCURRENT_HASH_SET;
+        } else {
+            observedEvents = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, getSequenceNumber);
+            newSignatureSet = NEW_HASH_SET;
         }
     }
 
@@ -132,7 +175,15 @@ public class StandardEventDeduplicator implements EventDeduplicator {
             return null;
         }
 
-        final Set<Bytes> signatures = observedEvents.computeIfAbsent(event.getDescriptor(), NEW_HASH_SET);
+        Set<Bytes> signatures = observedEvents.computeIfAbsent(event.getDescriptor(), newSignatureSet);
+        if (signatures == null) {
+            // Either another thread inserted this descriptor first, or the window moved past the event.
+            signatures = observedEvents.get(event.getDescriptor());
+            if (signatures == null) {
+                intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+                return null;
+            }
+        }
         if (signatures.add(event.getSignature())) {
             if (signatures.size() != 1) {
                 // signature is unique, but descriptor is not
@@ -159,9 +210,16 @@ public class StandardEventDeduplicator implements EventDeduplicator {
      */
     @Override
     public void setEventWindow(@NonNull final EventWindow eventWindow) {
-        this.eventWindow = Objects.requireNonNull(eventWindow);
+        Objects.requireNonNull(eventWindow);
+        synchronized (windowLock) {
+            if (eventWindow.getAncientThreshold() < observedEvents.getFirstSequenceNumberInWindow()) {
+                // a stale window that was delivered after a newer one
+                return;
+            }
+            this.eventWindow = eventWindow;
 
-        observedEvents.shiftWindow(eventWindow.getAncientThreshold());
+            observedEvents.shiftWindow(eventWindow.getAncientThreshold());
+        }
     }
 
     /**
@@ -169,6 +227,8 @@ public class StandardEventDeduplicator implements EventDeduplicator {
      */
     @Override
     public void clear(@NonNull final NoInput ignored) {
-        observedEvents.clear();
+        synchronized (windowLock) {
+            observedEvents.clear();
+        }
     }
 }
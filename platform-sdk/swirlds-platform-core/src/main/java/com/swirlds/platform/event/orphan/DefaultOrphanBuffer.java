@@ -31,9 +31,9 @@ import com.swirlds.platform.sequence.set.SequenceSet;
 import com.swirlds.platform.sequence.set.StandardSequenceSet;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -203,15 +203,19 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      */
     @NonNull
     private List<EventDescriptorWrapper> getMissingParents(@NonNull final PlatformEvent event) {
-        final List<EventDescriptorWrapper> missingParents = new ArrayList<>();
+        // Most events arrive after their parents, so only allocate once a missing parent is actually found
+        List<EventDescriptorWrapper> missingParents = null;
 
         for (final EventDescriptorWrapper parent : event.getAllParents()) {
             if (!eventsWithParents.contains(parent) && !eventWindow.isAncient(parent)) {
+                if (missingParents == null) {
+                    missingParents = new ArrayList<>();
+                }
                 missingParents.add(parent);
             }
         }
 
-        return missingParents;
+        return missingParents == null ? List.of() : missingParents;
     }
 
     /**
@@ -226,7 +230,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
     private List<PlatformEvent> eventIsNotAnOrphan(@NonNull final PlatformEvent event) {
         final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
 
-        final Deque<PlatformEvent> nonOrphanStack = new LinkedList<>();
+        final Deque<PlatformEvent> nonOrphanStack = new ArrayDeque<>();
         nonOrphanStack.push(event);
 
         // When a missing parent is found, there may be many descendants of that parent who end up
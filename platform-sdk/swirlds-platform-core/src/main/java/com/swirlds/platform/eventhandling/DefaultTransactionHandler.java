@@ -18,10 +18,12 @@ package com.swirlds.platform.eventhandling;
 
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.CREATING_SIGNED_STATE;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.GETTING_STATE_TO_SIGN;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.HANDLING_CONSENSUS_ROUND;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.IDLE;
+import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.MOVING_EVENT_BODIES_OFF_HEAP;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.SETTING_EVENT_CONSENSUS_DATA;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.UPDATING_PLATFORM_STATE;
 import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.UPDATING_PLATFORM_STATE_RUNNING_HASH;
@@ -30,11 +32,14 @@ import static com.swirlds.platform.eventhandling.TransactionHandlerPhase.WAITING
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.common.stream.RunningEventHashOverride;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.platform.components.transaction.system.ScopedSystemTransaction;
 import com.swirlds.platform.consensus.ConsensusConfig;
 import com.swirlds.platform.crypto.CryptoStatic;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.EventBodyArena;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.internal.ConsensusRound;
 import com.swirlds.platform.metrics.RoundHandlingMetrics;
@@ -112,6 +117,17 @@ public class DefaultTransactionHandler implements TransactionHandler {
      */
     private final boolean waitForPrehandle;
 
+    /**
+     * Holds the bodies of handled events off-heap, or null if event bodies stay on-heap.
+     */
+    @Nullable
+    private final EventBodyArena eventBodyArena;
+
+    /**
+     * The ancient mode, decides when the bodies of expired events are released from the arena.
+     */
+    private final AncientMode ancientMode;
+
     /**
      * Constructor
      *
@@ -150,6 +166,29 @@ public class DefaultTransactionHandler implements TransactionHandler {
 
         // If the application transaction prehandler is a no-op then we don't need to wait for it.
         waitForPrehandle = schedulersConfig.applicationTransactionPrehandler().type() != TaskSchedulerType.NO_OP;
+
+        final EventConfig eventConfig = platformContext.getConfiguration().getConfigData(EventConfig.class);
+        ancientMode = eventConfig.getAncientMode();
+        if (eventConfig.offHeapEventBodies()) {
+            eventBodyArena = new EventBodyArena(EventBodyArena.DEFAULT_SLAB_SIZE);
+            platformContext
+                    .getMetrics()
+                    .getOrCreate(new FunctionGauge.Config<>(
+                                    PLATFORM_CATEGORY,
+                                    "eventBodyArenaReserved",
+                                    Long.class,
+                                    eventBodyArena::getReservedBytes)
+                            .withDescription("direct memory held by the slabs of the off-heap event body arena")
+                            .withUnit("bytes"));
+            platformContext
+                    .getMetrics()
+                    .getOrCreate(new FunctionGauge.Config<>(
+                                    PLATFORM_CATEGORY, "eventBodyArenaLive", Long.class, eventBodyArena::getLiveBytes)
+                            .withDescription("bytes of event bodies stored in the off-heap event body arena")
+                            .withUnit("bytes"));
+        } else {
+            eventBodyArena = null;
+        }
     }
 
     /**
@@ -215,6 +254,11 @@ public class DefaultTransactionHandler implements TransactionHandler {
             handlerMetrics.setPhase(UPDATING_PLATFORM_STATE_RUNNING_HASH);
             updateRunningEventHash(consensusRound);
 
+            if (eventBodyArena != null) {
+                handlerMetrics.setPhase(MOVING_EVENT_BODIES_OFF_HEAP);
+                moveEventBodiesOffHeap(eventBodyArena, consensusRound);
+            }
+
             return createSignedState(consensusRound, systemTransactions);
         } catch (final InterruptedException e) {
             logger.error(EXCEPTION.getMarker(), "onHandleConsensusRound interrupted");
@@ -226,6 +270,21 @@ public class DefaultTransactionHandler implements TransactionHandler {
         }
     }
 
+    /**
+     * Move the bodies of the events in a handled round off-heap, and release the bodies of events that have expired.
+     * The transactions of these events have been handled, so nothing attached to them is needed anymore. Other
+     * components may still hold expired events, the arena only frees their memory once those events are collected.
+     *
+     * @param arena the arena to move the bodies to
+     * @param round the handled round
+     */
+    private void moveEventBodiesOffHeap(@NonNull final EventBodyArena arena, @NonNull final ConsensusRound round) {
+        for (final PlatformEvent event : round.getConsensusEvents()) {
+            event.moveBodyOffHeap(arena, ancientMode);
+        }
+        arena.releaseBelow(round.getEventWindow().getExpiredThreshold());
+    }
+
     /**
      * Populate the {@link PlatformStateModifier} with all needed data for this round.
      *
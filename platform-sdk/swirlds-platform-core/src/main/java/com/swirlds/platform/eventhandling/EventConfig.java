@@ -32,6 +32,10 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  * @param useBirthRoundAncientThreshold     if true, use birth rounds instead of generations for deciding if an event is
  *                                          ancient or not. Once this setting has been enabled on a network, it can
  *                                          never be disabled again (migration pathway is one-way).
+ * @param offHeapEventBodies                if true, the bodies of events that have been handled are moved off-heap,
+ *                                          and only the event core and signature stay on-heap until the event
+ *                                          expires. The bodies are decoded again when requested, for example when an
+ *                                          event is gossiped.
  */
 @ConfigData("event")
 public record EventConfig(
@@ -39,7 +43,8 @@ public record EventConfig(
         @ConfigProperty(defaultValue = "5") long eventsLogPeriod,
         @ConfigProperty(defaultValue = "/opt/hgcapp/eventsStreams") String eventsLogDir,
         @ConfigProperty(defaultValue = "true") boolean enableEventStreaming,
-        @ConfigProperty(defaultValue = "false") boolean useBirthRoundAncientThreshold) {
+        @ConfigProperty(defaultValue = "false") boolean useBirthRoundAncientThreshold,
+        @ConfigProperty(defaultValue = "false") boolean offHeapEventBodies) {
 
     /**
      * @return the {@link AncientMode} based on useBirthRoundAncientThreshold
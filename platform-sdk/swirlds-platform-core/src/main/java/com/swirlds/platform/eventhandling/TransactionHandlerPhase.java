@@ -44,6 +44,10 @@ public enum TransactionHandlerPhase {
      * The platform state is being updated with the running hash of the round.
      */
     UPDATING_PLATFORM_STATE_RUNNING_HASH,
+    /**
+     * The bodies of the events in the round are being moved off-heap.
+     */
+    MOVING_EVENT_BODIES_OFF_HEAP,
     /**
      * The handler is getting the state to sign.
      */
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.config;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import java.time.Duration;
+
+/**
+ * Configuration of the event push protocol, which sends new events to peers as soon as they are added to the
+ * shadowgraph, instead of waiting for the next sync with each peer.
+ *
+ * @param enabled                   if true, the event push protocol is negotiated alongside sync. Since the set of
+ *                                  negotiated protocols must be identical on both ends of a connection, this must be
+ *                                  set to the same value on all nodes in the network
+ * @param pushValidatedEvents       if true, events created by other nodes are also pushed once they are added to the
+ *                                  shadowgraph (to every peer other than the one we received them from). If false,
+ *                                  only self events are pushed
+ * @param maxPendingEventsPerPeer   the maximum number of events waiting to be pushed to a single peer; events that do
+ *                                  not fit are left for the next sync
+ * @param maxEventsPerPush          the maximum number of events announced to a peer in a single run of the protocol
+ * @param requestedEventTimeout     after we ask a peer to push an event to us, we do not ask any other peer for the
+ *                                  same event for this long
+ * @param maxConsecutivePushes      the maximum number of times in a row this node initiates the push protocol with a
+ *                                  peer. After that many, it declines to initiate once, so that sync, which is
+ *                                  negotiated after push, gets a chance to run
+ */
+@ConfigData("eventPush")
+public record EventPushConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @ConfigProperty(defaultValue = "false") boolean pushValidatedEvents,
+        @ConfigProperty(defaultValue = "1024") int maxPendingEventsPerPeer,
+        @ConfigProperty(defaultValue = "256") int maxEventsPerPush,
+        @ConfigProperty(defaultValue = "1s") Duration requestedEventTimeout,
+        @ConfigProperty(defaultValue = "4") int maxConsecutivePushes) {}
@@ -28,6 +28,7 @@ import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import com.swirlds.platform.network.*;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.ProtocolNegotiatorThread;
+import com.swirlds.platform.network.communication.ProtocolThreadMetrics;
 import com.swirlds.platform.network.connectivity.ConnectionServer;
 import com.swirlds.platform.network.connectivity.InboundConnectionHandler;
 import com.swirlds.platform.network.connectivity.OutboundConnectionCreator;
@@ -53,6 +54,7 @@ public class PeerCommunication implements ConnectionTracker {
     public static final String PLATFORM_THREAD_POOL_NAME = "platform-core";
 
     private final NetworkMetrics networkMetrics;
+    private final ProtocolThreadMetrics protocolThreadMetrics;
     private final StaticTopology topology;
     private final KeysAndCerts keysAndCerts;
     private final PlatformContext platformContext;
@@ -80,6 +82,7 @@ public class PeerCommunication implements ConnectionTracker {
 
         this.networkMetrics = new NetworkMetrics(platformContext.getMetrics(), selfPeer.nodeId(), this.peers);
         platformContext.getMetrics().addUpdater(networkMetrics::update);
+        this.protocolThreadMetrics = new ProtocolThreadMetrics(platformContext.getMetrics());
 
         this.topology = new StaticTopology(peers, selfPeer.nodeId());
     }
@@ -100,6 +103,14 @@ public class PeerCommunication implements ConnectionTracker {
         return networkMetrics;
     }
 
+    /**
+     *
+     * @return metrics for the time protocol threads spend parked or blocked
+     */
+    public ProtocolThreadMetrics getProtocolThreadMetrics() {
+        return protocolThreadMetrics;
+    }
+
     /**
      *
      * @return list of peers for current static topology
@@ -143,8 +154,12 @@ public class PeerCommunication implements ConnectionTracker {
         // The assumption must be correct, otherwise, if ports were indeed different, then the old code
         // using the AddressBook would never have listened on a port associated with the external endpoint,
         // thus not allowing anyone to connect to the node from outside the local network, which we'd have noticed.
-        final ConnectionServer connectionServer =
-                new ConnectionServer(threadManager, selfPeer.port(), socketFactory, inboundConnectionHandler::handle);
+        final ConnectionServer connectionServer = new ConnectionServer(
+                threadManager,
+                selfPeer.port(),
+                socketFactory,
+                inboundConnectionHandler::handle,
+                threadConfig.gossipVirtualThreads());
         syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
                 .setPriority(threadConfig.threadPrioritySync())
                 .setNodeId(selfId)
@@ -163,6 +178,9 @@ public class PeerCommunication implements ConnectionTracker {
                     .setOtherNodeId(otherId)
                     .setThreadName("SyncProtocolWith" + otherId)
                     .setHangingThreadPeriod(hangingThreadDuration)
+                    // protocol threads spend most of their time blocked on socket I/O, virtual threads let the
+                    // number of peers grow without a matching number of platform threads
+                    .setVirtual(threadConfig.gossipVirtualThreads())
                     .setWork(new ProtocolNegotiatorThread(
                             connectionManagers.getManager(otherId),
                             syncConfig.syncSleepAfterFailedNegotiation(),
@@ -170,7 +188,8 @@ public class PeerCommunication implements ConnectionTracker {
                             new NegotiationProtocols(protocolList.stream()
                                     .map(protocol -> protocol.createPeerInstance(otherId))
                                     .toList()),
-                            platformContext.getTime()))
+                            platformContext.getTime(),
+                            protocolThreadMetrics))
                     .build());
         }
         return syncProtocolThreads;
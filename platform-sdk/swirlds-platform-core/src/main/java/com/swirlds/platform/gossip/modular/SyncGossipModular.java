@@ -27,17 +27,21 @@ import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.threading.framework.StoppableThread;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.common.threading.pool.VirtualThreadParallelExecutor;
 import com.swirlds.component.framework.model.WiringModel;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.output.StandardOutputWire;
 import com.swirlds.platform.Utilities;
 import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.config.ThreadConfig;
 import com.swirlds.platform.crypto.CryptoStatic;
 import com.swirlds.platform.crypto.KeysAndCerts;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.gossip.FallenBehindManagerImpl;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.gossip.ProtocolConfig;
+import com.swirlds.platform.gossip.config.EventPushConfig;
 import com.swirlds.platform.gossip.permits.SyncPermitProvider;
 import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
 import com.swirlds.platform.gossip.sync.SyncManagerImpl;
@@ -56,6 +60,7 @@ import com.swirlds.platform.system.status.StatusActionSubmitter;
 import com.swirlds.platform.wiring.NoInput;
 import com.swirlds.platform.wiring.components.Gossip;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Collections;
@@ -78,6 +83,12 @@ public class SyncGossipModular implements Gossip {
     private final PeerCommunication network;
     private SyncGossipSharedProtocolState sharedState;
 
+    /**
+     * Pushes new events to peers, or null if {@link EventPushConfig#enabled()} is false
+     */
+    @Nullable
+    private final EventPushProtocol eventPushProtocol;
+
     // this is not a nice dependency, should be removed as well as the sharedState
     private Consumer<PlatformEvent> receivedEventHandler;
 
@@ -158,16 +169,16 @@ public class SyncGossipModular implements Gossip {
                 shadowgraph,
                 syncManager,
                 new AtomicBoolean(false),
-                new CachedPoolParallelExecutor(threadManager, "node-sync"),
+                buildShadowgraphExecutor(platformContext, threadManager),
                 new AtomicReference<>(PlatformStatus.STARTING_UP),
                 event -> this.receivedEventHandler.accept(event),
                 new AtomicReference<>());
 
         this.controller = new SyncGossipController(intakeEventCounter, sharedState);
 
-        final List<Protocol> protocols = ImmutableList.of(
-                HeartbeatProtocol.create(platformContext, sharedState),
-                ReconnectProtocol.create(
+        final ImmutableList.Builder<Protocol> protocols = ImmutableList.<Protocol>builder()
+                .add(HeartbeatProtocol.create(platformContext, sharedState))
+                .add(ReconnectProtocol.create(
                         platformContext,
                         sharedState,
                         threadManager,
@@ -179,8 +190,16 @@ public class SyncGossipModular implements Gossip {
                         swirldStateManager,
                         selfId,
                         controller,
-                        platformStateFacade),
-                SyncProtocol.create(platformContext, sharedState, intakeEventCounter, peers.size() + 1));
+                        platformStateFacade));
+        // the push protocol is placed before sync, so that pending events are pushed before the next sync starts;
+        // it yields to sync after eventPush.maxConsecutivePushes runs in a row, so it can not starve sync
+        if (platformContext.getConfiguration().getConfigData(EventPushConfig.class).enabled()) {
+            eventPushProtocol = EventPushProtocol.create(platformContext, sharedState, intakeEventCounter, selfId);
+            protocols.add(eventPushProtocol);
+        } else {
+            eventPushProtocol = null;
+        }
+        protocols.add(SyncProtocol.create(platformContext, sharedState, intakeEventCounter, peers.size() + 1));
 
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
         final VersionCompareHandshake versionCompareHandshake =
@@ -188,12 +207,29 @@ public class SyncGossipModular implements Gossip {
         final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
 
         final List<StoppableThread> threads =
-                network.buildProtocolThreads(threadManager, selfId, handshakeProtocols, protocols);
+                network.buildProtocolThreads(threadManager, selfId, handshakeProtocols, protocols.build());
 
         controller.registerThingToStartButNotStop(sharedState.shadowgraphExecutor());
         controller.registerThingsToStart(threads);
     }
 
+    /**
+     * Build the executor used to run the read and write halves of protocols in parallel.
+     *
+     * @param platformContext the platform context
+     * @param threadManager   the thread manager
+     * @return the parallel executor
+     */
+    @NonNull
+    private ParallelExecutor buildShadowgraphExecutor(
+            @NonNull final PlatformContext platformContext, @NonNull final ThreadManager threadManager) {
+        if (platformContext.getConfiguration().getConfigData(ThreadConfig.class).gossipVirtualThreads()) {
+            return new VirtualThreadParallelExecutor(
+                    threadManager, "node-sync", network.getProtocolThreadMetrics()::parked);
+        }
+        return new CachedPoolParallelExecutor(threadManager, "node-sync");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -211,9 +247,19 @@ public class SyncGossipModular implements Gossip {
 
         startInput.bindConsumer(ignored -> controller.start());
         stopInput.bindConsumer(ignored -> controller.stop());
-        clearInput.bindConsumer(ignored -> controller.clear());
+        clearInput.bindConsumer(ignored -> {
+            controller.clear();
+            if (eventPushProtocol != null) {
+                eventPushProtocol.clear();
+            }
+        });
 
-        eventInput.bindConsumer(sharedState.shadowgraph()::addEvent);
+        eventInput.bindConsumer(event -> {
+            final boolean added = sharedState.shadowgraph().addEvent(event);
+            if (added && eventPushProtocol != null) {
+                eventPushProtocol.eventAdded(event);
+            }
+        });
         eventWindowInput.bindConsumer(sharedState.shadowgraph()::updateEventWindow);
 
         systemHealthInput.bindConsumer(sharedState.syncPermitProvider()::reportUnhealthyDuration);
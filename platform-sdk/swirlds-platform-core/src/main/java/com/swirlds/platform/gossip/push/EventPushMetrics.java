@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.push;
+
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
+
+import com.swirlds.common.metrics.extensions.CountPerSecond;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Metrics for the event push protocol.
+ */
+public class EventPushMetrics {
+
+    private static final CountPerSecond.Config EVENTS_PUSHED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "eventsPushed_per_sec")
+            .withUnit("hz")
+            .withDescription("Number of events per second pushed to peers");
+    private final CountPerSecond eventsPushed;
+
+    private static final CountPerSecond.Config EVENTS_RECEIVED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "eventsReceivedByPush_per_sec")
+            .withUnit("hz")
+            .withDescription("Number of events per second received from peers through the push protocol");
+    private final CountPerSecond eventsReceived;
+
+    private static final CountPerSecond.Config DUPLICATES_AVOIDED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "pushDuplicatesAvoided_per_sec")
+            .withUnit("hz")
+            .withDescription("Number of events per second announced by a peer that we did not need");
+    private final CountPerSecond duplicatesAvoided;
+
+    private static final CountPerSecond.Config PENDING_EVENTS_DROPPED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "pushPendingEventsDropped_per_sec")
+            .withUnit("hz")
+            .withDescription("Number of events per second not pushed because a peer's queue was full or the events "
+                    + "became ancient before they could be sent");
+    private final CountPerSecond pendingEventsDropped;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics system
+     */
+    public EventPushMetrics(@NonNull final Metrics metrics) {
+        eventsPushed = new CountPerSecond(metrics, EVENTS_PUSHED_CONFIG);
+        eventsReceived = new CountPerSecond(metrics, EVENTS_RECEIVED_CONFIG);
+        duplicatesAvoided = new CountPerSecond(metrics, DUPLICATES_AVOIDED_CONFIG);
+        pendingEventsDropped = new CountPerSecond(metrics, PENDING_EVENTS_DROPPED_CONFIG);
+    }
+
+    /**
+     * Record that events were pushed to a peer.
+     *
+     * @param count the number of events pushed
+     */
+    public void eventsPushed(final int count) {
+        eventsPushed.count(count);
+    }
+
+    /**
+     * Record that events were received from a peer.
+     *
+     * @param count the number of events received
+     */
+    public void eventsReceived(final int count) {
+        eventsReceived.count(count);
+    }
+
+    /**
+     * Record that announced events were not requested because we already had them.
+     *
+     * @param count the number of events not requested
+     */
+    public void duplicatesAvoided(final int count) {
+        duplicatesAvoided.count(count);
+    }
+
+    /**
+     * Record that events waiting to be pushed were dropped.
+     *
+     * @param count the number of events dropped
+     */
+    public void pendingEventsDropped(final int count) {
+        pendingEventsDropped.count(count);
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.push;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.pool.ParallelExecutionException;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.Utilities;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.SyncException;
+import com.swirlds.platform.gossip.shadowgraph.SyncUtils;
+import com.swirlds.platform.gossip.sync.protocol.SyncStatusChecker;
+import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.protocol.PeerProtocol;
+import com.swirlds.platform.system.status.PlatformStatus;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.hiero.consensus.gossip.FallenBehindManager;
+
+/**
+ * Pushes new events to a single peer as soon as they are available, instead of waiting for the next sync.
+ * <p>
+ * A run of this protocol is symmetric; both sides:
+ * <ol>
+ *     <li>announce the hashes of the events they have waiting to be pushed,</li>
+ *     <li>reply with a boolean for each announced hash, true if they want that event,</li>
+ *     <li>send the events the peer asked for, in topological order, followed by {@link ByteConstants#COMM_EVENT_DONE}.</li>
+ * </ol>
+ * Announcing hashes first means an event is never sent to a peer that already has it. Events whose parents the peer
+ * does not have yet are held by its orphan buffer until the missing parents arrive with the next sync, so sync still
+ * fills any gaps left by this protocol.
+ * <p>
+ * This object will be instantiated once per peer.
+ */
+public class EventPushPeerProtocol implements PeerProtocol {
+
+    /**
+     * The id of the peer we push to
+     */
+    private final NodeId peerId;
+
+    /**
+     * Events waiting to be pushed to the peer, in the order they were added to the shadowgraph
+     */
+    private final BlockingQueue<PlatformEvent> pendingEvents;
+
+    /**
+     * The maximum number of events announced in a single run of the protocol
+     */
+    private final int maxEventsPerPush;
+
+    /**
+     * Supplies the current event window, used to drop pending events that have become ancient
+     */
+    private final Supplier<EventWindow> eventWindowSupplier;
+
+    /**
+     * Decides whether an event announced by a peer should be requested; false if we already have the event, or have
+     * recently requested it from another peer
+     */
+    private final Predicate<Hash> shouldRequest;
+
+    /**
+     * Consumes events received from the peer
+     */
+    private final Consumer<PlatformEvent> eventHandler;
+
+    /**
+     * Keeps track of how many events have been received from each peer, but haven't yet made it through the intake
+     * pipeline.
+     */
+    private final IntakeEventCounter intakeEventCounter;
+
+    /**
+     * Manager to determine whether this node has fallen behind
+     */
+    private final FallenBehindManager fallenBehindManager;
+
+    /**
+     * Returns true if gossip is halted, false otherwise
+     */
+    private final BooleanSupplier gossipHalted;
+
+    /**
+     * Provides the current platform status
+     */
+    private final Supplier<PlatformStatus> platformStatusSupplier;
+
+    /**
+     * Executes reads and writes in parallel
+     */
+    private final ParallelExecutor executor;
+
+    private final EventPushMetrics metrics;
+
+    /**
+     * The maximum number of times in a row this protocol initiates before it declines once
+     */
+    private final int maxConsecutivePushes;
+
+    /**
+     * The number of times in a row this protocol has initiated. Only accessed by the thread that negotiates protocols
+     * with the peer.
+     */
+    private int consecutivePushes;
+
+    /**
+     * Constructor
+     *
+     * @param peerId                  the id of the peer we push to
+     * @param maxPendingEvents        the maximum number of events waiting to be pushed
+     * @param maxEventsPerPush        the maximum number of events announced in a single run of the protocol
+     * @param maxConsecutivePushes    the maximum number of times in a row this protocol initiates before it declines
+     *                                once, so that protocols negotiated after it are not starved
+     * @param eventWindowSupplier     supplies the current event window
+     * @param shouldRequest           decides whether an event announced by the peer should be requested
+     * @param eventHandler            consumes events received from the peer
+     * @param intakeEventCounter      keeps track of how many events have been received from each peer, but haven't
+     *                                yet made it through the intake pipeline
+     * @param fallenBehindManager     manager to determine whether this node has fallen behind
+     * @param gossipHalted            returns true if gossip is halted, false otherwise
+     * @param platformStatusSupplier  provides the current platform status
+     * @param executor                executes reads and writes in parallel
+     * @param metrics                 event push metrics
+     */
+    public EventPushPeerProtocol(
+            @NonNull final NodeId peerId,
+            final int maxPendingEvents,
+            final int maxEventsPerPush,
+            final int maxConsecutivePushes,
+            @NonNull final Supplier<EventWindow> eventWindowSupplier,
+            @NonNull final Predicate<Hash> shouldRequest,
+            @NonNull final Consumer<PlatformEvent> eventHandler,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final FallenBehindManager fallenBehindManager,
+            @NonNull final BooleanSupplier gossipHalted,
+            @NonNull final Supplier<PlatformStatus> platformStatusSupplier,
+            @NonNull final ParallelExecutor executor,
+            @NonNull final EventPushMetrics metrics) {
+        this.peerId = Objects.requireNonNull(peerId);
+        this.pendingEvents = new LinkedBlockingQueue<>(maxPendingEvents);
+        this.maxEventsPerPush = maxEventsPerPush;
+        this.maxConsecutivePushes = maxConsecutivePushes;
+        this.eventWindowSupplier = Objects.requireNonNull(eventWindowSupplier);
+        this.shouldRequest = Objects.requireNonNull(shouldRequest);
+        this.eventHandler = Objects.requireNonNull(eventHandler);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+        this.fallenBehindManager = Objects.requireNonNull(fallenBehindManager);
+        this.gossipHalted = Objects.requireNonNull(gossipHalted);
+        this.platformStatusSupplier = Objects.requireNonNull(platformStatusSupplier);
+        this.executor = Objects.requireNonNull(executor);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Queue an event to be pushed to the peer. If too many events are already waiting, the event is dropped and will
+     * reach the peer through sync instead.
+     *
+     * @param event the event to push
+     */
+    public void addEvent(@NonNull final PlatformEvent event) {
+        if (!pendingEvents.offer(event)) {
+            metrics.pendingEventsDropped(1);
+        }
+    }
+
+    /**
+     * Drop all events waiting to be pushed.
+     */
+    public void clear() {
+        pendingEvents.clear();
+    }
+
+    /**
+     * @return true if the state of this node allows events to be pushed or received
+     */
+    private boolean canPush() {
+        return SyncStatusChecker.doesStatusPermitSync(platformStatusSupplier.get())
+                && !gossipHalted.getAsBoolean()
+                && !fallenBehindManager.hasFallenBehind();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This protocol is negotiated before sync. So that a steady stream of new events can not keep sync from ever
+     * running, this declines to initiate once after {@link #maxConsecutivePushes} initiations in a row.
+     */
+    @Override
+    public boolean shouldInitiate() {
+        if (pendingEvents.isEmpty() || !canPush() || consecutivePushes >= maxConsecutivePushes) {
+            consecutivePushes = 0;
+            return false;
+        }
+        consecutivePushes++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldAccept() {
+        return canPush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean acceptOnSimultaneousInitiate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        try {
+            connection.initForSync();
+
+            final List<PlatformEvent> myEvents = takePendingEvents();
+            final List<Hash> myHashes = new ArrayList<>(myEvents.size());
+            for (final PlatformEvent event : myEvents) {
+                myHashes.add(event.getHash());
+            }
+
+            // Step 1: each peer announces the events it wants to push
+            final List<Hash> theirHashes = executor.doParallel(
+                    () -> connection.getDis().readSerializableList(maxEventsPerPush, false, Hash::new),
+                    () -> {
+                        connection.getDos().writeSerializableList(myHashes, false, true);
+                        connection.getDos().flush();
+                        return null;
+                    },
+                    connection::disconnect);
+            if (theirHashes == null) {
+                throw new SyncException(connection, "peer sent null event hashes");
+            }
+
+            // Step 2: each peer tells the other which of the announced events it wants
+            final List<Boolean> iWant = new ArrayList<>(theirHashes.size());
+            for (final Hash hash : theirHashes) {
+                iWant.add(shouldRequest.test(hash));
+            }
+            metrics.duplicatesAvoided((int) iWant.stream().filter(b -> !b).count());
+            final List<Boolean> theyWant = executor.doParallel(
+                    () -> connection.getDis().readBooleanList(myHashes.size()),
+                    () -> {
+                        connection.getDos().writeBooleanList(iWant);
+                        connection.getDos().flush();
+                        return null;
+                    },
+                    connection::disconnect);
+            if (theyWant == null || theyWant.size() != myEvents.size()) {
+                throw new SyncException(connection, "peer sent an invalid list of requested events");
+            }
+
+            // Step 3: each peer sends the events the other asked for
+            final List<PlatformEvent> sendList = new ArrayList<>();
+            for (int i = 0; i < myEvents.size(); i++) {
+                if (theyWant.get(i)) {
+                    sendList.add(myEvents.get(i));
+                }
+            }
+            final int expectedCount = (int) iWant.stream().filter(b -> b).count();
+            final Integer received = executor.doParallel(
+                    () -> readEvents(connection, expectedCount),
+                    () -> {
+                        writeEvents(connection, sendList);
+                        return null;
+                    },
+                    connection::disconnect);
+
+            metrics.eventsPushed(sendList.size());
+            metrics.eventsReceived(received == null ? 0 : received);
+        } catch (final ParallelExecutionException | SyncException e) {
+            if (Utilities.isRootCauseSuppliedType(e, IOException.class)) {
+                throw new IOException(e);
+            }
+
+            throw new NetworkProtocolException(e);
+        }
+    }
+
+    /**
+     * Take up to {@link #maxEventsPerPush} pending events that are not yet ancient, in topological order.
+     *
+     * @return the events to announce to the peer
+     */
+    @NonNull
+    private List<PlatformEvent> takePendingEvents() {
+        final List<PlatformEvent> events = new ArrayList<>();
+        pendingEvents.drainTo(events, maxEventsPerPush);
+
+        final EventWindow eventWindow = eventWindowSupplier.get();
+        final int sizeBefore = events.size();
+        events.removeIf(eventWindow::isAncient);
+        metrics.pendingEventsDropped(sizeBefore - events.size());
+
+        SyncUtils.sort(events);
+        return events;
+    }
+
+    /**
+     * Write the given events to the peer, followed by {@link ByteConstants#COMM_EVENT_DONE}.
+     *
+     * @param connection the connection to write to
+     * @param events     the events to write
+     * @throws IOException if the connection is broken
+     */
+    private static void writeEvents(@NonNull final Connection connection, @NonNull final List<PlatformEvent> events)
+            throws IOException {
+        for (final PlatformEvent event : events) {
+            connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
+            connection.getDos().writePbjRecord(event.getGossipEvent(), GossipEvent.PROTOBUF);
+        }
+        connection.getDos().writeByte(ByteConstants.COMM_EVENT_DONE);
+        connection.getDos().flush();
+    }
+
+    /**
+     * Read the events we asked the peer for, until {@link ByteConstants#COMM_EVENT_DONE} is received.
+     *
+     * @param connection    the connection to read from
+     * @param expectedCount the number of events we asked for
+     * @return the number of events read
+     * @throws IOException   if the connection is broken
+     * @throws SyncException if the peer sends something unexpected
+     */
+    private int readEvents(@NonNull final Connection connection, final int expectedCount)
+            throws IOException, SyncException {
+        int eventsRead = 0;
+        while (true) {
+            final byte next = connection.getDis().readByte();
+            switch (next) {
+                case ByteConstants.COMM_EVENT_NEXT -> {
+                    if (eventsRead >= expectedCount) {
+                        throw new SyncException(connection, "peer pushed more events than were requested");
+                    }
+                    final GossipEvent gossipEvent = connection.getDis().readPbjRecord(GossipEvent.PROTOBUF);
+                    final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
+
+                    platformEvent.setSenderId(connection.getOtherId());
+                    intakeEventCounter.eventEnteredIntakePipeline(connection.getOtherId());
+
+                    eventHandler.accept(platformEvent);
+                    eventsRead++;
+                }
+                case ByteConstants.COMM_EVENT_DONE -> {
+                    return eventsRead;
+                }
+                default -> throw new SyncException(
+                        connection, String.format("while reading pushed events, received unexpected byte %02x", next));
+            }
+        }
+    }
+}
@@ -520,7 +520,7 @@ public final class SyncUtils {
      *
      * @param sendList The list of events to sort.
      */
-    static void sort(@NonNull final List<PlatformEvent> sendList) {
+    public static void sort(@NonNull final List<PlatformEvent> sendList) {
         // Note: regardless of ancient mode, sorting uses generations and not birth rounds.
         //       Sorting by generations yields a list in topological order, sorting by birth rounds does not.
         sendList.sort((PlatformEvent e1, PlatformEvent e2) -> (int) (e1.getGeneration() - e2.getGeneration()));
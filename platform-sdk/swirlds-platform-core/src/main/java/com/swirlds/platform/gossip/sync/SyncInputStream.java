@@ -23,13 +23,11 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.compression.StreamCodec;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 public class SyncInputStream extends SerializableDataInputStream {
 
@@ -45,22 +43,29 @@ public class SyncInputStream extends SerializableDataInputStream {
 
     public static SyncInputStream createSyncInputStream(
             @NonNull final PlatformContext platformContext, @NonNull final InputStream in, final int bufferSize) {
-
-        final CountingStreamExtension syncCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncInputStream(in, bufferSize, compress ? StreamCodec.DEFLATE : StreamCodec.NONE);
+    }
+
+    /**
+     * Create a stream that decodes the data read from it with the given codec.
+     *
+     * @param in         the raw input stream of the connection
+     * @param bufferSize the size of the buffer to use
+     * @param codec      the codec negotiated for the connection
+     * @return the new stream
+     */
+    public static SyncInputStream createSyncInputStream(
+            @NonNull final InputStream in, final int bufferSize, @NonNull final StreamCodec codec) {
+
+        final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
-        final InputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
-        } else {
-            wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
-        }
+        final InputStream wrappedStream = codec.wrapInput(meteredStream, bufferSize);
 
         return new SyncInputStream(wrappedStream, syncCounter);
     }
@@ -23,51 +23,70 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.compression.StreamCodec;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
 
 public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
+    private final CountingStreamExtension uncompressedByteCounter;
     private final AtomicReference<Instant> requestSent;
 
     protected SyncOutputStream(
             OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
+        this(out, syncByteCounter, connectionByteCounter, new CountingStreamExtension());
+    }
+
+    private SyncOutputStream(
+            OutputStream out,
+            CountingStreamExtension syncByteCounter,
+            CountingStreamExtension connectionByteCounter,
+            CountingStreamExtension uncompressedByteCounter) {
         super(out);
         this.syncByteCounter = syncByteCounter;
         this.connectionByteCounter = connectionByteCounter;
+        this.uncompressedByteCounter = uncompressedByteCounter;
         this.requestSent = new AtomicReference<>(null);
     }
 
     public static SyncOutputStream createSyncOutputStream(
             @NonNull final PlatformContext platformContext, @NonNull final OutputStream out, final int bufferSize) {
-        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
-        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncOutputStream(out, bufferSize, compress ? StreamCodec.DEFLATE : StreamCodec.NONE);
+    }
 
-        final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
+    /**
+     * Create a stream that encodes the data written to it with the given codec.
+     *
+     * @param out        the raw output stream of the connection
+     * @param bufferSize the size of the buffer to use
+     * @param codec      the codec negotiated for the connection
+     * @return the new stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final OutputStream out, final int bufferSize, @NonNull final StreamCodec codec) {
+        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
+        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
+        CountingStreamExtension uncompressedByteCounter = new CountingStreamExtension();
 
-        final OutputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new DeflaterOutputStream(
-                    meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
-        } else {
-            wrappedStream = new BufferedOutputStream(meteredStream, bufferSize);
-        }
+        final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
         // we write the data to the buffer first, for efficiency
-        return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
+        final OutputStream wrappedStream = codec.wrapOutput(meteredStream, bufferSize);
+
+        return new SyncOutputStream(
+                extendOutputStream(wrappedStream, uncompressedByteCounter),
+                syncByteCounter,
+                connectionByteCounter,
+                uncompressedByteCounter);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
@@ -78,6 +97,14 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * @return counts the bytes written to this stream before they are encoded, comparing it with
+     * {@link #getConnectionByteCounter()} gives the compression ratio of the connection
+     */
+    public CountingStreamExtension getUncompressedByteCounter() {
+        return uncompressedByteCounter;
+    }
+
     /**
      * Write to the {@link SyncOutputStream} the hashes of the tip events from this node's shadow graph
      *
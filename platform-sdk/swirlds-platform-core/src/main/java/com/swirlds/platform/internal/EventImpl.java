@@ -64,7 +64,8 @@ public class EventImpl implements Clearable {
     /** lastSee[m] is the last ancestor created by m (memoizes function from Swirlds-TR-2020-01) */
     private EventImpl[] lastSee;
     /**
-     * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01)
+     * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01). The
+     * array is never modified once computed, so it may be shared with the self parent if both memoize the same answers.
      */
     private EventImpl[] stronglySeeP;
     /**
@@ -310,6 +311,16 @@ public class EventImpl implements Clearable {
         stronglySeeP = n == 0 ? null : new EventImpl[n];
     }
 
+    /**
+     * Use the stronglySeeP memo of another event instead of this event's own copy. Must only be called once this
+     * event's memo has been computed and is equal to the other event's memo.
+     *
+     * @param other the event whose memo to share
+     */
+    public void shareStronglySeeP(@NonNull final EventImpl other) {
+        stronglySeeP = other.stronglySeeP;
+    }
+
     /**
      * @return the number of elements stronglySeeP holds (memoizes stronglySeeP function from
      *     Swirlds-TR-2020-01)
@@ -35,6 +35,7 @@ public class NetworkMetrics {
 
     private static final String PING_CATEGORY = "ping";
     private static final String BPSS_CATEGORY = "bpss";
+    private static final String COMPRESSION_CATEGORY = "compression";
 
     private static final RunningAverageMetric.Config AVG_PING_CONFIG = new RunningAverageMetric.Config(
                     Metrics.PLATFORM_CATEGORY, "ping")
@@ -61,6 +62,8 @@ public class NetworkMetrics {
     private final Map<NodeId, RunningAverageMetric> avgPingMilliseconds = new HashMap<>();
     /** the average number of bytes sent per second for each node */
     private final Map<NodeId, SpeedometerMetric> avgBytePerSecSent = new HashMap<>();
+    /** the average compression ratio of the data sent to each node */
+    private final Map<NodeId, RunningAverageMetric> avgCompressionRatio = new HashMap<>();
     /** the average ping to all nodes */
     private final RunningAverageMetric avgPing;
     /** the total bytes per second to all nodes */
@@ -105,6 +108,13 @@ public class NetworkMetrics {
                                     BPSS_CATEGORY, String.format("bytes_per_sec_sent_%02d", nodeId.id()))
                             .withDescription(String.format("bytes per second sent to node %02d", nodeId.id()))
                             .withFormat(FloatFormats.FORMAT_16_2)));
+            avgCompressionRatio.put(
+                    nodeId,
+                    metrics.getOrCreate(new RunningAverageMetric.Config(
+                                    COMPRESSION_CATEGORY, String.format("compression_ratio_%02d", nodeId.id()))
+                            .withDescription(String.format(
+                                    "bytes written per byte sent over the network to node %02d", nodeId.id()))
+                            .withFormat(FloatFormats.FORMAT_4_2)));
             disconnectFrequency.put(
                     nodeId,
                     new CountPerSecond(
@@ -167,11 +177,16 @@ public class NetworkMetrics {
             final Connection conn = iterator.next();
             if (conn != null) {
                 final long bytesSent = conn.getDos().getConnectionByteCounter().getAndResetCount();
+                final long bytesWritten =
+                        conn.getDos().getUncompressedByteCounter().getAndResetCount();
                 totalBytesSent += bytesSent;
                 final NodeId otherId = conn.getOtherId();
                 if (avgBytePerSecSent.get(otherId) != null) {
                     avgBytePerSecSent.get(otherId).update(bytesSent);
                 }
+                if (bytesSent > 0 && avgCompressionRatio.get(otherId) != null) {
+                    avgCompressionRatio.get(otherId).update((double) bytesWritten / bytesSent);
+                }
                 if (!conn.connected()) {
                     iterator.remove();
                 }
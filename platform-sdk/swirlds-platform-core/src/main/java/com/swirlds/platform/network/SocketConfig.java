@@ -18,6 +18,9 @@ package com.swirlds.platform.network;
 
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.platform.network.compression.StreamCodec;
+import java.util.List;
 
 /**
  * Configuration for sockets
@@ -34,7 +37,13 @@ import com.swirlds.config.api.ConfigProperty;
  * @param useLoopbackIp              should be set to true when using the internet simulator
  * @param tcpNoDelay                 if true, then Nagel's algorithm is disabled, which helps latency, hurts bandwidth
  *                                   usage
- * @param gzipCompression            whether to use gzip compression over the network
+ * @param gzipCompression            whether to use gzip compression over the network, ignored if
+ *                                   {@code compressionCodecs} is not empty
+ * @param compressionCodecs          the stream codecs this node supports, in order of preference. If not empty, the
+ *                                   codec of each connection is negotiated when the connection is established, using
+ *                                   the preference of the node that initiated it. If empty, no negotiation takes place
+ *                                   and {@code gzipCompression} decides. Must be empty on all nodes or not empty on all
+ *                                   nodes.
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -45,4 +54,5 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "5000") int timeoutServerAcceptConnect,
         @ConfigProperty(defaultValue = "false") boolean useLoopbackIp,
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
-        @ConfigProperty(defaultValue = "false") boolean gzipCompression) {}
+        @ConfigProperty(defaultValue = "false") boolean gzipCompression,
+        @ConfigProperty(defaultValue = Configuration.EMPTY_LIST) List<StreamCodec> compressionCodecs) {}
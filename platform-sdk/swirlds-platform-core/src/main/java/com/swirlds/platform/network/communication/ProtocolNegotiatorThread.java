@@ -24,6 +24,7 @@ import com.swirlds.platform.network.ConnectionManager;
 import com.swirlds.platform.network.NetworkProtocolException;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
@@ -44,6 +45,10 @@ public class ProtocolNegotiatorThread implements InterruptableRunnable {
     private final List<ProtocolRunnable> handshakeProtocols;
     private final NegotiationProtocols protocols;
     private final RateLimiter socketExceptionRateLimiter;
+    private final Time time;
+    /** records the time spent waiting for a connection, or null if not tracked */
+    @Nullable
+    private final ProtocolThreadMetrics threadMetrics;
 
     /**
      * @param connectionManager
@@ -63,17 +68,47 @@ public class ProtocolNegotiatorThread implements InterruptableRunnable {
             final List<ProtocolRunnable> handshakeProtocols,
             final NegotiationProtocols protocols,
             final Time time) {
+        this(connectionManager, sleepMillis, handshakeProtocols, protocols, time, null);
+    }
+
+    /**
+     * @param connectionManager
+     * 		supplies network connections
+     * @param sleepMillis
+     *         the number of milliseconds to sleep if a negotiation fails
+     * @param handshakeProtocols
+     * 		the list of protocols to execute when a new connection is established
+     * @param protocols
+     * 		the protocols to negotiate and run
+     * @param time
+     *      the Time object
+     * @param threadMetrics
+     *      records the time spent waiting for a connection, may be null
+     */
+    public ProtocolNegotiatorThread(
+            final ConnectionManager connectionManager,
+            final int sleepMillis,
+            final List<ProtocolRunnable> handshakeProtocols,
+            final NegotiationProtocols protocols,
+            final Time time,
+            @Nullable final ProtocolThreadMetrics threadMetrics) {
 
         this.connectionManager = connectionManager;
         this.sleepMillis = sleepMillis;
         this.handshakeProtocols = handshakeProtocols;
         this.protocols = protocols;
         this.socketExceptionRateLimiter = new RateLimiter(time, SOCKET_EXCEPTION_DURATION);
+        this.time = time;
+        this.threadMetrics = threadMetrics;
     }
 
     @Override
     public void run() throws InterruptedException {
+        final long waitStart = time.nanoTime();
         final Connection currentConn = connectionManager.waitForConnection();
+        if (threadMetrics != null) {
+            threadMetrics.blocked(time.nanoTime() - waitStart);
+        }
         final Negotiator negotiator = new Negotiator(protocols, currentConn, sleepMillis);
         try {
             // run the handshake protocols on every new connection
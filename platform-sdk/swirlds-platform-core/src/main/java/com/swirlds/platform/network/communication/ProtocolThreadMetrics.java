@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.communication;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Metrics for the time the per-peer protocol threads spend waiting instead of working. These are most useful when the
+ * protocol threads are virtual threads, where a parked thread does not hold on to a carrier thread.
+ */
+public class ProtocolThreadMetrics {
+
+    private static final RunningAverageMetric.Config PARKED_TIME_CONFIG = new RunningAverageMetric.Config(
+                    Metrics.PLATFORM_CATEGORY, "protocolParked_ms")
+            .withDescription("average time a protocol thread is parked waiting for the other half of a parallel "
+                    + "read/write exchange to finish (in milliseconds)")
+            .withFormat(FloatFormats.FORMAT_10_3);
+    private final RunningAverageMetric parkedTime;
+
+    private static final RunningAverageMetric.Config BLOCKED_TIME_CONFIG = new RunningAverageMetric.Config(
+                    Metrics.PLATFORM_CATEGORY, "protocolBlocked_ms")
+            .withDescription("average time a protocol thread is blocked waiting for a connection to its peer "
+                    + "(in milliseconds)")
+            .withFormat(FloatFormats.FORMAT_10_3);
+    private final RunningAverageMetric blockedTime;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics system
+     */
+    public ProtocolThreadMetrics(@NonNull final Metrics metrics) {
+        parkedTime = metrics.getOrCreate(PARKED_TIME_CONFIG);
+        blockedTime = metrics.getOrCreate(BLOCKED_TIME_CONFIG);
+    }
+
+    /**
+     * Record the time a protocol thread was parked waiting for a parallel task.
+     *
+     * @param nanos the parked time, in nanoseconds
+     */
+    public void parked(final long nanos) {
+        parkedTime.update(nanos / 1_000_000.0);
+    }
+
+    /**
+     * Record the time a protocol thread was blocked waiting for a connection.
+     *
+     * @param nanos the blocked time, in nanoseconds
+     */
+    public void blocked(final long nanos) {
+        blockedTime.update(nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.compression;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The codecs that can be applied to the streams of a gossip connection. The codec used by a connection is negotiated
+ * by {@link StreamCodecNegotiator} when the connection is established. New codecs can be added by adding an entry with
+ * a new, unique {@link #id()}; ids must never be reused, since they are sent over the wire.
+ */
+public enum StreamCodec {
+    /**
+     * No compression, the data is only buffered.
+     */
+    NONE((byte) 0) {
+        @NonNull
+        @Override
+        public OutputStream wrapOutput(@NonNull final OutputStream out, final int bufferSize) {
+            return new BufferedOutputStream(out, bufferSize);
+        }
+
+        @NonNull
+        @Override
+        public InputStream wrapInput(@NonNull final InputStream in, final int bufferSize) {
+            return new BufferedInputStream(in, bufferSize);
+        }
+    },
+    /**
+     * Deflate at the default compression level. This is the codec used when {@code socket.gzipCompression} is set.
+     */
+    DEFLATE((byte) 1) {
+        @NonNull
+        @Override
+        public OutputStream wrapOutput(@NonNull final OutputStream out, final int bufferSize) {
+            return deflaterOutputStream(out, bufferSize, Deflater.DEFAULT_COMPRESSION);
+        }
+
+        @NonNull
+        @Override
+        public InputStream wrapInput(@NonNull final InputStream in, final int bufferSize) {
+            return inflaterInputStream(in, bufferSize);
+        }
+    },
+    /**
+     * Deflate at the fastest compression level. This trades some compression ratio for a much lower CPU cost than
+     * {@link #DEFLATE}.
+     */
+    DEFLATE_FAST((byte) 2) {
+        @NonNull
+        @Override
+        public OutputStream wrapOutput(@NonNull final OutputStream out, final int bufferSize) {
+            return deflaterOutputStream(out, bufferSize, Deflater.BEST_SPEED);
+        }
+
+        @NonNull
+        @Override
+        public InputStream wrapInput(@NonNull final InputStream in, final int bufferSize) {
+            return inflaterInputStream(in, bufferSize);
+        }
+    };
+
+    private final byte id;
+
+    StreamCodec(final byte id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the id of this codec, as sent over the wire during negotiation
+     */
+    public byte id() {
+        return id;
+    }
+
+    /**
+     * Wrap the raw output stream of a connection with this codec.
+     *
+     * @param out        the stream to wrap
+     * @param bufferSize the size of the buffer to use
+     * @return the wrapped stream
+     */
+    @NonNull
+    public abstract OutputStream wrapOutput(@NonNull OutputStream out, int bufferSize);
+
+    /**
+     * Wrap the raw input stream of a connection with this codec.
+     *
+     * @param in         the stream to wrap
+     * @param bufferSize the size of the buffer to use
+     * @return the wrapped stream
+     */
+    @NonNull
+    public abstract InputStream wrapInput(@NonNull InputStream in, int bufferSize);
+
+    /**
+     * Find the codec with the given id.
+     *
+     * @param id the id of the codec
+     * @return the codec, or null if no codec has this id
+     */
+    @Nullable
+    public static StreamCodec fromId(final byte id) {
+        for (final StreamCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    @NonNull
+    private static OutputStream deflaterOutputStream(
+            @NonNull final OutputStream out, final int bufferSize, final int level) {
+        return new DeflaterOutputStream(out, new Deflater(level, true), bufferSize, true);
+    }
+
+    @NonNull
+    private static InputStream inflaterInputStream(@NonNull final InputStream in, final int bufferSize) {
+        return new InflaterInputStream(in, new Inflater(true), bufferSize);
+    }
+}
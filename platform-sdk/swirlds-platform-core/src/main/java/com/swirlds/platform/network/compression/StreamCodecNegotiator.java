@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.compression;
+
+import com.swirlds.platform.network.SocketConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Negotiates the {@link StreamCodec} of a new connection. This runs on the raw streams, before they are wrapped by
+ * any codec. Both sides send the list of codecs they support, in order of preference. The codec used is the first
+ * codec in the list of the side that initiated the connection that is also supported by the other side, or
+ * {@link StreamCodec#NONE} if there is no such codec. Both sides reach the same decision without another round trip.
+ * <p>
+ * Negotiation is only compatible with peers that also negotiate, so it must be enabled on all nodes of a network at the
+ * same time.
+ */
+public final class StreamCodecNegotiator {
+
+    /** the maximum number of codecs a peer may send, anything more is a protocol violation */
+    private static final int MAX_CODECS = 16;
+
+    private StreamCodecNegotiator() {}
+
+    /**
+     * Select the codec of a new connection, as configured by {@link SocketConfig}. If no codecs are configured, the
+     * codec is decided by {@link SocketConfig#gzipCompression()} without any negotiation.
+     *
+     * @param socketConfig the socket configuration
+     * @param in           the raw input stream of the connection
+     * @param out          the raw output stream of the connection
+     * @param outbound     true if this node initiated the connection
+     * @return the codec that both sides will use
+     * @throws IOException if the negotiation could not be completed
+     */
+    @NonNull
+    public static StreamCodec selectCodec(
+            @NonNull final SocketConfig socketConfig,
+            @NonNull final InputStream in,
+            @NonNull final OutputStream out,
+            final boolean outbound)
+            throws IOException {
+        if (socketConfig.compressionCodecs().isEmpty()) {
+            return socketConfig.gzipCompression() ? StreamCodec.DEFLATE : StreamCodec.NONE;
+        }
+        return negotiate(in, out, socketConfig.compressionCodecs(), outbound);
+    }
+
+    /**
+     * Negotiate the codec of a new connection.
+     *
+     * @param in        the raw input stream of the connection
+     * @param out       the raw output stream of the connection
+     * @param supported the codecs supported by this node, in order of preference
+     * @param outbound  true if this node initiated the connection
+     * @return the codec that both sides will use
+     * @throws IOException if the negotiation could not be completed
+     */
+    @NonNull
+    public static StreamCodec negotiate(
+            @NonNull final InputStream in,
+            @NonNull final OutputStream out,
+            @NonNull final List<StreamCodec> supported,
+            final boolean outbound)
+            throws IOException {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+        Objects.requireNonNull(supported);
+        if (supported.size() > MAX_CODECS) {
+            throw new IllegalArgumentException("at most " + MAX_CODECS + " codecs may be supported");
+        }
+
+        // the streams are not closed here, they are still used by the connection
+        final DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeByte(supported.size());
+        for (final StreamCodec codec : supported) {
+            dataOut.writeByte(codec.id());
+        }
+        dataOut.flush();
+
+        final DataInputStream dataIn = new DataInputStream(in);
+        final int peerCount = dataIn.readUnsignedByte();
+        if (peerCount > MAX_CODECS) {
+            throw new IOException("peer sent " + peerCount + " codecs, the maximum is " + MAX_CODECS);
+        }
+        final List<StreamCodec> peerSupported = new ArrayList<>(peerCount);
+        for (int i = 0; i < peerCount; i++) {
+            // codecs unknown to this node are ignored, the peer may be running a newer version
+            final StreamCodec codec = StreamCodec.fromId(dataIn.readByte());
+            if (codec != null) {
+                peerSupported.add(codec);
+            }
+        }
+
+        return choose(outbound ? supported : peerSupported, outbound ? peerSupported : supported);
+    }
+
+    /**
+     * Choose the codec to use.
+     *
+     * @param initiatorCodecs the codecs of the side that initiated the connection, in order of preference
+     * @param acceptorCodecs  the codecs of the side that accepted the connection
+     * @return the first initiator codec supported by the acceptor, or {@link StreamCodec#NONE}
+     */
+    @NonNull
+    static StreamCodec choose(
+            @NonNull final List<StreamCodec> initiatorCodecs, @NonNull final List<StreamCodec> acceptorCodecs) {
+        for (final StreamCodec codec : initiatorCodecs) {
+            if (acceptorCodecs.contains(codec)) {
+                return codec;
+            }
+        }
+        return StreamCodec.NONE;
+    }
+}
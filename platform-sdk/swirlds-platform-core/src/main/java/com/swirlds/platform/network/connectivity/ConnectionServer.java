@@ -59,11 +59,28 @@ public class ConnectionServer implements InterruptableRunnable {
             final int port,
             final SocketFactory socketFactory,
             final Consumer<Socket> newConnectionHandler) {
+        this(threadManager, port, socketFactory, newConnectionHandler, false);
+    }
+
+    /**
+     * @param threadManager        responsible for managing thread lifecycles
+     * @param port                 the port ot use
+     * @param socketFactory        responsible for creating new sockets
+     * @param newConnectionHandler handles a new connection after it has been created
+     * @param virtualThreads       if true, incoming connections are handled on virtual threads
+     */
+    public ConnectionServer(
+            final ThreadManager threadManager,
+            final int port,
+            final SocketFactory socketFactory,
+            final Consumer<Socket> newConnectionHandler,
+            final boolean virtualThreads) {
         this.port = port;
         this.newConnectionHandler = newConnectionHandler;
         this.socketFactory = socketFactory;
         this.incomingConnPool = Executors.newCachedThreadPool(new ThreadConfiguration(threadManager)
                 .setThreadName("sync_server")
+                .setVirtual(virtualThreads)
                 .buildFactory());
     }
 
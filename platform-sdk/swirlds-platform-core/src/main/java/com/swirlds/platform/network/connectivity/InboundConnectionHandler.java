@@ -33,6 +33,8 @@ import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
 import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.platform.network.SocketConnection;
+import com.swirlds.platform.network.compression.StreamCodec;
+import com.swirlds.platform.network.compression.StreamCodecNegotiator;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.net.Socket;
@@ -106,10 +108,12 @@ public class InboundConnectionHandler {
             }
             final NodeId otherId = connectedPeer.nodeId();
 
+            final StreamCodec codec = StreamCodecNegotiator.selectCodec(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream(), false);
             final SyncInputStream sis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), codec);
             final SyncOutputStream sos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), codec);
 
             final SocketConnection sc = SocketConnection.create(
                     selfId,
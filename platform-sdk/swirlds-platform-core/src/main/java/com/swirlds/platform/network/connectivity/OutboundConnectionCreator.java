@@ -25,6 +25,8 @@ import com.swirlds.platform.gossip.config.NetworkEndpoint;
 import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
 import com.swirlds.platform.network.*;
+import com.swirlds.platform.network.compression.StreamCodec;
+import com.swirlds.platform.network.compression.StreamCodecNegotiator;
 import com.swirlds.platform.network.connection.NotConnectedConnection;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
@@ -97,10 +99,12 @@ public class OutboundConnectionCreator {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final StreamCodec codec = StreamCodecNegotiator.selectCodec(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream(), true);
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), codec);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), codec);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherId);
 
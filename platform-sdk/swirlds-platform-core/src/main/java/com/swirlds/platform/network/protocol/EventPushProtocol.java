@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.protocol;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.config.EventPushConfig;
+import com.swirlds.platform.gossip.modular.SyncGossipSharedProtocolState;
+import com.swirlds.platform.gossip.push.EventPushMetrics;
+import com.swirlds.platform.gossip.push.EventPushPeerProtocol;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.system.status.PlatformStatus;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.hiero.consensus.gossip.FallenBehindManager;
+
+/**
+ * Implementation of a factory for the event push protocol, which sends new events to all peers as soon as they are
+ * added to the shadowgraph. Runs alongside {@link SyncProtocol}, which remains responsible for filling any gaps.
+ */
+public class EventPushProtocol implements Protocol {
+
+    private final NodeId selfId;
+    private final EventPushConfig config;
+    private final Time time;
+    private final Shadowgraph shadowgraph;
+    private final FallenBehindManager fallenBehindManager;
+    private final IntakeEventCounter intakeEventCounter;
+    private final BooleanSupplier gossipHalted;
+    private final Supplier<PlatformStatus> platformStatusSupplier;
+    private final Consumer<PlatformEvent> receivedEventHandler;
+    private final ParallelExecutor executor;
+    private final EventPushMetrics metrics;
+
+    /**
+     * The peer protocol instance for each peer
+     */
+    private final Map<NodeId, EventPushPeerProtocol> peerProtocols = new ConcurrentHashMap<>();
+
+    /**
+     * Hashes of events we have asked some peer to push to us, and when we asked for them
+     */
+    private final Map<Hash, Instant> requestedEvents = new ConcurrentHashMap<>();
+
+    /**
+     * The requests in {@link #requestedEvents}, oldest first, so that expired requests can be removed without scanning
+     * the whole map. An entry may outlive its map entry if the event arrives before the request expires.
+     */
+    private final Deque<RequestedEvent> requestOrder = new ArrayDeque<>();
+
+    /**
+     * A request for an event, as recorded in {@link #requestOrder}
+     *
+     * @param hash        the hash of the requested event
+     * @param requestTime when the event was requested
+     */
+    private record RequestedEvent(@NonNull Hash hash, @NonNull Instant requestTime) {}
+
+    /**
+     * Constructs a new event push protocol
+     *
+     * @param platformContext        the platform context
+     * @param selfId                 the id of this node
+     * @param shadowgraph            the shadowgraph, used to determine which announced events we already have
+     * @param fallenBehindManager    manager to determine whether this node has fallen behind
+     * @param intakeEventCounter     keeps track of how many events have been received from each peer
+     * @param gossipHalted           returns true if gossip is halted, false otherwise
+     * @param platformStatusSupplier provides the current platform status
+     * @param receivedEventHandler   events that are received are passed here
+     * @param executor               executes reads and writes in parallel
+     */
+    public EventPushProtocol(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final NodeId selfId,
+            @NonNull final Shadowgraph shadowgraph,
+            @NonNull final FallenBehindManager fallenBehindManager,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final BooleanSupplier gossipHalted,
+            @NonNull final Supplier<PlatformStatus> platformStatusSupplier,
+            @NonNull final Consumer<PlatformEvent> receivedEventHandler,
+            @NonNull final ParallelExecutor executor) {
+        this.selfId = Objects.requireNonNull(selfId);
+        this.config = platformContext.getConfiguration().getConfigData(EventPushConfig.class);
+        this.time = platformContext.getTime();
+        this.shadowgraph = Objects.requireNonNull(shadowgraph);
+        this.fallenBehindManager = Objects.requireNonNull(fallenBehindManager);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+        this.gossipHalted = Objects.requireNonNull(gossipHalted);
+        this.platformStatusSupplier = Objects.requireNonNull(platformStatusSupplier);
+        this.receivedEventHandler = Objects.requireNonNull(receivedEventHandler);
+        this.executor = Objects.requireNonNull(executor);
+        this.metrics = new EventPushMetrics(platformContext.getMetrics());
+    }
+
+    /**
+     * Utility method for creating EventPushProtocol from shared state, while staying compatible with pre-refactor code
+     *
+     * @param platformContext    the platform context
+     * @param sharedState        temporary class to share state between various protocols in modularized gossip, to be
+     *                           removed
+     * @param intakeEventCounter keeps track of how many events have been received from each peer
+     * @param selfId             the id of this node
+     * @return constructed EventPushProtocol
+     */
+    public static EventPushProtocol create(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final SyncGossipSharedProtocolState sharedState,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final NodeId selfId) {
+        return new EventPushProtocol(
+                platformContext,
+                selfId,
+                sharedState.shadowgraph(),
+                sharedState.syncManager(),
+                intakeEventCounter,
+                sharedState.gossipHalted()::get,
+                sharedState.currentPlatformStatus()::get,
+                event -> sharedState.receivedEventHandler().accept(event),
+                sharedState.shadowgraphExecutor());
+    }
+
+    /**
+     * Called for every event added to the shadowgraph. Self events are queued to be pushed to all peers; events created
+     * by other nodes are queued for every peer except the one they were received from, if
+     * {@link EventPushConfig#pushValidatedEvents()} is enabled.
+     *
+     * @param event the event added to the shadowgraph
+     */
+    public void eventAdded(@NonNull final PlatformEvent event) {
+        requestedEvents.remove(event.getHash());
+        final boolean selfEvent = selfId.equals(event.getCreatorId());
+        if (!selfEvent && !config.pushValidatedEvents()) {
+            return;
+        }
+        final NodeId senderId = event.getSenderId();
+        peerProtocols.forEach((peerId, peerProtocol) -> {
+            if (!peerId.equals(senderId) && !peerId.equals(event.getCreatorId())) {
+                peerProtocol.addEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Drop all events waiting to be pushed, e.g. before a reconnect.
+     */
+    public void clear() {
+        peerProtocols.values().forEach(EventPushPeerProtocol::clear);
+        synchronized (requestOrder) {
+            requestedEvents.clear();
+            requestOrder.clear();
+        }
+    }
+
+    /**
+     * Decide whether an event announced by a peer should be requested from it. An event is requested if we do not
+     * already have it, and we have not asked another peer for it within
+     * {@link EventPushConfig#requestedEventTimeout()}.
+     *
+     * @param hash the hash of the announced event
+     * @return true if the event should be requested
+     */
+    private boolean shouldRequest(@NonNull final Hash hash) {
+        if (shadowgraph.isHashInGraph(hash)) {
+            return false;
+        }
+        final Instant now = time.now();
+        final Instant expiredBefore = now.minus(config.requestedEventTimeout());
+        synchronized (requestOrder) {
+            // requests are recorded in time order, so only the expired ones at the head need to be looked at
+            while (!requestOrder.isEmpty() && requestOrder.peekFirst().requestTime().isBefore(expiredBefore)) {
+                final RequestedEvent expired = requestOrder.removeFirst();
+                requestedEvents.remove(expired.hash(), expired.requestTime());
+            }
+            if (requestedEvents.putIfAbsent(hash, now) != null) {
+                return false;
+            }
+            requestOrder.addLast(new RequestedEvent(hash, now));
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public EventPushPeerProtocol createPeerInstance(@NonNull final NodeId peerId) {
+        final EventPushPeerProtocol peerProtocol = new EventPushPeerProtocol(
+                Objects.requireNonNull(peerId),
+                config.maxPendingEventsPerPeer(),
+                config.maxEventsPerPush(),
+                config.maxConsecutivePushes(),
+                shadowgraph::getEventWindow,
+                this::shouldRequest,
+                receivedEventHandler,
+                intakeEventCounter,
+                fallenBehindManager,
+                gossipHalted,
+                platformStatusSupplier,
+                executor,
+                metrics);
+        peerProtocols.put(peerId, peerProtocol);
+        return peerProtocol;
+    }
+}
@@ -49,6 +49,7 @@ import com.swirlds.platform.event.preconsensus.PcesMutableFile;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.recovery.emergencyfile.EmergencyRecoveryFile;
 import com.swirlds.platform.recovery.internal.EventStreamRoundIterator;
+import com.swirlds.platform.recovery.internal.PrefetchingRoundIterator;
 import com.swirlds.platform.recovery.internal.RecoveredState;
 import com.swirlds.platform.recovery.internal.RecoveryPlatform;
 import com.swirlds.platform.recovery.internal.StreamedRound;
@@ -88,6 +89,11 @@ public final class EventRecoveryWorkflow {
 
     public static final long NO_FINAL_ROUND = Long.MAX_VALUE;
 
+    /**
+     * The number of rounds that are read from the event stream ahead of the round being applied.
+     */
+    private static final int ROUND_PREFETCH_CAPACITY = 16;
+
     private EventRecoveryWorkflow() {}
 
     /**
@@ -160,23 +166,29 @@ public final class EventRecoveryWorkflow {
                     initialState.get().getRound());
             logger.info(STARTUP.getMarker(), "Loading event stream at {}", eventStreamDirectory);
 
-            final IOIterator<StreamedRound> roundIterator = new EventStreamRoundIterator(
-                    initialState.get().getRoster(),
-                    eventStreamDirectory,
-                    initialState.get().getRound() + 1,
-                    allowPartialRounds);
+            // Rounds are read, deserialized and hashed on a separate thread while the previous rounds are applied
+            final IOIterator<StreamedRound> roundIterator = new PrefetchingRoundIterator(
+                    new EventStreamRoundIterator(
+                            initialState.get().getRoster(),
+                            eventStreamDirectory,
+                            initialState.get().getRound() + 1,
+                            allowPartialRounds),
+                    ROUND_PREFETCH_CAPACITY);
 
             logger.info(STARTUP.getMarker(), "Reapplying transactions");
 
-            final RecoveredState recoveredState = reapplyTransactions(
-                    platformContext,
-                    initialState.getAndReserve("recoverState()"),
-                    appMain,
-                    roundIterator,
-                    finalRound,
-                    selfId,
-                    loadSigningKeys,
-                    platformStateFacade);
+            final RecoveredState recoveredState;
+            try (roundIterator) {
+                recoveredState = reapplyTransactions(
+                        platformContext,
+                        initialState.getAndReserve("recoverState()"),
+                        appMain,
+                        roundIterator,
+                        finalRound,
+                        selfId,
+                        loadSigningKeys,
+                        platformStateFacade);
+            }
 
             logger.info(
                     STARTUP.getMarker(),
@@ -20,6 +20,7 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.platform.system.events.CesEvent;
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -30,6 +31,11 @@ import java.util.NoSuchElementException;
  */
 public class EventStreamSingleFileIterator implements IOIterator<CesEvent> {
 
+    /**
+     * Event stream files are read front to back, so read them in large chunks rather than object by object.
+     */
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
     private final ObjectStreamIterator<SelfSerializable> iterator;
 
     private final Hash startHash;
@@ -57,7 +63,9 @@ public class EventStreamSingleFileIterator implements IOIterator<CesEvent> {
         this.toleratePartialFile = toleratePartialFile;
         this.filePath = objectStreamFile;
 
-        this.iterator = new ObjectStreamIterator<>(new FileInputStream(objectStreamFile.toFile()), toleratePartialFile);
+        this.iterator = new ObjectStreamIterator<>(
+                new BufferedInputStream(new FileInputStream(objectStreamFile.toFile()), READ_BUFFER_SIZE),
+                toleratePartialFile);
 
         // First thing in the stream is a hash
         if (!iterator.hasNext()) {
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery.internal;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.platform.system.events.CesEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads rounds from another iterator on a background thread, so that reading and deserializing the event stream
+ * overlaps with applying the rounds on the calling thread. Before a round is handed over, the hashes of its events are
+ * computed in parallel, which leaves only the running hash chain to be computed on the calling thread.
+ * <p>
+ * At most {@code capacity} rounds are read ahead. An exception thrown by the wrapped iterator is rethrown by
+ * {@link #hasNext()} once all rounds read before the failure have been consumed.
+ */
+public class PrefetchingRoundIterator implements IOIterator<StreamedRound> {
+
+    /**
+     * Marks the end of the wrapped iterator in the queue.
+     */
+    private static final Object END = new Object();
+
+    private final IOIterator<StreamedRound> roundIterator;
+    private final BlockingQueue<Object> queue;
+    private final Cryptography cryptography;
+    private final Thread readerThread;
+
+    private volatile boolean closed;
+    private Object next;
+
+    /**
+     * Create a new prefetching iterator and start reading.
+     *
+     * @param roundIterator the iterator to read rounds from, only accessed by the background thread after construction
+     * @param capacity      the maximum number of rounds to read ahead
+     */
+    public PrefetchingRoundIterator(@NonNull final IOIterator<StreamedRound> roundIterator, final int capacity) {
+        this.roundIterator = Objects.requireNonNull(roundIterator);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.cryptography = CryptographyHolder.get();
+        this.readerThread = new Thread(this::readRounds, "event-stream-round-prefetch");
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    /**
+     * The loop of the background thread.
+     */
+    private void readRounds() {
+        try {
+            while (!closed && roundIterator.hasNext()) {
+                final StreamedRound round = roundIterator.next();
+                round.getEvents().parallelStream().forEach(this::hashEvent);
+                queue.put(round);
+            }
+            queue.put(END);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final IOException e) {
+            putFailure(e);
+        } catch (final RuntimeException e) {
+            putFailure(new IOException("failed to read the event stream", e));
+        }
+    }
+
+    private void hashEvent(@NonNull final CesEvent event) {
+        if (event.getHash() == null) {
+            cryptography.digestSync(event);
+        }
+    }
+
+    private void putFailure(@NonNull final IOException e) {
+        try {
+            queue.put(e);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while waiting for the next round", e);
+            }
+        }
+        if (next instanceof final IOException e) {
+            throw new IOException("failed to read the event stream", e);
+        }
+        if (next == END) {
+            // leave the marker in place so that further calls keep returning false
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamedRound peek() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return (StreamedRound) next;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamedRound next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return (StreamedRound) next;
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Stops the background thread and closes the wrapped iterator.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        readerThread.interrupt();
+        try {
+            readerThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.clear();
+        roundIterator.close();
+    }
+}
@@ -47,7 +47,8 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     private final Map<K, V> data;
 
     /**
-     * Keys for each sequence number currently being stored.
+     * Keys for each sequence number currently being stored. Only replaced while holding all sequence number locks, so
+     * it may be read while holding the lock for any single sequence number.
      */
     private SequenceKeySet<K>[] keySets;
 
@@ -261,30 +262,31 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     @Override
     public boolean putIfAbsent(final K key, final V value) {
         final long sequenceNumber = getSequenceNumber(key);
-        SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
 
-        lockSequenceNumber(sequenceNumber);
-        try {
-            if (keys.getSequenceNumber() != sequenceNumber) {
-                // the key is outside the allowed window
-                if (allowExpansion && sequenceNumber > getFirstSequenceNumberInWindow()) {
-                    expandCapacity(sequenceNumber);
-                    keys = getSequenceKeySet(sequenceNumber);
-                } else {
+        while (true) {
+            lockSequenceNumber(sequenceNumber);
+            try {
+                final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
+                if (keys.getSequenceNumber() == sequenceNumber) {
+                    if (data.containsKey(key)) {
+                        // don't re-insert if the value is already present
+                        return false;
+                    }
+
+                    data.put(key, value);
+                    keys.getKeys().add(key);
+
+                    return true;
+                }
+                if (!canExpandFor(sequenceNumber)) {
+                    // the key is outside the allowed window
                     return false;
                 }
+            } finally {
+                unlockSequenceNumber(sequenceNumber);
             }
-            if (data.containsKey(key)) {
-                // don't re-insert if the value is already present
-                return false;
-            }
-
-            data.put(key, value);
-            keys.getKeys().add(key);
-
-            return true;
-        } finally {
-            unlockSequenceNumber(sequenceNumber);
+            // Expansion takes every lock, so it must not be attempted while holding this sequence number's lock.
+            expandCapacity(sequenceNumber);
         }
     }
 
@@ -294,39 +296,49 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     @Override
     public V put(final K key, final V value) {
         final long sequenceNumber = getSequenceNumber(key);
-        SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
 
-        lockSequenceNumber(sequenceNumber);
-        try {
-            if (keys.getSequenceNumber() != sequenceNumber) {
-                // the key is outside the allowed window
-                if (allowExpansion && sequenceNumber > getFirstSequenceNumberInWindow()) {
-                    expandCapacity(sequenceNumber);
-                    keys = getSequenceKeySet(sequenceNumber);
-                } else {
+        while (true) {
+            lockSequenceNumber(sequenceNumber);
+            try {
+                final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
+                if (keys.getSequenceNumber() == sequenceNumber) {
+                    final V previousValue = data.put(key, value);
+                    keys.getKeys().add(key);
+
+                    return previousValue;
+                }
+                if (!canExpandFor(sequenceNumber)) {
+                    // the key is outside the allowed window
                     return null;
                 }
+            } finally {
+                unlockSequenceNumber(sequenceNumber);
             }
-
-            final V previousValue = data.put(key, value);
-            keys.getKeys().add(key);
-
-            return previousValue;
-        } finally {
-            unlockSequenceNumber(sequenceNumber);
+            // Expansion takes every lock, so it must not be attempted while holding this sequence number's lock.
+            expandCapacity(sequenceNumber);
         }
     }
 
+    /**
+     * Check if a sequence number that does not fit into the current capacity can be made to fit by expanding.
+     *
+     * @param sequenceNumber the sequence number that does not currently fit
+     * @return true if the capacity should be expanded for this sequence number
+     */
+    private boolean canExpandFor(final long sequenceNumber) {
+        return allowExpansion && sequenceNumber > getFirstSequenceNumberInWindow();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public V remove(final K key) {
         final long sequenceNumber = getSequenceNumber(key);
-        final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
 
         lockSequenceNumber(sequenceNumber);
         try {
+            final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
             if (keys.getSequenceNumber() != sequenceNumber) {
                 // the key is outside the allowed window
                 return null;
@@ -428,7 +440,8 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     }
 
     /**
-     * Expand the capacity so that we fit the required sequence number.
+     * Expand the capacity so that we fit the required sequence number. Must not be called while holding the lock for
+     * any sequence number, since it acquires the window lock followed by all sequence number locks.
      *
      * @param requiredSequenceNumber the sequence number that we need to fit into this structure
      */
@@ -439,6 +452,10 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
         try {
             final int oldCapacity = keySets.length;
             final long firstSequenceNumber = getFirstSequenceNumberInWindow();
+            if (requiredSequenceNumber < firstSequenceNumber + oldCapacity) {
+                // Another thread expanded the capacity or shifted the window while we were waiting for the locks
+                return;
+            }
             final long minimumCapacity = requiredSequenceNumber - firstSequenceNumber;
             if (minimumCapacity < 0) {
                 // this can only happen if we get integer overflow
@@ -480,9 +497,9 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     public void removeValuesWithSequenceNumber(final long sequenceNumber, final BiConsumer<K, V> removedValueHandler) {
         windowLock();
         try {
-            final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
             lockSequenceNumber(sequenceNumber);
             try {
+                final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
                 if (keys.getSequenceNumber() != sequenceNumber) {
                     return;
                 }
@@ -508,10 +525,10 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     @Override
     public List<K> getKeysWithSequenceNumber(final long sequenceNumber) {
         final List<K> list = new LinkedList<>();
-        final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
 
         lockSequenceNumber(sequenceNumber);
         try {
+            final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
             if (keys.getSequenceNumber() == sequenceNumber) {
                 list.addAll(keys.getKeys());
             }
@@ -528,10 +545,10 @@ public abstract class AbstractSequenceMap<K, V> implements SequenceMap<K, V> {
     @Override
     public List<Map.Entry<K, V>> getEntriesWithSequenceNumber(final long sequenceNumber) {
         final List<Map.Entry<K, V>> list = new LinkedList<>();
-        final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
 
         lockSequenceNumber(sequenceNumber);
         try {
+            final SequenceKeySet<K> keys = getSequenceKeySet(sequenceNumber);
             if (keys.getSequenceNumber() == sequenceNumber) {
                 for (final K key : keys.getKeys()) {
                     list.add(new AbstractMap.SimpleEntry<>(key, data.get(key)));
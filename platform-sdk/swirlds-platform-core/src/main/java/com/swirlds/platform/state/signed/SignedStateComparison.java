@@ -26,8 +26,14 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.exceptions.MerkleRouteException;
 import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.utility.EmptyIterator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -142,6 +148,147 @@ public final class SignedStateComparison {
                 .transform(buildTransformer(rootB));
     }
 
+    /**
+     * Find the parts of the merkle trees that do not match each other, descending both trees in parallel. Returns the
+     * same nodes, in the same pre-ordered depth first order, as {@link #mismatchedNodeIterator(MerkleNode, MerkleNode,
+     * boolean)}.
+     * <p>
+     * Children of each internal node are compared as independent fork join tasks, and a subtree is only descended into
+     * if the stored hashes of its roots differ (unless the comparison is deep). Virtual maps expose the internal hashes
+     * kept in their data sources, so matching ranges of a virtual map are skipped without reading their leaves.
+     *
+     * @param rootA the root of tree A, must be hashed
+     * @param rootB the root of tree B, must be hashed
+     * @param deep  if true then use deep comparison, see {@link #mismatchedNodeIterator(MerkleNode, MerkleNode,
+     *              boolean)}
+     * @param pool  the pool used to compare subtrees in parallel
+     * @return the differences between tree A and tree B
+     */
+    @NonNull
+    public static List<MismatchedNodes> findMismatchedNodes(
+            @Nullable final MerkleNode rootA,
+            @Nullable final MerkleNode rootB,
+            final boolean deep,
+            @NonNull final ForkJoinPool pool) {
+        return findMismatchedNodes(rootA, rootB, deep, Integer.MAX_VALUE, pool);
+    }
+
+    /**
+     * Find at most the first {@code maxResults} parts of the merkle trees that do not match each other, in the same
+     * order as {@link #findMismatchedNodes(MerkleNode, MerkleNode, boolean, ForkJoinPool)}. Once that many differences
+     * have been found before some subtree in pre-order, that subtree is not compared at all; so the cost of finding a
+     * few differences between very different states does not grow with the size of the states.
+     *
+     * @param rootA      the root of tree A, must be hashed
+     * @param rootB      the root of tree B, must be hashed
+     * @param deep       if true then use deep comparison, see {@link #mismatchedNodeIterator(MerkleNode, MerkleNode,
+     *                   boolean)}
+     * @param maxResults the maximum number of differences to find
+     * @param pool       the pool used to compare subtrees in parallel
+     * @return the first differences between tree A and tree B
+     */
+    @NonNull
+    public static List<MismatchedNodes> findMismatchedNodes(
+            @Nullable final MerkleNode rootA,
+            @Nullable final MerkleNode rootB,
+            final boolean deep,
+            final int maxResults,
+            @NonNull final ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        if (maxResults <= 0) {
+            throw new IllegalArgumentException("maxResults must be positive");
+        }
+        return pool.invoke(new SubtreeComparison(null, rootA, rootB, deep, maxResults));
+    }
+
+    /**
+     * Compares a pair of subtrees, forking a task for each pair of children that needs to be compared.
+     */
+    private static final class SubtreeComparison extends RecursiveTask<List<MismatchedNodes>> {
+        private final SubtreeComparison parent;
+        private final MerkleNode nodeA;
+        private final MerkleNode nodeB;
+        private final boolean deep;
+        private final int maxResults;
+
+        /**
+         * Set once this task has gathered {@code maxResults} differences from its own node and its earlier children,
+         * after which nothing beneath its later children needs to be compared.
+         */
+        private volatile boolean full;
+
+        /**
+         * @param parent     the task comparing the parents of these nodes, or null for the roots
+         * @param nodeA      the node from tree A, or null if there is no node at this position
+         * @param nodeB      the node at the same position in tree B, or null if there is no node at this position
+         * @param deep       if true then descend into subtrees even if their hashes match
+         * @param maxResults the maximum number of differences this task needs to return
+         */
+        SubtreeComparison(
+                @Nullable final SubtreeComparison parent,
+                @Nullable final MerkleNode nodeA,
+                @Nullable final MerkleNode nodeB,
+                final boolean deep,
+                final int maxResults) {
+            this.parent = parent;
+            this.nodeA = nodeA;
+            this.nodeB = nodeB;
+            this.deep = deep;
+            this.maxResults = maxResults;
+        }
+
+        /**
+         * @return true if an ancestor has already found enough differences before this subtree
+         */
+        private boolean isPreempted() {
+            for (SubtreeComparison ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                if (ancestor.full) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        protected List<MismatchedNodes> compute() {
+            if (isPreempted()) {
+                return List.of();
+            }
+            final boolean hashesMatch = getNodeHash(nodeA).equals(getNodeHash(nodeB));
+            if (nodeA == null || nodeA.isLeaf() || nodeB == null || nodeB.isLeaf() || (hashesMatch && !deep)) {
+                return hashesMatch ? List.of() : List.of(new MismatchedNodes(nodeA, nodeB));
+            }
+
+            final MerkleInternal internalA = nodeA.asInternal();
+            final MerkleInternal internalB = nodeB.asInternal();
+            final int childCountB = internalB.getNumberOfChildren();
+            final List<SubtreeComparison> subtasks = new ArrayList<>(internalA.getNumberOfChildren());
+            for (int index = 0; index < internalA.getNumberOfChildren(); index++) {
+                final MerkleNode childB = index < childCountB ? internalB.getChild(index) : null;
+                subtasks.add(new SubtreeComparison(this, internalA.getChild(index), childB, deep, maxResults));
+            }
+            final List<MismatchedNodes> mismatches = new ArrayList<>();
+            if (!hashesMatch) {
+                mismatches.add(new MismatchedNodes(nodeA, nodeB));
+            }
+            for (final SubtreeComparison subtask : subtasks) {
+                subtask.fork();
+            }
+
+            // Join in child order so that the result matches a sequential pre-ordered walk; once enough differences
+            // are found, the remaining subtasks are cancelled, or preempted if they have already started
+            for (final SubtreeComparison subtask : subtasks) {
+                if (mismatches.size() >= maxResults) {
+                    full = true;
+                    subtask.cancel(false);
+                } else {
+                    mismatches.addAll(subtask.join());
+                }
+            }
+            return mismatches.size() > maxResults ? new ArrayList<>(mismatches.subList(0, maxResults)) : mismatches;
+        }
+    }
+
     /**
      * Print to standard out all differences between two merkle trees.
      *
@@ -61,9 +61,9 @@ public class EventMetadata extends AbstractHashable {
     private final Instant timeCreated;
 
     /**
-     * list of transactions
+     * list of transactions, null once released
      */
-    private final List<TransactionWrapper> transactions;
+    private volatile List<TransactionWrapper> transactions;
     /**
      * The event descriptor for this event. Is not itself hashed.
      */
@@ -123,16 +123,25 @@ public class EventMetadata extends AbstractHashable {
         this.timeCreated = HapiUtils.asInstant(
                 Objects.requireNonNull(gossipEvent.eventCore().timeCreated(), "The timeCreated must not be null"));
 
+        this.transactions = transactionsOf(gossipEvent);
+    }
+
+    /**
+     * Create the transaction wrappers for the transactions of a gossip event.
+     *
+     * @param gossipEvent the gossip event
+     * @return the transaction wrappers
+     */
+    @NonNull
+    public static List<TransactionWrapper> transactionsOf(@NonNull final GossipEvent gossipEvent) {
         final List<Bytes> transactionsFromGossip = gossipEvent.transactions();
         final boolean isNewFormat = !transactionsFromGossip.isEmpty();
         if (isNewFormat) {
-            this.transactions =
-                    transactionsFromGossip.stream().map(TransactionWrapper::new).toList();
+            return transactionsFromGossip.stream().map(TransactionWrapper::new).toList();
         } else {
-            this.transactions =
-                    Objects.requireNonNull(gossipEvent.eventTransaction(), "transactions must not be null").stream()
-                            .map(TransactionWrapper::new)
-                            .toList();
+            return Objects.requireNonNull(gossipEvent.eventTransaction(), "transactions must not be null").stream()
+                    .map(TransactionWrapper::new)
+                    .toList();
         }
     }
 
@@ -208,13 +217,21 @@ public class EventMetadata extends AbstractHashable {
     }
 
     /**
-     * @return list of transactions wrappers
+     * @return list of transactions wrappers, or null if they have been released
      */
-    @NonNull
+    @Nullable
     public List<TransactionWrapper> getTransactions() {
         return transactions;
     }
 
+    /**
+     * Drop the transaction wrappers, so that they can be garbage collected. Any data attached to the wrappers is lost,
+     * so this must only be called once the transactions have been handled.
+     */
+    public void releaseTransactions() {
+        transactions = null;
+    }
+
     public long getGeneration() {
         return generation;
     }
@@ -99,7 +99,8 @@ public class UnsignedEvent implements Hashable {
      */
     @NonNull
     public List<TransactionWrapper> getTransactions() {
-        return metadata.getTransactions();
+        // transactions are only released once an event has been handled, which never happens to an unsigned event
+        return Objects.requireNonNull(metadata.getTransactions());
     }
 
     /**
@@ -47,6 +47,7 @@ module com.swirlds.platform.core {
     exports com.swirlds.platform.metrics;
     exports com.swirlds.platform.network;
     exports com.swirlds.platform.network.communication;
+    exports com.swirlds.platform.network.compression;
     exports com.swirlds.platform.network.protocol;
     exports com.swirlds.platform.network.topology;
     exports com.swirlds.platform.recovery;
@@ -119,6 +120,7 @@ module com.swirlds.platform.core {
     exports com.swirlds.platform.components.transaction.system;
     exports com.swirlds.platform.event.preconsensus;
     exports com.swirlds.platform.gossip.sync.protocol;
+    exports com.swirlds.platform.gossip.push;
     exports com.swirlds.platform.gossip;
     exports com.swirlds.platform.reconnect;
     exports com.swirlds.platform.gossip.modular;
@@ -21,6 +21,8 @@ import static com.swirlds.common.test.fixtures.RandomUtils.randomSignatureBytes;
 import static com.swirlds.platform.test.fixtures.event.EventUtils.serializePlatformEvent;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -38,17 +40,22 @@ import com.swirlds.platform.eventhandling.EventConfig_;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.system.events.EventConstants;
 import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -244,4 +251,117 @@ class EventDeduplicatorTests {
         assertEquals(TEST_EVENT_COUNT, eventsExitedIntakePipeline.get() + emittedEvents.size());
         assertEquals(TEST_EVENT_COUNT, emittedEvents.size() + ancientEventCount + duplicateEventCount);
     }
+
+    /**
+     * A spread larger than the initial capacity of the deduplicator's sequence map forces it to expand while several
+     * threads are inserting.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {10, 5000})
+    @DisplayName("Concurrent deduplication emits each event exactly once")
+    void concurrentOperation(final int sequenceNumberSpread) {
+        final AtomicLong eventsExitedIntakePipeline = new AtomicLong(0);
+        final IntakeEventCounter intakeEventCounter = mock(IntakeEventCounter.class);
+        doAnswer(invocation -> {
+                    eventsExitedIntakePipeline.incrementAndGet();
+                    return null;
+                })
+                .when(intakeEventCounter)
+                .eventExitedIntakePipeline(any());
+
+        final EventDeduplicator deduplicator = new StandardEventDeduplicator(
+                TestPlatformContextBuilder.create()
+                        .withConfiguration(new TestConfigBuilder()
+                                .withValue(
+                                        "platformSchedulers.eventDeduplicator",
+                                        "CONCURRENT CAPACITY(5000) FLUSHABLE UNHANDLED_TASK_METRIC")
+                                .getOrCreateConfig())
+                        .build(),
+                intakeEventCounter);
+
+        final int copies = 4;
+        final List<PlatformEvent> uniqueEvents = new ArrayList<>();
+        final List<PlatformEvent> submissions = new ArrayList<>();
+        for (int i = 0; i < TEST_EVENT_COUNT; i++) {
+            final PlatformEvent event = createPlatformEvent(
+                    NodeId.of(random.nextInt(NODE_ID_COUNT)),
+                    EventConstants.FIRST_GENERATION + random.nextInt(sequenceNumberSpread),
+                    ConsensusConstants.ROUND_FIRST + random.nextInt(sequenceNumberSpread));
+            uniqueEvents.add(event);
+            for (int j = 0; j < copies; j++) {
+                submissions.add(event);
+            }
+        }
+
+        final Set<PlatformEvent> emittedEvents = ConcurrentHashMap.newKeySet();
+        final AtomicInteger emittedCount = new AtomicInteger();
+        submissions.parallelStream().forEach(event -> {
+            final PlatformEvent emitted = deduplicator.handleEvent(event);
+            if (emitted != null) {
+                emittedEvents.add(emitted);
+                emittedCount.incrementAndGet();
+            }
+        });
+
+        assertEquals(uniqueEvents.size(), emittedCount.get(), "Each event should be emitted exactly once");
+        assertEquals(uniqueEvents.size(), emittedEvents.size());
+        assertEquals(TEST_EVENT_COUNT * (copies - 1), eventsExitedIntakePipeline.get());
+    }
+
+    @Test
+    @DisplayName("Windows applied concurrently and out of order only move the window forward")
+    void concurrentWindows() {
+        final IntakeEventCounter intakeEventCounter = mock(IntakeEventCounter.class);
+        final EventDeduplicator deduplicator = new StandardEventDeduplicator(
+                TestPlatformContextBuilder.create()
+                        .withConfiguration(new TestConfigBuilder()
+                                .withValue(
+                                        "platformSchedulers.eventDeduplicator",
+                                        "CONCURRENT CAPACITY(5000) FLUSHABLE UNHANDLED_TASK_METRIC")
+                                .getOrCreateConfig())
+                        .build(),
+                intakeEventCounter);
+
+        final int windowCount = 2000;
+        final List<Integer> thresholds = new ArrayList<>();
+        for (int i = 1; i <= windowCount; i++) {
+            thresholds.add(i);
+        }
+        Collections.shuffle(thresholds, random);
+
+        thresholds.parallelStream().forEach(threshold -> {
+            deduplicator.setEventWindow(new EventWindow(
+                    ConsensusConstants.ROUND_FIRST,
+                    threshold,
+                    ConsensusConstants.ROUND_FIRST /* ignored in this context */,
+                    AncientMode.GENERATION_THRESHOLD));
+            deduplicator.handleEvent(createPlatformEvent(
+                    NodeId.of(random.nextInt(NODE_ID_COUNT)), threshold, ConsensusConstants.ROUND_FIRST));
+        });
+
+        // the newest window wins no matter in which order the windows were applied
+        assertNull(deduplicator.handleEvent(
+                createPlatformEvent(NodeId.of(0), windowCount - 1, ConsensusConstants.ROUND_FIRST)));
+        assertNotNull(deduplicator.handleEvent(
+                createPlatformEvent(NodeId.of(0), windowCount, ConsensusConstants.ROUND_FIRST)));
+
+        // a window older than the current one is ignored
+        deduplicator.setEventWindow(new EventWindow(
+                ConsensusConstants.ROUND_FIRST,
+                1,
+                ConsensusConstants.ROUND_FIRST /* ignored in this context */,
+                AncientMode.GENERATION_THRESHOLD));
+        assertNull(deduplicator.handleEvent(
+                createPlatformEvent(NodeId.of(1), windowCount - 1, ConsensusConstants.ROUND_FIRST)));
+
+        // once cleared, the window may start over
+        deduplicator.clear(NoInput.getInstance());
+        deduplicator.setEventWindow(new EventWindow(
+                ConsensusConstants.ROUND_FIRST,
+                1,
+                ConsensusConstants.ROUND_FIRST /* ignored in this context */,
+                AncientMode.GENERATION_THRESHOLD));
+        assertNotNull(deduplicator.handleEvent(
+                createPlatformEvent(NodeId.of(2), windowCount - 1, ConsensusConstants.ROUND_FIRST)));
+    }
 }
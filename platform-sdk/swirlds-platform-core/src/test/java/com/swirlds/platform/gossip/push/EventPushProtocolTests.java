@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.push;
+
+import static com.swirlds.platform.system.status.PlatformStatus.ACTIVE;
+import static com.swirlds.platform.system.status.PlatformStatus.BEHIND;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.network.protocol.EventPushProtocol;
+import com.swirlds.platform.system.status.PlatformStatus;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.consensus.gossip.FallenBehindManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link EventPushProtocol} and {@link EventPushPeerProtocol}
+ */
+@DisplayName("Event Push Protocol Tests")
+class EventPushProtocolTests {
+    private static final NodeId SELF_ID = NodeId.of(0);
+    private static final NodeId PEER_A = NodeId.of(1);
+    private static final NodeId PEER_B = NodeId.of(2);
+    private static final int MAX_CONSECUTIVE_PUSHES = 3;
+
+    private Randotron random;
+    private final AtomicReference<PlatformStatus> platformStatus = new AtomicReference<>(ACTIVE);
+
+    @BeforeEach
+    void setup() {
+        random = Randotron.create();
+        platformStatus.set(ACTIVE);
+    }
+
+    private EventPushProtocol buildProtocol(final boolean pushValidatedEvents) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("eventPush.enabled", true)
+                        .withValue("eventPush.pushValidatedEvents", pushValidatedEvents)
+                        .withValue("eventPush.maxConsecutivePushes", MAX_CONSECUTIVE_PUSHES)
+                        .getOrCreateConfig())
+                .build();
+        return new EventPushProtocol(
+                platformContext,
+                SELF_ID,
+                mock(Shadowgraph.class),
+                mock(FallenBehindManager.class),
+                mock(IntakeEventCounter.class),
+                () -> false,
+                platformStatus::get,
+                event -> {},
+                mock(ParallelExecutor.class));
+    }
+
+    @NonNull
+    private PlatformEvent eventFrom(@NonNull final NodeId creator) {
+        return new TestingEventBuilder(random).setCreatorId(creator).build();
+    }
+
+    @Test
+    @DisplayName("Nothing to push until an event is added")
+    void noInitiateWithoutEvents() {
+        final EventPushProtocol protocol = buildProtocol(false);
+        final EventPushPeerProtocol peerProtocol = protocol.createPeerInstance(PEER_A);
+
+        assertFalse(peerProtocol.shouldInitiate());
+        assertTrue(peerProtocol.shouldAccept());
+    }
+
+    @Test
+    @DisplayName("Self events are pushed to all peers")
+    void selfEventsArePushed() {
+        final EventPushProtocol protocol = buildProtocol(false);
+        final EventPushPeerProtocol peerA = protocol.createPeerInstance(PEER_A);
+        final EventPushPeerProtocol peerB = protocol.createPeerInstance(PEER_B);
+
+        protocol.eventAdded(eventFrom(SELF_ID));
+
+        assertTrue(peerA.shouldInitiate());
+        assertTrue(peerB.shouldInitiate());
+
+        protocol.clear();
+        assertFalse(peerA.shouldInitiate());
+        assertFalse(peerB.shouldInitiate());
+    }
+
+    @Test
+    @DisplayName("Other events are only pushed if enabled")
+    void otherEventsOnlyPushedIfEnabled() {
+        final EventPushProtocol protocol = buildProtocol(false);
+        final EventPushPeerProtocol peerA = protocol.createPeerInstance(PEER_A);
+
+        protocol.eventAdded(eventFrom(PEER_B));
+
+        assertFalse(peerA.shouldInitiate());
+    }
+
+    @Test
+    @DisplayName("Events are not pushed back to their creator or sender")
+    void eventsNotPushedBack() {
+        final EventPushProtocol protocol = buildProtocol(true);
+        final EventPushPeerProtocol peerA = protocol.createPeerInstance(PEER_A);
+        final EventPushPeerProtocol peerB = protocol.createPeerInstance(PEER_B);
+
+        protocol.eventAdded(eventFrom(PEER_A));
+        assertFalse(peerA.shouldInitiate());
+        assertTrue(peerB.shouldInitiate());
+
+        protocol.clear();
+        final PlatformEvent relayed = eventFrom(NodeId.of(3));
+        relayed.setSenderId(PEER_B);
+        protocol.eventAdded(relayed);
+        assertTrue(peerA.shouldInitiate());
+        assertFalse(peerB.shouldInitiate());
+    }
+
+    @Test
+    @DisplayName("Push yields after too many consecutive initiations")
+    void pushYieldsToOtherProtocols() {
+        final EventPushProtocol protocol = buildProtocol(false);
+        final EventPushPeerProtocol peerProtocol = protocol.createPeerInstance(PEER_A);
+        protocol.eventAdded(eventFrom(SELF_ID));
+
+        // events are only taken by runProtocol(), so there is always something to push
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < MAX_CONSECUTIVE_PUSHES; i++) {
+                assertTrue(peerProtocol.shouldInitiate(), "push should initiate while under the limit");
+            }
+            assertFalse(peerProtocol.shouldInitiate(), "push should yield once the limit is reached");
+        }
+    }
+
+    @Test
+    @DisplayName("Nothing is pushed if the platform status does not permit it")
+    void noPushWithWrongStatus() {
+        final EventPushProtocol protocol = buildProtocol(false);
+        final EventPushPeerProtocol peerProtocol = protocol.createPeerInstance(PEER_A);
+        protocol.eventAdded(eventFrom(SELF_ID));
+
+        platformStatus.set(BEHIND);
+
+        assertFalse(peerProtocol.shouldInitiate());
+        assertFalse(peerProtocol.shouldAccept());
+    }
+}
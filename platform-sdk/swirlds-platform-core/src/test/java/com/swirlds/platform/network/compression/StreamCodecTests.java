@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.compression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.sync.SyncInputStream;
+import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Stream Codec Tests")
+class StreamCodecTests {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    @ParameterizedTest
+    @EnumSource(StreamCodec.class)
+    @DisplayName("Events survive a round trip through each codec")
+    void roundTrip(final StreamCodec codec) throws IOException {
+        final Randotron random = Randotron.create();
+        final List<GossipEvent> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setAppTransactionCount(random.nextInt(5))
+                    .build();
+            events.add(event.getGossipEvent());
+        }
+
+        final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(wire, BUFFER_SIZE, codec);
+        for (final GossipEvent event : events) {
+            out.writePbjRecord(event, GossipEvent.PROTOBUF);
+        }
+        out.flush();
+
+        final long written = out.getUncompressedByteCounter().getCount();
+        assertEquals(wire.size(), out.getConnectionByteCounter().getCount());
+        assertTrue(written > 0);
+        if (codec == StreamCodec.NONE) {
+            assertEquals(written, wire.size());
+        }
+
+        final SyncInputStream in =
+                SyncInputStream.createSyncInputStream(new ByteArrayInputStream(wire.toByteArray()), BUFFER_SIZE, codec);
+        for (final GossipEvent event : events) {
+            assertEquals(event, in.readPbjRecord(GossipEvent.PROTOBUF));
+        }
+    }
+
+    @Test
+    @DisplayName("The initiator's preference decides the codec")
+    void initiatorPreferenceWins() {
+        assertEquals(
+                StreamCodec.DEFLATE_FAST,
+                StreamCodecNegotiator.choose(
+                        List.of(StreamCodec.DEFLATE_FAST, StreamCodec.DEFLATE),
+                        List.of(StreamCodec.DEFLATE, StreamCodec.DEFLATE_FAST)));
+        assertEquals(
+                StreamCodec.DEFLATE,
+                StreamCodecNegotiator.choose(
+                        List.of(StreamCodec.DEFLATE_FAST, StreamCodec.DEFLATE),
+                        List.of(StreamCodec.DEFLATE, StreamCodec.NONE)));
+        assertEquals(
+                StreamCodec.NONE,
+                StreamCodecNegotiator.choose(
+                        List.of(StreamCodec.DEFLATE), List.of(StreamCodec.DEFLATE_FAST)));
+    }
+
+    @Test
+    @DisplayName("Both sides of a connection agree on the codec")
+    void negotiationIsSymmetric() throws IOException {
+        final List<StreamCodec> initiator = List.of(StreamCodec.DEFLATE_FAST, StreamCodec.DEFLATE);
+        final List<StreamCodec> acceptor = List.of(StreamCodec.DEFLATE, StreamCodec.DEFLATE_FAST);
+
+        final ByteArrayOutputStream initiatorOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream acceptorOut = new ByteArrayOutputStream();
+        // each side writes before reading, so the messages can be captured by negotiating against the other side's
+        // encoded message
+        StreamCodecNegotiator.negotiate(new ByteArrayInputStream(new byte[] {0}), initiatorOut, initiator, true);
+        StreamCodecNegotiator.negotiate(new ByteArrayInputStream(new byte[] {0}), acceptorOut, acceptor, false);
+
+        final StreamCodec initiatorChoice = StreamCodecNegotiator.negotiate(
+                new ByteArrayInputStream(acceptorOut.toByteArray()), new ByteArrayOutputStream(), initiator, true);
+        final StreamCodec acceptorChoice = StreamCodecNegotiator.negotiate(
+                new ByteArrayInputStream(initiatorOut.toByteArray()), new ByteArrayOutputStream(), acceptor, false);
+
+        assertEquals(StreamCodec.DEFLATE_FAST, initiatorChoice);
+        assertEquals(initiatorChoice, acceptorChoice);
+    }
+
+    @Test
+    @DisplayName("Unknown codecs are ignored and oversized lists are rejected")
+    void malformedPeerMessages() throws IOException {
+        final byte[] unknownCodec = {2, 100, StreamCodec.DEFLATE.id()};
+        assertEquals(
+                StreamCodec.DEFLATE,
+                StreamCodecNegotiator.negotiate(
+                        new ByteArrayInputStream(unknownCodec),
+                        new ByteArrayOutputStream(),
+                        List.of(StreamCodec.DEFLATE),
+                        false));
+
+        final byte[] tooMany = {(byte) 200};
+        assertThrows(
+                IOException.class,
+                () -> StreamCodecNegotiator.negotiate(
+                        new ByteArrayInputStream(tooMany),
+                        new ByteArrayOutputStream(),
+                        List.of(StreamCodec.DEFLATE),
+                        false));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.recovery;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.platform.recovery.RecoveryTestUtils.generateRandomEvents;
+import static com.swirlds.platform.recovery.RecoveryTestUtils.writeRandomEventStream;
+import static com.swirlds.platform.test.fixtures.config.ConfigUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.platform.recovery.internal.EventStreamPathIterator;
+import com.swirlds.platform.recovery.internal.EventStreamRoundIterator;
+import com.swirlds.platform.recovery.internal.PrefetchingRoundIterator;
+import com.swirlds.platform.recovery.internal.StreamedRound;
+import com.swirlds.platform.system.events.CesEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PrefetchingRoundIterator Test")
+class PrefetchingRoundIteratorTest {
+
+    @BeforeAll
+    static void beforeAll() throws ConstructableRegistryException {
+        ConstructableRegistry.getInstance().registerConstructables("com.swirlds");
+    }
+
+    @Test
+    @DisplayName("Prefetched rounds match the wrapped iterator")
+    void readAllRoundsTest() throws IOException, NoSuchAlgorithmException {
+        final Random random = getRandomPrintSeed();
+        final Path directory = LegacyTemporaryFileBuilder.buildTemporaryDirectory(CONFIGURATION);
+
+        final List<CesEvent> events = generateRandomEvents(random, 1L, Duration.ofSeconds(100), 1, 20);
+        writeRandomEventStream(random, directory, 2, events);
+
+        try (final IOIterator<StreamedRound> iterator = new PrefetchingRoundIterator(
+                new EventStreamRoundIterator(
+                        mock(Roster.class), directory, EventStreamPathIterator.FIRST_ROUND_AVAILABLE, true),
+                2)) {
+
+            final List<CesEvent> deserializedEvents = new ArrayList<>();
+            long previousRound = Long.MIN_VALUE;
+            while (iterator.hasNext()) {
+                final StreamedRound peekRound = iterator.peek();
+                final StreamedRound nextRound = iterator.next();
+                assertSame(peekRound, nextRound, "peek returned wrong object");
+                assertTrue(nextRound.getRoundNum() > previousRound, "rounds should be in order");
+                previousRound = nextRound.getRoundNum();
+
+                for (final CesEvent event : nextRound.getEvents()) {
+                    assertNotNull(event.getHash(), "events should be hashed before they are handed over");
+                    deserializedEvents.add(event);
+                }
+            }
+
+            assertFalse(iterator.hasNext(), "iterator should stay exhausted");
+            assertThrows(NoSuchElementException.class, iterator::next);
+            assertEquals(events, deserializedEvents, "wrong events read");
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("Failures of the wrapped iterator are rethrown")
+    void failureTest() {
+        final IOIterator<StreamedRound> failing = new IOIterator<>() {
+            @Override
+            public boolean hasNext() throws IOException {
+                throw new IOException("broken stream");
+            }
+
+            @Override
+            public StreamedRound next() {
+                throw new NoSuchElementException();
+            }
+        };
+
+        try (final IOIterator<StreamedRound> iterator = new PrefetchingRoundIterator(failing, 1)) {
+            assertThrows(IOException.class, iterator::hasNext);
+        }
+    }
+}
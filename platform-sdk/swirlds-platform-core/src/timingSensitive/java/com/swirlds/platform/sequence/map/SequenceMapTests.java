@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import com.swirlds.common.threading.framework.Stoppable;
 import com.swirlds.common.threading.framework.StoppableThread;
 import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1182,6 +1183,74 @@ public class SequenceMapTests {
         assertFalse(error.get(), "error(s) encountered");
     }
 
+    @Test
+    @DisplayName("Parallel Expansion Test")
+    void parallelExpansionTest() throws InterruptedException {
+        final SequenceMap<SequenceMapKey, Integer> map =
+                new ConcurrentSequenceMap<>(0, 1, true, SequenceMapKey::sequence);
+
+        final AtomicBoolean error = new AtomicBoolean();
+
+        // Keep moving the window while the capacity is being expanded
+        final StoppableThread shiftThread = new StoppableThreadConfiguration<>(getStaticThreadManager())
+                .setMinimumPeriod(Duration.ofMillis(1))
+                .setExceptionHandler((t, e) -> {
+                    e.printStackTrace();
+                    error.set(true);
+                })
+                .setWork(() -> map.shiftWindow(map.getFirstSequenceNumberInWindow() + 1))
+                .build(true);
+
+        // Every thread inserts keys with ever-increasing sequence numbers, so all threads repeatedly race to expand
+        final int threadCount = 8;
+        final int keysPerThread = 10_000;
+        final int keysPerSeq = 8;
+        final List<Thread> insertThreads = new LinkedList<>();
+        for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+            final int offset = threadIndex;
+            insertThreads.add(new ThreadConfiguration(getStaticThreadManager())
+                    .setExceptionHandler((t, e) -> {
+                        e.printStackTrace();
+                        error.set(true);
+                    })
+                    .setRunnable(() -> {
+                        for (int i = 0; i < keysPerThread; i++) {
+                            final int key = i * threadCount + offset;
+                            if (i % 2 == 0) {
+                                map.put(new SequenceMapKey(key, key / keysPerSeq), -key);
+                            } else {
+                                map.putIfAbsent(new SequenceMapKey(key, key / keysPerSeq), -key);
+                            }
+                        }
+                    })
+                    .build(true));
+        }
+
+        // A deadlock between expansion and the per-sequence-number locks would make these joins time out
+        for (final Thread thread : insertThreads) {
+            completeBeforeTimeout(() -> thread.join(), Duration.ofSeconds(10), "insert thread did not finish on time");
+        }
+        shiftThread.stop();
+        completeBeforeTimeout(() -> shiftThread.join(), Duration.ofSeconds(1), "thread did not die on time");
+
+        assertFalse(error.get(), "error(s) encountered");
+
+        // Every key that is still inside the window must have survived the expansions
+        final long firstSequenceNumber = map.getFirstSequenceNumberInWindow();
+        int expectedSize = 0;
+        for (int key = 0; key < threadCount * keysPerThread; key++) {
+            final long sequenceNumber = key / keysPerSeq;
+            final Integer value = map.get(new SequenceMapKey(key, sequenceNumber));
+            if (sequenceNumber >= firstSequenceNumber) {
+                assertEquals(-key, value, "key " + key + " should be present");
+                expectedSize++;
+            } else {
+                assertNull(value, "key " + key + " should have been purged");
+            }
+        }
+        assertEquals(expectedSize, map.getSize(), "unexpected size");
+    }
+
     @ParameterizedTest
     @MethodSource("testConfiguration")
     @DisplayName("Expand Start From Sequence 0 Test")
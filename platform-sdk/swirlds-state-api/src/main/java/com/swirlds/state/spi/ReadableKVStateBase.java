@@ -77,6 +77,20 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
         return (value == marker) ? null : value;
     }
 
+    /**
+     * Reads the value for the given key straight from the underlying data source. Unlike {@link #get(Object)}, the
+     * key is not recorded in {@link #readKeys()} and the value is not cached, so this method may be used by any
+     * number of threads sharing this state without growing it.
+     *
+     * @param key The key. Cannot be null.
+     * @return The value read from the underlying data source. May be null.
+     */
+    @Nullable
+    public final V getUncached(@NonNull K key) {
+        Objects.requireNonNull(key);
+        return readFromDataSource(key);
+    }
+
     /**
      * Gets the set of keys that a client read from the {@link ReadableKVState}.
      *
@@ -136,6 +136,19 @@ public class ReadableKVStateBaseTest extends StateTestBase {
         assertThat(state.readKeys()).contains(B_KEY);
     }
 
+    /** Reading without the cache must neither record the key in "readKeys" nor cache the value. */
+    @Test
+    @DisplayName("`getUncached` reads from the data source without recording the key")
+    void testGetUncached() {
+        assertThat(state.getUncached(A_KEY)).isEqualTo(APPLE);
+        assertThat(state.getUncached(UNKNOWN_KEY)).isNull();
+        assertThat(state.readKeys()).isEmpty();
+
+        backingMap.put(A_KEY, ACAI);
+        assertThat(state.getUncached(A_KEY)).isEqualTo(ACAI);
+        assertThat(state.readKeys()).isEmpty();
+    }
+
     /**
      * Read some states, which will populate the "readKeys". Then clear the state, which must clear
      * the "readKeys".
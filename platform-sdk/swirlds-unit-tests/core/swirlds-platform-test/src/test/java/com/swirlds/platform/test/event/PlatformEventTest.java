@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.test.fixtures.RandomUtils;
 import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.EventBodyArena;
 import com.swirlds.platform.event.EventSerializationUtils;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
@@ -100,4 +102,98 @@ class PlatformEventTest {
         event.setHash(r.nextHash());
         assertNotNull(event.getDescriptor(), "When the hash is set, the descriptor should be returned");
     }
+
+    @Test
+    @DisplayName("An event with its body off-heap is unchanged")
+    void bodyOffHeap() {
+        final Randotron r = Randotron.create();
+        final PlatformEvent event = new TestingEventBuilder(r)
+                .setAppTransactionCount(3)
+                .setSystemTransactionCount(1)
+                .build();
+        final PlatformEvent onHeapCopy = event.copyGossipedData();
+        // a small slab size, so that bodies are spread over several slabs
+        final EventBodyArena arena = new EventBodyArena(64);
+
+        event.moveBodyOffHeap(arena, AncientMode.BIRTH_ROUND_THRESHOLD);
+
+        assertTrue(arena.getReservedBytes() > 0);
+        assertTrue(arena.getLiveBytes() > 0);
+        assertEquals(onHeapCopy.getGossipEvent(), event.getGossipEvent());
+        assertEquals(onHeapCopy.getTransactionCount(), event.getTransactionCount());
+        assertEquals(onHeapCopy.getTransactions().size(), event.getTransactions().size());
+        for (int i = 0; i < event.getTransactionCount(); i++) {
+            assertEquals(
+                    onHeapCopy.getTransactions().get(i).getApplicationTransaction(),
+                    event.getTransactions().get(i).getApplicationTransaction());
+        }
+        assertTrue(event.equalsGossipedData(onHeapCopy));
+    }
+
+    @Test
+    @DisplayName("Off-heap bodies are released once every body in their slab is below the threshold")
+    void bodyReleased() {
+        final Randotron r = Randotron.create();
+        final PlatformEvent oldEvent = new TestingEventBuilder(r).setBirthRound(5).build();
+        final PlatformEvent newEvent = new TestingEventBuilder(r).setBirthRound(6).build();
+        final EventBodyArena arena = new EventBodyArena(EventBodyArena.DEFAULT_SLAB_SIZE);
+        oldEvent.moveBodyOffHeap(arena, AncientMode.BIRTH_ROUND_THRESHOLD);
+        newEvent.moveBodyOffHeap(arena, AncientMode.BIRTH_ROUND_THRESHOLD);
+        final long liveBytes = arena.getLiveBytes();
+
+        // both bodies share a slab, which is kept as long as the newer body is not expired
+        arena.releaseBelow(6);
+        assertEquals(EventBodyArena.DEFAULT_SLAB_SIZE, arena.getReservedBytes());
+        assertEquals(liveBytes, arena.getLiveBytes());
+        assertNotNull(newEvent.getGossipEvent());
+        // the event core stays on-heap
+        assertEquals(5, oldEvent.getEventCore().birthRound());
+
+        arena.releaseBelow(7);
+        assertEquals(0, arena.getReservedBytes());
+        assertEquals(0, arena.getLiveBytes());
+    }
+
+    @Test
+    @DisplayName("Bodies of many ancient indicators share slabs")
+    void slabsShared() {
+        final Randotron r = Randotron.create();
+        final EventBodyArena arena = new EventBodyArena(EventBodyArena.DEFAULT_SLAB_SIZE);
+        for (int birthRound = 1; birthRound <= 1000; birthRound++) {
+            new TestingEventBuilder(r)
+                    .setBirthRound(birthRound)
+                    .setAppTransactionCount(1)
+                    .build()
+                    .moveBodyOffHeap(arena, AncientMode.BIRTH_ROUND_THRESHOLD);
+        }
+
+        // the reserved memory follows the stored bodies, not the number of ancient indicators
+        assertTrue(arena.getReservedBytes() < arena.getLiveBytes() + EventBodyArena.DEFAULT_SLAB_SIZE);
+
+        arena.releaseBelow(1001);
+        assertEquals(0, arena.getReservedBytes());
+        assertEquals(0, arena.getLiveBytes());
+    }
+
+    @Test
+    @DisplayName("An event can still be read after its body has been released")
+    void readAfterRelease() {
+        final Randotron r = Randotron.create();
+        final PlatformEvent event = new TestingEventBuilder(r).setBirthRound(5).setAppTransactionCount(3).build();
+        final PlatformEvent onHeapCopy = event.copyGossipedData();
+        final EventBodyArena arena = new EventBodyArena(EventBodyArena.DEFAULT_SLAB_SIZE);
+        event.moveBodyOffHeap(arena, AncientMode.BIRTH_ROUND_THRESHOLD);
+
+        // a component slower than the transaction handler may still hold the event when its body is released
+        arena.releaseBelow(6);
+
+        assertEquals(0, arena.getReservedBytes());
+        assertEquals(onHeapCopy.getGossipEvent(), event.getGossipEvent());
+        assertEquals(onHeapCopy.getTransactions().size(), event.getTransactions().size());
+        for (int i = 0; i < event.getTransactionCount(); i++) {
+            assertEquals(
+                    onHeapCopy.getTransactions().get(i).getApplicationTransaction(),
+                    event.getTransactions().get(i).getApplicationTransaction());
+        }
+    }
 }
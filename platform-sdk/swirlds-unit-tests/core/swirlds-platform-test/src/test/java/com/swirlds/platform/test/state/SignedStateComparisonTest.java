@@ -18,11 +18,14 @@ package com.swirlds.platform.test.state;
 
 import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
 import static com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils.buildLessSimpleTree;
+import static com.swirlds.platform.state.signed.SignedStateComparison.findMismatchedNodes;
 import static com.swirlds.platform.state.signed.SignedStateComparison.mismatchedNodeIterator;
 import static com.swirlds.platform.state.signed.SignedStateComparison.printMismatchedNodes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.merkle.MerkleNode;
@@ -31,7 +34,10 @@ import com.swirlds.common.merkle.utility.MerkleLong;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.platform.state.signed.MismatchedNodes;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -234,4 +240,43 @@ class SignedStateComparisonTest {
         printMismatchedNodes(shallowIterator, 1000);
         printMismatchedNodes(deepIterator, 1000);
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Parallel Comparison Matches Sequential Comparison")
+    void parallelComparisonMatchesSequentialComparison(final boolean deep) {
+        final MerkleNode stateA = buildLessSimpleTree();
+        stateA.asInternal().setChild(0, null);
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateA);
+
+        final MerkleNode stateB = buildLessSimpleTree();
+        ((DummyMerkleLeaf) stateB.getNodeAtRoute(1, 0)).setValue("X");
+        ((DummyMerkleInternal) stateB.getNodeAtRoute(2)).setChild(0, new MerkleLong(1234));
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateB);
+
+        // Change a leaf without rehashing the tree, only visible to a deep comparison
+        ((DummyMerkleLeaf) stateB.getNodeAtRoute(1, 1)).enableDuplicateHashing().setHash(randomHash());
+
+        final List<MismatchedNodes> expected = new ArrayList<>();
+        mismatchedNodeIterator(stateA, stateB, deep).forEachRemaining(expected::add);
+
+        try (final ForkJoinPool pool = new ForkJoinPool(4)) {
+            assertEquals(expected, findMismatchedNodes(stateA, stateB, deep, pool), "differences should match");
+            assertEquals(List.of(), findMismatchedNodes(null, null, deep, pool), "no differences expected");
+            assertEquals(
+                    List.of(new MismatchedNodes(null, stateB)),
+                    findMismatchedNodes(null, stateB, deep, pool),
+                    "only the root should differ");
+            assertEquals(List.of(), findMismatchedNodes(stateA, stateA, deep, pool), "no differences expected");
+
+            // A limited comparison finds the same differences, up to the limit
+            for (int maxResults = 1; maxResults <= expected.size() + 1; maxResults++) {
+                assertEquals(
+                        expected.subList(0, Math.min(maxResults, expected.size())),
+                        findMismatchedNodes(stateA, stateB, deep, maxResults, pool),
+                        "limited differences should be a prefix of all differences");
+            }
+            assertThrows(IllegalArgumentException.class, () -> findMismatchedNodes(stateA, stateB, deep, 0, pool));
+        }
+    }
 }
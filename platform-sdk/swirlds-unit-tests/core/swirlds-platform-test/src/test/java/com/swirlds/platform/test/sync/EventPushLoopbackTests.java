@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.sync;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.utility.Pair;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.push.EventPushPeerProtocol;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.protocol.EventPushProtocol;
+import com.swirlds.platform.system.status.PlatformStatus;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.consensus.gossip.FallenBehindManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the event push protocol between two nodes over a local connection.
+ */
+@DisplayName("Event Push Loopback Tests")
+class EventPushLoopbackTests {
+    private static final NodeId NODE_A = NodeId.of(0);
+    private static final NodeId NODE_B = NodeId.of(1);
+
+    /**
+     * One side of the loopback: the protocol of a node and the events it received.
+     */
+    private record PushNode(EventPushProtocol protocol, Shadowgraph shadowgraph, List<PlatformEvent> received) {}
+
+    private static PushNode buildNode(final NodeId selfId) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("eventPush.enabled", true)
+                        .getOrCreateConfig())
+                .build();
+        final Shadowgraph shadowgraph = mock(Shadowgraph.class);
+        when(shadowgraph.getEventWindow())
+                .thenReturn(EventWindow.getGenesisEventWindow(AncientMode.GENERATION_THRESHOLD));
+        final CachedPoolParallelExecutor executor =
+                new CachedPoolParallelExecutor(getStaticThreadManager(), "event-push-" + selfId);
+        executor.start();
+        final List<PlatformEvent> received = new CopyOnWriteArrayList<>();
+        final EventPushProtocol protocol = new EventPushProtocol(
+                platformContext,
+                selfId,
+                shadowgraph,
+                mock(FallenBehindManager.class),
+                mock(IntakeEventCounter.class),
+                () -> false,
+                () -> PlatformStatus.ACTIVE,
+                received::add,
+                executor);
+        return new PushNode(protocol, shadowgraph, received);
+    }
+
+    /**
+     * Run one round of the protocol on both ends of the connection at the same time.
+     */
+    private static void runProtocol(
+            final EventPushPeerProtocol caller,
+            final EventPushPeerProtocol listener,
+            final Pair<Connection, Connection> connections)
+            throws Exception {
+        final AtomicReference<Throwable> listenerError = new AtomicReference<>();
+        final Thread listenerThread = new Thread(() -> {
+            try {
+                listener.runProtocol(connections.right());
+            } catch (final Throwable e) {
+                listenerError.set(e);
+            }
+        });
+        listenerThread.start();
+        caller.runProtocol(connections.left());
+        listenerThread.join(10_000);
+        assertFalse(listenerThread.isAlive(), "listener should have finished");
+        if (listenerError.get() != null) {
+            throw new AssertionError("listener failed", listenerError.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Announced events are requested and received, except the ones the peer already has")
+    void pushRequestReceive() throws Exception {
+        final Randotron random = Randotron.create();
+        final PushNode nodeA = buildNode(NODE_A);
+        final PushNode nodeB = buildNode(NODE_B);
+        final EventPushPeerProtocol aToB = nodeA.protocol().createPeerInstance(NODE_B);
+        final EventPushPeerProtocol bToA = nodeB.protocol().createPeerInstance(NODE_A);
+
+        final PlatformEvent eventA = new TestingEventBuilder(random).setCreatorId(NODE_A).build();
+        final PlatformEvent eventB = new TestingEventBuilder(random).setCreatorId(NODE_B).build();
+        final PlatformEvent knownToA = new TestingEventBuilder(random).setCreatorId(NODE_B).build();
+        when(nodeA.shadowgraph().isHashInGraph(knownToA.getHash())).thenReturn(true);
+
+        nodeA.protocol().eventAdded(eventA);
+        nodeB.protocol().eventAdded(eventB);
+        nodeB.protocol().eventAdded(knownToA);
+
+        runProtocol(aToB, bToA, ConnectionFactory.createLocalConnections(NODE_A, NODE_B));
+
+        assertEquals(1, nodeB.received().size(), "B should receive the event A pushed");
+        assertEquals(eventA.getGossipEvent(), nodeB.received().get(0).getGossipEvent());
+        assertEquals(NODE_A, nodeB.received().get(0).getSenderId());
+
+        assertEquals(1, nodeA.received().size(), "A should only receive the event it did not have");
+        assertEquals(eventB.getGossipEvent(), nodeA.received().get(0).getGossipEvent());
+
+        // everything pending was announced, so there is nothing left to push
+        assertFalse(aToB.shouldInitiate());
+        assertFalse(bToA.shouldInitiate());
+    }
+}
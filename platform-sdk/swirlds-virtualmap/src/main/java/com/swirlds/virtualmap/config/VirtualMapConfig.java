@@ -75,7 +75,9 @@ import java.time.Duration;
  * @param familyThrottleThreshold
  *      Virtual root family throttle threshold. When estimated size of all unreleased copies of the same virtual
  *      root exceeds this threshold, virtual pipeline starts applying backpressure on creating new root copies.
- *      If the threshold is set to zero, this backpressure mechanism is not used.
+ *      If the threshold is set to zero, this backpressure mechanism is not used. The pause is proportional to
+ *      the time flushes are expected to take to write out the excess, and is capped by {@link
+ *      #maximumFlushThrottlePeriod}.
  * @param preferredFlushQueueSize
  * 		The preferred maximum number of virtual maps waiting to be flushed. If more maps than this number are awaiting
  * 		flushing then slow down fast copies of the virtual map so that flushing can catch up.
@@ -83,7 +85,8 @@ import java.time.Duration;
  * 		For every map copy that is awaiting flushing in excess of {@link #preferredFlushQueueSize()}, artificially
  * 		increase the amount of time required to make a fast copy by this amount of time.
  * @param maximumFlushThrottlePeriod
- * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
+ * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog or
+ * 		family size backpressure.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
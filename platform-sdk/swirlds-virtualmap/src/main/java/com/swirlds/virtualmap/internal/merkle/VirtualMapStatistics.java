@@ -61,6 +61,10 @@ public class VirtualMapStatistics {
     private IntegerAccumulator flushBackpressureMs;
     /** Family size backpressure duration, ms */
     private IntegerAccumulator familySizeBackpressureMs;
+    /** Family size backpressure currently computed for new copies, ms */
+    private LongGauge familySizeBackpressurePauseMs;
+    /** Smoothed flush throughput used to compute family size backpressure, bytes / s */
+    private LongGauge flushThroughputBps;
     /** The average time to merge virtual map copy to the next copy, ms */
     private LongAccumulator mergeDurationMs;
     /** The average time to flush virtual map copy to disk (to data source), ms */
@@ -146,6 +150,12 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "familySizeBackpressureMs_" + label,
                 "Virtual pipeline family size backpressure, " + label + ", ms");
+        familySizeBackpressurePauseMs = metrics.getOrCreate(new LongGauge.Config(
+                        STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "familySizeBackpressurePauseMs_" + label)
+                .withDescription("Current virtual pipeline family size backpressure pause, " + label + ", ms"));
+        flushThroughputBps = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushThroughputBps_" + label)
+                        .withDescription("Smoothed virtual root copy flush throughput, " + label + ", bytes/s"));
         mergeDurationMs = buildLongAccumulator(
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "mergeDurationMs_" + label,
@@ -254,6 +264,28 @@ public class VirtualMapStatistics {
         }
     }
 
+    /**
+     * Updates {@link #familySizeBackpressurePauseMs} stat to the given value.
+     *
+     * @param pauseMs family size backpressure pause, ms
+     */
+    public void setFamilySizeBackpressurePauseMs(final long pauseMs) {
+        if (familySizeBackpressurePauseMs != null) {
+            familySizeBackpressurePauseMs.set(pauseMs);
+        }
+    }
+
+    /**
+     * Updates {@link #flushThroughputBps} stat to the given value.
+     *
+     * @param bytesPerSecond smoothed flush throughput, bytes / s
+     */
+    public void setFlushThroughput(final long bytesPerSecond) {
+        if (flushThroughputBps != null) {
+            flushThroughputBps.set(bytesPerSecond);
+        }
+    }
+
     /**
      * Record a virtual root copy is merged, and merge duration is as specified.
      *
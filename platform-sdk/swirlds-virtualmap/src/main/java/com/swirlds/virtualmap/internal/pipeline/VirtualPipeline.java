@@ -167,6 +167,20 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
 
     private final VirtualMapStatistics statistics;
 
+    /**
+     * Smoothing factor for {@link #flushThroughput}. Each new flush contributes this fraction of
+     * the new estimate, so a single unusually fast or slow flush doesn't swing backpressure much.
+     */
+    private static final double FLUSH_THROUGHPUT_SMOOTHING = 0.3;
+
+    /**
+     * Exponentially smoothed flush throughput observed on the lifecycle thread, in estimated
+     * bytes (see {@link VirtualRoot#estimatedSize()}) per millisecond. Zero until the first
+     * copy is flushed. Used to size family size backpressure proportionally to how long it
+     * will take flushes to drain the excess.
+     */
+    private volatile double flushThroughput = 0;
+
     /**
      * Create a new pipeline for a family of fast copies on a virtual root.
      */
@@ -209,7 +223,9 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
 
     /**
      * Slow down the fast copy operation if total size of all (unreleased) virtual root copies
-     * in this pipeline exceeds {@link VirtualMapConfig#familyThrottleThreshold()}.
+     * in this pipeline exceeds {@link VirtualMapConfig#familyThrottleThreshold()}. The pause is
+     * re-evaluated every millisecond, so it ends as soon as flushes bring the family size back
+     * under the threshold.
      */
     private void applyFamilySizeBackpressure() {
         final long sleepTimeMillis = calculateFamilySizeBackpressurePause();
@@ -241,18 +257,56 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         }
     }
 
+    /**
+     * Calculates how long the fast copy operation should be paused, based on how far the family
+     * size is over {@link VirtualMapConfig#familyThrottleThreshold()}. Once flush throughput has
+     * been observed, the pause is the time flushes are expected to take to write out the excess,
+     * so backpressure grows linearly with the excess. Before that, the pause is the square of
+     * the excess percentage. Either way, the pause never exceeds {@link
+     * VirtualMapConfig#maximumFlushThrottlePeriod()}.
+     *
+     * @return the pause, in milliseconds, or zero if no backpressure should be applied
+     */
     long calculateFamilySizeBackpressurePause() {
         final long sizeThreshold = config.familyThrottleThreshold();
         if (sizeThreshold <= 0) {
             return 0;
         }
-        final long totalSize = currentTotalSize();
-        final double ratio = (double) totalSize / sizeThreshold;
-        final int over100percentExcess = (int) Math.round((ratio - 1.0) * 100);
-        if (over100percentExcess <= 0) {
+        final long excess = currentTotalSize() - sizeThreshold;
+        if (excess <= 0) {
+            statistics.setFamilySizeBackpressurePauseMs(0);
             return 0;
         }
-        return (long) over100percentExcess * over100percentExcess;
+        final double throughput = flushThroughput;
+        final long pause;
+        if (throughput > 0) {
+            pause = (long) Math.ceil(excess / throughput);
+        } else {
+            final int over100percentExcess = (int) Math.round((double) excess * 100 / sizeThreshold);
+            pause = (long) over100percentExcess * over100percentExcess;
+        }
+        final long maxPause = config.maximumFlushThrottlePeriod().toMillis();
+        final long result = (maxPause > 0) ? Math.min(pause, maxPause) : pause;
+        statistics.setFamilySizeBackpressurePauseMs(result);
+        return result;
+    }
+
+    /**
+     * Updates the smoothed flush throughput with a new observation.
+     *
+     * @param flushedSize estimated size of the flushed copy
+     * @param durationMs time it took to flush the copy, in milliseconds
+     */
+    void recordFlushThroughput(final long flushedSize, final long durationMs) {
+        if (flushedSize <= 0) {
+            return;
+        }
+        final double sample = (double) flushedSize / Math.max(1, durationMs);
+        final double current = flushThroughput;
+        final double updated =
+                (current <= 0) ? sample : current + FLUSH_THROUGHPUT_SMOOTHING * (sample - current);
+        flushThroughput = updated;
+        statistics.setFlushThroughput((long) (updated * 1000));
     }
 
     /**
@@ -488,7 +542,10 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         if (!copy.isHashed()) {
             hashCopy(copy);
         }
+        final long estimatedSize = copy.estimatedSize();
+        final long start = System.currentTimeMillis();
         copy.flush();
+        recordFlushThroughput(estimatedSize, System.currentTimeMillis() - start);
     }
 
     /**
@@ -879,6 +879,50 @@ class VirtualPipelineTests {
         }
     }
 
+    @Test
+    @DisplayName("Test Family Size Backpressure Follows Flush Throughput")
+    void testFamilySizeBackpressureFollowsFlushThroughput() {
+
+        final int familyThrottleThreshold = 10000;
+        final int estimatedSize = 100;
+
+        final Configuration config = new TestConfigBuilder()
+                .withSource(new SimpleConfigSource()
+                        .withValue(VirtualMapConfig_.FAMILY_THROTTLE_THRESHOLD, familyThrottleThreshold + "")
+                        .withValue(VirtualMapConfig_.MAXIMUM_FLUSH_THROTTLE_PERIOD, "50ms"))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig();
+
+        final Deque<DummyVirtualRoot<VirtualKey, VirtualValue>> copies = new LinkedList<>();
+
+        final DummyVirtualRoot<VirtualKey, VirtualValue> originalCopy =
+                new DummyVirtualRoot<>("flushThroughput", config.getConfigData(VirtualMapConfig.class));
+        originalCopy.setEstimatedSize(estimatedSize);
+        copies.add(originalCopy);
+
+        // Fill the family up to its threshold, then go 10% over it
+        for (int i = 0; i < familyThrottleThreshold / estimatedSize + 10; i++) {
+            copies.add(copies.getLast().copy());
+        }
+        final VirtualPipeline<VirtualKey, VirtualValue> pipeline = copies.getLast().getPipeline();
+
+        // No flushes observed yet: 10% over is a 100ms pause, capped at the maximum throttle period
+        assertEquals(50, pipeline.calculateFamilySizeBackpressurePause());
+
+        // 1000 bytes over the threshold at 100 bytes/ms takes 10ms to flush
+        pipeline.recordFlushThroughput(1000, 10);
+        assertEquals(10, pipeline.calculateFamilySizeBackpressurePause());
+
+        // A much faster flush only moves the smoothed throughput part of the way, to 370 bytes/ms
+        pipeline.recordFlushThroughput(1000, 1);
+        assertEquals(3, pipeline.calculateFamilySizeBackpressurePause());
+
+        // Release all copies so that the background thread dies.
+        while (!copies.isEmpty()) {
+            copies.removeFirst().release();
+        }
+    }
+
     @Test
     @DisplayName("Get same copy hash in multiple threads")
     void concurrentHashing() throws InterruptedException {
@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.MerkleCryptoFactory;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
+import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.common.test.fixtures.merkle.util.PairedStreams;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Reconnect tests for a state with several virtual maps, synchronized one after another or concurrently depending on
+ * {@link ReconnectConfig#maxConcurrentSubtrees()}.
+ */
+@DisplayName("Virtual Map Concurrent Reconnect Test")
+class VirtualMapConcurrentReconnectTest extends VirtualMapReconnectTestBase {
+
+    /**
+     * The number of virtual maps in the state, each of them is a separate reconnect subtree.
+     */
+    private static final int MAP_COUNT = 3;
+
+    /**
+     * The position of the first virtual map below the internal node that holds the maps.
+     */
+    private static final int FIRST_MAP_INDEX = 3;
+
+    /**
+     * The number of bytes the teacher writes before its output fails. Past the top level tree and well into the
+     * virtual maps, but far from their end.
+     */
+    private static final long TEACHER_BYTES_BEFORE_FAILURE = 8 * 1024;
+
+    private final List<VirtualMap<TestKey, TestValue>> teacherMaps = new ArrayList<>();
+    private final List<VirtualMap<TestKey, TestValue>> learnerMaps = new ArrayList<>();
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @BeforeEach
+    void setupMaps() {
+        teacherMaps.add(teacherMap);
+        learnerMaps.add(learnerMap);
+        for (int i = 1; i < MAP_COUNT; i++) {
+            teacherMaps.add(new VirtualMap<>(
+                    "Teacher" + i,
+                    TestKeySerializer.INSTANCE,
+                    TestValueSerializer.INSTANCE,
+                    new BrokenBuilder(createBuilder()),
+                    CONFIGURATION));
+            learnerMaps.add(new VirtualMap<>(
+                    "Learner" + i,
+                    TestKeySerializer.INSTANCE,
+                    TestValueSerializer.INSTANCE,
+                    new BrokenBuilder(createBuilder()),
+                    CONFIGURATION));
+        }
+    }
+
+    @AfterEach
+    void clearMaps() {
+        teacherMaps.clear();
+        learnerMaps.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, MAP_COUNT})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Several maps reconnect to the teacher's hash")
+    void severalMapsReconnect(final int maxConcurrentSubtrees) throws Exception {
+        populateMaps();
+
+        final ReconnectConfig config = createReconnectConfig(maxConcurrentSubtrees);
+        final MerkleInternal teacherTree = createTreeForMaps(teacherMaps);
+        final List<VirtualMap<TestKey, TestValue>> copies = copyTeacherMaps();
+        final MerkleInternal learnerTree = createTreeForMaps(learnerMaps);
+        try {
+            final DummyMerkleInternal afterSyncLearnerTree =
+                    MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, config);
+            assertReconnectedToTeacher(afterSyncLearnerTree, teacherTree);
+            afterSyncLearnerTree.release();
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copies.forEach(VirtualMap::release);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, MAP_COUNT})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Teacher failing mid-stream fails the learner, and a later reconnect reaches the teacher's hash")
+    void teacherFailsMidStream(final int maxConcurrentSubtrees) throws Exception {
+        populateMaps();
+
+        final ReconnectConfig config = createReconnectConfig(maxConcurrentSubtrees);
+        final MerkleInternal teacherTree = createTreeForMaps(teacherMaps);
+        final List<VirtualMap<TestKey, TestValue>> copies = copyTeacherMaps();
+        final MerkleInternal learnerTree = createTreeForMaps(learnerMaps);
+        try {
+            MerkleCryptoFactory.getInstance().digestTreeSync(teacherTree);
+            MerkleCryptoFactory.getInstance().digestTreeSync(learnerTree);
+
+            try (final PairedStreams streams = new PairedStreams()) {
+                final TeachingSynchronizer teacher = new TeachingSynchronizer(
+                        new TestConfigBuilder().getOrCreateConfig(),
+                        Time.getCurrent(),
+                        getStaticThreadManager(),
+                        streams.getTeacherInput(),
+                        new MerkleDataOutputStream(
+                                new FailingOutputStream(streams.getTeacherOutput(), TEACHER_BYTES_BEFORE_FAILURE)),
+                        teacherTree,
+                        streams::disconnect,
+                        config);
+                final LearningSynchronizer learner = new LearningSynchronizer(
+                        getStaticThreadManager(),
+                        streams.getLearnerInput(),
+                        streams.getLearnerOutput(),
+                        learnerTree,
+                        streams::disconnect,
+                        config,
+                        new NoOpMetrics());
+
+                final Thread teacherThread = new ThreadConfiguration(getStaticThreadManager())
+                        .setThreadName("failing-teacher")
+                        .setRunnable(() -> {
+                            try {
+                                teacher.synchronize();
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } catch (final MerkleSynchronizationException e) {
+                                // Expected, the teacher's output fails part way through the virtual maps
+                            }
+                        })
+                        .build(true);
+
+                // The learner must give up rather than wait forever for subtrees that never complete
+                assertTimeoutPreemptively(
+                        Duration.ofSeconds(60),
+                        () -> assertThrows(MerkleSynchronizationException.class, learner::synchronize));
+                teacherThread.join();
+            }
+
+            // The learner's tree is still a valid starting point for another reconnect
+            final DummyMerkleInternal afterSyncLearnerTree =
+                    MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, config);
+            assertReconnectedToTeacher(afterSyncLearnerTree, teacherTree);
+            afterSyncLearnerTree.release();
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copies.forEach(VirtualMap::release);
+        }
+    }
+
+    /**
+     * Fill the maps so that every map differs between teacher and learner, and only some of the leaves are shared.
+     */
+    private void populateMaps() {
+        for (int m = 0; m < MAP_COUNT; m++) {
+            final int offset = m * 10_000;
+            for (int i = 0; i < 1_000; i++) {
+                teacherMaps.get(m).put(new TestKey(offset + i), new TestValue(offset + i));
+            }
+            for (int i = 500; i < 1_500; i++) {
+                learnerMaps.get(m).put(new TestKey(offset + i), new TestValue(offset + i + 1));
+            }
+        }
+    }
+
+    private static ReconnectConfig createReconnectConfig(final int maxConcurrentSubtrees) {
+        return new TestConfigBuilder()
+                // This is lower than the default, helps test that is supposed to fail to finish faster.
+                .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5s")
+                .withValue(ReconnectConfig_.MAX_ACK_DELAY, "1000ms")
+                .withValue(ReconnectConfig_.MAX_CONCURRENT_SUBTREES, maxConcurrentSubtrees)
+                .getOrCreateConfig()
+                .getConfigData(ReconnectConfig.class);
+    }
+
+    /**
+     * Build a tree that holds all given maps, each of them a separate reconnect subtree.
+     */
+    private static MerkleInternal createTreeForMaps(final List<VirtualMap<TestKey, TestValue>> maps) {
+        final var tree = MerkleTestUtils.buildLessSimpleTree();
+        for (int i = 0; i < maps.size(); i++) {
+            tree.getChild(1).asInternal().setChild(FIRST_MAP_INDEX + i, maps.get(i));
+        }
+        tree.reserve();
+        return tree;
+    }
+
+    /**
+     * Make the teacher maps immutable, as they are in a signed state.
+     */
+    private List<VirtualMap<TestKey, TestValue>> copyTeacherMaps() {
+        return teacherMaps.stream().map(VirtualMap::copy).toList();
+    }
+
+    /**
+     * Check that the learner ended up with the teacher's hash, and with the teacher's content in every map.
+     */
+    private static void assertReconnectedToTeacher(
+            final DummyMerkleInternal afterSyncLearnerTree, final MerkleInternal teacherTree) {
+        final Hash learnerHash = MerkleCryptoFactory.getInstance().digestTreeSync(afterSyncLearnerTree);
+        assertEquals(teacherTree.getHash(), learnerHash, "After sync, the learner should have the teacher's hash");
+
+        final DummyMerkleInternal node = afterSyncLearnerTree.getChild(1);
+        for (int m = 0; m < MAP_COUNT; m++) {
+            final VirtualMap<TestKey, TestValue> afterMap = node.getChild(FIRST_MAP_INDEX + m);
+            final int offset = m * 10_000;
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(
+                        new TestValue(offset + i),
+                        afterMap.get(new TestKey(offset + i)),
+                        "After sync, teacher values should match");
+            }
+            assertEquals(1_000, afterMap.size(), "After sync, only the teacher's leaves should remain");
+        }
+    }
+
+    /**
+     * An output stream that fails once a given number of bytes has been written.
+     */
+    private static final class FailingOutputStream extends FilterOutputStream {
+        private long remainingBytes;
+
+        FailingOutputStream(final OutputStream out, final long bytesBeforeFailure) {
+            super(out);
+            this.remainingBytes = bytesBeforeFailure;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            consume(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            consume(len);
+            out.write(b, off, len);
+        }
+
+        private synchronized void consume(final int length) throws IOException {
+            remainingBytes -= length;
+            if (remainingBytes < 0) {
+                throw new IOException("The teacher failed mid-stream");
+            }
+        }
+    }
+}